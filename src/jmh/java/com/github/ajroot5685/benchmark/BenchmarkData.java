@@ -0,0 +1,61 @@
+package com.github.ajroot5685.benchmark;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Row sources for the benchmarks.
+ * <br>
+ * Rows cycle through a small pool of prebuilt objects, so a million-row run needs no extra heap and the measured
+ * allocations are those of the library.
+ */
+final class BenchmarkData {
+
+    static final int POOL_SIZE = 1024;
+    private static final int POOL_MASK = POOL_SIZE - 1;
+
+    private BenchmarkData() {
+    }
+
+    static BenchmarkDto[] dtoPool() {
+        BenchmarkDto[] pool = new BenchmarkDto[POOL_SIZE];
+        for (int i = 0; i < POOL_SIZE; i++) {
+            pool[i] = new BenchmarkDto(i);
+        }
+        return pool;
+    }
+
+    static Integer[] indexPool() {
+        Integer[] pool = new Integer[POOL_SIZE];
+        for (int i = 0; i < POOL_SIZE; i++) {
+            pool[i] = i;
+        }
+        return pool;
+    }
+
+    /**
+     * Returns {@code rows} items taken round-robin from {@code pool}.
+     */
+    static <T> Iterable<T> cycle(T[] pool, int rows) {
+        return () -> new Iterator<>() {
+            private int index;
+
+            @Override
+            public boolean hasNext() {
+                return index < rows;
+            }
+
+            @Override
+            public T next() {
+                if (index >= rows) {
+                    throw new NoSuchElementException();
+                }
+                return pool[index++ & POOL_MASK];
+            }
+        };
+    }
+
+    static int poolIndex(int value) {
+        return value & POOL_MASK;
+    }
+}
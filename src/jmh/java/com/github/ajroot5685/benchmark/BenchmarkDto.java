@@ -0,0 +1,62 @@
+package com.github.ajroot5685.benchmark;
+
+import com.github.ajroot5685.column.Columns;
+import com.github.ajroot5685.dto.XLSXColumn;
+
+/**
+ * Ten-column DTO with five string and five numeric fields, mapped both by annotation and by hand.
+ */
+public class BenchmarkDto {
+
+    @XLSXColumn(header = "Order No")
+    private final String orderNo;
+    @XLSXColumn(header = "Customer")
+    private final String customer;
+    @XLSXColumn(header = "Status")
+    private final String status;
+    @XLSXColumn(header = "Region")
+    private final String region;
+    @XLSXColumn(header = "Memo")
+    private final String memo;
+    @XLSXColumn(header = "Quantity")
+    private final int quantity;
+    @XLSXColumn(header = "Unit Price")
+    private final double unitPrice;
+    @XLSXColumn(header = "Amount")
+    private final double amount;
+    @XLSXColumn(header = "Customer Id")
+    private final long customerId;
+    @XLSXColumn(header = "Discount")
+    private final double discount;
+
+    BenchmarkDto(int seed) {
+        this.orderNo = "ORD-" + (100_000 + seed);
+        this.customer = "Customer " + seed % 997;
+        this.status = seed % 3 == 0 ? "PAID" : "PENDING";
+        this.region = "Region " + seed % 17;
+        this.memo = "Deliver between 9 and 18, leave at the door #" + seed;
+        this.quantity = seed % 50 + 1;
+        this.unitPrice = 1.5 + seed % 1000;
+        this.amount = quantity * unitPrice;
+        this.customerId = 10_000L + seed % 997;
+        this.discount = seed % 10 / 100.0;
+    }
+
+    /**
+     * Hand-written columns equivalent to the annotated fields, writing the same string and numeric cells.
+     */
+    static Columns<BenchmarkDto> manualColumns() {
+        return Columns.<BenchmarkDto>builder()
+                .string("Order No", dto -> dto.orderNo)
+                .string("Customer", dto -> dto.customer)
+                .string("Status", dto -> dto.status)
+                .string("Region", dto -> dto.region)
+                .string("Memo", dto -> dto.memo)
+                .intNumeric("Quantity", dto -> dto.quantity)
+                .doubleNumeric("Unit Price", dto -> dto.unitPrice)
+                .doubleNumeric("Amount", dto -> dto.amount)
+                .longNumeric("Customer Id", dto -> dto.customerId)
+                .doubleNumeric("Discount", dto -> dto.discount)
+                .build();
+    }
+}
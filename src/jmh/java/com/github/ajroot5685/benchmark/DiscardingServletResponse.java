@@ -0,0 +1,48 @@
+package com.github.ajroot5685.benchmark;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import java.lang.reflect.Proxy;
+
+/**
+ * Servlet container stand-in: an {@link HttpServletResponse} whose output stream discards every byte.
+ */
+final class DiscardingServletResponse {
+
+    private DiscardingServletResponse() {
+    }
+
+    static HttpServletResponse create() {
+        ServletOutputStream out = new ServletOutputStream() {
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public void write(int b) {
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+            }
+        };
+        return (HttpServletResponse) Proxy.newProxyInstance(
+                HttpServletResponse.class.getClassLoader(),
+                new Class<?>[]{HttpServletResponse.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "getOutputStream" -> out;
+                    case "isCommitted" -> false;
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> "DiscardingServletResponse";
+                    default -> null;
+                });
+    }
+}
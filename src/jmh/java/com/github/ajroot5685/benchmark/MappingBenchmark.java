@@ -0,0 +1,62 @@
+package com.github.ajroot5685.benchmark;
+
+import com.github.ajroot5685.column.Columns;
+import com.github.ajroot5685.core.ExcelBuilder;
+import com.github.ajroot5685.core.ExportEngine;
+import com.github.ajroot5685.core.ExportOptions;
+import com.github.ajroot5685.output.OutputWriter;
+import com.github.ajroot5685.output.WriterFactory;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Annotation-based mapping against equivalent hand-written columns, written to a discarding stream.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+@Fork(1)
+public class MappingBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int rows;
+
+    @Param({"POI", "DIRECT"})
+    private ExportEngine engine;
+
+    private Iterable<BenchmarkDto> data;
+    private Columns<BenchmarkDto> manualColumns;
+    private ExportOptions options;
+    private OutputWriter writer;
+
+    @Setup
+    public void setUp() {
+        data = BenchmarkData.cycle(BenchmarkData.dtoPool(), rows);
+        manualColumns = BenchmarkDto.manualColumns();
+        options = ExportOptions.builder().engine(engine).build();
+        writer = WriterFactory.forStreamOutput(OutputStream.nullOutputStream());
+    }
+
+    @Benchmark
+    public void autoMapping() {
+        ExcelBuilder.generateWithAutoMapping(BenchmarkDto.class, data, writer, options);
+    }
+
+    @Benchmark
+    public void manualMapping() {
+        ExcelBuilder.generateWithManualMapping(manualColumns, data, writer, options);
+    }
+}
@@ -0,0 +1,82 @@
+package com.github.ajroot5685.benchmark;
+
+import com.github.ajroot5685.core.ExportEngine;
+import com.github.ajroot5685.core.ExportOptions;
+import com.github.ajroot5685.core.ExportPlan;
+import com.github.ajroot5685.output.OutputWriter;
+import com.github.ajroot5685.output.WriterFactory;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The same export through each built-in {@link OutputWriter}: a temp file, a discarding stream and a servlet stand-in.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+@Fork(1)
+public class OutputWriterBenchmark {
+
+    @Param({"FILE", "STREAM", "SERVLET"})
+    private Target target;
+
+    @Param({"POI", "DIRECT"})
+    private ExportEngine engine;
+
+    @Param({"100000"})
+    private int rows;
+
+    private Iterable<BenchmarkDto> data;
+    private ExportPlan<BenchmarkDto> plan;
+    private Path file;
+    private OutputWriter writer;
+
+    public enum Target {
+        FILE,
+        STREAM,
+        SERVLET
+    }
+
+    @Setup
+    public void setUp() throws IOException {
+        data = BenchmarkData.cycle(BenchmarkData.dtoPool(), rows);
+        plan = ExportPlan.of(BenchmarkDto.class, ExportOptions.builder().engine(engine).build());
+        writer = switch (target) {
+            case FILE -> {
+                file = Files.createTempFile("xlsx-benchmark", ".xlsx");
+                yield WriterFactory.forFileOutput(file.toString());
+            }
+            case STREAM -> WriterFactory.forStreamOutput(OutputStream.nullOutputStream());
+            case SERVLET -> WriterFactory.forServletOutput(DiscardingServletResponse.create(), "benchmark.xlsx");
+        };
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        if (file != null) {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Benchmark
+    public void write() {
+        plan.export(data, writer);
+    }
+}
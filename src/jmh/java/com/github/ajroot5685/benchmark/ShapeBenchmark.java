@@ -0,0 +1,84 @@
+package com.github.ajroot5685.benchmark;
+
+import com.github.ajroot5685.column.Columns;
+import com.github.ajroot5685.core.ExportEngine;
+import com.github.ajroot5685.core.ExportOptions;
+import com.github.ajroot5685.core.ExportPlan;
+import com.github.ajroot5685.output.OutputWriter;
+import com.github.ajroot5685.output.WriterFactory;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Sheet shape sweep: row count, column count and cell type, written to a discarding stream.
+ * <br>
+ * Cell values come from precomputed pools, so value creation does not show up in the allocation rate.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+@Fork(1)
+public class ShapeBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int rows;
+
+    @Param({"5", "50", "200"})
+    private int columns;
+
+    @Param({"STRING", "NUMERIC"})
+    private CellData data;
+
+    @Param({"POI", "DIRECT"})
+    private ExportEngine engine;
+
+    private Iterable<Integer> rowIndexes;
+    private ExportPlan<Integer> plan;
+    private OutputWriter writer;
+
+    public enum CellData {
+        STRING,
+        NUMERIC
+    }
+
+    @Setup
+    public void setUp() {
+        rowIndexes = BenchmarkData.cycle(BenchmarkData.indexPool(), rows);
+        String[] strings = new String[BenchmarkData.POOL_SIZE];
+        Double[] numbers = new Double[BenchmarkData.POOL_SIZE];
+        for (int i = 0; i < BenchmarkData.POOL_SIZE; i++) {
+            strings[i] = "value-" + i;
+            numbers[i] = i * 1.25;
+        }
+
+        Columns.Builder<Integer> builder = Columns.builder();
+        for (int c = 0; c < columns; c++) {
+            int offset = c;
+            if (data == CellData.STRING) {
+                builder.string("Column " + c, row -> strings[BenchmarkData.poolIndex(row + offset)]);
+            } else {
+                builder.numeric("Column " + c, row -> numbers[BenchmarkData.poolIndex(row + offset)]);
+            }
+        }
+        plan = ExportPlan.of(builder.build(), ExportOptions.builder().engine(engine).build());
+        writer = WriterFactory.forStreamOutput(OutputStream.nullOutputStream());
+    }
+
+    @Benchmark
+    public void generate() {
+        plan.export(rowIndexes, writer);
+    }
+}
@@ -0,0 +1,194 @@
+package com.github.ajroot5685.column;
+
+import com.github.ajroot5685.dto.ColumnType;
+import com.github.ajroot5685.dto.XLSXColumn;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Column declared by an {@link XLSXColumn} field, written the same way whether its value is read by reflection or by
+ * a mapper generated at compile time.
+ * <br>
+ * A {@code null} value becomes {@code nullValue} for {@link ColumnType#STRING} or when {@code nullValue} is set, and a
+ * blank cell otherwise. Values that do not match the declared type, and numbers that would lose digits as a
+ * {@code double}, are written as strings. A column with a {@code formatter} formats its values into a reused
+ * per-thread buffer instead of calling {@code toString()}.
+ * <br><br>
+ * {@link XLSXColumn} 필드로 선언된 컬럼입니다. 값을 리플렉션으로 읽든 컴파일 시점에 생성된 매퍼로 읽든 같은 방식으로 씁니다.
+ * <br>
+ * {@code null} 값은 {@link ColumnType#STRING}이거나 {@code nullValue}가 설정되어 있으면 {@code nullValue}로, 그 외에는 빈 셀로 쓰입니다.
+ * 선언된 타입과 맞지 않는 값과 {@code double}로 변환하면 자릿수를 잃는 숫자는 문자열로 쓰입니다. {@code formatter}가 있는 컬럼은
+ * {@code toString()}을 호출하지 않고 스레드마다 재사용되는 버퍼로 값을 변환합니다.
+ *
+ * @param header       the header name
+ *                     <p>
+ *                     헤더 이름
+ * @param type         the resolved cell type, never {@link ColumnType#AUTO}
+ *                     <p>
+ *                     결정된 셀 타입 ({@link ColumnType#AUTO}는 사용할 수 없음)
+ * @param sharedString whether string cells go through the shared strings table
+ *                     <p>
+ *                     문자열 셀을 공유 문자열 테이블로 쓸지 여부
+ * @param accessor     reads the field value from a DTO
+ *                     <p>
+ *                     DTO에서 필드 값을 읽는 함수
+ * @param formatter    converts non-null values into text, or {@code null} to use {@code toString()}; requires
+ *                     {@link ColumnType#STRING}
+ *                     <p>
+ *                     {@code null}이 아닌 값을 문자열로 변환하는 포매터 ({@code null}이면 {@code toString()} 사용,
+ *                     {@link ColumnType#STRING}에서만 사용 가능)
+ * @param nullValue    the text written for a {@code null} value
+ *                     <p>
+ *                     {@code null} 값 대신 쓰이는 텍스트
+ * @param <T>          the DTO type
+ */
+public record AnnotatedColumn<T>(
+        String header,
+        ColumnType type,
+        boolean sharedString,
+        Function<? super T, ?> accessor,
+        ValueFormatter<Object> formatter,
+        String nullValue
+) implements Column<T> {
+
+    /**
+     * Validates the components.
+     * <br><br>
+     * 구성 요소를 검증합니다.
+     *
+     * @throws IllegalArgumentException if {@code type} is {@link ColumnType#AUTO}, or a {@code formatter} is given for
+     *                                  another type than {@link ColumnType#STRING}
+     *                                  <p>
+     *                                  {@code type}이 {@link ColumnType#AUTO}이거나, {@link ColumnType#STRING}이 아닌 타입에
+     *                                  {@code formatter}가 지정된 경우
+     */
+    public AnnotatedColumn {
+        Objects.requireNonNull(header, "header");
+        Objects.requireNonNull(type, "type");
+        Objects.requireNonNull(accessor, "accessor");
+        Objects.requireNonNull(nullValue, "nullValue");
+        if (type == ColumnType.AUTO) {
+            throw new IllegalArgumentException("type must be resolved, not AUTO: " + header);
+        }
+        if (formatter != null && type != ColumnType.STRING) {
+            throw new IllegalArgumentException("formatted column must be STRING, not " + type + ": " + header);
+        }
+    }
+
+    /**
+     * Creates a column without a formatter, writing {@code null} as an empty string or a blank cell.
+     * <br><br>
+     * 포매터 없이 컬럼을 생성합니다. {@code null}은 빈 문자열 또는 빈 셀로 쓰입니다.
+     *
+     * @param header       the header name
+     *                     <p>
+     *                     헤더 이름
+     * @param type         the resolved cell type, never {@link ColumnType#AUTO}
+     *                     <p>
+     *                     결정된 셀 타입 ({@link ColumnType#AUTO}는 사용할 수 없음)
+     * @param sharedString whether string cells go through the shared strings table
+     *                     <p>
+     *                     문자열 셀을 공유 문자열 테이블로 쓸지 여부
+     * @param accessor     reads the field value from a DTO
+     *                     <p>
+     *                     DTO에서 필드 값을 읽는 함수
+     */
+    public AnnotatedColumn(String header, ColumnType type, boolean sharedString, Function<? super T, ?> accessor) {
+        this(header, type, sharedString, accessor, null, "");
+    }
+
+    @Override
+    public void write(T dto, int column, CellSink sink) {
+        Object value = accessor.apply(dto);
+        if (value == null) {
+            if (type == ColumnType.STRING || !nullValue.isEmpty()) {
+                writeString(nullValue, column, sink);
+            } else {
+                sink.writeBlank(column);
+            }
+            return;
+        }
+        if (formatter != null) {
+            FormattedColumn.writeFormatted(formatter, value, sharedString, column, sink);
+            return;
+        }
+
+        switch (type) {
+            case NUMERIC -> {
+                if (value instanceof Number number) {
+                    sink.writeNumber(column, number);
+                } else {
+                    sink.writeString(column, value.toString());
+                }
+            }
+            case BOOLEAN -> {
+                if (value instanceof Boolean bool) {
+                    sink.writeBoolean(column, bool);
+                } else {
+                    sink.writeString(column, value.toString());
+                }
+            }
+            case DATE -> writeDate(value, column, sink);
+            default -> writeString(value.toString(), column, sink);
+        }
+    }
+
+    /**
+     * Returns the value of the column as text, or {@code nullValue} for {@code null}.
+     * <br><br>
+     * 컬럼 값을 문자열로 반환합니다. {@code null}이면 {@code nullValue}를 반환합니다.
+     *
+     * @param dto the DTO to read
+     *            <p>
+     *            값을 읽을 DTO
+     * @return the text of the value
+     */
+    public String text(T dto) {
+        Object value = accessor.apply(dto);
+        if (value == null) {
+            return nullValue;
+        }
+        if (formatter == null) {
+            return value.toString();
+        }
+        StringBuilder text = new StringBuilder();
+        formatter.format(value, text);
+        return text.toString();
+    }
+
+    /**
+     * Writes a string-typed value as a shared or inline string.
+     */
+    private void writeString(String value, int column, CellSink sink) {
+        if (sharedString) {
+            sink.writeSharedString(column, value);
+        } else {
+            sink.writeString(column, value);
+        }
+    }
+
+    /**
+     * Writes a supported date value as a date cell, or falls back to a string cell.
+     */
+    private static void writeDate(Object value, int column, CellSink sink) {
+        if (value instanceof LocalDate date) {
+            sink.writeDate(column, date);
+        } else if (value instanceof LocalDateTime dateTime) {
+            sink.writeDateTime(column, dateTime);
+        } else if (value instanceof Date date) {
+            sink.writeDateTime(column, LocalDateTime.ofInstant(Instant.ofEpochMilli(date.getTime()),
+                    ZoneId.systemDefault()));
+        } else if (value instanceof Calendar calendar) {
+            sink.writeDateTime(column, LocalDateTime.ofInstant(calendar.toInstant(),
+                    calendar.getTimeZone().toZoneId()));
+        } else {
+            sink.writeString(column, value.toString());
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.github.ajroot5685.column;
+
+import com.github.ajroot5685.dto.ColumnType;
+import java.util.function.Function;
+
+/**
+ * Column that writes the extracted {@link Boolean} as a boolean cell.
+ */
+record BooleanColumn<T>(
+        String header,
+        Function<? super T, Boolean> extractor
+) implements Column<T> {
+
+    @Override
+    public ColumnType type() {
+        return ColumnType.BOOLEAN;
+    }
+
+    @Override
+    public void write(T dto, int column, CellSink sink) {
+        Boolean value = extractor.apply(dto);
+        if (value == null) {
+            sink.writeBlank(column);
+            return;
+        }
+        sink.writeBoolean(column, value);
+    }
+}
@@ -0,0 +1,181 @@
+package com.github.ajroot5685.column;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Engine-neutral target that receives the typed cell values of a single row.
+ * <br>
+ * A {@link Column} writes its value through one of these methods, so the same column definitions can be used by every
+ * output engine.
+ * <br><br>
+ * 한 행의 타입별 셀 값을 전달받는 출력 엔진 중립적인 대상입니다.
+ * <br>
+ * {@link Column}은 이 메서드들 중 하나로 값을 쓰므로, 같은 컬럼 정의를 모든 출력 엔진에서 사용할 수 있습니다.
+ */
+public interface CellSink {
+
+    /**
+     * Writes a string cell. A {@code null} value is written as a blank cell.
+     * <br>
+     * 문자열 셀을 씁니다. {@code null} 값은 빈 셀로 쓰입니다.
+     *
+     * @param column the zero-based column index
+     *               <p>
+     *               0부터 시작하는 컬럼 인덱스
+     * @param value  the cell value
+     *               <p>
+     *               셀 값
+     */
+    void writeString(int column, String value);
+
+    /**
+     * Writes a string cell from a character sequence, such as a buffer that is reused for the next cell. The sequence
+     * is only read during this call. A {@code null} value is written as a blank cell.
+     * <br>
+     * Engines that write text directly override this to avoid creating a string per cell.
+     * <br>
+     * 다음 셀에 재사용되는 버퍼 같은 문자 시퀀스로 문자열 셀을 씁니다. 시퀀스는 이 호출 동안에만 읽힙니다. {@code null} 값은 빈 셀로
+     * 쓰입니다.
+     * <br>
+     * 텍스트를 바로 쓰는 엔진은 셀마다 문자열을 만들지 않도록 이 메서드를 재정의합니다.
+     *
+     * @param column the zero-based column index
+     *               <p>
+     *               0부터 시작하는 컬럼 인덱스
+     * @param value  the cell value
+     *               <p>
+     *               셀 값
+     */
+    default void writeText(int column, CharSequence value) {
+        writeString(column, value != null ? value.toString() : null);
+    }
+
+    /**
+     * Writes a string cell whose value is expected to repeat, so the engine may store it once in the workbook's shared
+     * strings table. A {@code null} value is written as a blank cell.
+     * <br>
+     * Engines without shared string support write it as a regular string cell.
+     * <br>
+     * 값이 반복될 것으로 예상되는 문자열 셀을 씁니다. 엔진은 이 값을 워크북의 공유 문자열 테이블에 한 번만 저장할 수 있습니다. {@code null}
+     * 값은 빈 셀로 쓰입니다.
+     * <br>
+     * 공유 문자열을 지원하지 않는 엔진은 일반 문자열 셀로 씁니다.
+     *
+     * @param column the zero-based column index
+     *               <p>
+     *               0부터 시작하는 컬럼 인덱스
+     * @param value  the cell value
+     *               <p>
+     *               셀 값
+     */
+    default void writeSharedString(int column, String value) {
+        writeString(column, value);
+    }
+
+    /**
+     * Writes a numeric cell.
+     * <br>
+     * 숫자 셀을 씁니다.
+     *
+     * @param column the zero-based column index
+     *               <p>
+     *               0부터 시작하는 컬럼 인덱스
+     * @param value  the cell value
+     *               <p>
+     *               셀 값
+     */
+    void writeNumber(int column, double value);
+
+    /**
+     * Writes a number as a numeric cell, or as a string cell with its exact text if a {@code double} cannot hold it
+     * without losing digits, see {@link com.github.ajroot5685.dto.ColumnType#NUMERIC}.
+     * <br>
+     * 숫자를 숫자 셀로 씁니다. {@code double}로 자릿수를 잃지 않고 담을 수 없는 값은 정확한 텍스트의 문자열 셀로 씁니다
+     * ({@link com.github.ajroot5685.dto.ColumnType#NUMERIC} 참고).
+     *
+     * @param column the zero-based column index
+     *               <p>
+     *               0부터 시작하는 컬럼 인덱스
+     * @param value  the cell value, not {@code null}
+     *               <p>
+     *               셀 값 ({@code null} 불가)
+     */
+    default void writeNumber(int column, Number value) {
+        NumericColumn.writeNumber(value, column, this);
+    }
+
+    /**
+     * Writes a numeric cell from an integral value.
+     * <br>
+     * Engines that write numbers as text override this to print the digits directly instead of converting the value to
+     * {@code double} first.
+     * <br>
+     * 정수 값으로 숫자 셀을 씁니다.
+     * <br>
+     * 숫자를 텍스트로 쓰는 엔진은 값을 먼저 {@code double}로 변환하지 않고 숫자를 바로 쓰도록 이 메서드를 재정의합니다.
+     *
+     * @param column the zero-based column index
+     *               <p>
+     *               0부터 시작하는 컬럼 인덱스
+     * @param value  the cell value
+     *               <p>
+     *               셀 값
+     */
+    default void writeNumber(int column, long value) {
+        writeNumber(column, (double) value);
+    }
+
+    /**
+     * Writes a boolean cell.
+     * <br>
+     * boolean 셀을 씁니다.
+     *
+     * @param column the zero-based column index
+     *               <p>
+     *               0부터 시작하는 컬럼 인덱스
+     * @param value  the cell value
+     *               <p>
+     *               셀 값
+     */
+    void writeBoolean(int column, boolean value);
+
+    /**
+     * Writes a date cell without a time part.
+     * <br>
+     * 시간이 없는 날짜 셀을 씁니다.
+     *
+     * @param column the zero-based column index
+     *               <p>
+     *               0부터 시작하는 컬럼 인덱스
+     * @param value  the cell value
+     *               <p>
+     *               셀 값
+     */
+    void writeDate(int column, LocalDate value);
+
+    /**
+     * Writes a date cell with a time part.
+     * <br>
+     * 시간이 포함된 날짜 셀을 씁니다.
+     *
+     * @param column the zero-based column index
+     *               <p>
+     *               0부터 시작하는 컬럼 인덱스
+     * @param value  the cell value
+     *               <p>
+     *               셀 값
+     */
+    void writeDateTime(int column, LocalDateTime value);
+
+    /**
+     * Writes a blank cell.
+     * <br>
+     * 빈 셀을 씁니다.
+     *
+     * @param column the zero-based column index
+     *               <p>
+     *               0부터 시작하는 컬럼 인덱스
+     */
+    void writeBlank(int column);
+}
@@ -0,0 +1,48 @@
+package com.github.ajroot5685.column;
+
+import com.github.ajroot5685.dto.ColumnType;
+
+/**
+ * A single Excel column: its header and how to write a DTO's value into a cell.
+ * <br>
+ * 헤더와 DTO의 값을 셀에 쓰는 방법을 가진 하나의 Excel 컬럼입니다.
+ *
+ * @param <T> the DTO type
+ */
+public interface Column<T> {
+
+    /**
+     * Returns the header name of the column.
+     * <br>
+     * 컬럼의 헤더 이름을 반환합니다.
+     *
+     * @return the header name
+     */
+    String header();
+
+    /**
+     * Returns the cell type written by the column.
+     * <br>
+     * 컬럼이 쓰는 셀 타입을 반환합니다.
+     *
+     * @return the cell type
+     */
+    ColumnType type();
+
+    /**
+     * Writes the value of the given DTO into the cell at {@code column}.
+     * <br>
+     * 주어진 DTO의 값을 {@code column} 위치의 셀에 씁니다.
+     *
+     * @param dto    the DTO of the current row
+     *               <p>
+     *               현재 행의 DTO
+     * @param column the zero-based column index
+     *               <p>
+     *               0부터 시작하는 컬럼 인덱스
+     * @param sink   the target of the cell value
+     *               <p>
+     *               셀 값을 전달받는 대상
+     */
+    void write(T dto, int column, CellSink sink);
+}
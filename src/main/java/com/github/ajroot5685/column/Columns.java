@@ -0,0 +1,407 @@
+package com.github.ajroot5685.column;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Immutable, ordered list of {@link Column}s describing every column of an Excel sheet.
+ * <br>
+ * Use {@link #builder()} to declare typed columns manually, or {@link #fromMapping(LinkedHashMap)} to reuse a string
+ * mapping.
+ * <br><br>
+ * Excel 시트의 모든 컬럼을 순서대로 담는 불변 {@link Column} 목록입니다.
+ * <br>
+ * {@link #builder()}로 타입이 있는 컬럼을 직접 선언하거나, {@link #fromMapping(LinkedHashMap)}으로 문자열 매핑을 재사용할 수
+ * 있습니다.
+ *
+ * @param <T> the DTO type
+ */
+public final class Columns<T> implements Iterable<Column<? super T>> {
+
+    private final List<Column<? super T>> columns;
+    private final List<String> headers;
+
+    private Columns(List<Column<? super T>> columns) {
+        this.columns = List.copyOf(columns);
+        this.headers = this.columns.stream()
+                .map(Column::header)
+                .toList();
+    }
+
+    /**
+     * Creates a new {@link Builder}.
+     * <br><br>
+     * 새로운 {@link Builder}를 생성합니다.
+     *
+     * @param <T> the DTO type
+     * @return a new builder
+     * <p>
+     * 새 빌더
+     */
+    public static <T> Builder<T> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * Creates string columns from a mapping of header names to value extractor functions.
+     * <br><br>
+     * 헤더 이름과 값 추출 함수의 매핑으로 문자열 컬럼들을 생성합니다.
+     *
+     * @param headersMap a mapping of header names to value extractor functions
+     *                   <p>
+     *                   헤더 이름과 DTO에서 값을 추출하는 함수의 매핑
+     * @param <T>        the DTO type
+     * @return the columns in the mapping order
+     * <p>
+     * 매핑 순서대로 정렬된 컬럼 목록
+     */
+    public static <T> Columns<T> fromMapping(LinkedHashMap<String, Function<T, String>> headersMap) {
+        Builder<T> builder = builder();
+        headersMap.forEach(builder::string);
+        return builder.build();
+    }
+
+    /**
+     * Creates columns from already built {@link Column} instances.
+     * <br><br>
+     * 이미 생성된 {@link Column} 인스턴스들로 컬럼 목록을 생성합니다.
+     *
+     * @param columns the columns in order
+     *                <p>
+     *                순서대로 정렬된 컬럼들
+     * @param <T>     the DTO type
+     * @return the columns
+     * <p>
+     * 컬럼 목록
+     */
+    public static <T> Columns<T> of(List<? extends Column<? super T>> columns) {
+        return new Columns<>(new ArrayList<>(columns));
+    }
+
+    /**
+     * Returns the header names in column order.
+     * <br><br>
+     * 컬럼 순서대로 헤더 이름들을 반환합니다.
+     *
+     * @return the header names
+     * <p>
+     * 헤더 이름 목록
+     */
+    public List<String> headers() {
+        return headers;
+    }
+
+    /**
+     * Returns the number of columns.
+     * <br><br>
+     * 컬럼 수를 반환합니다.
+     *
+     * @return the number of columns
+     * <p>
+     * 컬럼 수
+     */
+    public int size() {
+        return columns.size();
+    }
+
+    /**
+     * Returns the column at the given index.
+     * <br><br>
+     * 주어진 인덱스의 컬럼을 반환합니다.
+     *
+     * @param index the zero-based column index
+     *              <p>
+     *              0부터 시작하는 컬럼 인덱스
+     * @return the column
+     * <p>
+     * 컬럼
+     */
+    public Column<? super T> get(int index) {
+        return columns.get(index);
+    }
+
+    /**
+     * Writes every column value of the given DTO into the sink.
+     * <br><br>
+     * 주어진 DTO의 모든 컬럼 값을 대상에 씁니다.
+     *
+     * @param dto  the DTO of the current row
+     *             <p>
+     *             현재 행의 DTO
+     * @param sink the target of the cell values
+     *             <p>
+     *             셀 값을 전달받는 대상
+     */
+    public void writeRow(T dto, CellSink sink) {
+        for (int i = 0; i < columns.size(); i++) {
+            columns.get(i).write(dto, i, sink);
+        }
+    }
+
+    @Override
+    public Iterator<Column<? super T>> iterator() {
+        return columns.iterator();
+    }
+
+    /**
+     * Builder that declares typed columns in order.
+     * <br>
+     * 타입이 있는 컬럼들을 순서대로 선언하는 빌더입니다.
+     *
+     * @param <T> the DTO type
+     */
+    public static final class Builder<T> {
+
+        private final List<Column<? super T>> columns = new ArrayList<>();
+
+        private Builder() {
+        }
+
+        /**
+         * Adds a string column.
+         * <br><br>
+         * 문자열 컬럼을 추가합니다.
+         *
+         * @param header    the header name
+         *                  <p>
+         *                  헤더 이름
+         * @param extractor the value extractor function
+         *                  <p>
+         *                  값 추출 함수
+         * @return this builder
+         */
+        public Builder<T> string(String header, Function<? super T, String> extractor) {
+            return add(new StringColumn<>(header, extractor));
+        }
+
+        /**
+         * Adds a string column for low-cardinality values such as status or region codes.
+         * <br>
+         * Repeated values are stored once in the shared strings table by engines that support it, which reduces file
+         * size. Keep high-cardinality values in {@link #string(String, Function)} columns.
+         * <br><br>
+         * 상태나 지역 코드처럼 값의 종류가 적은 문자열 컬럼을 추가합니다.
+         * <br>
+         * 이를 지원하는 엔진에서는 반복되는 값이 공유 문자열 테이블에 한 번만 저장되어 파일 크기가 줄어듭니다. 값의 종류가 많은 컬럼은
+         * {@link #string(String, Function)}을 사용하세요.
+         *
+         * @param header    the header name
+         *                  <p>
+         *                  헤더 이름
+         * @param extractor the value extractor function
+         *                  <p>
+         *                  값 추출 함수
+         * @return this builder
+         */
+        public Builder<T> sharedString(String header, Function<? super T, String> extractor) {
+            return add(new SharedStringColumn<>(header, extractor));
+        }
+
+        /**
+         * Adds a string column whose values are converted by a {@link ValueFormatter}, such as one from
+         * {@link ValueFormatters}. A {@code null} value is written as a blank cell.
+         * <br>
+         * The value is formatted into a buffer that is reused from cell to cell, so no string is created per cell.
+         * <br><br>
+         * {@link ValueFormatters}가 제공하는 것과 같은 {@link ValueFormatter}로 값을 변환하는 문자열 컬럼을 추가합니다.
+         * {@code null} 값은 빈 셀로 쓰입니다.
+         * <br>
+         * 값은 셀마다 재사용되는 버퍼로 변환되므로 셀마다 문자열이 만들어지지 않습니다.
+         *
+         * @param header    the header name
+         *                  <p>
+         *                  헤더 이름
+         * @param extractor the value extractor function
+         *                  <p>
+         *                  값 추출 함수
+         * @param formatter converts the value into text
+         *                  <p>
+         *                  값을 문자열로 변환하는 포매터
+         * @param <V>       the value type
+         * @return this builder
+         */
+        public <V> Builder<T> formatted(String header, Function<? super T, ? extends V> extractor,
+                                        ValueFormatter<? super V> formatter) {
+            return add(new FormattedColumn<>(header, extractor, formatter));
+        }
+
+        /**
+         * Adds a numeric column. Values that a {@code double} cannot hold without losing digits are written as string
+         * cells, see {@link com.github.ajroot5685.dto.ColumnType#NUMERIC}.
+         * <br><br>
+         * 숫자 컬럼을 추가합니다. {@code double}로 자릿수를 잃지 않고 담을 수 없는 값은 문자열 셀로 쓰입니다
+         * ({@link com.github.ajroot5685.dto.ColumnType#NUMERIC} 참고).
+         *
+         * @param header    the header name
+         *                  <p>
+         *                  헤더 이름
+         * @param extractor the value extractor function
+         *                  <p>
+         *                  값 추출 함수
+         * @return this builder
+         */
+        public Builder<T> numeric(String header, Function<? super T, ? extends Number> extractor) {
+            return add(new NumericColumn<>(header, extractor));
+        }
+
+        /**
+         * Adds a numeric column read as a primitive {@code long}.
+         * <br>
+         * The value is neither boxed nor converted to text, which matters for exports with many numeric columns. Only
+         * values a {@code double} cannot hold exactly, beyond 2<sup>53</sup>, are written as string cells.
+         * <br><br>
+         * 기본형 {@code long}으로 읽는 숫자 컬럼을 추가합니다.
+         * <br>
+         * 값을 박싱하거나 문자열로 변환하지 않으므로 숫자 컬럼이 많은 내보내기에서 효과가 큽니다. {@code double}로 정확히 담을 수 없는
+         * 2<sup>53</sup>을 넘는 값만 문자열 셀로 쓰입니다.
+         *
+         * @param header    the header name
+         *                  <p>
+         *                  헤더 이름
+         * @param extractor the value extractor function
+         *                  <p>
+         *                  값 추출 함수
+         * @return this builder
+         */
+        public Builder<T> longNumeric(String header, ToLongFunction<? super T> extractor) {
+            return add(new LongColumn<>(header, extractor));
+        }
+
+        /**
+         * Adds a numeric column read as a primitive {@code int}, without boxing.
+         * <br><br>
+         * 박싱 없이 기본형 {@code int}로 읽는 숫자 컬럼을 추가합니다.
+         *
+         * @param header    the header name
+         *                  <p>
+         *                  헤더 이름
+         * @param extractor the value extractor function
+         *                  <p>
+         *                  값 추출 함수
+         * @return this builder
+         */
+        public Builder<T> intNumeric(String header, ToIntFunction<? super T> extractor) {
+            return add(new LongColumn<T>(header, extractor::applyAsInt));
+        }
+
+        /**
+         * Adds a numeric column read as a primitive {@code double}, without boxing.
+         * <br><br>
+         * 박싱 없이 기본형 {@code double}로 읽는 숫자 컬럼을 추가합니다.
+         *
+         * @param header    the header name
+         *                  <p>
+         *                  헤더 이름
+         * @param extractor the value extractor function
+         *                  <p>
+         *                  값 추출 함수
+         * @return this builder
+         */
+        public Builder<T> doubleNumeric(String header, ToDoubleFunction<? super T> extractor) {
+            return add(new DoubleColumn<>(header, extractor));
+        }
+
+        /**
+         * Adds a boolean column.
+         * <br><br>
+         * boolean 컬럼을 추가합니다.
+         *
+         * @param header    the header name
+         *                  <p>
+         *                  헤더 이름
+         * @param extractor the value extractor function
+         *                  <p>
+         *                  값 추출 함수
+         * @return this builder
+         */
+        public Builder<T> bool(String header, Function<? super T, Boolean> extractor) {
+            return add(new BooleanColumn<>(header, extractor));
+        }
+
+        /**
+         * Adds a boolean column read from a {@link Predicate}, without boxing.
+         * <br><br>
+         * 박싱 없이 {@link Predicate}로 읽는 boolean 컬럼을 추가합니다.
+         *
+         * @param header    the header name
+         *                  <p>
+         *                  헤더 이름
+         * @param predicate the value predicate
+         *                  <p>
+         *                  값을 판별하는 함수
+         * @return this builder
+         */
+        public Builder<T> predicate(String header, Predicate<? super T> predicate) {
+            return add(new PredicateColumn<>(header, predicate));
+        }
+
+        /**
+         * Adds a date column.
+         * <br><br>
+         * 날짜 컬럼을 추가합니다.
+         *
+         * @param header    the header name
+         *                  <p>
+         *                  헤더 이름
+         * @param extractor the value extractor function
+         *                  <p>
+         *                  값 추출 함수
+         * @return this builder
+         */
+        public Builder<T> date(String header, Function<? super T, ? extends LocalDate> extractor) {
+            return add(new DateColumn<>(header, extractor));
+        }
+
+        /**
+         * Adds a date-time column.
+         * <br><br>
+         * 날짜-시간 컬럼을 추가합니다.
+         *
+         * @param header    the header name
+         *                  <p>
+         *                  헤더 이름
+         * @param extractor the value extractor function
+         *                  <p>
+         *                  값 추출 함수
+         * @return this builder
+         */
+        public Builder<T> dateTime(String header, Function<? super T, ? extends LocalDateTime> extractor) {
+            return add(new DateTimeColumn<>(header, extractor));
+        }
+
+        /**
+         * Adds a custom column.
+         * <br><br>
+         * 직접 구현한 컬럼을 추가합니다.
+         *
+         * @param column the column to add
+         *               <p>
+         *               추가할 컬럼
+         * @return this builder
+         */
+        public Builder<T> add(Column<? super T> column) {
+            columns.add(column);
+            return this;
+        }
+
+        /**
+         * Builds the immutable {@link Columns}.
+         * <br><br>
+         * 불변 {@link Columns}를 생성합니다.
+         *
+         * @return the columns
+         */
+        public Columns<T> build() {
+            return new Columns<>(columns);
+        }
+    }
+}
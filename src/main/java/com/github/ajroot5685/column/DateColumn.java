@@ -0,0 +1,29 @@
+package com.github.ajroot5685.column;
+
+import com.github.ajroot5685.dto.ColumnType;
+import java.time.LocalDate;
+import java.util.function.Function;
+
+/**
+ * Column that writes the extracted {@link LocalDate} as a date cell.
+ */
+record DateColumn<T>(
+        String header,
+        Function<? super T, ? extends LocalDate> extractor
+) implements Column<T> {
+
+    @Override
+    public ColumnType type() {
+        return ColumnType.DATE;
+    }
+
+    @Override
+    public void write(T dto, int column, CellSink sink) {
+        LocalDate value = extractor.apply(dto);
+        if (value == null) {
+            sink.writeBlank(column);
+            return;
+        }
+        sink.writeDate(column, value);
+    }
+}
@@ -0,0 +1,29 @@
+package com.github.ajroot5685.column;
+
+import com.github.ajroot5685.dto.ColumnType;
+import java.time.LocalDateTime;
+import java.util.function.Function;
+
+/**
+ * Column that writes the extracted {@link LocalDateTime} as a date-time cell.
+ */
+record DateTimeColumn<T>(
+        String header,
+        Function<? super T, ? extends LocalDateTime> extractor
+) implements Column<T> {
+
+    @Override
+    public ColumnType type() {
+        return ColumnType.DATE;
+    }
+
+    @Override
+    public void write(T dto, int column, CellSink sink) {
+        LocalDateTime value = extractor.apply(dto);
+        if (value == null) {
+            sink.writeBlank(column);
+            return;
+        }
+        sink.writeDateTime(column, value);
+    }
+}
@@ -0,0 +1,23 @@
+package com.github.ajroot5685.column;
+
+import com.github.ajroot5685.dto.ColumnType;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Column that writes the extracted {@code double} as a numeric cell without boxing it.
+ */
+record DoubleColumn<T>(
+        String header,
+        ToDoubleFunction<? super T> extractor
+) implements Column<T> {
+
+    @Override
+    public ColumnType type() {
+        return ColumnType.NUMERIC;
+    }
+
+    @Override
+    public void write(T dto, int column, CellSink sink) {
+        sink.writeNumber(column, extractor.applyAsDouble(dto));
+    }
+}
@@ -0,0 +1,55 @@
+package com.github.ajroot5685.column;
+
+import com.github.ajroot5685.dto.ColumnType;
+import java.util.function.Function;
+
+/**
+ * Column that writes the extracted value as a string cell, formatted into a per-thread buffer instead of a new string.
+ */
+record FormattedColumn<T, V>(
+        String header,
+        Function<? super T, ? extends V> extractor,
+        ValueFormatter<? super V> formatter
+) implements Column<T> {
+
+    /**
+     * Buffers larger than this are trimmed after use, so one huge value does not stay reachable from the thread.
+     */
+    private static final int MAX_RETAINED_CAPACITY = 8192;
+
+    private static final ThreadLocal<StringBuilder> TEXT = ThreadLocal.withInitial(() -> new StringBuilder(64));
+
+    @Override
+    public ColumnType type() {
+        return ColumnType.STRING;
+    }
+
+    @Override
+    public void write(T dto, int column, CellSink sink) {
+        V value = extractor.apply(dto);
+        if (value == null) {
+            sink.writeBlank(column);
+        } else {
+            writeFormatted(formatter, value, false, column, sink);
+        }
+    }
+
+    /**
+     * Formats a non-null value into the buffer of the current thread and writes it as an inline or shared string.
+     */
+    static <V> void writeFormatted(ValueFormatter<? super V> formatter, V value, boolean sharedString, int column,
+                                   CellSink sink) {
+        StringBuilder text = TEXT.get();
+        text.setLength(0);
+        formatter.format(value, text);
+        if (sharedString) {
+            sink.writeSharedString(column, text.toString());
+        } else {
+            sink.writeText(column, text);
+        }
+        if (text.capacity() > MAX_RETAINED_CAPACITY) {
+            text.setLength(0);
+            text.trimToSize();
+        }
+    }
+}
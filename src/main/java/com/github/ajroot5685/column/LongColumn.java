@@ -0,0 +1,24 @@
+package com.github.ajroot5685.column;
+
+import com.github.ajroot5685.dto.ColumnType;
+import java.util.function.ToLongFunction;
+
+/**
+ * Column that writes the extracted {@code long} as a numeric cell without boxing it. A value that a {@code double}
+ * cannot hold exactly is written as a string cell, like {@link NumericColumn} does.
+ */
+record LongColumn<T>(
+        String header,
+        ToLongFunction<? super T> extractor
+) implements Column<T> {
+
+    @Override
+    public ColumnType type() {
+        return ColumnType.NUMERIC;
+    }
+
+    @Override
+    public void write(T dto, int column, CellSink sink) {
+        NumericColumn.writeLong(extractor.applyAsLong(dto), column, sink);
+    }
+}
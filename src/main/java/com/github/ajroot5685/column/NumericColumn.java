@@ -0,0 +1,84 @@
+package com.github.ajroot5685.column;
+
+import com.github.ajroot5685.dto.ColumnType;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.function.Function;
+
+/**
+ * Column that writes the extracted {@link Number} as a numeric cell.
+ * <br>
+ * Excel stores numbers as {@code double}, so a value that would lose digits on the way, such as a {@code long} ID
+ * above 2<sup>53</sup> or a {@link BigDecimal} with more than 15 significant digits, is written as a string cell with
+ * its exact text instead.
+ */
+record NumericColumn<T>(
+        String header,
+        Function<? super T, ? extends Number> extractor
+) implements Column<T> {
+
+    /**
+     * Largest precision of a decimal that always survives the conversion to {@code double} and back.
+     */
+    private static final int DOUBLE_DIGITS = 15;
+
+    @Override
+    public ColumnType type() {
+        return ColumnType.NUMERIC;
+    }
+
+    @Override
+    public void write(T dto, int column, CellSink sink) {
+        Number value = extractor.apply(dto);
+        if (value == null) {
+            sink.writeBlank(column);
+            return;
+        }
+        sink.writeNumber(column, value);
+    }
+
+    /**
+     * Writes a non-null number as a numeric cell, or as a string cell if it does not fit in a {@code double}. Backs
+     * {@link CellSink#writeNumber(int, Number)}.
+     */
+    static void writeNumber(Number value, int column, CellSink sink) {
+        if (value instanceof Long number) {
+            writeLong(number, column, sink);
+        } else if ((value instanceof BigInteger || value instanceof BigDecimal) && !fitsDouble(value)) {
+            sink.writeString(column, value.toString());
+        } else {
+            sink.writeNumber(column, value.doubleValue());
+        }
+    }
+
+    /**
+     * Writes a {@code long} as a numeric cell, or as a string cell if it is not exactly representable as a
+     * {@code double}.
+     */
+    static void writeLong(long value, int column, CellSink sink) {
+        // Long.MAX_VALUE rounds up to 2^63, which casts back to Long.MAX_VALUE.
+        if ((long) (double) value == value && value != Long.MAX_VALUE) {
+            sink.writeNumber(column, value);
+        } else {
+            sink.writeString(column, Long.toString(value));
+        }
+    }
+
+    /**
+     * Returns whether a {@link BigInteger} or {@link BigDecimal} converts to a {@code double} without losing digits,
+     * that is, the {@code double} is either the exact value or prints as the same decimal.
+     */
+    private static boolean fitsDouble(Number value) {
+        if (value instanceof BigInteger integer && integer.bitLength() <= 53) {
+            return true;
+        }
+        BigDecimal decimal = value instanceof BigDecimal d ? d : new BigDecimal((BigInteger) value);
+        // Short decimals convert exactly enough as long as they stay within the normal range of double.
+        if (decimal.precision() <= DOUBLE_DIGITS && Math.abs(decimal.scale()) < 290) {
+            return true;
+        }
+        double converted = decimal.doubleValue();
+        return Double.isFinite(converted) && (BigDecimal.valueOf(converted).compareTo(decimal) == 0
+                || new BigDecimal(converted).compareTo(decimal) == 0);
+    }
+}
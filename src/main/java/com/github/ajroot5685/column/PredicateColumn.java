@@ -0,0 +1,23 @@
+package com.github.ajroot5685.column;
+
+import com.github.ajroot5685.dto.ColumnType;
+import java.util.function.Predicate;
+
+/**
+ * Column that writes the result of a {@link Predicate} as a boolean cell without boxing it.
+ */
+record PredicateColumn<T>(
+        String header,
+        Predicate<? super T> extractor
+) implements Column<T> {
+
+    @Override
+    public ColumnType type() {
+        return ColumnType.BOOLEAN;
+    }
+
+    @Override
+    public void write(T dto, int column, CellSink sink) {
+        sink.writeBoolean(column, extractor.test(dto));
+    }
+}
@@ -0,0 +1,23 @@
+package com.github.ajroot5685.column;
+
+import com.github.ajroot5685.dto.ColumnType;
+import java.util.function.Function;
+
+/**
+ * Column that writes the extracted value as a string cell.
+ */
+record StringColumn<T>(
+        String header,
+        Function<? super T, String> extractor
+) implements Column<T> {
+
+    @Override
+    public ColumnType type() {
+        return ColumnType.STRING;
+    }
+
+    @Override
+    public void write(T dto, int column, CellSink sink) {
+        sink.writeString(column, extractor.apply(dto));
+    }
+}
@@ -0,0 +1,62 @@
+package com.github.ajroot5685.column;
+
+import com.github.ajroot5685.dto.XLSXColumn;
+
+/**
+ * Converts a column value into text by appending it to a buffer that is reused from cell to cell.
+ * <br>
+ * One instance is shared by every row and every export, so implementations must be thread-safe and must not keep a
+ * reference to the buffer. A class named in {@link XLSXColumn#formatter()} needs a no-argument constructor and is
+ * instantiated once. {@link ValueFormatters} provides cached formatters for date and number patterns.
+ * <br>
+ * A formatter that also implements {@link #parse(String)} lets {@code XLSXReader} read its text back into the field.
+ * <br><br>
+ * 컬럼 값을 셀마다 재사용되는 버퍼에 덧붙여 문자열로 변환합니다.
+ * <br>
+ * 하나의 인스턴스가 모든 행과 모든 내보내기에서 공유되므로, 구현은 스레드 안전해야 하며 버퍼를 참조로 보관하면 안 됩니다.
+ * {@link XLSXColumn#formatter()}에 지정한 클래스는 인자 없는 생성자가 필요하며 한 번만 생성됩니다. 날짜와 숫자 패턴의 캐시된
+ * 포매터는 {@link ValueFormatters}가 제공합니다.
+ * <br>
+ * {@link #parse(String)}도 구현한 포매터는 {@code XLSXReader}가 그 문자열을 다시 필드 값으로 읽을 수 있습니다.
+ *
+ * @param <V> the value type
+ */
+@FunctionalInterface
+public interface ValueFormatter<V> {
+
+    /**
+     * Appends the text of a value to {@code out}.
+     * <br>
+     * 값의 문자열을 {@code out}에 덧붙입니다.
+     *
+     * @param value the value to format, never {@code null}
+     *              <p>
+     *              변환할 값 ({@code null}이 아님)
+     * @param out   the buffer to append to, only valid during this call
+     *              <p>
+     *              문자열을 덧붙일 버퍼 (이 호출 동안에만 유효)
+     */
+    void format(V value, StringBuilder out);
+
+    /**
+     * Converts text written by {@link #format(Object, StringBuilder)} back into a value. Used by {@code XLSXReader};
+     * the default implementation does not support parsing.
+     * <br>
+     * {@link #format(Object, StringBuilder)}가 쓴 문자열을 다시 값으로 변환합니다. {@code XLSXReader}가 사용하며, 기본 구현은 변환을
+     * 지원하지 않습니다.
+     *
+     * @param text the cell text, never {@code null}
+     *             <p>
+     *             셀 문자열 ({@code null}이 아님)
+     * @return the value
+     * <p>
+     * 변환된 값
+     * @throws UnsupportedOperationException if the formatter cannot parse text
+     *                                       <p>
+     *                                       문자열을 변환할 수 없는 포매터인 경우
+     */
+    default V parse(String text) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not implement parse, so its column "
+                + "cannot be read back");
+    }
+}
@@ -0,0 +1,232 @@
+package com.github.ajroot5685.column;
+
+import com.github.ajroot5685.dto.XLSXColumn;
+import java.lang.reflect.Constructor;
+import java.math.RoundingMode;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.text.FieldPosition;
+import java.text.ParsePosition;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAccessor;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Cached {@link ValueFormatter}s for {@link XLSXColumn#format()} patterns and {@link XLSXColumn#formatter()} classes.
+ * <br>
+ * A pattern is compiled once and shared by every column that uses it. Date and time values use
+ * {@link DateTimeFormatter} patterns; {@link Instant} and {@link Date} are formatted in the system time zone and
+ * {@link Calendar} in its own. Numbers use {@link DecimalFormat} patterns with {@link Locale#ROOT} symbols and
+ * {@link RoundingMode#HALF_UP}, so {@code "0.00"} fixes the scale of a {@code BigDecimal} without converting it to
+ * {@code double}. Each thread formats numbers with its own copy of the pattern and its own buffer.
+ * <br>
+ * Pattern formatters also parse their text: dates into a {@link TemporalAccessor} and numbers into a
+ * {@link java.math.BigDecimal}, which the reader converts to the field type.
+ * <br><br>
+ * {@link XLSXColumn#format()} 패턴과 {@link XLSXColumn#formatter()} 클래스에 대한 캐시된 {@link ValueFormatter}입니다.
+ * <br>
+ * 패턴은 한 번만 컴파일되어 같은 패턴을 쓰는 모든 컬럼이 공유합니다. 날짜와 시간 값은 {@link DateTimeFormatter} 패턴을 사용하며,
+ * {@link Instant}와 {@link Date}는 시스템 시간대로, {@link Calendar}는 자신의 시간대로 변환됩니다. 숫자는 {@link Locale#ROOT} 기호와
+ * {@link RoundingMode#HALF_UP}을 사용하는 {@link DecimalFormat} 패턴을 사용하므로, {@code "0.00"}은 {@code BigDecimal}을
+ * {@code double}로 변환하지 않고 소수 자릿수를 고정합니다. 숫자는 스레드마다 자신의 패턴 복사본과 버퍼로 변환됩니다.
+ * <br>
+ * 패턴 포매터는 자신이 쓴 문자열을 다시 해석할 수도 있습니다. 날짜는 {@link TemporalAccessor}로, 숫자는
+ * {@link java.math.BigDecimal}로 변환되며 리더가 이를 필드 타입으로 바꿉니다.
+ */
+public final class ValueFormatters {
+
+    private static final ConcurrentMap<String, ValueFormatter<Object>> TEMPORAL_PATTERNS = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<String, ValueFormatter<Object>> NUMBER_PATTERNS = new ConcurrentHashMap<>();
+
+    private static final ClassValue<ValueFormatter<Object>> INSTANCES = new ClassValue<>() {
+        @Override
+        @SuppressWarnings("unchecked")
+        protected ValueFormatter<Object> computeValue(Class<?> type) {
+            try {
+                Constructor<?> constructor = type.getDeclaredConstructor();
+                constructor.setAccessible(true);
+                return (ValueFormatter<Object>) constructor.newInstance();
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                throw new IllegalArgumentException("Cannot instantiate formatter " + type.getName()
+                        + "; it needs a no-argument constructor", e);
+            }
+        }
+    };
+
+    private ValueFormatters() {
+    }
+
+    /**
+     * Returns the formatter of a pattern for values of the given type.
+     * <br><br>
+     * 주어진 타입의 값에 대한 패턴 포매터를 반환합니다.
+     *
+     * @param valueType the declared value type: a date or time type, {@link Date}, {@link Calendar} or a number type
+     *                  <p>
+     *                  선언된 값 타입 (날짜/시간 타입, {@link Date}, {@link Calendar} 또는 숫자 타입)
+     * @param pattern   a {@link DateTimeFormatter} pattern for dates, a {@link DecimalFormat} pattern for numbers
+     *                  <p>
+     *                  날짜는 {@link DateTimeFormatter} 패턴, 숫자는 {@link DecimalFormat} 패턴
+     * @return the cached formatter
+     * <p>
+     * 캐시된 포매터
+     * @throws IllegalArgumentException if the type cannot be formatted with a pattern or the pattern is invalid
+     *                                  <p>
+     *                                  패턴으로 변환할 수 없는 타입이거나 패턴이 올바르지 않은 경우
+     */
+    public static ValueFormatter<Object> ofPattern(Class<?> valueType, String pattern) {
+        Objects.requireNonNull(valueType, "valueType");
+        Objects.requireNonNull(pattern, "pattern");
+        if (TemporalAccessor.class.isAssignableFrom(valueType) || Date.class.isAssignableFrom(valueType)
+                || Calendar.class.isAssignableFrom(valueType)) {
+            return TEMPORAL_PATTERNS.computeIfAbsent(pattern, TemporalFormatter::of);
+        }
+        if (Number.class.isAssignableFrom(valueType) || (valueType.isPrimitive() && valueType != boolean.class
+                && valueType != char.class && valueType != void.class)) {
+            return NUMBER_PATTERNS.computeIfAbsent(pattern, NumberFormatter::new);
+        }
+        throw new IllegalArgumentException("A format pattern cannot be applied to " + valueType.getName()
+                + "; use a formatter class instead");
+    }
+
+    /**
+     * Returns the shared instance of a formatter class, creating it on first use.
+     * <br><br>
+     * 포매터 클래스의 공유 인스턴스를 반환하며, 처음 사용할 때 생성합니다.
+     *
+     * @param type the formatter class with a no-argument constructor
+     *             <p>
+     *             인자 없는 생성자가 있는 포매터 클래스
+     * @return the cached instance
+     * <p>
+     * 캐시된 인스턴스
+     * @throws IllegalArgumentException if the class cannot be instantiated
+     *                                  <p>
+     *                                  클래스를 생성할 수 없는 경우
+     */
+    @SuppressWarnings("rawtypes")
+    public static ValueFormatter<Object> of(Class<? extends ValueFormatter> type) {
+        Objects.requireNonNull(type, "type");
+        if (type.isInterface()) {
+            throw new IllegalArgumentException("Formatter must be a class: " + type.getName());
+        }
+        return INSTANCES.get(type);
+    }
+
+    /**
+     * Formats date and time values with one {@link DateTimeFormatter}, which is immutable and appends straight into
+     * the buffer.
+     */
+    private record TemporalFormatter(String pattern, DateTimeFormatter local, DateTimeFormatter zoned)
+            implements ValueFormatter<Object> {
+
+        static TemporalFormatter of(String pattern) {
+            DateTimeFormatter formatter = DateTimeFormatter.ofPattern(pattern);
+            return new TemporalFormatter(pattern, formatter, formatter.withZone(ZoneId.systemDefault()));
+        }
+
+        @Override
+        public void format(Object value, StringBuilder out) {
+            if (value instanceof Instant instant) {
+                zoned.formatTo(instant, out);
+            } else if (value instanceof TemporalAccessor temporal) {
+                local.formatTo(temporal, out);
+            } else if (value instanceof Date date) {
+                // Date.toInstant is not supported by java.sql.Date.
+                zoned.formatTo(Instant.ofEpochMilli(date.getTime()), out);
+            } else if (value instanceof Calendar calendar) {
+                local.formatTo(calendar.toInstant().atZone(calendar.getTimeZone().toZoneId()), out);
+            } else {
+                out.append(value);
+            }
+        }
+
+        /**
+         * Parses text into the fields of the pattern; the caller picks the date or date-time it needs.
+         */
+        @Override
+        public Object parse(String text) {
+            return local.parse(text);
+        }
+
+        /**
+         * Describes the formatter by its pattern, which stays the same across runs.
+         */
+        @Override
+        public String toString() {
+            return "date pattern " + pattern;
+        }
+    }
+
+    /**
+     * Formats numbers with a per-thread copy of a {@link DecimalFormat}, which is not thread-safe, and a per-thread
+     * output buffer.
+     */
+    private static final class NumberFormatter implements ValueFormatter<Object> {
+
+        private final String pattern;
+        private final ThreadLocal<State> state;
+
+        NumberFormatter(String pattern) {
+            this.pattern = pattern;
+            DecimalFormat prototype = new DecimalFormat(pattern, DecimalFormatSymbols.getInstance(Locale.ROOT));
+            prototype.setRoundingMode(RoundingMode.HALF_UP);
+            prototype.setParseBigDecimal(true);
+            this.state = ThreadLocal.withInitial(() -> new State((DecimalFormat) prototype.clone()));
+        }
+
+        @Override
+        public void format(Object value, StringBuilder out) {
+            if (!(value instanceof Number)) {
+                out.append(value);
+                return;
+            }
+            State current = state.get();
+            current.buffer.setLength(0);
+            current.format.format(value, current.buffer, current.position);
+            out.append(current.buffer);
+        }
+
+        /**
+         * Parses the whole text into a {@link java.math.BigDecimal}.
+         */
+        @Override
+        public Object parse(String text) {
+            ParsePosition position = new ParsePosition(0);
+            Number number = state.get().format.parse(text, position);
+            if (number == null || position.getIndex() != text.length()) {
+                throw new IllegalArgumentException("Text does not match number pattern " + pattern + ": " + text);
+            }
+            return number;
+        }
+
+        /**
+         * Describes the formatter by its pattern, which stays the same across runs.
+         */
+        @Override
+        public String toString() {
+            return "number pattern " + pattern;
+        }
+
+        /**
+         * Formatting state owned by one thread.
+         */
+        private static final class State {
+
+            final DecimalFormat format;
+            final StringBuffer buffer = new StringBuffer(32);
+            final FieldPosition position = new FieldPosition(0);
+
+            State(DecimalFormat format) {
+                this.format = format;
+            }
+        }
+    }
+}
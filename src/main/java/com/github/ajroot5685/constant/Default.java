@@ -4,4 +4,13 @@ public class Default {
     public static final String FILE_NAME = "XLSXBuilder.xlsx";
     public static final String SHEET_NAME = "Sheet1";
     public static final int CELL_WIDTH = 15;
+    public static final int MAX_AUTO_WIDTH = 60;
+    public static final int MAX_ROWS_PER_SHEET = 1_048_576;
+    public static final int ROW_ACCESS_WINDOW_SIZE = 100;
+    public static final int SHARED_STRING_CACHE_SIZE = 4096;
+    public static final int PUBLISHER_BATCH_SIZE = 256;
+    public static final int PROGRESS_INTERVAL = 10_000;
+    public static final long ASYNC_IDLE_TIMEOUT_SECONDS = 60;
+    public static final String DATE_FORMAT = "yyyy-mm-dd";
+    public static final String DATE_TIME_FORMAT = "yyyy-mm-dd hh:mm:ss";
 }
@@ -0,0 +1,61 @@
+package com.github.ajroot5685.core;
+
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+
+/**
+ * Sizes the SXSSF row access window from a heap budget and narrows or widens it while rows are written.
+ * <br>
+ * The starting window is the budget divided by an estimated row size. Every {@value #CHECK_INTERVAL} rows the free
+ * heap is compared with the budget. Under pressure the window is halved so rows are flushed to disk sooner; with
+ * plenty of room it grows back toward the starting size.
+ */
+final class AdaptiveRowWindow {
+
+    /**
+     * Rough retained size of one SXSSF cell with its value, used to turn the budget into a row count.
+     */
+    static final int ESTIMATED_CELL_BYTES = 128;
+    private static final int MIN_WINDOW = 16;
+    private static final int MAX_WINDOW = 100_000;
+    private static final int CHECK_INTERVAL = 1024;
+
+    private final long heapBudget;
+    private final int targetWindow;
+    private int window;
+
+    AdaptiveRowWindow(long heapBudget, int columnCount) {
+        this.heapBudget = heapBudget;
+        long rowBytes = (long) Math.max(1, columnCount) * ESTIMATED_CELL_BYTES;
+        this.targetWindow = (int) Math.max(MIN_WINDOW, Math.min(MAX_WINDOW, heapBudget / rowBytes));
+        this.window = targetWindow;
+    }
+
+    int window() {
+        return window;
+    }
+
+    /**
+     * Called after a body row is written; adjusts the window of {@code sheet} every {@value #CHECK_INTERVAL} rows.
+     */
+    void afterRow(SXSSFSheet sheet, int rowCount) {
+        if (rowCount % CHECK_INTERVAL != 0) {
+            return;
+        }
+        long available = availableHeap();
+        int next = window;
+        if (available < heapBudget) {
+            next = Math.max(MIN_WINDOW, window / 2);
+        } else if (available > heapBudget * 2) {
+            next = Math.min(targetWindow, window * 2);
+        }
+        if (next != window) {
+            window = next;
+            sheet.setRandomAccessWindowSize(window);
+        }
+    }
+
+    private static long availableHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.maxMemory() - (runtime.totalMemory() - runtime.freeMemory());
+    }
+}
@@ -0,0 +1,78 @@
+package com.github.ajroot5685.core;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * {@link OutputStream} that deflates everything written to it into one {@link DeflatedChunk}.
+ * <br>
+ * The chunk ends with a sync flush and without a final block, so chunks from different threads can be appended to the
+ * same zip entry in any order the caller chooses.
+ */
+final class ChunkDeflater extends OutputStream {
+
+    private static final int BUFFER_SIZE = 16 * 1024;
+
+    private final Deflater deflater;
+    private final CRC32 crc = new CRC32();
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private final ByteArrayOutputStream compressed = new ByteArrayOutputStream(BUFFER_SIZE);
+    private long uncompressedSize;
+
+    ChunkDeflater(Compression compression) {
+        this.deflater = compression.newDeflater();
+    }
+
+    /**
+     * Creates a deflater whose back-references may reach into {@code dictionary}, the uncompressed data that directly
+     * precedes this chunk in the entry. Readers need no dictionary, because that data is already in their window.
+     */
+    ChunkDeflater(Compression compression, byte[] dictionary, int offset, int length) {
+        this(compression);
+        if (length > 0) {
+            deflater.setDictionary(dictionary, offset, length);
+        }
+    }
+
+    @Override
+    public void write(int b) {
+        write(new byte[]{(byte) b}, 0, 1);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) {
+        crc.update(b, off, len);
+        uncompressedSize += len;
+        deflater.setInput(b, off, len);
+        while (!deflater.needsInput()) {
+            drain(Deflater.NO_FLUSH);
+        }
+    }
+
+    /**
+     * Flushes the deflater to a byte boundary, releases it and returns the chunk.
+     */
+    DeflatedChunk finish() {
+        try {
+            while (drain(Deflater.SYNC_FLUSH) == buffer.length) {
+                // Keep draining until the sync flush has been fully emitted.
+            }
+            return new DeflatedChunk(compressed.toByteArray(), crc.getValue(), uncompressedSize);
+        } finally {
+            deflater.end();
+        }
+    }
+
+    @Override
+    public void close() {
+        deflater.end();
+    }
+
+    private int drain(int flush) {
+        int count = deflater.deflate(buffer, 0, buffer.length, flush);
+        compressed.write(buffer, 0, count);
+        return count;
+    }
+}
@@ -0,0 +1,227 @@
+package com.github.ajroot5685.core;
+
+import com.github.ajroot5685.column.CellSink;
+import com.github.ajroot5685.constant.Default;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Estimates column widths in characters from the values written to a sample of rows, without font metrics.
+ * <br>
+ * Values are measured as they pass through the {@link CellSink} returned by {@link #measure(CellSink)}, so nothing is
+ * extracted twice. Wide East Asian characters count as two, numbers and dates by the length of their displayed text.
+ * The header names seed the widths, and each width is padded and capped at {@value Default#MAX_AUTO_WIDTH}.
+ * <br>
+ * With {@link WidthSampling#RESERVOIR}, rows are kept with reservoir sampling and only kept rows are measured, so the
+ * cost stays close to measuring {@code sampleRows} rows however long the export is. The random sequence is fixed, so
+ * the same data always gets the same widths.
+ */
+final class ColumnWidthSampler {
+
+    private static final int PADDING = 2;
+    private static final int MIN_WIDTH = 4;
+
+    /**
+     * Widest text Excel's General format shows for a number before switching to scientific notation.
+     */
+    private static final int MAX_NUMBER_WIDTH = 11;
+
+    private final int[] headerWidths;
+    private final int[][] samples;
+    private final boolean reservoir;
+    private final SplittableRandom random = new SplittableRandom(0x5EED);
+    private final MeasuringSink sink = new MeasuringSink();
+    private long rows;
+    private int[] current;
+
+    ColumnWidthSampler(List<String> headers, int sampleRows, WidthSampling sampling) {
+        this.headerWidths = new int[headers.size()];
+        for (int i = 0; i < headerWidths.length; i++) {
+            headerWidths[i] = textWidth(headers.get(i));
+        }
+        this.samples = new int[sampleRows][];
+        this.reservoir = sampling == WidthSampling.RESERVOIR;
+    }
+
+    /**
+     * Starts the next row and returns whether it is sampled. Values of a sampled row must be written through
+     * {@link #measure(CellSink)}; other rows can go straight to their sink.
+     */
+    boolean startRow() {
+        long index = rows++;
+        int slot;
+        if (index < samples.length) {
+            slot = (int) index;
+        } else if (reservoir) {
+            long pick = random.nextLong(index + 1);
+            if (pick >= samples.length) {
+                current = null;
+                return false;
+            }
+            slot = (int) pick;
+        } else {
+            current = null;
+            return false;
+        }
+        if (samples[slot] == null) {
+            samples[slot] = new int[headerWidths.length];
+        } else {
+            Arrays.fill(samples[slot], 0);
+        }
+        current = samples[slot];
+        return true;
+    }
+
+    /**
+     * Returns a sink that measures each value of the current row and forwards it to {@code delegate}.
+     */
+    CellSink measure(CellSink delegate) {
+        sink.delegate = delegate;
+        return sink;
+    }
+
+    /**
+     * Returns the width of each column in characters.
+     */
+    int[] widths() {
+        int[] widths = headerWidths.clone();
+        for (int[] sample : samples) {
+            if (sample == null) {
+                break;
+            }
+            for (int i = 0; i < widths.length; i++) {
+                widths[i] = Math.max(widths[i], sample[i]);
+            }
+        }
+        for (int i = 0; i < widths.length; i++) {
+            widths[i] = Math.max(MIN_WIDTH, Math.min(Default.MAX_AUTO_WIDTH, widths[i] + PADDING));
+        }
+        return widths;
+    }
+
+    private void record(int column, int width) {
+        if (current != null && width > current[column]) {
+            current[column] = width;
+        }
+    }
+
+    /**
+     * Returns the display width of the widest line of {@code value}, stopping once it exceeds the cap.
+     */
+    static int textWidth(CharSequence value) {
+        int widest = 0;
+        int line = 0;
+        for (int i = 0, length = value.length(); i < length && widest <= Default.MAX_AUTO_WIDTH; ) {
+            int codePoint = Character.codePointAt(value, i);
+            i += Character.charCount(codePoint);
+            if (codePoint == '\n') {
+                line = 0;
+                continue;
+            }
+            line += isWide(codePoint) ? 2 : 1;
+            widest = Math.max(widest, line);
+        }
+        return widest;
+    }
+
+    /**
+     * Returns whether the code point is drawn about twice as wide as a Latin letter: Hangul, CJK, fullwidth forms and
+     * emoji.
+     */
+    private static boolean isWide(int codePoint) {
+        return codePoint >= 0x1100 && (codePoint <= 0x115F
+                || (codePoint >= 0x2E80 && codePoint <= 0xA4CF)
+                || (codePoint >= 0xAC00 && codePoint <= 0xD7A3)
+                || (codePoint >= 0xF900 && codePoint <= 0xFAFF)
+                || (codePoint >= 0xFE30 && codePoint <= 0xFE4F)
+                || (codePoint >= 0xFF00 && codePoint <= 0xFF60)
+                || (codePoint >= 0xFFE0 && codePoint <= 0xFFE6)
+                || (codePoint >= 0x1F300 && codePoint <= 0x1FAFF)
+                || (codePoint >= 0x20000 && codePoint <= 0x3FFFD));
+    }
+
+    /**
+     * Returns the length of the number as shown by the General format.
+     */
+    static int numberWidth(double value) {
+        if (value == Math.rint(value) && Math.abs(value) < 1e11) {
+            long integral = (long) value;
+            int width = integral < 0 ? 2 : 1;
+            for (long rest = Math.abs(integral); rest >= 10; rest /= 10) {
+                width++;
+            }
+            return width;
+        }
+        return Math.min(MAX_NUMBER_WIDTH, Double.toString(value).length());
+    }
+
+    /**
+     * Measures each value of a sampled row before forwarding it.
+     */
+    private final class MeasuringSink implements CellSink {
+
+        private CellSink delegate;
+
+        @Override
+        public void writeString(int column, String value) {
+            if (value != null) {
+                record(column, textWidth(value));
+            }
+            delegate.writeString(column, value);
+        }
+
+        @Override
+        public void writeText(int column, CharSequence value) {
+            if (value != null) {
+                record(column, textWidth(value));
+            }
+            delegate.writeText(column, value);
+        }
+
+        @Override
+        public void writeSharedString(int column, String value) {
+            if (value != null) {
+                record(column, textWidth(value));
+            }
+            delegate.writeSharedString(column, value);
+        }
+
+        @Override
+        public void writeNumber(int column, double value) {
+            record(column, numberWidth(value));
+            delegate.writeNumber(column, value);
+        }
+
+        @Override
+        public void writeNumber(int column, long value) {
+            record(column, numberWidth(value));
+            delegate.writeNumber(column, value);
+        }
+
+        @Override
+        public void writeBoolean(int column, boolean value) {
+            record(column, value ? 4 : 5);
+            delegate.writeBoolean(column, value);
+        }
+
+        @Override
+        public void writeDate(int column, LocalDate value) {
+            record(column, Default.DATE_FORMAT.length());
+            delegate.writeDate(column, value);
+        }
+
+        @Override
+        public void writeDateTime(int column, LocalDateTime value) {
+            record(column, Default.DATE_TIME_FORMAT.length());
+            delegate.writeDateTime(column, value);
+        }
+
+        @Override
+        public void writeBlank(int column) {
+            delegate.writeBlank(column);
+        }
+    }
+}
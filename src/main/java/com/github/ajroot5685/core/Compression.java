@@ -0,0 +1,22 @@
+package com.github.ajroot5685.core;
+
+import java.util.zip.Deflater;
+
+/**
+ * Deflate level and strategy of one export, shared by every deflater the direct engine creates.
+ */
+record Compression(int level, CompressionStrategy strategy) {
+
+    static Compression of(ExportOptions options) {
+        return new Compression(options.compressionLevel(), options.compressionStrategy());
+    }
+
+    /**
+     * Creates a raw deflater, as used inside zip entries.
+     */
+    Deflater newDeflater() {
+        Deflater deflater = new Deflater(level, true);
+        deflater.setStrategy(strategy.deflaterStrategy());
+        return deflater;
+    }
+}
@@ -0,0 +1,42 @@
+package com.github.ajroot5685.core;
+
+import java.util.zip.Deflater;
+
+/**
+ * Deflate strategy used for the parts of the xlsx file written by {@link ExportEngine#DIRECT}.
+ * <br>
+ * {@link ExportEngine#DIRECT}가 쓰는 xlsx 파트에 사용할 deflate 전략입니다.
+ */
+public enum CompressionStrategy {
+
+    /**
+     * The standard deflate strategy. Best for the repetitive markup of sheet XML.
+     * <br>
+     * 표준 deflate 전략입니다. 시트 XML처럼 반복이 많은 마크업에 가장 적합합니다.
+     */
+    DEFAULT(Deflater.DEFAULT_STRATEGY),
+
+    /**
+     * Favors Huffman coding over string matching. Can help with many small, random-looking values.
+     * <br>
+     * 문자열 매칭보다 허프만 부호화를 우선합니다. 작고 무작위에 가까운 값이 많을 때 도움이 될 수 있습니다.
+     */
+    FILTERED(Deflater.FILTERED),
+
+    /**
+     * Huffman coding only, without string matching. Much faster, but produces larger files.
+     * <br>
+     * 문자열 매칭 없이 허프만 부호화만 사용합니다. 훨씬 빠르지만 파일이 커집니다.
+     */
+    HUFFMAN_ONLY(Deflater.HUFFMAN_ONLY);
+
+    private final int deflaterStrategy;
+
+    CompressionStrategy(int deflaterStrategy) {
+        this.deflaterStrategy = deflaterStrategy;
+    }
+
+    int deflaterStrategy() {
+        return deflaterStrategy;
+    }
+}
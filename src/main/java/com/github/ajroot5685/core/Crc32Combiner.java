@@ -0,0 +1,75 @@
+package com.github.ajroot5685.core;
+
+/**
+ * Combines the CRC-32 values of two consecutive byte ranges, as zlib's {@code crc32_combine} does.
+ * <br>
+ * This lets chunks be checksummed on different threads while the zip entry still gets one CRC for its whole content.
+ */
+final class Crc32Combiner {
+
+    private static final long POLYNOMIAL = 0xEDB88320L;
+    private static final int BITS = 32;
+
+    private Crc32Combiner() {
+    }
+
+    /**
+     * Returns the CRC-32 of {@code A + B} given the CRC-32 of {@code A}, the CRC-32 of {@code B} and the length of
+     * {@code B}.
+     */
+    static long combine(long crc1, long crc2, long length2) {
+        if (length2 <= 0) {
+            return crc1;
+        }
+
+        long[] even = new long[BITS];
+        long[] odd = new long[BITS];
+
+        odd[0] = POLYNOMIAL;
+        long row = 1;
+        for (int n = 1; n < BITS; n++) {
+            odd[n] = row;
+            row <<= 1;
+        }
+
+        square(even, odd);
+        square(odd, even);
+
+        long crc = crc1;
+        long length = length2;
+        do {
+            square(even, odd);
+            if ((length & 1) != 0) {
+                crc = times(even, crc);
+            }
+            length >>= 1;
+            if (length == 0) {
+                break;
+            }
+
+            square(odd, even);
+            if ((length & 1) != 0) {
+                crc = times(odd, crc);
+            }
+            length >>= 1;
+        } while (length != 0);
+
+        return crc ^ crc2;
+    }
+
+    private static long times(long[] matrix, long vector) {
+        long sum = 0;
+        for (int i = 0; vector != 0; i++, vector >>>= 1) {
+            if ((vector & 1) != 0) {
+                sum ^= matrix[i];
+            }
+        }
+        return sum;
+    }
+
+    private static void square(long[] square, long[] matrix) {
+        for (int n = 0; n < BITS; n++) {
+            square[n] = times(matrix, matrix[n]);
+        }
+    }
+}
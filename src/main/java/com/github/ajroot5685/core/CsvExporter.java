@@ -0,0 +1,304 @@
+package com.github.ajroot5685.core;
+
+import com.github.ajroot5685.column.Columns;
+import com.github.ajroot5685.exception.FileOutputException;
+import com.github.ajroot5685.exception.StreamOutputException;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Immutable, reusable exporter that writes rows as CSV or TSV with the same column mappings as the Excel export.
+ * <br>
+ * Rows are streamed through a single reusable UTF-8 buffer, so memory does not grow with the number of rows and no
+ * string is built per row. Like {@link ExportPlan}, an exporter can be built once and shared between threads.
+ * <br><br>
+ * Excel 내보내기와 같은 컬럼 매핑으로 행을 CSV 또는 TSV로 쓰는 불변의 재사용 가능한 내보내기 객체입니다.
+ * <br>
+ * 행은 재사용되는 하나의 UTF-8 버퍼를 통해 스트리밍되므로 행 수에 따라 메모리 사용량이 늘지 않고 행마다 문자열을 만들지 않습니다.
+ * {@link ExportPlan}처럼 한 번 만들어 여러 스레드에서 공유할 수 있습니다.
+ *
+ * @param <T> the DTO type
+ */
+public final class CsvExporter<T> {
+
+    private static final byte[] BYTE_ORDER_MARK = {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
+    private static final String CONTENT_DISPOSITION_FORMAT = "attachment; filename=\"%s\"";
+
+    private final Columns<T> columns;
+    private final CsvFormat format;
+    private final List<String> headers;
+
+    private CsvExporter(Columns<T> columns, CsvFormat format) {
+        this.columns = Objects.requireNonNull(columns, "columns");
+        this.format = Objects.requireNonNull(format, "format");
+        this.headers = columns.headers();
+    }
+
+    /**
+     * Creates an exporter for the {@link com.github.ajroot5685.dto.XLSXColumn} fields of the given class in
+     * {@link CsvFormat#CSV}.
+     * <br><br>
+     * 주어진 클래스의 {@link com.github.ajroot5685.dto.XLSXColumn} 필드로 {@link CsvFormat#CSV} 형식의 내보내기 객체를 생성합니다.
+     *
+     * @param clazz the DTO class with annotated fields
+     *              <p>
+     *              애노테이션이 붙은 DTO 클래스
+     * @param <T>   the DTO type
+     * @return the exporter
+     */
+    public static <T> CsvExporter<T> of(Class<T> clazz) {
+        return of(clazz, CsvFormat.CSV);
+    }
+
+    /**
+     * Creates an exporter for the {@link com.github.ajroot5685.dto.XLSXColumn} fields of the given class.
+     * <br><br>
+     * 주어진 클래스의 {@link com.github.ajroot5685.dto.XLSXColumn} 필드로 내보내기 객체를 생성합니다.
+     *
+     * @param clazz  the DTO class with annotated fields
+     *               <p>
+     *               애노테이션이 붙은 DTO 클래스
+     * @param format the text format
+     *               <p>
+     *               텍스트 형식
+     * @param <T>    the DTO type
+     * @return the exporter
+     */
+    public static <T> CsvExporter<T> of(Class<T> clazz, CsvFormat format) {
+        return new CsvExporter<>(ExcelAutoFieldExtractor.extractColumns(clazz), format);
+    }
+
+    /**
+     * Creates an exporter of string columns from a mapping of header names to value extractor functions in
+     * {@link CsvFormat#CSV}.
+     * <br><br>
+     * 헤더 이름과 값 추출 함수의 매핑으로 {@link CsvFormat#CSV} 형식의 문자열 컬럼 내보내기 객체를 생성합니다.
+     *
+     * @param headersMap a mapping of header names to value extractor functions
+     *                   <p>
+     *                   헤더 이름과 DTO에서 값을 추출하는 함수의 매핑
+     * @param <T>        the DTO type
+     * @return the exporter
+     */
+    public static <T> CsvExporter<T> of(LinkedHashMap<String, Function<T, String>> headersMap) {
+        return of(headersMap, CsvFormat.CSV);
+    }
+
+    /**
+     * Creates an exporter of string columns from a mapping of header names to value extractor functions.
+     * <br><br>
+     * 헤더 이름과 값 추출 함수의 매핑으로 문자열 컬럼 내보내기 객체를 생성합니다.
+     *
+     * @param headersMap a mapping of header names to value extractor functions
+     *                   <p>
+     *                   헤더 이름과 DTO에서 값을 추출하는 함수의 매핑
+     * @param format     the text format
+     *                   <p>
+     *                   텍스트 형식
+     * @param <T>        the DTO type
+     * @return the exporter
+     */
+    public static <T> CsvExporter<T> of(LinkedHashMap<String, Function<T, String>> headersMap, CsvFormat format) {
+        return new CsvExporter<>(Columns.fromMapping(headersMap), format);
+    }
+
+    /**
+     * Creates an exporter from typed columns in {@link CsvFormat#CSV}.
+     * <br><br>
+     * 타입이 있는 컬럼 목록으로 {@link CsvFormat#CSV} 형식의 내보내기 객체를 생성합니다.
+     *
+     * @param columns the columns in order
+     *                <p>
+     *                순서대로 정렬된 컬럼 목록
+     * @param <T>     the DTO type
+     * @return the exporter
+     */
+    public static <T> CsvExporter<T> of(Columns<T> columns) {
+        return of(columns, CsvFormat.CSV);
+    }
+
+    /**
+     * Creates an exporter from typed columns.
+     * <br><br>
+     * 타입이 있는 컬럼 목록으로 내보내기 객체를 생성합니다.
+     *
+     * @param columns the columns in order
+     *                <p>
+     *                순서대로 정렬된 컬럼 목록
+     * @param format  the text format
+     *                <p>
+     *                텍스트 형식
+     * @param <T>     the DTO type
+     * @return the exporter
+     */
+    public static <T> CsvExporter<T> of(Columns<T> columns, CsvFormat format) {
+        return new CsvExporter<>(columns, format);
+    }
+
+    /**
+     * Returns the text format of the exporter.
+     * <br><br>
+     * 내보내기 객체의 텍스트 형식을 반환합니다.
+     *
+     * @return the format
+     */
+    public CsvFormat format() {
+        return format;
+    }
+
+    /**
+     * Writes the rows of the given {@link Iterable} to a stream. The stream is flushed but not closed.
+     * <br><br>
+     * 주어진 {@link Iterable}의 행을 스트림에 씁니다. 스트림은 flush하지만 닫지 않습니다.
+     *
+     * @param bodyDto the data to be written
+     *                <p>
+     *                쓸 본문 데이터
+     * @param out     the target stream
+     *                <p>
+     *                출력 스트림
+     * @throws StreamOutputException if an error occurs while writing to the stream
+     *                               <p>
+     *                               스트림에 쓰는 도중 오류가 발생한 경우
+     */
+    public void export(Iterable<T> bodyDto, OutputStream out) {
+        export(bodyDto.iterator(), out);
+    }
+
+    /**
+     * Writes the rows of the given {@link Iterator} to a stream. The stream is flushed but not closed.
+     * <br>
+     * An iterator that is also {@link AutoCloseable} is closed when the export ends.
+     * <br><br>
+     * 주어진 {@link Iterator}의 행을 스트림에 씁니다. 스트림은 flush하지만 닫지 않습니다.
+     * <br>
+     * {@link AutoCloseable}이기도 한 이터레이터는 내보내기가 끝나면 닫힙니다.
+     *
+     * @param bodyDto the data to be written
+     *                <p>
+     *                쓸 본문 데이터
+     * @param out     the target stream
+     *                <p>
+     *                출력 스트림
+     * @throws StreamOutputException if an error occurs while writing to the stream
+     *                               <p>
+     *                               스트림에 쓰는 도중 오류가 발생한 경우
+     */
+    public void export(Iterator<T> bodyDto, OutputStream out) {
+        try {
+            write(bodyDto, out);
+        } catch (IOException e) {
+            throw new StreamOutputException(e);
+        }
+    }
+
+    /**
+     * Writes the rows of the given {@link Iterable} to a file, replacing an existing file.
+     * <br><br>
+     * 주어진 {@link Iterable}의 행을 파일에 씁니다. 기존 파일은 덮어씁니다.
+     *
+     * @param bodyDto  the data to be written
+     *                 <p>
+     *                 쓸 본문 데이터
+     * @param filePath the target file path
+     *                 <p>
+     *                 출력할 대상 파일 경로
+     * @throws FileOutputException if an I/O error occurs during writing
+     *                             <p>
+     *                             쓰기 도중 입출력 오류가 발생한 경우
+     */
+    public void export(Iterable<T> bodyDto, Path filePath) {
+        try (OutputStream out = Files.newOutputStream(filePath)) {
+            write(bodyDto.iterator(), out);
+        } catch (IOException e) {
+            throw new FileOutputException(filePath, e);
+        }
+    }
+
+    /**
+     * Writes the rows of the given {@link Iterable} to an HTTP response as a download.
+     * <br>
+     * The content type and Content-Disposition headers are set from the format, and {@code .csv} or {@code .tsv} is
+     * appended to the file name if missing. The response stream is flushed but not closed.
+     * <br><br>
+     * 주어진 {@link Iterable}의 행을 HTTP 응답에 다운로드로 씁니다.
+     * <br>
+     * Content-Type과 Content-Disposition 헤더는 형식에 맞게 설정되며, 파일 이름에 {@code .csv} 또는 {@code .tsv}가 없으면 붙입니다. 응답
+     * 스트림은 flush하지만 닫지 않습니다.
+     *
+     * @param bodyDto  the data to be written
+     *                 <p>
+     *                 쓸 본문 데이터
+     * @param response the servlet response
+     *                 <p>
+     *                 서블릿 응답
+     * @param fileName the download file name
+     *                 <p>
+     *                 다운로드 파일 이름
+     * @throws StreamOutputException if an error occurs while writing to the response
+     *                               <p>
+     *                               응답 스트림에 쓰는 도중 오류가 발생한 경우
+     */
+    public void export(Iterable<T> bodyDto, HttpServletResponse response, String fileName) {
+        String extension = format.extension();
+        String name = fileName.endsWith(extension) ? fileName : fileName + extension;
+        response.setContentType(format.contentType());
+        response.setHeader("Content-Disposition",
+                String.format(CONTENT_DISPOSITION_FORMAT, URLEncoder.encode(name, StandardCharsets.UTF_8)));
+        try {
+            write(bodyDto.iterator(), response.getOutputStream());
+        } catch (IOException e) {
+            throw new StreamOutputException(e);
+        }
+    }
+
+    /**
+     * Streams the optional byte order mark, the header row and every row, then flushes {@code out}.
+     */
+    private void write(Iterator<T> bodyDto, OutputStream out) throws IOException {
+        try {
+            XmlBuffer buffer = new XmlBuffer(out);
+            CsvRowWriter row = new CsvRowWriter(buffer, format, columns.size());
+            if (format.byteOrderMark()) {
+                buffer.raw(BYTE_ORDER_MARK);
+            }
+            if (format.header()) {
+                row.writeHeader(headers);
+            }
+            while (bodyDto.hasNext()) {
+                columns.writeRow(bodyDto.next(), row);
+                row.endRow();
+            }
+            buffer.flush();
+            out.flush();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            if (bodyDto instanceof AutoCloseable source) {
+                closeQuietly(source);
+            }
+        }
+    }
+
+    /**
+     * Closes a row source without masking the outcome of the export.
+     */
+    private static void closeQuietly(AutoCloseable source) {
+        try {
+            source.close();
+        } catch (Exception ignored) {
+            // The export already finished or failed; a failing close must not replace that result.
+        }
+    }
+}
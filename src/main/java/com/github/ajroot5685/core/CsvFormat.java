@@ -0,0 +1,202 @@
+package com.github.ajroot5685.core;
+
+/**
+ * Immutable description of a delimited text format written by {@link CsvExporter}.
+ * <br>
+ * {@link #CSV} follows RFC 4180 and {@link #TSV} uses tabs. Text is always UTF-8. Fields containing the delimiter, a
+ * double quote or a line break are enclosed in double quotes, with inner quotes doubled.
+ * <br><br>
+ * {@link CsvExporter}가 쓰는 구분자 기반 텍스트 형식의 불변 설명입니다.
+ * <br>
+ * {@link #CSV}는 RFC 4180을 따르며 {@link #TSV}는 탭을 사용합니다. 텍스트는 항상 UTF-8입니다. 구분자, 큰따옴표, 줄바꿈이 포함된 필드는
+ * 큰따옴표로 감싸며, 내부의 큰따옴표는 두 번 씁니다.
+ */
+public final class CsvFormat {
+
+    /**
+     * Comma-separated values with CRLF line endings and a header row.
+     * <br>
+     * 헤더 행이 있고 줄 끝이 CRLF인 쉼표 구분 형식입니다.
+     */
+    public static final CsvFormat CSV = builder().build();
+
+    /**
+     * Tab-separated values with LF line endings and a header row.
+     * <br>
+     * 헤더 행이 있고 줄 끝이 LF인 탭 구분 형식입니다.
+     */
+    public static final CsvFormat TSV = builder().delimiter('\t').lineSeparator("\n").build();
+
+    private final char delimiter;
+    private final String lineSeparator;
+    private final boolean header;
+    private final boolean byteOrderMark;
+
+    private CsvFormat(Builder builder) {
+        this.delimiter = builder.delimiter;
+        this.lineSeparator = builder.lineSeparator;
+        this.header = builder.header;
+        this.byteOrderMark = builder.byteOrderMark;
+    }
+
+    /**
+     * Creates a new {@link Builder} initialized with the values of {@link #CSV}.
+     * <br><br>
+     * {@link #CSV}의 값으로 초기화된 새로운 {@link Builder}를 생성합니다.
+     *
+     * @return a new builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns the field delimiter.
+     * <br><br>
+     * 필드 구분자를 반환합니다.
+     *
+     * @return the delimiter
+     */
+    public char delimiter() {
+        return delimiter;
+    }
+
+    /**
+     * Returns the line separator written after each row.
+     * <br><br>
+     * 각 행 뒤에 쓰는 줄 구분자를 반환합니다.
+     *
+     * @return the line separator
+     */
+    public String lineSeparator() {
+        return lineSeparator;
+    }
+
+    /**
+     * Returns whether the header names are written as the first row.
+     * <br><br>
+     * 헤더 이름을 첫 행으로 쓰는지 여부를 반환합니다.
+     *
+     * @return {@code true} if a header row is written
+     */
+    public boolean header() {
+        return header;
+    }
+
+    /**
+     * Returns whether the output starts with a UTF-8 byte order mark.
+     * <br><br>
+     * 출력이 UTF-8 BOM으로 시작하는지 여부를 반환합니다.
+     *
+     * @return {@code true} if a byte order mark is written
+     */
+    public boolean byteOrderMark() {
+        return byteOrderMark;
+    }
+
+    /**
+     * Returns the file extension for this format, {@code .tsv} for tabs and {@code .csv} otherwise.
+     */
+    String extension() {
+        return delimiter == '\t' ? ".tsv" : ".csv";
+    }
+
+    /**
+     * Returns the media type for this format.
+     */
+    String contentType() {
+        return (delimiter == '\t' ? "text/tab-separated-values" : "text/csv") + "; charset=UTF-8";
+    }
+
+    /**
+     * Builder for {@link CsvFormat}.
+     * <br>
+     * {@link CsvFormat}의 빌더입니다.
+     */
+    public static final class Builder {
+
+        private char delimiter = ',';
+        private String lineSeparator = "\r\n";
+        private boolean header = true;
+        private boolean byteOrderMark;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the field delimiter. Defaults to {@code ','}.
+         * <br><br>
+         * 필드 구분자를 설정합니다. 기본값은 {@code ','}입니다.
+         *
+         * @param delimiter the delimiter
+         * @return this builder
+         * @throws IllegalArgumentException if {@code delimiter} is a double quote or a line break
+         */
+        public Builder delimiter(char delimiter) {
+            if (delimiter == '"' || delimiter == '\r' || delimiter == '\n') {
+                throw new IllegalArgumentException("delimiter must not be a quote or a line break");
+            }
+            this.delimiter = delimiter;
+            return this;
+        }
+
+        /**
+         * Sets the line separator written after each row. Defaults to {@code "\r\n"}.
+         * <br><br>
+         * 각 행 뒤에 쓰는 줄 구분자를 설정합니다. 기본값은 {@code "\r\n"}입니다.
+         *
+         * @param lineSeparator the line separator, {@code "\r\n"} or {@code "\n"}
+         * @return this builder
+         * @throws IllegalArgumentException if {@code lineSeparator} is neither {@code "\r\n"} nor {@code "\n"}
+         */
+        public Builder lineSeparator(String lineSeparator) {
+            if (!"\r\n".equals(lineSeparator) && !"\n".equals(lineSeparator)) {
+                throw new IllegalArgumentException("lineSeparator must be \\r\\n or \\n");
+            }
+            this.lineSeparator = lineSeparator;
+            return this;
+        }
+
+        /**
+         * Sets whether the header names are written as the first row. Defaults to {@code true}.
+         * <br><br>
+         * 헤더 이름을 첫 행으로 쓸지 설정합니다. 기본값은 {@code true}입니다.
+         *
+         * @param header {@code true} to write a header row
+         * @return this builder
+         */
+        public Builder header(boolean header) {
+            this.header = header;
+            return this;
+        }
+
+        /**
+         * Sets whether the output starts with a UTF-8 byte order mark. Defaults to {@code false}.
+         * <br>
+         * Excel needs the mark to open UTF-8 files with non-ASCII text correctly; most other consumers do not expect
+         * it.
+         * <br><br>
+         * 출력을 UTF-8 BOM으로 시작할지 설정합니다. 기본값은 {@code false}입니다.
+         * <br>
+         * Excel에서 ASCII가 아닌 문자가 포함된 UTF-8 파일을 올바르게 열려면 BOM이 필요하지만, 대부분의 다른 소비자는 이를 기대하지 않습니다.
+         *
+         * @param byteOrderMark {@code true} to write a byte order mark
+         * @return this builder
+         */
+        public Builder byteOrderMark(boolean byteOrderMark) {
+            this.byteOrderMark = byteOrderMark;
+            return this;
+        }
+
+        /**
+         * Builds the immutable {@link CsvFormat}.
+         * <br><br>
+         * 불변 {@link CsvFormat}을 생성합니다.
+         *
+         * @return the format
+         */
+        public CsvFormat build() {
+            return new CsvFormat(this);
+        }
+    }
+}
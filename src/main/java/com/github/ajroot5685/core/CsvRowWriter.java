@@ -0,0 +1,170 @@
+package com.github.ajroot5685.core;
+
+import com.github.ajroot5685.column.CellSink;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * {@link CellSink} that writes rows as delimited UTF-8 text into an {@link XmlBuffer}.
+ * <br>
+ * Values are written in the order the columns emit them and missing or blank cells become empty fields. Numbers use
+ * the same lexical form as the sheet XML, and dates are written as {@code yyyy-MM-dd} and {@code yyyy-MM-dd HH:mm:ss},
+ * matching the formats of the xlsx output.
+ */
+final class CsvRowWriter implements CellSink {
+
+    private static final byte[] TRUE = XmlBuffer.ascii("true");
+    private static final byte[] FALSE = XmlBuffer.ascii("false");
+
+    private final XmlBuffer out;
+    private final char delimiter;
+    private final byte[] lineSeparator;
+    private final int columnCount;
+    private int delimiters;
+
+    CsvRowWriter(XmlBuffer out, CsvFormat format, int columnCount) {
+        this.out = out;
+        this.delimiter = format.delimiter();
+        this.lineSeparator = format.lineSeparator().getBytes(StandardCharsets.US_ASCII);
+        this.columnCount = columnCount;
+    }
+
+    /**
+     * Writes the header names as one row.
+     */
+    void writeHeader(List<String> headers) {
+        for (int i = 0; i < headers.size(); i++) {
+            writeString(i, headers.get(i));
+        }
+        endRow();
+    }
+
+    /**
+     * Ends the current row, adding empty fields for columns that wrote nothing.
+     */
+    void endRow() {
+        while (delimiters < columnCount - 1) {
+            out.raw(delimiter);
+            delimiters++;
+        }
+        out.raw(lineSeparator);
+        delimiters = 0;
+    }
+
+    @Override
+    public void writeString(int column, String value) {
+        writeText(column, value);
+    }
+
+    @Override
+    public void writeText(int column, CharSequence value) {
+        moveTo(column);
+        if (value == null || value.isEmpty()) {
+            return;
+        }
+        int length = value.length();
+        if (!needsQuotes(value)) {
+            out.utf8(value, 0, length);
+            return;
+        }
+        out.raw('"');
+        int start = 0;
+        for (int i = 0; i < length; i++) {
+            if (value.charAt(i) == '"') {
+                out.utf8(value, start, i + 1);
+                out.raw('"');
+                start = i + 1;
+            }
+        }
+        out.utf8(value, start, length);
+        out.raw('"');
+    }
+
+    @Override
+    public void writeNumber(int column, double value) {
+        moveTo(column);
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            String text = Double.toString(value);
+            out.utf8(text, 0, text.length());
+        } else {
+            out.number(value);
+        }
+    }
+
+    @Override
+    public void writeNumber(int column, long value) {
+        moveTo(column);
+        out.number(value);
+    }
+
+    @Override
+    public void writeBoolean(int column, boolean value) {
+        moveTo(column);
+        out.raw(value ? TRUE : FALSE);
+    }
+
+    @Override
+    public void writeDate(int column, LocalDate value) {
+        moveTo(column);
+        date(value);
+    }
+
+    @Override
+    public void writeDateTime(int column, LocalDateTime value) {
+        moveTo(column);
+        date(value.toLocalDate());
+        out.raw(' ');
+        twoDigits(value.getHour());
+        out.raw(':');
+        twoDigits(value.getMinute());
+        out.raw(':');
+        twoDigits(value.getSecond());
+    }
+
+    @Override
+    public void writeBlank(int column) {
+        moveTo(column);
+    }
+
+    /**
+     * Writes the delimiters that separate the previous field from field {@code column}.
+     */
+    private void moveTo(int column) {
+        while (delimiters < column) {
+            out.raw(delimiter);
+            delimiters++;
+        }
+    }
+
+    private boolean needsQuotes(CharSequence value) {
+        for (int i = 0, length = value.length(); i < length; i++) {
+            char c = value.charAt(i);
+            if (c == delimiter || c == '"' || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void date(LocalDate value) {
+        int year = value.getYear();
+        if (year < 0 || year > 9999) {
+            String text = value.toString();
+            out.utf8(text, 0, text.length());
+            return;
+        }
+        twoDigits(year / 100);
+        twoDigits(year % 100);
+        out.raw('-');
+        twoDigits(value.getMonthValue());
+        out.raw('-');
+        twoDigits(value.getDayOfMonth());
+    }
+
+    private void twoDigits(int value) {
+        out.raw((char) ('0' + value / 10));
+        out.raw((char) ('0' + value % 10));
+    }
+}
@@ -0,0 +1,13 @@
+package com.github.ajroot5685.core;
+
+/**
+ * A byte-aligned piece of a raw deflate stream together with the CRC-32 and length of its uncompressed input.
+ * <br>
+ * Chunks produced independently can be concatenated into a single zip entry by {@link ZipWriter#writeChunk}.
+ */
+record DeflatedChunk(
+        byte[] data,
+        long crc,
+        long uncompressedSize
+) {
+}
@@ -0,0 +1,423 @@
+package com.github.ajroot5685.core;
+
+import com.github.ajroot5685.constant.Default;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Writes a plain header-plus-rows workbook as minimal SpreadsheetML parts straight into a zip stream.
+ * <br>
+ * Rows are serialized in one pass with inline strings, so no POI objects or temp files are created. Only shared string
+ * columns go through a {@link SharedStringTable}, which is written after the sheets. With {@link ExportOptions#parallelism()} above 1, row ranges are serialized and deflated on the configured
+ * executor and appended to the sheet entry in their original order.
+ */
+final class DirectXlsxWriter {
+
+    static final String XML_DECLARATION = "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n";
+    static final String MAIN_NS = "http://schemas.openxmlformats.org/spreadsheetml/2006/main";
+    static final String REL_NS = "http://schemas.openxmlformats.org/officeDocument/2006/relationships";
+    private static final String PACKAGE_REL_NS = "http://schemas.openxmlformats.org/package/2006/relationships";
+
+    private static final byte[] CONTENT_TYPES_START = XmlBuffer.ascii(XML_DECLARATION
+            + "<Types xmlns=\"http://schemas.openxmlformats.org/package/2006/content-types\">"
+            + "<Default Extension=\"rels\" ContentType=\"application/vnd.openxmlformats-package.relationships+xml\"/>"
+            + "<Default Extension=\"xml\" ContentType=\"application/xml\"/>"
+            + "<Override PartName=\"/xl/workbook.xml\" ContentType=\"application/vnd.openxmlformats-officedocument.spreadsheetml.sheet.main+xml\"/>"
+            + "<Override PartName=\"/xl/styles.xml\" ContentType=\"application/vnd.openxmlformats-officedocument.spreadsheetml.styles+xml\"/>");
+    private static final byte[] CONTENT_TYPES_SHARED_STRINGS = XmlBuffer.ascii(
+            "<Override PartName=\"/xl/sharedStrings.xml\" ContentType=\"application/vnd.openxmlformats-officedocument.spreadsheetml.sharedStrings+xml\"/>");
+    private static final byte[] CONTENT_TYPES_SHEET_START = XmlBuffer.ascii(
+            "<Override PartName=\"/xl/worksheets/sheet");
+    private static final byte[] CONTENT_TYPES_SHEET_END = XmlBuffer.ascii(
+            ".xml\" ContentType=\"application/vnd.openxmlformats-officedocument.spreadsheetml.worksheet+xml\"/>");
+    private static final byte[] CONTENT_TYPES_END = XmlBuffer.ascii("</Types>");
+
+    private static final byte[] ROOT_RELS = XmlBuffer.ascii(XML_DECLARATION
+            + "<Relationships xmlns=\"" + PACKAGE_REL_NS + "\">"
+            + "<Relationship Id=\"rId1\" Type=\"" + REL_NS + "/officeDocument\" Target=\"xl/workbook.xml\"/>"
+            + "</Relationships>");
+
+    private static final byte[] WORKBOOK_START = XmlBuffer.ascii(XML_DECLARATION
+            + "<workbook xmlns=\"" + MAIN_NS + "\" xmlns:r=\"" + REL_NS + "\"><sheets>");
+    private static final byte[] WORKBOOK_SHEET_NAME = XmlBuffer.ascii("<sheet name=\"");
+    private static final byte[] WORKBOOK_SHEET_ID = XmlBuffer.ascii("\" sheetId=\"");
+    private static final byte[] WORKBOOK_SHEET_REL = XmlBuffer.ascii("\" r:id=\"rId");
+    private static final byte[] WORKBOOK_SHEET_END = XmlBuffer.ascii("\"/>");
+    private static final byte[] WORKBOOK_END = XmlBuffer.ascii("</sheets></workbook>");
+
+    private static final byte[] WORKBOOK_RELS_START = XmlBuffer.ascii(XML_DECLARATION
+            + "<Relationships xmlns=\"" + PACKAGE_REL_NS + "\">");
+    private static final byte[] WORKBOOK_RELS_SHEET_ID = XmlBuffer.ascii("<Relationship Id=\"rId");
+    private static final byte[] WORKBOOK_RELS_SHEET_TARGET = XmlBuffer.ascii(
+            "\" Type=\"" + REL_NS + "/worksheet\" Target=\"worksheets/sheet");
+    private static final byte[] WORKBOOK_RELS_SHEET_END = XmlBuffer.ascii(".xml\"/>");
+    private static final byte[] WORKBOOK_RELS_STYLES_TARGET = XmlBuffer.ascii(
+            "\" Type=\"" + REL_NS + "/styles\" Target=\"styles.xml\"/>");
+    private static final byte[] WORKBOOK_RELS_SHARED_STRINGS_TARGET = XmlBuffer.ascii(
+            "\" Type=\"" + REL_NS + "/sharedStrings\" Target=\"sharedStrings.xml\"/>");
+    private static final byte[] WORKBOOK_RELS_END = XmlBuffer.ascii("</Relationships>");
+
+    /**
+     * Cell style 1 is the date format and cell style 2 is the date-time format.
+     */
+    private static final byte[] STYLES = XmlBuffer.ascii(XML_DECLARATION
+            + "<styleSheet xmlns=\"" + MAIN_NS + "\">"
+            + "<numFmts count=\"2\">"
+            + "<numFmt numFmtId=\"164\" formatCode=\"" + Default.DATE_FORMAT + "\"/>"
+            + "<numFmt numFmtId=\"165\" formatCode=\"" + Default.DATE_TIME_FORMAT + "\"/>"
+            + "</numFmts>"
+            + "<fonts count=\"1\"><font><sz val=\"11\"/><name val=\"Calibri\"/><family val=\"2\"/></font></fonts>"
+            + "<fills count=\"2\"><fill><patternFill patternType=\"none\"/></fill>"
+            + "<fill><patternFill patternType=\"gray125\"/></fill></fills>"
+            + "<borders count=\"1\"><border><left/><right/><top/><bottom/><diagonal/></border></borders>"
+            + "<cellStyleXfs count=\"1\"><xf numFmtId=\"0\" fontId=\"0\" fillId=\"0\" borderId=\"0\"/></cellStyleXfs>"
+            + "<cellXfs count=\"3\">"
+            + "<xf numFmtId=\"0\" fontId=\"0\" fillId=\"0\" borderId=\"0\" xfId=\"0\"/>"
+            + "<xf numFmtId=\"164\" fontId=\"0\" fillId=\"0\" borderId=\"0\" xfId=\"0\" applyNumberFormat=\"1\"/>"
+            + "<xf numFmtId=\"165\" fontId=\"0\" fillId=\"0\" borderId=\"0\" xfId=\"0\" applyNumberFormat=\"1\"/>"
+            + "</cellXfs>"
+            + "<cellStyles count=\"1\"><cellStyle name=\"Normal\" xfId=\"0\" builtinId=\"0\"/></cellStyles>"
+            + "</styleSheet>");
+
+    /**
+     * Size of the buffer each parallel task serializes its row range into before deflating it.
+     */
+    private static final int CHUNK_BUFFER_SIZE = 16 * 1024;
+
+    private static final byte[] NO_ROWS = new byte[0];
+
+    private DirectXlsxWriter() {
+    }
+
+    /**
+     * Writes the header row and every DTO of {@code bodyDto} as an xlsx file to {@code out}.
+     * <br>
+     * The stream is flushed but <strong>not</strong> closed. Bytes leaving the zip writer are counted as flushing by
+     * {@code recorder}. Rows are counted by {@code monitor}, and a cancellation aborts the zip before the workbook parts
+     * are written.
+     */
+    static <T> void write(
+            OutputStream out,
+            ExportPlan<T> plan,
+            Iterator<T> bodyDto,
+            ExportRecorder recorder,
+            ExportMonitor monitor
+    ) throws IOException {
+        ExportOptions options = plan.options();
+        Compression compression = Compression.of(options);
+        ZipWriter zip = new ZipWriter(new BufferedOutputStream(recorder.meter(out, true), XmlBuffer.DEFAULT_CAPACITY),
+                compression);
+        SharedStringTable sharedStrings = new SharedStringTable(plan.columns().size(),
+                options.sharedStringCacheSize(), compression);
+        try {
+            SheetHead head = options.autoWidthSampleRows() > 0
+                    ? sampleHead(plan, sharedStrings, bodyDto, recorder, monitor)
+                    : new SheetHead(plan.sheetStart(), NO_ROWS, 2);
+            int sheetCount = 0;
+            do {
+                sheetCount++;
+                recorder.sheet();
+                zip.startEntry("xl/worksheets/sheet" + sheetCount + ".xml", true);
+                if (options.parallelism() > 1) {
+                    writeSheetParallel(zip, plan, head, sharedStrings, bodyDto, recorder, monitor);
+                } else {
+                    writeSheet(zip, plan, head, sharedStrings, bodyDto, recorder, monitor);
+                }
+                zip.closeEntry();
+                head = new SheetHead(head.start(), NO_ROWS, 2);
+            } while (bodyDto.hasNext());
+            monitor.check();
+
+            boolean hasSharedStrings = !sharedStrings.isEmpty();
+            if (hasSharedStrings) {
+                zip.startEntry("xl/sharedStrings.xml", true);
+                zip.writeChunk(sharedStrings.finish());
+                zip.closeEntry();
+            }
+            writeWorkbookParts(zip, sheetCount, hasSharedStrings);
+            zip.finish();
+        } catch (UncheckedIOException e) {
+            sharedStrings.discard();
+            zip.abort();
+            throw e.getCause();
+        } catch (IOException | RuntimeException | Error e) {
+            sharedStrings.discard();
+            zip.abort();
+            throw e;
+        }
+    }
+
+    /**
+     * Serializes the first rows of the first sheet into memory on the calling thread while measuring their values, and
+     * returns them with a sheet start that carries the resulting column widths.
+     * <br>
+     * Column widths precede the rows in the sheet XML, so the sample is always the first rows, whatever
+     * {@link ExportOptions#autoWidthSampling()} says.
+     */
+    private static <T> SheetHead sampleHead(
+            ExportPlan<T> plan,
+            SharedStringTable sharedStrings,
+            Iterator<T> bodyDto,
+            ExportRecorder recorder,
+            ExportMonitor monitor
+    ) {
+        ExportOptions options = plan.options();
+        ColumnWidthSampler sampler = new ColumnWidthSampler(plan.columns().headers(), options.autoWidthSampleRows(),
+                WidthSampling.FIRST_ROWS);
+        ByteArrayOutputStream rows = new ByteArrayOutputStream();
+        XmlBuffer xml = new XmlBuffer(rows, CHUNK_BUFFER_SIZE);
+        SheetXmlSerializer<T> serializer = new SheetXmlSerializer<>(xml, plan.columns(), plan.columnRefs(),
+                sharedStrings);
+        long lastRow = Math.min(options.maxRowsPerSheet(), options.autoWidthSampleRows() + 1L);
+        long rowNumber = 2;
+        long mark = recorder.now();
+        while (rowNumber <= lastRow && bodyDto.hasNext()) {
+            T dto = bodyDto.next();
+            mark = recorder.source(mark);
+            sampler.startRow();
+            serializer.writeRow(rowNumber++, dto, sampler.measure(serializer));
+            mark = recorder.rowWrite(mark);
+            monitor.row();
+        }
+        xml.flush();
+        byte[] start = SheetXmlSerializer.sheetStart(plan.columns(), plan.columnRefs(), sampler.widths());
+        return new SheetHead(start, rows.toByteArray(), rowNumber);
+    }
+
+    /**
+     * Serializes one sheet on the calling thread, deflating through the zip entry stream or, with a deflate parallelism
+     * above {@code 1}, through a {@link ParallelDeflateStream}.
+     * <br>
+     * Stops when the sheet holds {@code maxRowsPerSheet} rows; the remaining rows go to the next sheet.
+     */
+    private static <T> void writeSheet(
+            ZipWriter zip,
+            ExportPlan<T> plan,
+            SheetHead head,
+            SharedStringTable sharedStrings,
+            Iterator<T> bodyDto,
+            ExportRecorder recorder,
+            ExportMonitor monitor
+    ) throws IOException {
+        ExportOptions options = plan.options();
+        int maxRowsPerSheet = options.maxRowsPerSheet();
+        ParallelDeflateStream parallelDeflate = options.deflateParallelism() > 1
+                ? new ParallelDeflateStream(zip, Compression.of(options), options.executor(),
+                options.deflateParallelism())
+                : null;
+        XmlBuffer xml = new XmlBuffer(parallelDeflate != null ? parallelDeflate : zip.entryStream());
+        SheetXmlSerializer<T> serializer = new SheetXmlSerializer<>(xml, plan.columns(), plan.columnRefs(),
+                sharedStrings);
+        try {
+            xml.raw(head.start());
+            xml.raw(head.rows());
+            long rowNumber = head.firstRow();
+            long mark = recorder.now();
+            while (rowNumber <= maxRowsPerSheet && bodyDto.hasNext()) {
+                T dto = bodyDto.next();
+                mark = recorder.source(mark);
+                serializer.writeRow(rowNumber++, dto);
+                mark = recorder.rowWrite(mark);
+                monitor.row();
+            }
+            serializer.endSheet();
+            xml.flush();
+            if (parallelDeflate != null) {
+                parallelDeflate.finish();
+            }
+        } finally {
+            if (parallelDeflate != null) {
+                parallelDeflate.cancel();
+            }
+        }
+    }
+
+    /**
+     * Reads the rows of one sheet into batches on the calling thread and serializes and deflates each batch on the
+     * executor.
+     * <br>
+     * At most {@code parallelism * 2} batches are in flight, so memory stays bounded. Finished chunks are appended in
+     * submission order, which keeps the original row order. Batches never cross a sheet boundary.
+     */
+    private static <T> void writeSheetParallel(
+            ZipWriter zip,
+            ExportPlan<T> plan,
+            SheetHead head,
+            SharedStringTable sharedStrings,
+            Iterator<T> bodyDto,
+            ExportRecorder recorder,
+            ExportMonitor monitor
+    ) throws IOException {
+        ExportOptions options = plan.options();
+        int batchRows = options.parallelBatchRows();
+        int maxRowsPerSheet = options.maxRowsPerSheet();
+        int maxInFlight = options.parallelism() * 2;
+        Deque<CompletableFuture<DeflatedChunk>> inFlight = new ArrayDeque<>();
+
+        zip.writeChunk(serializeChunk(plan, sharedStrings, (xml, serializer) -> {
+            xml.raw(head.start());
+            xml.raw(head.rows());
+        }));
+
+        try {
+            long nextRow = head.firstRow();
+            while (nextRow <= maxRowsPerSheet && bodyDto.hasNext()) {
+                int size = (int) Math.min(batchRows, maxRowsPerSheet - nextRow + 1);
+                List<T> batch = new ArrayList<>(size);
+                long mark = recorder.now();
+                while (batch.size() < size && bodyDto.hasNext()) {
+                    batch.add(bodyDto.next());
+                }
+                recorder.source(mark);
+                recorder.addRows(batch.size());
+                monitor.rows(batch.size());
+                long firstRow = nextRow;
+                nextRow += batch.size();
+
+                inFlight.add(CompletableFuture.supplyAsync(() -> {
+                    long start = recorder.clock();
+                    DeflatedChunk chunk = serializeChunk(plan, sharedStrings, (xml, serializer) -> {
+                        long rowNumber = firstRow;
+                        for (T dto : batch) {
+                            serializer.writeRow(rowNumber++, dto);
+                        }
+                    });
+                    recorder.rowWriteOnWorker(start);
+                    return chunk;
+                }, options.executor()));
+
+                if (inFlight.size() >= maxInFlight) {
+                    zip.writeChunk(await(inFlight.poll()));
+                }
+            }
+            while (!inFlight.isEmpty()) {
+                zip.writeChunk(await(inFlight.poll()));
+            }
+        } finally {
+            inFlight.forEach(future -> future.cancel(true));
+        }
+
+        zip.writeChunk(serializeChunk(plan, sharedStrings, (xml, serializer) -> serializer.endSheet()));
+    }
+
+    /**
+     * Runs the given serialization into a fresh {@link ChunkDeflater} and returns the deflated chunk.
+     */
+    private static <T> DeflatedChunk serializeChunk(
+            ExportPlan<T> plan,
+            SharedStringTable sharedStrings,
+            ChunkBody<T> body
+    ) {
+        try (ChunkDeflater deflater = new ChunkDeflater(Compression.of(plan.options()))) {
+            XmlBuffer xml = new XmlBuffer(deflater, CHUNK_BUFFER_SIZE);
+            body.write(xml, new SheetXmlSerializer<>(xml, plan.columns(), plan.columnRefs(), sharedStrings));
+            xml.flush();
+            return deflater.finish();
+        }
+    }
+
+    /**
+     * Waits for a chunk and rethrows the original failure of its task.
+     */
+    static DeflatedChunk await(CompletableFuture<DeflatedChunk> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Writes the package parts that describe the workbook, its {@code sheetCount} sheets and, if present, its shared
+     * strings table.
+     */
+    private static void writeWorkbookParts(ZipWriter zip, int sheetCount, boolean hasSharedStrings)
+            throws IOException {
+        XmlBuffer xml = new XmlBuffer(zip.entryStream(), CHUNK_BUFFER_SIZE);
+
+        zip.startEntry("[Content_Types].xml");
+        xml.raw(CONTENT_TYPES_START);
+        for (int i = 1; i <= sheetCount; i++) {
+            xml.raw(CONTENT_TYPES_SHEET_START);
+            xml.number(i);
+            xml.raw(CONTENT_TYPES_SHEET_END);
+        }
+        if (hasSharedStrings) {
+            xml.raw(CONTENT_TYPES_SHARED_STRINGS);
+        }
+        xml.raw(CONTENT_TYPES_END);
+        xml.flush();
+        zip.closeEntry();
+
+        zip.writeEntry("_rels/.rels", ROOT_RELS);
+
+        zip.startEntry("xl/workbook.xml");
+        xml.raw(WORKBOOK_START);
+        for (int i = 1; i <= sheetCount; i++) {
+            xml.raw(WORKBOOK_SHEET_NAME);
+            xml.escaped(ExcelBuilder.sheetName(i));
+            xml.raw(WORKBOOK_SHEET_ID);
+            xml.number(i);
+            xml.raw(WORKBOOK_SHEET_REL);
+            xml.number(i);
+            xml.raw(WORKBOOK_SHEET_END);
+        }
+        xml.raw(WORKBOOK_END);
+        xml.flush();
+        zip.closeEntry();
+
+        zip.startEntry("xl/_rels/workbook.xml.rels");
+        xml.raw(WORKBOOK_RELS_START);
+        for (int i = 1; i <= sheetCount; i++) {
+            xml.raw(WORKBOOK_RELS_SHEET_ID);
+            xml.number(i);
+            xml.raw(WORKBOOK_RELS_SHEET_TARGET);
+            xml.number(i);
+            xml.raw(WORKBOOK_RELS_SHEET_END);
+        }
+        xml.raw(WORKBOOK_RELS_SHEET_ID);
+        xml.number(sheetCount + 1);
+        xml.raw(WORKBOOK_RELS_STYLES_TARGET);
+        if (hasSharedStrings) {
+            xml.raw(WORKBOOK_RELS_SHEET_ID);
+            xml.number(sheetCount + 2);
+            xml.raw(WORKBOOK_RELS_SHARED_STRINGS_TARGET);
+        }
+        xml.raw(WORKBOOK_RELS_END);
+        xml.flush();
+        zip.closeEntry();
+
+        zip.writeEntry("xl/styles.xml", STYLES);
+    }
+
+    /**
+     * Bytes a sheet starts with: the worksheet start with the header row, then rows already serialized ahead, followed
+     * by row {@code firstRow}.
+     */
+    private record SheetHead(byte[] start, byte[] rows, long firstRow) {
+    }
+
+    /**
+     * Serialization of one chunk of the sheet.
+     */
+    @FunctionalInterface
+    private interface ChunkBody<T> {
+        void write(XmlBuffer xml, SheetXmlSerializer<T> serializer);
+    }
+}
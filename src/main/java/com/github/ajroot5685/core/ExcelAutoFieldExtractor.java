@@ -1,22 +1,61 @@
 package com.github.ajroot5685.core;
 
+import com.github.ajroot5685.column.AnnotatedColumn;
+import com.github.ajroot5685.column.Column;
+import com.github.ajroot5685.column.Columns;
+import com.github.ajroot5685.column.ValueFormatter;
+import com.github.ajroot5685.column.ValueFormatters;
+import com.github.ajroot5685.dto.ColumnType;
 import com.github.ajroot5685.dto.XLSXColumn;
+import com.github.ajroot5685.dto.XLSXMapper;
 import com.github.ajroot5685.exception.XLSXReflectionException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
-import java.util.ArrayList;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Calendar;
+import java.util.Date;
 import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
 import java.util.function.Function;
-import java.util.stream.Collectors;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
 
 /**
- * Utility class that extracts Excel column mapping information from a class using {@link XLSXColumn} annotations via
- * reflection.
+ * Utility class that extracts Excel column mapping information from a class using {@link XLSXColumn} annotations.
  * <br>
- * {@link XLSXColumn} 애노테이션이 붙은 필드를 리플렉션으로 추출하여 Excel 컬럼 매핑 정보를 생성하는 유틸리티 클래스입니다.
+ * A {@link XLSXMapper} generated at compile time is preferred when one is registered for the class. Otherwise
+ * reflection runs only once per class, the resulting column plan is cached and each field is read through a
+ * {@link MethodHandle} afterwards. Primitive numeric and boolean fields are written through primitive columns, so their
+ * values are never boxed, and the formatter of a {@link XLSXColumn#format()} or {@link XLSXColumn#formatter()} is
+ * resolved once and shared.
+ * <br><br>
+ * {@link XLSXColumn} 애노테이션이 붙은 필드로부터 Excel 컬럼 매핑 정보를 생성하는 유틸리티 클래스입니다.
+ * <br>
+ * 클래스에 대해 컴파일 시점에 생성된 {@link XLSXMapper}가 등록되어 있으면 그것을 우선 사용합니다. 그렇지 않으면 리플렉션은 클래스당 한 번만
+ * 수행되며, 이후에는 캐시된 컬럼 정보와 {@link MethodHandle}로 필드 값을 읽습니다. 기본형 숫자와 boolean 필드는 기본형 컬럼으로 쓰이므로
+ * 값이 박싱되지 않으며, {@link XLSXColumn#format()}이나 {@link XLSXColumn#formatter()}의 포매터는 한 번만 결정되어 공유됩니다.
  */
 public class ExcelAutoFieldExtractor {
 
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType LONG_GETTER_TYPE = MethodType.methodType(long.class, Object.class);
+    private static final MethodType DOUBLE_GETTER_TYPE = MethodType.methodType(double.class, Object.class);
+    private static final MethodType BOOLEAN_GETTER_TYPE = MethodType.methodType(boolean.class, Object.class);
+
+    private static final ClassValue<ColumnPlan> COLUMN_PLANS = new ClassValue<>() {
+        @Override
+        protected ColumnPlan computeValue(Class<?> type) {
+            ColumnPlan generated = generatedColumns(type);
+            return generated != null ? generated : compile(type);
+        }
+    };
+
     /**
      * Extracts a mapping of header names to value functions from the given class.
      * <br>
@@ -33,49 +72,240 @@ public class ExcelAutoFieldExtractor {
      * 헤더 이름과 값 추출 함수의 {@link LinkedHashMap}
      */
     public static <T> LinkedHashMap<String, Function<T, String>> extract(Class<T> clazz) {
-        Field[] fields = clazz.getDeclaredFields();
-        List<ColumnInfo<T>> columns = new ArrayList<>();
+        LinkedHashMap<String, Function<T, String>> result = new LinkedHashMap<>();
+        for (AnnotatedColumn<Object> column : COLUMN_PLANS.get(clazz).annotated()) {
+            result.put(column.header(), column::text);
+        }
+        return result;
+    }
 
-        for (Field field : fields) {
-            if (!field.isAnnotationPresent(XLSXColumn.class)) {
-                continue;
-            }
+    /**
+     * Extracts typed {@link Columns} from the given class.
+     * <br>
+     * The cell type of each column comes from {@link XLSXColumn#type()}, or is inferred from the field type when it is
+     * {@link ColumnType#AUTO}.
+     * <br><br>
+     * 주어진 클래스에서 타입이 있는 {@link Columns}를 추출합니다.
+     * <br>
+     * 각 컬럼의 셀 타입은 {@link XLSXColumn#type()}을 따르며, {@link ColumnType#AUTO}이면 필드 타입으로부터 추론됩니다.
+     *
+     * @param clazz the DTO class with annotated fields
+     *              <p>
+     *              애노테이션이 붙은 DTO 클래스
+     * @param <T>   the DTO type
+     * @return the typed columns in field declaration order
+     * <p>
+     * 필드 선언 순서대로 정렬된 타입이 있는 컬럼 목록
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Columns<T> extractColumns(Class<T> clazz) {
+        // Columns of Object accept any DTO, so the plan is shared by every caller.
+        return (Columns<T>) COLUMN_PLANS.get(clazz).columns();
+    }
 
-            field.setAccessible(true);
+    /**
+     * Returns the columns of the mapper generated for a class, or {@code null} if none is registered.
+     * <br>
+     * Providers are matched by class name before instantiation, so only the mapper of {@code clazz} is loaded. A
+     * broken service registration falls back to reflection instead of failing the export.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static ColumnPlan generatedColumns(Class<?> clazz) {
+        String packageName = clazz.getPackageName();
+        String flatName = clazz.getName().substring(packageName.isEmpty() ? 0 : packageName.length() + 1);
+        String mapperName = (packageName.isEmpty() ? "" : packageName + ".") + flatName.replace('$', '_')
+                + XLSXMapper.SUFFIX;
+        try {
+            return ServiceLoader.load(XLSXMapper.class, clazz.getClassLoader()).stream()
+                    .filter(provider -> provider.type().getName().equals(mapperName))
+                    .map(ServiceLoader.Provider::get)
+                    .filter(mapper -> mapper.type() == clazz)
+                    .findFirst()
+                    .map(mapper -> new ColumnPlan((List<AnnotatedColumn<Object>>) List.copyOf(mapper.columns()),
+                            (Columns<Object>) mapper.writeColumns()))
+                    .orElse(null);
+        } catch (ServiceConfigurationError e) {
+            return null;
+        }
+    }
+
+    /**
+     * Builds the column plan of a class by reflection. Called once per class by {@link #COLUMN_PLANS}.
+     */
+    private static ColumnPlan compile(Class<?> clazz) {
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        LinkedHashMap<String, AnnotatedColumn<Object>> columns = new LinkedHashMap<>();
+        LinkedHashMap<String, Column<Object>> writeColumns = new LinkedHashMap<>();
+
+        for (Field field : clazz.getDeclaredFields()) {
             XLSXColumn annotation = field.getAnnotation(XLSXColumn.class);
+            if (annotation == null) {
+                continue;
+            }
 
             String header = !annotation.header().isBlank() ? annotation.header() : field.getName();
+            ValueFormatter<Object> formatter = formatter(field, annotation);
+            ColumnType type = formatter != null && annotation.type() == ColumnType.AUTO
+                    ? ColumnType.STRING
+                    : resolveType(annotation.type(), field.getType());
+            MethodHandle getter = unreflect(lookup, field);
+            AnnotatedColumn<Object> column;
+            try {
+                column = new AnnotatedColumn<>(header, type, annotation.sharedString(),
+                        accessor(field.getName(), getter.asType(GETTER_TYPE)), formatter, annotation.nullValue());
+            } catch (IllegalArgumentException e) {
+                throw new XLSXReflectionException(field.getName(), e);
+            }
+            columns.put(header, column);
+            Column<Object> primitive = primitiveColumn(header, type, field, getter);
+            writeColumns.put(header, primitive != null ? primitive : column);
+        }
+
+        return new ColumnPlan(List.copyOf(columns.values()), Columns.of(List.copyOf(writeColumns.values())));
+    }
+
+    /**
+     * Returns the formatter declared by {@link XLSXColumn#format()} or {@link XLSXColumn#formatter()}, or {@code null}
+     * if the field has neither.
+     */
+    private static ValueFormatter<Object> formatter(Field field, XLSXColumn annotation) {
+        boolean pattern = !annotation.format().isEmpty();
+        boolean formatterClass = annotation.formatter() != ValueFormatter.class;
+        try {
+            if (pattern && formatterClass) {
+                throw new IllegalArgumentException("format and formatter cannot be used together");
+            }
+            if (pattern) {
+                return ValueFormatters.ofPattern(field.getType(), annotation.format());
+            }
+            return formatterClass ? ValueFormatters.of(annotation.formatter()) : null;
+        } catch (IllegalArgumentException e) {
+            throw new XLSXReflectionException(field.getName(), e);
+        }
+    }
 
-            columns.add(new ColumnInfo<>(header, instance -> getSafe(field, instance)));
+    /**
+     * Returns a column that reads a primitive numeric or boolean field without boxing, or {@code null} if the field
+     * is not primitive or is written as another type.
+     */
+    private static Column<Object> primitiveColumn(String header, ColumnType type, Field field, MethodHandle getter) {
+        Class<?> fieldType = field.getType();
+        String name = field.getName();
+        Columns.Builder<Object> builder = Columns.builder();
+        if (type == ColumnType.NUMERIC && (fieldType == long.class || fieldType == int.class
+                || fieldType == short.class || fieldType == byte.class)) {
+            builder.longNumeric(header, longAccessor(name, getter.asType(LONG_GETTER_TYPE)));
+        } else if (type == ColumnType.NUMERIC && (fieldType == double.class || fieldType == float.class)) {
+            builder.doubleNumeric(header, doubleAccessor(name, getter.asType(DOUBLE_GETTER_TYPE)));
+        } else if (type == ColumnType.BOOLEAN && fieldType == boolean.class) {
+            builder.predicate(header, booleanAccessor(name, getter.asType(BOOLEAN_GETTER_TYPE)));
+        } else {
+            return null;
         }
+        return builder.build().get(0);
+    }
 
-        return columns.stream()
-                .collect(Collectors.toMap(
-                        ColumnInfo::header,
-                        ColumnInfo::mapper,
-                        (a, b) -> b,
-                        LinkedHashMap::new
-                ));
+    /**
+     * Resolves {@link ColumnType#AUTO} into a concrete cell type based on the field type.
+     */
+    private static ColumnType resolveType(ColumnType hint, Class<?> fieldType) {
+        if (hint != ColumnType.AUTO) {
+            return hint;
+        }
+        if (fieldType == boolean.class || fieldType == Boolean.class) {
+            return ColumnType.BOOLEAN;
+        }
+        if ((fieldType.isPrimitive() && fieldType != char.class) || Number.class.isAssignableFrom(fieldType)) {
+            return ColumnType.NUMERIC;
+        }
+        if (LocalDate.class == fieldType || LocalDateTime.class == fieldType
+                || Date.class.isAssignableFrom(fieldType) || Calendar.class.isAssignableFrom(fieldType)) {
+            return ColumnType.DATE;
+        }
+        return ColumnType.STRING;
     }
 
     /**
-     * Safely retrieves and converts a field value to string.
+     * Converts a field into a getter {@link MethodHandle}, typed as the field is declared.
      */
-    private static <T> String getSafe(Field field, T instance) {
+    private static MethodHandle unreflect(MethodHandles.Lookup lookup, Field field) {
         try {
-            Object value = field.get(instance);
-            return value != null ? value.toString() : "";
+            field.setAccessible(true);
+            return lookup.unreflectGetter(field);
         } catch (Exception e) {
             throw new XLSXReflectionException(field.getName(), e);
         }
     }
 
     /**
-     * Holds header name and value extractor function for a field.
+     * Wraps a getter handle as an accessor that reports failures with the field name.
+     */
+    private static Function<Object, Object> accessor(String fieldName, MethodHandle getter) {
+        return instance -> {
+            try {
+                return (Object) getter.invokeExact(instance);
+            } catch (Throwable e) {
+                throw failure(fieldName, e);
+            }
+        };
+    }
+
+    /**
+     * Wraps an integral getter handle typed as {@code (Object) -> long}.
+     */
+    private static ToLongFunction<Object> longAccessor(String fieldName, MethodHandle getter) {
+        return instance -> {
+            try {
+                return (long) getter.invokeExact(instance);
+            } catch (Throwable e) {
+                throw failure(fieldName, e);
+            }
+        };
+    }
+
+    /**
+     * Wraps a floating-point getter handle typed as {@code (Object) -> double}.
+     */
+    private static ToDoubleFunction<Object> doubleAccessor(String fieldName, MethodHandle getter) {
+        return instance -> {
+            try {
+                return (double) getter.invokeExact(instance);
+            } catch (Throwable e) {
+                throw failure(fieldName, e);
+            }
+        };
+    }
+
+    /**
+     * Wraps a boolean getter handle typed as {@code (Object) -> boolean}.
+     */
+    private static Predicate<Object> booleanAccessor(String fieldName, MethodHandle getter) {
+        return instance -> {
+            try {
+                return (boolean) getter.invokeExact(instance);
+            } catch (Throwable e) {
+                throw failure(fieldName, e);
+            }
+        };
+    }
+
+    /**
+     * Rethrows unchecked exceptions and errors from a getter as they are, so an {@link Error} such as
+     * {@link OutOfMemoryError} is not turned into a library exception, and wraps checked ones.
+     */
+    private static XLSXReflectionException failure(String fieldName, Throwable e) {
+        if (e instanceof RuntimeException runtime) {
+            throw runtime;
+        }
+        if (e instanceof Error error) {
+            throw error;
+        }
+        return new XLSXReflectionException(fieldName, e);
+    }
+
+    /**
+     * Columns of one class: the annotated columns that also provide text, and the columns rows are written with.
      */
-    private record ColumnInfo<T>(
-            String header,
-            Function<T, String> mapper
-    ) {
+    private record ColumnPlan(List<AnnotatedColumn<Object>> annotated, Columns<Object> columns) {
     }
 }
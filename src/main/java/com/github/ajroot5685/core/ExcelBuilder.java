@@ -1,19 +1,23 @@
 package com.github.ajroot5685.core;
 
+import com.github.ajroot5685.column.Columns;
 import com.github.ajroot5685.constant.Default;
 import com.github.ajroot5685.exception.ExcelGenerationException;
 import com.github.ajroot5685.output.OutputWriter;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Map;
-import java.util.Set;
 import java.util.function.Function;
+import java.util.stream.Stream;
+import org.apache.commons.compress.archivers.zip.ZipArchiveOutputStream;
 import org.apache.poi.ss.usermodel.Cell;
 import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
-import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
 import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.apache.poi.xssf.streaming.SheetDataWriter;
 
 /**
  * Utility class for generating Excel files using either manual or automatic column mapping.
@@ -47,7 +51,239 @@ public class ExcelBuilder {
             List<T> bodyDto,
             OutputWriter writer
     ) {
-        generate(headersMap, bodyDto, writer);
+        generate(ExportPlan.of(headersMap), bodyDto.iterator(), writer);
+    }
+
+    /**
+     * Generates an Excel file using a manually defined column mapping, streaming rows from an {@link Iterable}.
+     * <br>
+     * Each DTO is written to a row as soon as it is read, so the whole data set is never held in memory at once.
+     * <br><br>
+     * 수동으로 정의된 컬럼 매핑을 사용해 {@link Iterable}의 데이터를 스트리밍 방식으로 Excel 파일에 씁니다.
+     * <br>
+     * 각 DTO는 읽히는 즉시 행으로 기록되므로 전체 데이터를 한 번에 메모리에 올리지 않습니다.
+     *
+     * @param headersMap a mapping of header names to value extractor functions
+     *                   <p>
+     *                   헤더 이름과 DTO에서 값을 추출하는 함수의 매핑
+     * @param bodyDto    the data to be written to the Excel file
+     *                   <p>
+     *                   Excel 파일에 쓸 본문 데이터
+     * @param writer     the output writer to write the Excel file
+     *                   <p>
+     *                   Excel 파일을 출력할 {@link OutputWriter}
+     * @param <T>        the DTO type
+     */
+    public static <T> void generateWithManualMapping(
+            LinkedHashMap<String, Function<T, String>> headersMap,
+            Iterable<T> bodyDto,
+            OutputWriter writer
+    ) {
+        generate(ExportPlan.of(headersMap), bodyDto.iterator(), writer);
+    }
+
+    /**
+     * Generates an Excel file using a manually defined column mapping, streaming rows from an {@link Iterator}.
+     * <br>
+     * The iterator is consumed exactly once.
+     * <br><br>
+     * 수동으로 정의된 컬럼 매핑을 사용해 {@link Iterator}의 데이터를 스트리밍 방식으로 Excel 파일에 씁니다.
+     * <br>
+     * 이터레이터는 한 번만 소비됩니다.
+     *
+     * @param headersMap a mapping of header names to value extractor functions
+     *                   <p>
+     *                   헤더 이름과 DTO에서 값을 추출하는 함수의 매핑
+     * @param bodyDto    the data to be written to the Excel file
+     *                   <p>
+     *                   Excel 파일에 쓸 본문 데이터
+     * @param writer     the output writer to write the Excel file
+     *                   <p>
+     *                   Excel 파일을 출력할 {@link OutputWriter}
+     * @param <T>        the DTO type
+     */
+    public static <T> void generateWithManualMapping(
+            LinkedHashMap<String, Function<T, String>> headersMap,
+            Iterator<T> bodyDto,
+            OutputWriter writer
+    ) {
+        generate(ExportPlan.of(headersMap), bodyDto, writer);
+    }
+
+    /**
+     * Generates an Excel file using a manually defined column mapping, streaming rows from a {@link Stream}.
+     * <br>
+     * The stream is not closed. The caller must manage the stream lifecycle.
+     * <br><br>
+     * 수동으로 정의된 컬럼 매핑을 사용해 {@link Stream}의 데이터를 스트리밍 방식으로 Excel 파일에 씁니다.
+     * <br>
+     * 스트림은 닫지 않으므로 호출자가 직접 생명 주기를 관리해야 합니다.
+     *
+     * @param headersMap a mapping of header names to value extractor functions
+     *                   <p>
+     *                   헤더 이름과 DTO에서 값을 추출하는 함수의 매핑
+     * @param bodyDto    the data to be written to the Excel file
+     *                   <p>
+     *                   Excel 파일에 쓸 본문 데이터
+     * @param writer     the output writer to write the Excel file
+     *                   <p>
+     *                   Excel 파일을 출력할 {@link OutputWriter}
+     * @param <T>        the DTO type
+     */
+    public static <T> void generateWithManualMapping(
+            LinkedHashMap<String, Function<T, String>> headersMap,
+            Stream<T> bodyDto,
+            OutputWriter writer
+    ) {
+        generate(ExportPlan.of(headersMap), bodyDto.iterator(), writer);
+    }
+
+    /**
+     * Generates an Excel file using manually defined typed columns.
+     * <br>
+     * Numeric, boolean and date columns are written as native cells instead of strings.
+     * <br><br>
+     * 수동으로 정의된 타입이 있는 컬럼을 사용해 Excel 파일을 생성합니다.
+     * <br>
+     * 숫자, boolean, 날짜 컬럼은 문자열이 아닌 해당 타입의 셀로 쓰입니다.
+     *
+     * @param columns the typed columns
+     *                <p>
+     *                타입이 있는 컬럼 목록
+     * @param bodyDto the data to be written to the Excel file
+     *                <p>
+     *                Excel 파일에 쓸 본문 데이터
+     * @param writer  the output writer to write the Excel file
+     *                <p>
+     *                Excel 파일을 출력할 {@link OutputWriter}
+     * @param <T>     the DTO type
+     */
+    public static <T> void generateWithManualMapping(
+            Columns<T> columns,
+            Iterable<T> bodyDto,
+            OutputWriter writer
+    ) {
+        generate(ExportPlan.of(columns), bodyDto.iterator(), writer);
+    }
+
+    /**
+     * Generates an Excel file using manually defined typed columns, streaming rows from an {@link Iterator}.
+     * <br>
+     * The iterator is consumed exactly once.
+     * <br><br>
+     * 수동으로 정의된 타입이 있는 컬럼을 사용해 {@link Iterator}의 데이터를 스트리밍 방식으로 Excel 파일에 씁니다.
+     * <br>
+     * 이터레이터는 한 번만 소비됩니다.
+     *
+     * @param columns the typed columns
+     *                <p>
+     *                타입이 있는 컬럼 목록
+     * @param bodyDto the data to be written to the Excel file
+     *                <p>
+     *                Excel 파일에 쓸 본문 데이터
+     * @param writer  the output writer to write the Excel file
+     *                <p>
+     *                Excel 파일을 출력할 {@link OutputWriter}
+     * @param <T>     the DTO type
+     */
+    public static <T> void generateWithManualMapping(
+            Columns<T> columns,
+            Iterator<T> bodyDto,
+            OutputWriter writer
+    ) {
+        generate(ExportPlan.of(columns), bodyDto, writer);
+    }
+
+    /**
+     * Generates an Excel file using manually defined typed columns, streaming rows from a {@link Stream}.
+     * <br>
+     * The stream is not closed. The caller must manage the stream lifecycle.
+     * <br><br>
+     * 수동으로 정의된 타입이 있는 컬럼을 사용해 {@link Stream}의 데이터를 스트리밍 방식으로 Excel 파일에 씁니다.
+     * <br>
+     * 스트림은 닫지 않으므로 호출자가 직접 생명 주기를 관리해야 합니다.
+     *
+     * @param columns the typed columns
+     *                <p>
+     *                타입이 있는 컬럼 목록
+     * @param bodyDto the data to be written to the Excel file
+     *                <p>
+     *                Excel 파일에 쓸 본문 데이터
+     * @param writer  the output writer to write the Excel file
+     *                <p>
+     *                Excel 파일을 출력할 {@link OutputWriter}
+     * @param <T>     the DTO type
+     */
+    public static <T> void generateWithManualMapping(
+            Columns<T> columns,
+            Stream<T> bodyDto,
+            OutputWriter writer
+    ) {
+        generate(ExportPlan.of(columns), bodyDto.iterator(), writer);
+    }
+
+    /**
+     * Generates an Excel file using a manually defined column mapping and the given {@link ExportOptions}.
+     * <br>
+     * A {@link Stream} or an {@link Iterator} can be passed as {@code stream::iterator} or {@code () -> iterator}.
+     * <br><br>
+     * 수동으로 정의된 컬럼 매핑과 주어진 {@link ExportOptions}로 Excel 파일을 생성합니다.
+     * <br>
+     * {@link Stream}이나 {@link Iterator}는 {@code stream::iterator} 또는 {@code () -> iterator} 형태로 전달할 수 있습니다.
+     *
+     * @param headersMap a mapping of header names to value extractor functions
+     *                   <p>
+     *                   헤더 이름과 DTO에서 값을 추출하는 함수의 매핑
+     * @param bodyDto    the data to be written to the Excel file
+     *                   <p>
+     *                   Excel 파일에 쓸 본문 데이터
+     * @param writer     the output writer to write the Excel file
+     *                   <p>
+     *                   Excel 파일을 출력할 {@link OutputWriter}
+     * @param options    the generation options
+     *                   <p>
+     *                   생성 옵션
+     * @param <T>        the DTO type
+     */
+    public static <T> void generateWithManualMapping(
+            LinkedHashMap<String, Function<T, String>> headersMap,
+            Iterable<T> bodyDto,
+            OutputWriter writer,
+            ExportOptions options
+    ) {
+        generate(ExportPlan.of(headersMap, options), bodyDto.iterator(), writer);
+    }
+
+    /**
+     * Generates an Excel file using manually defined typed columns and the given {@link ExportOptions}.
+     * <br>
+     * A {@link Stream} or an {@link Iterator} can be passed as {@code stream::iterator} or {@code () -> iterator}.
+     * <br><br>
+     * 수동으로 정의된 타입이 있는 컬럼과 주어진 {@link ExportOptions}로 Excel 파일을 생성합니다.
+     * <br>
+     * {@link Stream}이나 {@link Iterator}는 {@code stream::iterator} 또는 {@code () -> iterator} 형태로 전달할 수 있습니다.
+     *
+     * @param columns the typed columns
+     *                <p>
+     *                타입이 있는 컬럼 목록
+     * @param bodyDto the data to be written to the Excel file
+     *                <p>
+     *                Excel 파일에 쓸 본문 데이터
+     * @param writer  the output writer to write the Excel file
+     *                <p>
+     *                Excel 파일을 출력할 {@link OutputWriter}
+     * @param options the generation options
+     *                <p>
+     *                생성 옵션
+     * @param <T>     the DTO type
+     */
+    public static <T> void generateWithManualMapping(
+            Columns<T> columns,
+            Iterable<T> bodyDto,
+            OutputWriter writer,
+            ExportOptions options
+    ) {
+        generate(ExportPlan.of(columns, options), bodyDto.iterator(), writer);
     }
 
     /**
@@ -75,71 +311,305 @@ public class ExcelBuilder {
             List<T> bodyDto,
             OutputWriter writer
     ) {
-        LinkedHashMap<String, Function<T, String>> headersMap = ExcelAutoFieldExtractor.extract(clazz);
-        generate(headersMap, bodyDto, writer);
+        generate(ExportPlan.of(clazz), bodyDto.iterator(), writer);
     }
 
     /**
-     * Internal method for generating Excel with provided header mapping and data.
+     * Generates an Excel file using reflection-based automatic column mapping, streaming rows from an
+     * {@link Iterable}.
+     * <br><br>
+     * 리플렉션 기반 자동 매핑을 사용해 {@link Iterable}의 데이터를 스트리밍 방식으로 Excel 파일에 씁니다.
+     *
+     * @param clazz   the DTO class with annotated fields
+     *                <p>
+     *                애노테이션이 붙은 DTO 클래스
+     * @param bodyDto the data to be written to the Excel file
+     *                <p>
+     *                Excel 파일에 쓸 본문 데이터
+     * @param writer  the output writer to write the Excel file
+     *                <p>
+     *                Excel 파일을 출력할 {@link OutputWriter}
+     * @param <T>     the DTO type
      */
-    private static <T> void generate(
-            LinkedHashMap<String, Function<T, String>> headersMap,
-            List<T> bodyDto,
+    public static <T> void generateWithAutoMapping(
+            Class<T> clazz,
+            Iterable<T> bodyDto,
             OutputWriter writer
     ) {
-        List<Map<String, String>> excelResult = extractExcelDataFrom(headersMap, bodyDto);
-        createExcel(headersMap.keySet(), excelResult, writer);
+        generate(ExportPlan.of(clazz), bodyDto.iterator(), writer);
     }
 
     /**
-     * Extracts Excel row data from DTO list using provided mapping.
+     * Generates an Excel file using reflection-based automatic column mapping, streaming rows from an
+     * {@link Iterator}.
+     * <br>
+     * The iterator is consumed exactly once.
+     * <br><br>
+     * 리플렉션 기반 자동 매핑을 사용해 {@link Iterator}의 데이터를 스트리밍 방식으로 Excel 파일에 씁니다.
+     * <br>
+     * 이터레이터는 한 번만 소비됩니다.
+     *
+     * @param clazz   the DTO class with annotated fields
+     *                <p>
+     *                애노테이션이 붙은 DTO 클래스
+     * @param bodyDto the data to be written to the Excel file
+     *                <p>
+     *                Excel 파일에 쓸 본문 데이터
+     * @param writer  the output writer to write the Excel file
+     *                <p>
+     *                Excel 파일을 출력할 {@link OutputWriter}
+     * @param <T>     the DTO type
      */
-    private static <T> List<Map<String, String>> extractExcelDataFrom(
-            LinkedHashMap<String, Function<T, String>> headersMap,
-            List<T> bodyDto
+    public static <T> void generateWithAutoMapping(
+            Class<T> clazz,
+            Iterator<T> bodyDto,
+            OutputWriter writer
     ) {
-        return bodyDto.stream()
-                .map(dto -> createRowFromDto(headersMap, dto))
-                .toList();
+        generate(ExportPlan.of(clazz), bodyDto, writer);
     }
 
     /**
-     * Converts a single DTO to a map of header → value.
+     * Generates an Excel file using reflection-based automatic column mapping, streaming rows from a
+     * {@link Stream}.
+     * <br>
+     * The stream is not closed. The caller must manage the stream lifecycle.
+     * <br><br>
+     * 리플렉션 기반 자동 매핑을 사용해 {@link Stream}의 데이터를 스트리밍 방식으로 Excel 파일에 씁니다.
+     * <br>
+     * 스트림은 닫지 않으므로 호출자가 직접 생명 주기를 관리해야 합니다.
+     *
+     * @param clazz   the DTO class with annotated fields
+     *                <p>
+     *                애노테이션이 붙은 DTO 클래스
+     * @param bodyDto the data to be written to the Excel file
+     *                <p>
+     *                Excel 파일에 쓸 본문 데이터
+     * @param writer  the output writer to write the Excel file
+     *                <p>
+     *                Excel 파일을 출력할 {@link OutputWriter}
+     * @param <T>     the DTO type
      */
-    private static <T> Map<String, String> createRowFromDto(
-            LinkedHashMap<String, Function<T, String>> headersMap,
-            T dto
+    public static <T> void generateWithAutoMapping(
+            Class<T> clazz,
+            Stream<T> bodyDto,
+            OutputWriter writer
     ) {
-        Map<String, String> row = new LinkedHashMap<>();
-        headersMap.forEach((header, extractor) -> row.put(header, extractor.apply(dto)));
-        return row;
+        generate(ExportPlan.of(clazz), bodyDto.iterator(), writer);
     }
 
     /**
-     * Creates the Excel workbook, writes header and body rows, and writes to output.
+     * Generates an Excel file using reflection-based automatic column mapping and the given {@link ExportOptions}.
+     * <br>
+     * A {@link Stream} or an {@link Iterator} can be passed as {@code stream::iterator} or {@code () -> iterator}.
+     * <br><br>
+     * 리플렉션 기반 자동 매핑과 주어진 {@link ExportOptions}로 Excel 파일을 생성합니다.
+     * <br>
+     * {@link Stream}이나 {@link Iterator}는 {@code stream::iterator} 또는 {@code () -> iterator} 형태로 전달할 수 있습니다.
+     *
+     * @param clazz   the DTO class with annotated fields
+     *                <p>
+     *                애노테이션이 붙은 DTO 클래스
+     * @param bodyDto the data to be written to the Excel file
+     *                <p>
+     *                Excel 파일에 쓸 본문 데이터
+     * @param writer  the output writer to write the Excel file
+     *                <p>
+     *                Excel 파일을 출력할 {@link OutputWriter}
+     * @param options the generation options
+     *                <p>
+     *                생성 옵션
+     * @param <T>     the DTO type
+     */
+    public static <T> void generateWithAutoMapping(
+            Class<T> clazz,
+            Iterable<T> bodyDto,
+            OutputWriter writer,
+            ExportOptions options
+    ) {
+        generate(ExportPlan.of(clazz, options), bodyDto.iterator(), writer);
+    }
+
+    /**
+     * Internal method for generating Excel with the provided plan and data.
+     * <br>
+     * Rows are pulled from the iterator one at a time and written straight to the selected engine. An iterator that
+     * is also {@link AutoCloseable}, such as the one of {@link com.github.ajroot5685.input.PagedSource}, is closed when
+     * generation ends, even if it was not fully consumed. A cancellation is reported as the
+     * {@link com.github.ajroot5685.exception.ExportCancelledException} itself, even if the writer wrapped it.
      */
-    private static void createExcel(
-            Set<String> headerNames,
-            List<Map<String, String>> bodyData,
+    static <T> void generate(
+            ExportPlan<T> plan,
+            Iterator<T> bodyDto,
             OutputWriter outputWriter
     ) {
-        try (Workbook workbook = new SXSSFWorkbook()) {
-            Sheet sheet = workbook.createSheet(Default.SHEET_NAME);
-            sheet.setDefaultColumnWidth(Default.CELL_WIDTH);
+        generate(plan, bodyDto, outputWriter, null);
+    }
+
+    /**
+     * Generates Excel like {@link #generate(ExportPlan, Iterator, OutputWriter)}, stopped by {@code cancellation} if
+     * it is not {@code null}. Its timeout counts from here.
+     */
+    static <T> void generate(
+            ExportPlan<T> plan,
+            Iterator<T> bodyDto,
+            OutputWriter outputWriter,
+            ExportCancellation cancellation
+    ) {
+        ExportRecorder recorder = ExportRecorder.start(plan.options());
+        ExportMonitor monitor = new ExportMonitor(cancellation, outputWriter);
+        try {
+            monitor.check();
+            if (plan.options().engine() == ExportEngine.DIRECT) {
+                long start = recorder.now();
+                outputWriter.write(out -> DirectXlsxWriter.write(out, plan, bodyDto, recorder, monitor));
+                recorder.writer(start);
+            } else {
+                createExcel(plan.columns(), bodyDto, outputWriter, plan.options(), recorder, monitor);
+            }
+        } catch (RuntimeException e) {
+            RuntimeException failure = monitor.unwrap(e);
+            recorder.fail(failure);
+            throw failure;
+        } catch (Error e) {
+            recorder.fail(e);
+            throw e;
+        } finally {
+            if (bodyDto instanceof AutoCloseable source) {
+                closeQuietly(source);
+            }
+        }
+        recorder.complete();
+    }
+
+    /**
+     * Closes a row source without masking the outcome of generation.
+     */
+    static void closeQuietly(AutoCloseable source) {
+        try {
+            source.close();
+        } catch (Exception ignored) {
+            // The export already finished or failed; a failing close must not replace that result.
+        }
+    }
+
+    /**
+     * Returns the name of the sheet at the given one-based index. Sheets created by rollover get a numbered suffix.
+     */
+    static String sheetName(int index) {
+        return index == 1 ? Default.SHEET_NAME : Default.SHEET_NAME + " (" + index + ")";
+    }
+
+    /**
+     * Creates the Excel workbook with POI, writes header and body rows, and writes to output.
+     * <br>
+     * The workbook's temp files are disposed of whether generation succeeds, fails or is cancelled. The workbook is not
+     * handed to the writer if the export was cancelled while its rows were written.
+     */
+    private static <T> void createExcel(
+            Columns<T> columns,
+            Iterator<T> bodyDto,
+            OutputWriter outputWriter,
+            ExportOptions options,
+            ExportRecorder recorder,
+            ExportMonitor monitor
+    ) {
+        AdaptiveRowWindow adaptiveWindow = options.adaptiveWindowHeapBudget() > 0
+                ? new AdaptiveRowWindow(options.adaptiveWindowHeapBudget(), columns.size())
+                : null;
+        int window = adaptiveWindow != null ? adaptiveWindow.window() : options.rowAccessWindowSize();
+        ColumnWidthSampler widthSampler = options.autoWidthSampleRows() > 0
+                ? new ColumnWidthSampler(columns.headers(), options.autoWidthSampleRows(), options.autoWidthSampling())
+                : null;
 
-            createHeaderRow(sheet, headerNames);
-            createBodyRows(sheet, bodyData);
+        try (SpillFiles spillFiles = new SpillFiles(options.tempDirectory());
+             SXSSFWorkbook workbook = newWorkbook(window, options, recorder, spillFiles)) {
+            try {
+                workbook.setCompressTempFiles(options.compressTempFiles());
+                SXSSFSheet sheet = createSheet(workbook, columns, 1, recorder);
+                createBodyRows(sheet, columns, bodyDto, options.maxRowsPerSheet(), adaptiveWindow, widthSampler,
+                        recorder, monitor);
+                if (widthSampler != null) {
+                    applyColumnWidths(workbook, widthSampler.widths());
+                }
+                monitor.check();
 
-            outputWriter.write(workbook);
+                long start = recorder.now();
+                outputWriter.write(workbook);
+                recorder.writer(start);
+            } finally {
+                recorder.tempFileBytes(spillFiles.fileBytes());
+                workbook.dispose();
+            }
         } catch (IOException e) {
             throw new ExcelGenerationException(e);
         }
     }
 
+    /**
+     * Creates the streaming workbook. Its sheets spill rows to {@code spillFiles}, the workbook template is assembled in
+     * memory so that no other temp file is created, the bytes written to the output are counted when metrics are
+     * collected, and the configured compression level is applied to the final zip stream.
+     */
+    private static SXSSFWorkbook newWorkbook(
+            int window,
+            ExportOptions options,
+            ExportRecorder recorder,
+            SpillFiles spillFiles
+    ) {
+        int compressionLevel = options.compressionLevel();
+        return new SXSSFWorkbook(window) {
+            @Override
+            protected SheetDataWriter createSheetDataWriter() throws IOException {
+                return spillFiles.newWriter(_sharedStringSource, isCompressTempFiles());
+            }
+
+            @Override
+            public void write(OutputStream stream) throws IOException {
+                writeAvoidingTempFiles(recorder.meter(stream, false));
+            }
+
+            @Override
+            protected ZipArchiveOutputStream createArchiveOutputStream(OutputStream out) {
+                ZipArchiveOutputStream zip = super.createArchiveOutputStream(out);
+                zip.setLevel(compressionLevel);
+                return zip;
+            }
+        };
+    }
+
+    /**
+     * Creates a sheet with the default column width and the header row.
+     */
+    private static <T> SXSSFSheet createSheet(
+            SXSSFWorkbook workbook,
+            Columns<T> columns,
+            int index,
+            ExportRecorder recorder
+    ) {
+        recorder.sheet();
+        SXSSFSheet sheet = workbook.createSheet(sheetName(index));
+        sheet.setDefaultColumnWidth(Default.CELL_WIDTH);
+        createHeaderRow(sheet, columns.headers());
+        return sheet;
+    }
+
+    /**
+     * Sets the sampled column widths on every sheet. SXSSF keeps column widths apart from the flushed rows, so they can
+     * be set after all rows are written.
+     */
+    private static void applyColumnWidths(SXSSFWorkbook workbook, int[] widths) {
+        for (int i = 0; i < workbook.getNumberOfSheets(); i++) {
+            Sheet sheet = workbook.getSheetAt(i);
+            for (int column = 0; column < widths.length; column++) {
+                sheet.setColumnWidth(column, widths[column] * 256);
+            }
+        }
+    }
+
     /**
      * Creates the header row in the sheet.
      */
-    private static void createHeaderRow(Sheet sheet, Set<String> headerNames) {
+    private static void createHeaderRow(Sheet sheet, List<String> headerNames) {
         Row headerRow = sheet.createRow(0);
         int i = 0;
         for (String headerName : headerNames) {
@@ -149,17 +619,46 @@ public class ExcelBuilder {
     }
 
     /**
-     * Creates body rows in the sheet using the provided data.
+     * Creates body rows, writing each DTO's typed values as it is read.
+     * <br>
+     * When a sheet reaches {@code maxRowsPerSheet} rows, a new sheet with the same header is started. Creating a row
+     * is timed as flushing, because that is where SXSSF writes rows beyond the window to the temp file. Rows picked by
+     * {@code widthSampler} are written through its measuring sink. Every row is counted by {@code monitor}, which stops
+     * the loop once the export is cancelled.
      */
-    private static void createBodyRows(Sheet sheet, List<Map<String, String>> bodyData) {
+    private static <T> void createBodyRows(
+            SXSSFSheet sheet,
+            Columns<T> columns,
+            Iterator<T> bodyDto,
+            int maxRowsPerSheet,
+            AdaptiveRowWindow adaptiveWindow,
+            ColumnWidthSampler widthSampler,
+            ExportRecorder recorder,
+            ExportMonitor monitor
+    ) {
+        SXSSFWorkbook workbook = sheet.getWorkbook();
+        PoiCellSink sink = new PoiCellSink(workbook);
+        int sheetIndex = 1;
         int rowCount = 1;
-        for (Map<String, String> rowData : bodyData) {
-            Row row = sheet.createRow(rowCount++);
-            int cellNum = 0;
-            for (String data : rowData.values()) {
-                Cell cell = row.createCell(cellNum++);
-                cell.setCellValue(data);
+        long mark = recorder.now();
+        while (bodyDto.hasNext()) {
+            T dto = bodyDto.next();
+            mark = recorder.source(mark);
+            if (rowCount == maxRowsPerSheet) {
+                sheet = createSheet(workbook, columns, ++sheetIndex, recorder);
+                if (adaptiveWindow != null) {
+                    sheet.setRandomAccessWindowSize(adaptiveWindow.window());
+                }
+                rowCount = 1;
+            }
+            sink.startRow(sheet.createRow(rowCount++));
+            mark = recorder.flush(mark);
+            columns.writeRow(dto, widthSampler != null && widthSampler.startRow() ? widthSampler.measure(sink) : sink);
+            if (adaptiveWindow != null) {
+                adaptiveWindow.afterRow(sheet, rowCount);
             }
+            mark = recorder.rowWrite(mark);
+            monitor.row();
         }
     }
-}
\ No newline at end of file
+}
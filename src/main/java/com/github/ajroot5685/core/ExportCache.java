@@ -0,0 +1,420 @@
+package com.github.ajroot5685.core;
+
+import static com.github.ajroot5685.constant.FileConstants.XLSX_EXTENSION;
+
+import com.github.ajroot5685.column.AnnotatedColumn;
+import com.github.ajroot5685.column.Column;
+import com.github.ajroot5685.column.ValueFormatter;
+import com.github.ajroot5685.column.ValueFormatters;
+import com.github.ajroot5685.exception.FileOutputException;
+import com.github.ajroot5685.output.ChannelFileOutputWriter;
+import com.github.ajroot5685.output.FileContent;
+import com.github.ajroot5685.output.OutputWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Disk cache of finished xlsx files, keyed by a caller-supplied dataset version and the columns and options of the
+ * plan.
+ * <br>
+ * On a hit, the stored file is written to the {@link OutputWriter} as {@link FileContent} and the rows are never
+ * read. On a miss, the file is generated once into the cache directory, published atomically and then written; other
+ * requests for the same key wait for that generation instead of repeating it. When the stored files exceed the size
+ * limit, the least recently used ones that are not being written out are deleted. The entity tag of a file is derived from its key, so a
+ * {@link com.github.ajroot5685.output.ServletOutputWriter} created with the request answers repeat downloads with
+ * {@code 304 Not Modified}.
+ * <br>
+ * The version must change whenever the data or the value extractors change, for example {@code "sales:2024-06-30"}.
+ * Files already in the directory are reused after a restart, in the order they were last used.
+ * <br><br>
+ * 호출자가 제공하는 데이터 버전과 계획의 컬럼 및 옵션을 키로 하는, 완성된 xlsx 파일의 디스크 캐시입니다.
+ * <br>
+ * 캐시에 있으면 저장된 파일을 {@link FileContent}로 {@link OutputWriter}에 쓰며, 행은 전혀 읽지 않습니다. 없으면 캐시 디렉터리에 파일을 한
+ * 번 생성하여 원자적으로 게시한 뒤 씁니다. 같은 키에 대한 다른 요청은 생성을 반복하지 않고 기다립니다. 저장된 파일이 크기 제한을 넘으면 가장
+ * 오래 사용되지 않은 파일부터 삭제되며, 출력 중인 파일은 삭제되지 않습니다. 파일의 엔터티 태그는 키에서 만들어지므로, 요청과 함께 생성한
+ * {@link com.github.ajroot5685.output.ServletOutputWriter}는 반복 다운로드에 {@code 304 Not Modified}로 응답합니다.
+ * <br>
+ * 버전은 데이터나 값 추출 함수가 바뀔 때마다 달라져야 합니다 (예: {@code "sales:2024-06-30"}). 디렉터리에 이미 있는 파일은 재시작 후에도
+ * 마지막으로 사용된 순서대로 재사용됩니다.
+ */
+public final class ExportCache {
+
+    private final Path directory;
+    private final long maxBytes;
+    private final LinkedHashMap<String, Long> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<String, Integer> readers = new HashMap<>();
+    private final Map<String, CompletableFuture<Path>> pending = new ConcurrentHashMap<>();
+    private long totalBytes;
+
+    private ExportCache(Builder builder) {
+        this.directory = Objects.requireNonNull(builder.directory, "directory");
+        this.maxBytes = builder.maxBytes;
+        try {
+            Files.createDirectories(directory);
+            load();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open export cache: " + directory, e);
+        }
+    }
+
+    /**
+     * Creates a new {@link Builder} initialized with the default values.
+     * <br><br>
+     * 기본값으로 초기화된 새로운 {@link Builder}를 생성합니다.
+     *
+     * @return a new builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Writes the cached file for {@code version} and the plan, generating it from {@code bodyDto} first on a miss.
+     * <br><br>
+     * {@code version}과 계획에 해당하는 캐시 파일을 씁니다. 캐시에 없으면 먼저 {@code bodyDto}로 파일을 생성합니다.
+     *
+     * @param plan    the export plan
+     *                <p>
+     *                내보내기 계획
+     * @param version the dataset version or hash
+     *                <p>
+     *                데이터 버전 또는 해시
+     * @param bodyDto the data to be written on a miss; not iterated on a hit
+     *                <p>
+     *                캐시에 없을 때 쓸 본문 데이터. 캐시에 있으면 순회하지 않습니다
+     * @param writer  the output writer to write the Excel file
+     *                <p>
+     *                Excel 파일을 출력할 {@link OutputWriter}
+     * @param <T>     the DTO type
+     * @throws FileOutputException if the file cannot be stored in the cache
+     *                             <p>
+     *                             파일을 캐시에 저장할 수 없는 경우
+     */
+    public <T> void export(ExportPlan<T> plan, String version, Iterable<T> bodyDto, OutputWriter writer) {
+        String key = key(plan, version);
+        Path file = lookup(key);
+        if (file == null) {
+            file = generate(key, plan, bodyDto);
+        }
+        try {
+            writer.write(new FileContent(file, "W/\"" + key + "\""));
+        } finally {
+            release(key);
+        }
+    }
+
+    /**
+     * Returns the total size of the cached files.
+     * <br><br>
+     * 캐시된 파일의 전체 크기를 반환합니다.
+     *
+     * @return the size in bytes
+     */
+    public synchronized long cachedBytes() {
+        return totalBytes;
+    }
+
+    /**
+     * Deletes every cached file that is not being written out at the moment.
+     * <br><br>
+     * 현재 출력 중인 파일을 제외한 모든 캐시 파일을 삭제합니다.
+     */
+    public synchronized void clear() {
+        Iterator<Map.Entry<String, Long>> iterator = entries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, Long> entry = iterator.next();
+            if (!readers.containsKey(entry.getKey())) {
+                deleteQuietly(path(entry.getKey()));
+                totalBytes -= entry.getValue();
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Returns the cached file for {@code key}, marking it as recently used and pinning it until {@link #release}, or
+     * {@code null} on a miss. The modification time of the file is updated so the order survives a restart.
+     */
+    private synchronized Path lookup(String key) {
+        if (entries.get(key) == null) {
+            return null;
+        }
+        Path file = path(key);
+        try {
+            Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+        } catch (IOException e) {
+            totalBytes -= entries.remove(key);
+            return null;
+        }
+        readers.merge(key, 1, Integer::sum);
+        return file;
+    }
+
+    /**
+     * Unpins a file returned by {@link #lookup} or {@link #generate}, deleting files over the limit that were kept
+     * only because they were in use.
+     */
+    private synchronized void release(String key) {
+        if (readers.merge(key, -1, Integer::sum) == 0) {
+            readers.remove(key);
+        }
+        evict(null);
+    }
+
+    /**
+     * Generates the file for {@code key}, or waits for the generation already running for it, and returns it pinned.
+     */
+    private <T> Path generate(String key, ExportPlan<T> plan, Iterable<T> bodyDto) {
+        CompletableFuture<Path> generation = new CompletableFuture<>();
+        CompletableFuture<Path> running = pending.putIfAbsent(key, generation);
+        if (running != null) {
+            await(running);
+            Path file = lookup(key);
+            // Evicted again before it could be pinned: generate it once more.
+            return file != null ? file : generate(key, plan, bodyDto);
+        }
+        try {
+            Path file = lookup(key);
+            if (file == null) {
+                file = path(key);
+                Iterator<T> rows = bodyDto.iterator();
+                ExcelBuilder.generate(plan, rows, new ChannelFileOutputWriter(file.toString()));
+                add(key, size(file), true);
+            }
+            generation.complete(file);
+            return file;
+        } catch (RuntimeException | Error e) {
+            generation.completeExceptionally(e);
+            throw e;
+        } finally {
+            pending.remove(key);
+        }
+    }
+
+    /**
+     * Records a new file, optionally pinned, and deletes the least recently used others until the cache fits its
+     * limit.
+     */
+    private synchronized void add(String key, long size, boolean pin) {
+        Long previous = entries.put(key, size);
+        totalBytes += size - (previous != null ? previous : 0);
+        if (pin) {
+            readers.merge(key, 1, Integer::sum);
+        }
+        evict(key);
+    }
+
+    /**
+     * Deletes the least recently used files other than {@code keep} and the pinned ones until the cache fits its
+     * limit.
+     */
+    private void evict(String keep) {
+        Iterator<Map.Entry<String, Long>> eldest = entries.entrySet().iterator();
+        while (totalBytes > maxBytes && eldest.hasNext()) {
+            Map.Entry<String, Long> entry = eldest.next();
+            if (entry.getKey().equals(keep) || readers.containsKey(entry.getKey())) {
+                continue;
+            }
+            deleteQuietly(path(entry.getKey()));
+            totalBytes -= entry.getValue();
+            eldest.remove();
+        }
+    }
+
+    /**
+     * Indexes the files left by a previous run, oldest first, and removes unfinished temp files.
+     */
+    private void load() throws IOException {
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory)) {
+            for (Path file : stream) {
+                String name = file.getFileName().toString();
+                if (name.endsWith(XLSX_EXTENSION) && !name.startsWith(".")) {
+                    files.add(file);
+                } else if (name.startsWith(".") && name.endsWith(".tmp")) {
+                    deleteQuietly(file);
+                }
+            }
+        }
+        files.sort(Comparator.comparing(ExportCache::lastModified));
+        for (Path file : files) {
+            String name = file.getFileName().toString();
+            add(name.substring(0, name.length() - XLSX_EXTENSION.length()), size(file), false);
+        }
+    }
+
+    private Path path(String key) {
+        return directory.resolve(key + XLSX_EXTENSION);
+    }
+
+    /**
+     * Hashes the version with everything in the plan that changes the bytes of the file.
+     */
+    private static String key(ExportPlan<?> plan, String version) {
+        StringBuilder source = new StringBuilder(Objects.requireNonNull(version, "version")).append('\0');
+        source.append(plan.type() != null ? plan.type().getName() : "").append('\0');
+        for (Column<?> column : plan.columns()) {
+            source.append(column.header()).append('\0')
+                    .append(column.type()).append('\0')
+                    .append(column.getClass().getName()).append('\0');
+            if (column instanceof AnnotatedColumn<?> annotated) {
+                source.append(annotated.sharedString()).append('\0')
+                        .append(formatterKey(annotated.formatter())).append('\0')
+                        .append(annotated.nullValue()).append('\0');
+            }
+        }
+        ExportOptions options = plan.options();
+        source.append(options.engine()).append('\0')
+                .append(options.maxRowsPerSheet()).append('\0')
+                .append(options.sharedStringCacheSize()).append('\0')
+                .append(options.compressionLevel()).append('\0')
+                .append(options.compressionStrategy()).append('\0')
+                .append(options.autoWidthSampleRows()).append('\0')
+                .append(options.autoWidthSampling());
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(source.toString().getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * Describes a formatter the same way in every run: the pattern of a {@link ValueFormatters#ofPattern} formatter,
+     * or the class of a {@link ValueFormatters#of} formatter.
+     */
+    private static String formatterKey(ValueFormatter<?> formatter) {
+        if (formatter == null) {
+            return "";
+        }
+        if (formatter.getClass().getEnclosingClass() == ValueFormatters.class) {
+            return formatter.toString();
+        }
+        return formatter.getClass().getName();
+    }
+
+    private static Path await(CompletableFuture<Path> generation) {
+        try {
+            return generation.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    private static long size(Path file) {
+        try {
+            return Files.size(file);
+        } catch (IOException e) {
+            throw new FileOutputException(file, e);
+        }
+    }
+
+    private static long lastModified(Path file) {
+        try {
+            return Files.readAttributes(file, BasicFileAttributes.class).lastModifiedTime().toMillis();
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ignored) {
+            // A file that cannot be deleted now is only left on disk; it is no longer served.
+        }
+    }
+
+    /**
+     * Builder for {@link ExportCache}.
+     * <br>
+     * {@link ExportCache}의 빌더입니다.
+     */
+    public static final class Builder {
+
+        private Path directory;
+        private long maxBytes = 1024L * 1024 * 1024;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the directory the files are stored in. Required; the directory is created if it does not exist.
+         * <br>
+         * The directory should be used by this cache only.
+         * <br><br>
+         * 파일을 저장할 디렉터리를 설정합니다. 필수이며, 디렉터리가 없으면 생성됩니다.
+         * <br>
+         * 디렉터리는 이 캐시만 사용해야 합니다.
+         *
+         * @param directory the cache directory
+         * @return this builder
+         */
+        public Builder directory(Path directory) {
+            this.directory = Objects.requireNonNull(directory, "directory");
+            return this;
+        }
+
+        /**
+         * Sets the total size of the cached files above which the least recently used ones are deleted. Defaults to
+         * 1 GiB.
+         * <br><br>
+         * 가장 오래 사용되지 않은 파일부터 삭제하기 시작하는 캐시 파일의 전체 크기를 설정합니다. 기본값은 1 GiB입니다.
+         *
+         * @param maxBytes the size limit in bytes, greater than {@code 0}
+         * @return this builder
+         * @throws IllegalArgumentException if {@code maxBytes} is not positive
+         */
+        public Builder maxBytes(long maxBytes) {
+            if (maxBytes <= 0) {
+                throw new IllegalArgumentException("maxBytes must be positive: " + maxBytes);
+            }
+            this.maxBytes = maxBytes;
+            return this;
+        }
+
+        /**
+         * Builds the {@link ExportCache} and indexes the files already in its directory.
+         * <br><br>
+         * {@link ExportCache}를 생성하고 디렉터리에 이미 있는 파일을 색인합니다.
+         *
+         * @return the cache
+         * @throws NullPointerException if no directory was set
+         *                              <p>
+         *                              디렉터리가 설정되지 않은 경우
+         * @throws UncheckedIOException if the directory cannot be created or read
+         *                              <p>
+         *                              디렉터리를 생성하거나 읽을 수 없는 경우
+         */
+        public ExportCache build() {
+            return new ExportCache(this);
+        }
+    }
+}
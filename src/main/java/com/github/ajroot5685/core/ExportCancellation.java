@@ -0,0 +1,159 @@
+package com.github.ajroot5685.core;
+
+import com.github.ajroot5685.constant.Default;
+import com.github.ajroot5685.exception.ExportCancelledException;
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Token that stops a running export from another thread or after a timeout, and reports its progress.
+ * <br>
+ * Pass it to {@link ExportPlan#export(Iterable, com.github.ajroot5685.output.OutputWriter, ExportCancellation)}. The
+ * export checks the token between rows, or between batches with {@link ExportOptions#parallelism()} above {@code 1},
+ * and once it is cancelled stops pulling rows, closes a closeable row source, removes its temp files and throws
+ * {@link ExportCancelledException} without writing the output. The timeout counts from the start of the export. A
+ * token belongs to one export; create a new one per request, while the plan stays shared.
+ * <br><br>
+ * 다른 스레드에서 또는 시간 제한이 지나면 실행 중인 내보내기를 중단시키고, 진행률을 알려주는 토큰입니다.
+ * <br>
+ * {@link ExportPlan#export(Iterable, com.github.ajroot5685.output.OutputWriter, ExportCancellation)}에 전달합니다. 내보내기는
+ * 행 사이에서, 또는 {@link ExportOptions#parallelism()}이 {@code 1}보다 크면 배치 사이에서 토큰을 확인하며, 취소되면 행 읽기를 멈추고
+ * 닫을 수 있는 행 소스를 닫고 임시 파일을 지운 뒤 출력을 쓰지 않고 {@link ExportCancelledException}을 던집니다. 시간 제한은 내보내기가
+ * 시작될 때부터 계산됩니다. 토큰은 하나의 내보내기에 속하므로, 계획은 공유하더라도 토큰은 요청마다 새로 생성하세요.
+ */
+public final class ExportCancellation {
+
+    private final Duration timeout;
+    private volatile long deadlineNanos;
+    private volatile boolean started;
+    private volatile boolean cancelled;
+    private ExportProgressListener progressListener;
+    private int progressInterval = Default.PROGRESS_INTERVAL;
+
+    /**
+     * Creates a token without a timeout.
+     * <br><br>
+     * 시간 제한이 없는 토큰을 생성합니다.
+     */
+    public ExportCancellation() {
+        this.timeout = null;
+    }
+
+    private ExportCancellation(Duration timeout) {
+        this.timeout = timeout;
+    }
+
+    /**
+     * Creates a token that cancels the export once {@code timeout} has passed since the export started.
+     * <br><br>
+     * 내보내기가 시작된 뒤 {@code timeout}이 지나면 내보내기를 취소하는 토큰을 생성합니다.
+     *
+     * @param timeout the time the export may take, greater than zero
+     *                <p>
+     *                내보내기에 허용할 시간 (0보다 커야 함)
+     * @return a new token
+     * <p>
+     * 새 토큰
+     * @throws IllegalArgumentException if {@code timeout} is zero or negative
+     *                                  <p>
+     *                                  {@code timeout}이 0 이하인 경우
+     */
+    public static ExportCancellation withTimeout(Duration timeout) {
+        Objects.requireNonNull(timeout, "timeout");
+        if (timeout.isZero() || timeout.isNegative()) {
+            throw new IllegalArgumentException("timeout must be positive: " + timeout);
+        }
+        return new ExportCancellation(timeout);
+    }
+
+    /**
+     * Sets the listener notified every {@value Default#PROGRESS_INTERVAL} rows. Call it before the export starts.
+     * <br><br>
+     * {@value Default#PROGRESS_INTERVAL}행마다 알림을 받을 리스너를 설정합니다. 내보내기가 시작되기 전에 호출하세요.
+     *
+     * @param listener the listener
+     *                 <p>
+     *                 진행률을 전달받을 리스너
+     * @return this token
+     */
+    public ExportCancellation onProgress(ExportProgressListener listener) {
+        return onProgress(listener, Default.PROGRESS_INTERVAL);
+    }
+
+    /**
+     * Sets the listener notified with the number of rows written so far, and the rows between two notifications.
+     * Call it before the export starts.
+     * <br><br>
+     * 지금까지 쓴 행 수를 전달받을 리스너와 알림 사이의 행 수를 설정합니다. 내보내기가 시작되기 전에 호출하세요.
+     *
+     * @param listener the listener
+     *                 <p>
+     *                 진행률을 전달받을 리스너
+     * @param interval the rows between two notifications, at least {@code 1}
+     *                 <p>
+     *                 알림 사이의 행 수 ({@code 1} 이상)
+     * @return this token
+     * @throws IllegalArgumentException if {@code interval} is less than {@code 1}
+     *                                  <p>
+     *                                  {@code interval}이 {@code 1}보다 작은 경우
+     */
+    public ExportCancellation onProgress(ExportProgressListener listener, int interval) {
+        if (interval < 1) {
+            throw new IllegalArgumentException("progress interval must be at least 1: " + interval);
+        }
+        this.progressListener = Objects.requireNonNull(listener, "listener");
+        this.progressInterval = interval;
+        return this;
+    }
+
+    /**
+     * Cancels the export. Safe to call from any thread, more than once.
+     * <br><br>
+     * 내보내기를 취소합니다. 어느 스레드에서든 여러 번 호출해도 안전합니다.
+     */
+    public void cancel() {
+        cancelled = true;
+    }
+
+    /**
+     * Returns whether the token was cancelled or its timeout has passed since the export started.
+     * <br><br>
+     * 토큰이 취소되었거나 내보내기가 시작된 뒤 시간 제한이 지났는지 반환합니다.
+     *
+     * @return {@code true} if the export must stop
+     */
+    public boolean isCancelled() {
+        return reason() != null;
+    }
+
+    /**
+     * Starts the timeout clock. Called by the export when it starts.
+     */
+    void start() {
+        if (timeout != null) {
+            deadlineNanos = System.nanoTime() + timeout.toNanos();
+            started = true;
+        }
+    }
+
+    ExportProgressListener progressListener() {
+        return progressListener;
+    }
+
+    int progressInterval() {
+        return progressInterval;
+    }
+
+    /**
+     * Returns why the export must stop, or {@code null} if it may go on.
+     */
+    String reason() {
+        if (cancelled) {
+            return "cancelled";
+        }
+        if (started && System.nanoTime() - deadlineNanos >= 0) {
+            return "timed out after " + timeout.toMillis() + " ms";
+        }
+        return null;
+    }
+}
@@ -0,0 +1,27 @@
+package com.github.ajroot5685.core;
+
+/**
+ * Engine used by {@link ExcelBuilder} to produce the xlsx file.
+ * <br>
+ * {@link ExcelBuilder}가 xlsx 파일을 만들 때 사용하는 엔진입니다.
+ */
+public enum ExportEngine {
+
+    /**
+     * Builds the workbook with POI's {@code SXSSFWorkbook}. Supports any {@link com.github.ajroot5685.output.OutputWriter}.
+     * <br>
+     * POI의 {@code SXSSFWorkbook}으로 워크북을 만듭니다. 모든 {@link com.github.ajroot5685.output.OutputWriter}를 지원합니다.
+     */
+    POI,
+
+    /**
+     * Writes the minimal SpreadsheetML parts straight into a zip stream in one pass, without POI objects or temp files.
+     * The {@link com.github.ajroot5685.output.OutputWriter} must support
+     * {@link com.github.ajroot5685.output.OutputWriter#write(com.github.ajroot5685.output.OutputContent)}.
+     * <br>
+     * POI 객체나 임시 파일 없이 최소한의 SpreadsheetML 파트를 zip 스트림에 한 번에 씁니다.
+     * {@link com.github.ajroot5685.output.OutputWriter}가
+     * {@link com.github.ajroot5685.output.OutputWriter#write(com.github.ajroot5685.output.OutputContent)}를 지원해야 합니다.
+     */
+    DIRECT
+}
@@ -0,0 +1,57 @@
+package com.github.ajroot5685.core;
+
+/**
+ * Rough upper estimate of the heap and temp disk one export holds while it runs, used by {@link ExportScheduler}.
+ * <br>
+ * The estimate follows the structures that grow with the data: the SXSSF row access window and its temp files for the
+ * POI engine, and the row batches in flight for the parallel direct engine. Each cell is costed at
+ * {@link AdaptiveRowWindow#ESTIMATED_CELL_BYTES} on the heap and {@value #TEMP_CELL_BYTES} bytes of sheet XML on disk.
+ */
+record ExportFootprint(long heapBytes, long diskBytes) {
+
+    /**
+     * Workbook, zip and encoding buffers every export holds regardless of its size.
+     */
+    private static final long BASE_HEAP_BYTES = 1 << 20;
+
+    /**
+     * Average size of one cell in SXSSF sheet XML, reference and markup included.
+     */
+    private static final int TEMP_CELL_BYTES = 48;
+
+    /**
+     * Typical ratio of sheet XML to its gzip-compressed temp file.
+     */
+    private static final int TEMP_COMPRESSION_RATIO = 8;
+
+    private static final int DEFLATE_BLOCK_BYTES = 128 * 1024;
+
+    /**
+     * Estimates the footprint of exporting {@code rows} rows with the columns and options of {@code plan}.
+     */
+    static ExportFootprint estimate(ExportPlan<?> plan, long rows) {
+        ExportOptions options = plan.options();
+        long columns = Math.max(1, plan.columns().size());
+        long rowBytes = columns * AdaptiveRowWindow.ESTIMATED_CELL_BYTES;
+        if (options.engine() == ExportEngine.DIRECT) {
+            long heap = BASE_HEAP_BYTES;
+            if (options.parallelism() > 1) {
+                long batches = options.parallelism() * 2L + 1;
+                heap += batches * Math.min(rows, options.parallelBatchRows()) * rowBytes;
+            }
+            if (options.deflateParallelism() > 1) {
+                heap += options.deflateParallelism() * 2L * DEFLATE_BLOCK_BYTES;
+            }
+            return new ExportFootprint(heap, 0);
+        }
+        long sheets = Math.max(1, (rows + options.maxRowsPerSheet() - 1) / options.maxRowsPerSheet());
+        long window = options.adaptiveWindowHeapBudget() > 0
+                ? options.adaptiveWindowHeapBudget()
+                : sheets * Math.min(rows, options.rowAccessWindowSize()) * rowBytes;
+        long disk = rows * columns * TEMP_CELL_BYTES;
+        if (options.compressTempFiles()) {
+            disk /= TEMP_COMPRESSION_RATIO;
+        }
+        return new ExportFootprint(BASE_HEAP_BYTES + window, disk);
+    }
+}
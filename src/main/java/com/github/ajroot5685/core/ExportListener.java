@@ -0,0 +1,43 @@
+package com.github.ajroot5685.core;
+
+/**
+ * Receives the {@link ExportMetrics} of every export that uses it, for example to bridge them to a metrics system.
+ * <br>
+ * Set it with {@link ExportOptions.Builder#listener(ExportListener)}. Timings are only collected when a listener is set.
+ * The listener is called on the exporting thread after the output was written or the export failed. Exceptions thrown
+ * by the listener are ignored so they cannot change the outcome of the export.
+ * <br><br>
+ * 이 리스너를 사용하는 모든 내보내기의 {@link ExportMetrics}를 전달받습니다. 예를 들어 메트릭 시스템으로 전달하는 데 사용할 수 있습니다.
+ * <br>
+ * {@link ExportOptions.Builder#listener(ExportListener)}로 설정하며, 리스너가 설정된 경우에만 시간이 측정됩니다. 리스너는 출력이 끝나거나
+ * 내보내기가 실패한 뒤 내보내기 스레드에서 호출됩니다. 리스너가 던진 예외는 내보내기 결과를 바꾸지 않도록 무시됩니다.
+ */
+public interface ExportListener {
+
+    /**
+     * Called after an export completed successfully.
+     * <br><br>
+     * 내보내기가 성공적으로 끝난 뒤 호출됩니다.
+     *
+     * @param metrics the metrics of the export
+     *                <p>
+     *                내보내기의 메트릭
+     */
+    default void onComplete(ExportMetrics metrics) {
+    }
+
+    /**
+     * Called after an export failed, with the metrics collected up to the failure.
+     * <br><br>
+     * 내보내기가 실패한 뒤 실패 시점까지 수집된 메트릭과 함께 호출됩니다.
+     *
+     * @param metrics the metrics collected before the failure
+     *                <p>
+     *                실패 전까지 수집된 메트릭
+     * @param cause   the failure
+     *                <p>
+     *                실패 원인
+     */
+    default void onFailure(ExportMetrics metrics, Throwable cause) {
+    }
+}
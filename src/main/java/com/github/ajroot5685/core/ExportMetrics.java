@@ -0,0 +1,193 @@
+package com.github.ajroot5685.core;
+
+import java.time.Duration;
+
+/**
+ * Timings and counters of a single export, reported to an {@link ExportListener}.
+ * <br>
+ * The phase timings do not overlap, except that {@link #writerTime()} contains the whole streaming export for
+ * {@link ExportEngine#DIRECT}, and that {@link #rowWriteTime()} is summed over worker threads for parallel exports.
+ * <br><br>
+ * {@link ExportListener}에 전달되는 한 번의 내보내기에 대한 시간과 카운터입니다.
+ * <br>
+ * 단계별 시간은 서로 겹치지 않습니다. 단, {@link ExportEngine#DIRECT}에서는 {@link #writerTime()}에 스트리밍 내보내기 전체가 포함되며, 병렬
+ * 내보내기의 {@link #rowWriteTime()}은 작업 스레드들의 시간을 합한 값입니다.
+ */
+public final class ExportMetrics {
+
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    private final ExportEngine engine;
+    private final long rows;
+    private final int sheets;
+    private final long totalNanos;
+    private final long sourceNanos;
+    private final long rowWriteNanos;
+    private final long flushNanos;
+    private final long writerNanos;
+    private final long bytesWritten;
+    private final long tempFileBytes;
+
+    ExportMetrics(
+            ExportEngine engine,
+            long rows,
+            int sheets,
+            long totalNanos,
+            long sourceNanos,
+            long rowWriteNanos,
+            long flushNanos,
+            long writerNanos,
+            long bytesWritten,
+            long tempFileBytes
+    ) {
+        this.engine = engine;
+        this.rows = rows;
+        this.sheets = sheets;
+        this.totalNanos = totalNanos;
+        this.sourceNanos = sourceNanos;
+        this.rowWriteNanos = rowWriteNanos;
+        this.flushNanos = flushNanos;
+        this.writerNanos = writerNanos;
+        this.bytesWritten = bytesWritten;
+        this.tempFileBytes = tempFileBytes;
+    }
+
+    /**
+     * Returns the engine that generated the file.
+     * <br><br>
+     * 파일을 생성한 엔진을 반환합니다.
+     *
+     * @return the engine
+     */
+    public ExportEngine engine() {
+        return engine;
+    }
+
+    /**
+     * Returns the number of body rows written, excluding header rows.
+     * <br><br>
+     * 헤더 행을 제외하고 쓰인 본문 행 수를 반환합니다.
+     *
+     * @return the row count
+     */
+    public long rows() {
+        return rows;
+    }
+
+    /**
+     * Returns the number of sheets created.
+     * <br><br>
+     * 생성된 시트 수를 반환합니다.
+     *
+     * @return the sheet count
+     */
+    public int sheets() {
+        return sheets;
+    }
+
+    /**
+     * Returns the wall-clock time of the whole export.
+     * <br><br>
+     * 내보내기 전체의 경과 시간을 반환합니다.
+     *
+     * @return the total time
+     */
+    public Duration totalTime() {
+        return Duration.ofNanos(totalNanos);
+    }
+
+    /**
+     * Returns the time spent reading rows from the input, including waits for pages or upstream items.
+     * <br><br>
+     * 입력에서 행을 읽는 데 걸린 시간을 반환합니다. 페이지나 업스트림 항목을 기다린 시간도 포함됩니다.
+     *
+     * @return the source time
+     */
+    public Duration sourceTime() {
+        return Duration.ofNanos(sourceNanos);
+    }
+
+    /**
+     * Returns the time spent extracting values and writing them as cells. For {@link ExportEngine#DIRECT} this includes
+     * deflating the sheet XML.
+     * <br><br>
+     * 값을 추출해 셀로 쓰는 데 걸린 시간을 반환합니다. {@link ExportEngine#DIRECT}에서는 시트 XML 압축 시간도 포함됩니다.
+     *
+     * @return the row write time
+     */
+    public Duration rowWriteTime() {
+        return Duration.ofNanos(rowWriteNanos);
+    }
+
+    /**
+     * Returns the flush time: for {@link ExportEngine#POI}, creating rows, which is where SXSSF flushes rows beyond the
+     * window to temp files; for {@link ExportEngine#DIRECT}, writing compressed bytes to the output.
+     * <br><br>
+     * 플러시 시간을 반환합니다. {@link ExportEngine#POI}에서는 SXSSF가 윈도우를 벗어난 행을 임시 파일로 내보내는 행 생성 시간이고,
+     * {@link ExportEngine#DIRECT}에서는 압축된 바이트를 출력에 쓰는 시간입니다.
+     *
+     * @return the flush time
+     */
+    public Duration flushTime() {
+        return Duration.ofNanos(flushNanos);
+    }
+
+    /**
+     * Returns the time spent inside {@link com.github.ajroot5685.output.OutputWriter} write calls.
+     * <br><br>
+     * {@link com.github.ajroot5685.output.OutputWriter}의 write 호출 안에서 걸린 시간을 반환합니다.
+     *
+     * @return the writer time
+     */
+    public Duration writerTime() {
+        return Duration.ofNanos(writerNanos);
+    }
+
+    /**
+     * Returns the number of bytes of the generated file handed to the output.
+     * <br><br>
+     * 출력으로 전달된 생성 파일의 바이트 수를 반환합니다.
+     *
+     * @return the bytes written
+     */
+    public long bytesWritten() {
+        return bytesWritten;
+    }
+
+    /**
+     * Returns the size of the temp files the POI engine spilled rows to, as stored on disk.
+     * <br><br>
+     * POI 엔진이 행을 내보낸 임시 파일의 디스크상 크기를 반환합니다.
+     *
+     * @return the temp file bytes
+     */
+    public long tempFileBytes() {
+        return tempFileBytes;
+    }
+
+    /**
+     * Returns the body rows written per second of total time.
+     * <br><br>
+     * 전체 시간 기준 초당 쓰인 본문 행 수를 반환합니다.
+     *
+     * @return the throughput in rows per second
+     */
+    public double rowsPerSecond() {
+        return totalNanos > 0 ? rows * NANOS_PER_SECOND / totalNanos : 0;
+    }
+
+    @Override
+    public String toString() {
+        return "ExportMetrics{engine=" + engine
+                + ", rows=" + rows
+                + ", sheets=" + sheets
+                + ", totalTime=" + totalTime()
+                + ", sourceTime=" + sourceTime()
+                + ", rowWriteTime=" + rowWriteTime()
+                + ", flushTime=" + flushTime()
+                + ", writerTime=" + writerTime()
+                + ", bytesWritten=" + bytesWritten
+                + ", tempFileBytes=" + tempFileBytes
+                + '}';
+    }
+}
@@ -0,0 +1,103 @@
+package com.github.ajroot5685.core;
+
+import com.github.ajroot5685.constant.Default;
+import com.github.ajroot5685.exception.ExportCancelledException;
+import com.github.ajroot5685.output.OutputWriter;
+
+/**
+ * Counts the rows of one export, reports progress and stops the export once it is cancelled.
+ * <br>
+ * The {@link ExportCancellation} and {@link OutputWriter#isAborted()} are polled every {@link #CHECK_INTERVAL} rows
+ * and after every batch, so a check costs nothing measurable per row. Used on the exporting thread only.
+ */
+final class ExportMonitor {
+
+    /**
+     * Rows between two cancellation checks.
+     */
+    static final int CHECK_INTERVAL = 64;
+
+    private final ExportCancellation cancellation;
+    private final OutputWriter writer;
+    private final ExportProgressListener progressListener;
+    private final int progressInterval;
+    private long rows;
+    private long nextCheck = CHECK_INTERVAL;
+    private long nextProgress;
+    private ExportCancelledException cancelled;
+
+    /**
+     * Starts monitoring an export, which also starts the timeout clock of {@code cancellation}. A {@code null}
+     * cancellation only watches the writer.
+     */
+    ExportMonitor(ExportCancellation cancellation, OutputWriter writer) {
+        this.cancellation = cancellation;
+        this.writer = writer;
+        this.progressListener = cancellation != null ? cancellation.progressListener() : null;
+        this.progressInterval = cancellation != null ? cancellation.progressInterval() : Default.PROGRESS_INTERVAL;
+        this.nextProgress = progressListener != null ? progressInterval : Long.MAX_VALUE;
+        if (cancellation != null) {
+            cancellation.start();
+        }
+    }
+
+    /**
+     * Counts one written row.
+     */
+    void row() {
+        if (++rows >= nextCheck) {
+            checkpoint();
+        }
+    }
+
+    /**
+     * Counts a batch of rows handed to the writer at once.
+     */
+    void rows(int count) {
+        rows += count;
+        checkpoint();
+    }
+
+    /**
+     * Throws {@link ExportCancelledException} if the token was cancelled or the writer was aborted.
+     */
+    void check() {
+        String reason = cancellation != null ? cancellation.reason() : null;
+        if (reason == null && writer.isAborted()) {
+            reason = "aborted by the output writer";
+        }
+        if (reason != null) {
+            cancelled = new ExportCancelledException(reason, rows);
+            throw cancelled;
+        }
+    }
+
+    /**
+     * Returns the cancellation this monitor threw if {@code failure} was caused by it, even when a writer wrapped it,
+     * and {@code failure} itself otherwise.
+     */
+    RuntimeException unwrap(RuntimeException failure) {
+        for (Throwable cause = failure; cancelled != null && cause != null; cause = cause.getCause()) {
+            if (cause == cancelled) {
+                return cancelled;
+            }
+        }
+        return failure;
+    }
+
+    /**
+     * Reports progress if due, then checks for cancellation, so a listener that cancels stops the export at once.
+     */
+    private void checkpoint() {
+        if (progressListener != null && rows >= nextProgress) {
+            nextProgress = rows + progressInterval;
+            try {
+                progressListener.onProgress(rows);
+            } catch (RuntimeException ignored) {
+                // Listener failures must not change the outcome of the export.
+            }
+        }
+        nextCheck = Math.min(rows + CHECK_INTERVAL, nextProgress);
+        check();
+    }
+}
@@ -0,0 +1,628 @@
+package com.github.ajroot5685.core;
+
+import com.github.ajroot5685.constant.Default;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.zip.Deflater;
+
+/**
+ * Immutable options that control how {@link ExcelBuilder} generates an Excel file.
+ * <br>
+ * Use {@link #defaults()} for the default behavior, or {@link #builder()} to customize it.
+ * <br><br>
+ * {@link ExcelBuilder}의 Excel 생성 방식을 제어하는 불변 옵션입니다.
+ * <br>
+ * 기본 동작은 {@link #defaults()}를, 변경이 필요하면 {@link #builder()}를 사용합니다.
+ */
+public final class ExportOptions {
+
+    private static final ExportOptions DEFAULTS = builder().build();
+
+    private final ExportEngine engine;
+    private final int parallelism;
+    private final Executor executor;
+    private final int parallelBatchRows;
+    private final int maxRowsPerSheet;
+    private final int rowAccessWindowSize;
+    private final boolean compressTempFiles;
+    private final Path tempDirectory;
+    private final long adaptiveWindowHeapBudget;
+    private final int sharedStringCacheSize;
+    private final int compressionLevel;
+    private final CompressionStrategy compressionStrategy;
+    private final int deflateParallelism;
+    private final int autoWidthSampleRows;
+    private final WidthSampling autoWidthSampling;
+    private final ExportListener listener;
+
+    private ExportOptions(Builder builder) {
+        this.engine = builder.engine;
+        this.parallelism = builder.parallelism;
+        this.executor = builder.executor;
+        this.parallelBatchRows = builder.parallelBatchRows;
+        this.maxRowsPerSheet = builder.maxRowsPerSheet;
+        this.rowAccessWindowSize = builder.rowAccessWindowSize;
+        this.compressTempFiles = builder.compressTempFiles;
+        this.tempDirectory = builder.tempDirectory;
+        this.adaptiveWindowHeapBudget = builder.adaptiveWindowHeapBudget;
+        this.sharedStringCacheSize = builder.sharedStringCacheSize;
+        this.compressionLevel = builder.compressionLevel;
+        this.compressionStrategy = builder.compressionStrategy;
+        this.deflateParallelism = builder.deflateParallelism;
+        this.autoWidthSampleRows = builder.autoWidthSampleRows;
+        this.autoWidthSampling = builder.autoWidthSampling;
+        this.listener = builder.listener;
+    }
+
+    /**
+     * Returns the default options.
+     * <br><br>
+     * 기본 옵션을 반환합니다.
+     *
+     * @return the default options
+     */
+    public static ExportOptions defaults() {
+        return DEFAULTS;
+    }
+
+    /**
+     * Creates a new {@link Builder} initialized with the default values.
+     * <br><br>
+     * 기본값으로 초기화된 새로운 {@link Builder}를 생성합니다.
+     *
+     * @return a new builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns the engine used to produce the xlsx file.
+     * <br><br>
+     * xlsx 파일을 만드는 엔진을 반환합니다.
+     *
+     * @return the engine
+     */
+    public ExportEngine engine() {
+        return engine;
+    }
+
+    /**
+     * Returns the number of row ranges serialized concurrently. {@code 1} means single-threaded generation.
+     * <br><br>
+     * 동시에 직렬화되는 행 구간의 수를 반환합니다. {@code 1}이면 단일 스레드로 생성합니다.
+     *
+     * @return the parallelism
+     */
+    public int parallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Returns the executor that serializes row ranges in parallel mode.
+     * <br><br>
+     * 병렬 모드에서 행 구간을 직렬화하는 실행기를 반환합니다.
+     *
+     * @return the executor
+     */
+    public Executor executor() {
+        return executor;
+    }
+
+    /**
+     * Returns the number of rows in each range serialized by one parallel task.
+     * <br><br>
+     * 병렬 작업 하나가 직렬화하는 행 구간의 행 수를 반환합니다.
+     *
+     * @return the rows per range
+     */
+    public int parallelBatchRows() {
+        return parallelBatchRows;
+    }
+
+    /**
+     * Returns the maximum number of rows in one sheet, including the header row.
+     * <br><br>
+     * 헤더 행을 포함한 시트 하나의 최대 행 수를 반환합니다.
+     *
+     * @return the maximum rows per sheet
+     */
+    public int maxRowsPerSheet() {
+        return maxRowsPerSheet;
+    }
+
+    /**
+     * Returns the number of rows the POI engine keeps in memory before flushing them to a temp file.
+     * <br><br>
+     * POI 엔진이 임시 파일로 내보내기 전까지 메모리에 유지하는 행 수를 반환합니다.
+     *
+     * @return the row access window size
+     */
+    public int rowAccessWindowSize() {
+        return rowAccessWindowSize;
+    }
+
+    /**
+     * Returns whether the POI engine gzip-compresses its temp files.
+     * <br><br>
+     * POI 엔진이 임시 파일을 gzip으로 압축하는지 여부를 반환합니다.
+     *
+     * @return {@code true} if temp files are compressed
+     */
+    public boolean compressTempFiles() {
+        return compressTempFiles;
+    }
+
+    /**
+     * Returns the directory the POI engine spills temp files to, or {@code null} for {@code java.io.tmpdir}.
+     * <br><br>
+     * POI 엔진이 임시 파일을 쓰는 디렉터리를 반환합니다. {@code null}이면 {@code java.io.tmpdir}를 사용합니다.
+     *
+     * @return the spill directory, or {@code null}
+     */
+    public Path tempDirectory() {
+        return tempDirectory;
+    }
+
+    /**
+     * Returns the heap budget in bytes for the adaptive row access window, or {@code 0} if the window is fixed.
+     * <br><br>
+     * 적응형 행 접근 윈도우의 힙 예산(바이트)을 반환합니다. 윈도우가 고정이면 {@code 0}입니다.
+     *
+     * @return the heap budget, or {@code 0}
+     */
+    public long adaptiveWindowHeapBudget() {
+        return adaptiveWindowHeapBudget;
+    }
+
+    /**
+     * Returns the number of distinct values remembered per shared string column.
+     * <br><br>
+     * 공유 문자열 컬럼마다 기억하는 서로 다른 값의 수를 반환합니다.
+     *
+     * @return the per-column cache size
+     */
+    public int sharedStringCacheSize() {
+        return sharedStringCacheSize;
+    }
+
+    /**
+     * Returns the deflate level of the xlsx file, from {@code 0} (store only) to {@code 9}, or {@code -1} for the zlib
+     * default.
+     * <br><br>
+     * xlsx 파일의 deflate 압축 레벨을 반환합니다. {@code 0}(압축 없음)부터 {@code 9}까지이며, {@code -1}은 zlib 기본값입니다.
+     *
+     * @return the compression level
+     */
+    public int compressionLevel() {
+        return compressionLevel;
+    }
+
+    /**
+     * Returns the deflate strategy used by the direct engine.
+     * <br><br>
+     * direct 엔진이 사용하는 deflate 전략을 반환합니다.
+     *
+     * @return the compression strategy
+     */
+    public CompressionStrategy compressionStrategy() {
+        return compressionStrategy;
+    }
+
+    /**
+     * Returns the number of blocks of sheet XML the direct engine deflates concurrently when rows are serialized on the
+     * calling thread.
+     * <br><br>
+     * 행을 호출 스레드에서 직렬화할 때 direct 엔진이 동시에 압축하는 시트 XML 블록 수를 반환합니다.
+     *
+     * @return the deflate parallelism
+     */
+    public int deflateParallelism() {
+        return deflateParallelism;
+    }
+
+    /**
+     * Returns the number of rows measured to size the columns, or {@code 0} if every column has the default width.
+     * <br><br>
+     * 컬럼 너비를 정하기 위해 측정하는 행 수를 반환합니다. 모든 컬럼이 기본 너비를 사용하면 {@code 0}입니다.
+     *
+     * @return the sample size, or {@code 0}
+     */
+    public int autoWidthSampleRows() {
+        return autoWidthSampleRows;
+    }
+
+    /**
+     * Returns how the rows that size the columns are chosen.
+     * <br><br>
+     * 컬럼 너비 계산에 쓸 행을 고르는 방식을 반환합니다.
+     *
+     * @return the sampling mode
+     */
+    public WidthSampling autoWidthSampling() {
+        return autoWidthSampling;
+    }
+
+    /**
+     * Returns the listener notified with the metrics of each export, or {@code null} if none is set.
+     * <br><br>
+     * 내보내기마다 측정값을 전달받는 리스너를 반환합니다. 설정되지 않았다면 {@code null}입니다.
+     *
+     * @return the listener, or {@code null}
+     */
+    public ExportListener listener() {
+        return listener;
+    }
+
+    /**
+     * Builder for {@link ExportOptions}.
+     * <br>
+     * {@link ExportOptions}의 빌더입니다.
+     */
+    public static final class Builder {
+
+        private ExportEngine engine = ExportEngine.POI;
+        private int parallelism = 1;
+        private Executor executor = ForkJoinPool.commonPool();
+        private int parallelBatchRows = 8192;
+        private int maxRowsPerSheet = Default.MAX_ROWS_PER_SHEET;
+        private int rowAccessWindowSize = Default.ROW_ACCESS_WINDOW_SIZE;
+        private boolean compressTempFiles;
+        private Path tempDirectory;
+        private long adaptiveWindowHeapBudget;
+        private int sharedStringCacheSize = Default.SHARED_STRING_CACHE_SIZE;
+        private int compressionLevel = Deflater.DEFAULT_COMPRESSION;
+        private CompressionStrategy compressionStrategy = CompressionStrategy.DEFAULT;
+        private int deflateParallelism = 1;
+        private int autoWidthSampleRows;
+        private WidthSampling autoWidthSampling = WidthSampling.FIRST_ROWS;
+        private ExportListener listener;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the engine used to produce the xlsx file. Defaults to {@link ExportEngine#POI}.
+         * <br><br>
+         * xlsx 파일을 만드는 엔진을 설정합니다. 기본값은 {@link ExportEngine#POI}입니다.
+         *
+         * @param engine the engine
+         * @return this builder
+         */
+        public Builder engine(ExportEngine engine) {
+            this.engine = Objects.requireNonNull(engine, "engine");
+            return this;
+        }
+
+        /**
+         * Sets the number of row ranges serialized and deflated concurrently. Defaults to {@code 1}.
+         * <br>
+         * Only {@link ExportEngine#DIRECT} supports parallel generation. Rows are still read from the input on the
+         * calling thread, but column extractors run on the executor, so they must be thread-safe.
+         * <br><br>
+         * 동시에 직렬화 및 압축되는 행 구간의 수를 설정합니다. 기본값은 {@code 1}입니다.
+         * <br>
+         * 병렬 생성은 {@link ExportEngine#DIRECT}에서만 지원됩니다. 입력은 호출 스레드에서 읽지만 컬럼 추출 함수는 실행기에서
+         * 실행되므로 스레드에 안전해야 합니다.
+         *
+         * @param parallelism the parallelism, at least {@code 1}
+         * @return this builder
+         * @throws IllegalArgumentException if {@code parallelism} is less than {@code 1}
+         */
+        public Builder parallelism(int parallelism) {
+            if (parallelism < 1) {
+                throw new IllegalArgumentException("parallelism must be at least 1: " + parallelism);
+            }
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        /**
+         * Sets the executor used in parallel mode. Defaults to {@link ForkJoinPool#commonPool()}.
+         * <br><br>
+         * 병렬 모드에서 사용할 실행기를 설정합니다. 기본값은 {@link ForkJoinPool#commonPool()}입니다.
+         *
+         * @param executor the executor
+         * @return this builder
+         */
+        public Builder executor(Executor executor) {
+            this.executor = Objects.requireNonNull(executor, "executor");
+            return this;
+        }
+
+        /**
+         * Sets the number of rows in each range serialized by one parallel task. Defaults to {@code 8192}.
+         * <br><br>
+         * 병렬 작업 하나가 직렬화하는 행 구간의 행 수를 설정합니다. 기본값은 {@code 8192}입니다.
+         *
+         * @param parallelBatchRows the rows per range, at least {@code 1}
+         * @return this builder
+         * @throws IllegalArgumentException if {@code parallelBatchRows} is less than {@code 1}
+         */
+        public Builder parallelBatchRows(int parallelBatchRows) {
+            if (parallelBatchRows < 1) {
+                throw new IllegalArgumentException("parallelBatchRows must be at least 1: " + parallelBatchRows);
+            }
+            this.parallelBatchRows = parallelBatchRows;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of rows in one sheet, including the header row. Defaults to Excel's limit of
+         * {@value Default#MAX_ROWS_PER_SHEET}.
+         * <br>
+         * When a sheet is full, a new sheet with the same header is started while streaming, so exports of any size
+         * finish in a single pass.
+         * <br><br>
+         * 헤더 행을 포함한 시트 하나의 최대 행 수를 설정합니다. 기본값은 Excel의 한도인 {@value Default#MAX_ROWS_PER_SHEET}입니다.
+         * <br>
+         * 시트가 가득 차면 스트리밍 중에 같은 헤더를 가진 새 시트가 시작되므로, 데이터 크기와 관계없이 한 번에 생성이 끝납니다.
+         *
+         * @param maxRowsPerSheet the maximum rows per sheet, between {@code 2} and
+         *                        {@value Default#MAX_ROWS_PER_SHEET}
+         * @return this builder
+         * @throws IllegalArgumentException if {@code maxRowsPerSheet} is out of range
+         */
+        public Builder maxRowsPerSheet(int maxRowsPerSheet) {
+            if (maxRowsPerSheet < 2 || maxRowsPerSheet > Default.MAX_ROWS_PER_SHEET) {
+                throw new IllegalArgumentException("maxRowsPerSheet must be between 2 and "
+                        + Default.MAX_ROWS_PER_SHEET + ": " + maxRowsPerSheet);
+            }
+            this.maxRowsPerSheet = maxRowsPerSheet;
+            return this;
+        }
+
+        /**
+         * Sets the number of rows the POI engine keeps in memory before flushing them to a temp file. Defaults to
+         * {@value Default#ROW_ACCESS_WINDOW_SIZE}.
+         * <br>
+         * A larger window uses more heap and less disk I/O.
+         * <br><br>
+         * POI 엔진이 임시 파일로 내보내기 전까지 메모리에 유지하는 행 수를 설정합니다. 기본값은
+         * {@value Default#ROW_ACCESS_WINDOW_SIZE}입니다.
+         * <br>
+         * 윈도우가 클수록 힙을 더 사용하고 디스크 입출력은 줄어듭니다.
+         *
+         * @param rowAccessWindowSize the window size, at least {@code 1}
+         * @return this builder
+         * @throws IllegalArgumentException if {@code rowAccessWindowSize} is less than {@code 1}
+         */
+        public Builder rowAccessWindowSize(int rowAccessWindowSize) {
+            if (rowAccessWindowSize < 1) {
+                throw new IllegalArgumentException("rowAccessWindowSize must be at least 1: " + rowAccessWindowSize);
+            }
+            this.rowAccessWindowSize = rowAccessWindowSize;
+            return this;
+        }
+
+        /**
+         * Sets whether the POI engine gzip-compresses its temp files. Defaults to {@code false}.
+         * <br><br>
+         * POI 엔진이 임시 파일을 gzip으로 압축할지 설정합니다. 기본값은 {@code false}입니다.
+         *
+         * @param compressTempFiles {@code true} to compress temp files
+         * @return this builder
+         */
+        public Builder compressTempFiles(boolean compressTempFiles) {
+            this.compressTempFiles = compressTempFiles;
+            return this;
+        }
+
+        /**
+         * Sets the directory the POI engine spills temp files to. Defaults to {@code java.io.tmpdir}.
+         * <br>
+         * The directory is created if needed. Temp files are deleted when generation ends, whether it succeeds or
+         * fails.
+         * <br><br>
+         * POI 엔진이 임시 파일을 쓸 디렉터리를 설정합니다. 기본값은 {@code java.io.tmpdir}입니다.
+         * <br>
+         * 디렉터리가 없으면 생성되며, 임시 파일은 생성 성공 여부와 관계없이 생성이 끝나면 삭제됩니다.
+         *
+         * @param tempDirectory the spill directory
+         * @return this builder
+         */
+        public Builder tempDirectory(Path tempDirectory) {
+            this.tempDirectory = Objects.requireNonNull(tempDirectory, "tempDirectory");
+            return this;
+        }
+
+        /**
+         * Enables the adaptive row access window with the given heap budget in bytes. Disabled by default.
+         * <br>
+         * The POI engine sizes the window from the budget and the column count, narrows it when free heap drops
+         * below the budget and widens it again when memory is available. This overrides
+         * {@link #rowAccessWindowSize(int)}.
+         * <br><br>
+         * 주어진 힙 예산(바이트)으로 적응형 행 접근 윈도우를 사용합니다. 기본적으로 비활성화되어 있습니다.
+         * <br>
+         * POI 엔진은 예산과 컬럼 수로 윈도우 크기를 정하고, 여유 힙이 예산보다 적어지면 윈도우를 줄이며 여유가 생기면 다시 늘립니다.
+         * {@link #rowAccessWindowSize(int)} 설정보다 우선합니다.
+         *
+         * @param heapBudget the heap budget in bytes, greater than {@code 0}
+         * @return this builder
+         * @throws IllegalArgumentException if {@code heapBudget} is not positive
+         */
+        public Builder adaptiveWindowHeapBudget(long heapBudget) {
+            if (heapBudget <= 0) {
+                throw new IllegalArgumentException("heapBudget must be positive: " + heapBudget);
+            }
+            this.adaptiveWindowHeapBudget = heapBudget;
+            return this;
+        }
+
+        /**
+         * Sets how many distinct values the direct engine remembers per shared string column. Defaults to
+         * {@value Default#SHARED_STRING_CACHE_SIZE}.
+         * <br>
+         * The least recently used value is evicted when the cache is full, and a value seen again after eviction is
+         * stored once more. Memory therefore stays bounded even for columns with many distinct values. Only columns
+         * declared as shared strings are affected.
+         * <br><br>
+         * direct 엔진이 공유 문자열 컬럼마다 기억하는 서로 다른 값의 수를 설정합니다. 기본값은
+         * {@value Default#SHARED_STRING_CACHE_SIZE}입니다.
+         * <br>
+         * 캐시가 가득 차면 가장 오래 사용되지 않은 값이 제거되고, 제거된 값이 다시 나오면 한 번 더 저장됩니다. 따라서 값의 종류가 많은
+         * 컬럼에서도 메모리 사용량이 제한됩니다. 공유 문자열로 선언된 컬럼에만 적용됩니다.
+         *
+         * @param sharedStringCacheSize the per-column cache size, at least {@code 1}
+         * @return this builder
+         * @throws IllegalArgumentException if {@code sharedStringCacheSize} is less than {@code 1}
+         */
+        public Builder sharedStringCacheSize(int sharedStringCacheSize) {
+            if (sharedStringCacheSize < 1) {
+                throw new IllegalArgumentException(
+                        "sharedStringCacheSize must be at least 1: " + sharedStringCacheSize);
+            }
+            this.sharedStringCacheSize = sharedStringCacheSize;
+            return this;
+        }
+
+        /**
+         * Sets the deflate level of the xlsx file. Defaults to {@code -1}, the zlib default level.
+         * <br>
+         * Lower levels trade file size for speed, which suits transfers inside a data center; {@code 0} stores the
+         * parts without compression. {@code 9} gives the smallest downloads at the highest CPU cost. Both engines
+         * apply the level.
+         * <br><br>
+         * xlsx 파일의 deflate 압축 레벨을 설정합니다. 기본값은 zlib 기본 레벨인 {@code -1}입니다.
+         * <br>
+         * 낮은 레벨은 파일 크기 대신 속도를 얻으므로 데이터 센터 내부 전송에 적합하며, {@code 0}은 압축 없이 저장합니다. {@code 9}는
+         * CPU를 가장 많이 쓰는 대신 다운로드 크기가 가장 작습니다. 두 엔진 모두 이 레벨을 적용합니다.
+         *
+         * @param compressionLevel the level, from {@code -1} to {@code 9}
+         * @return this builder
+         * @throws IllegalArgumentException if {@code compressionLevel} is outside {@code -1..9}
+         */
+        public Builder compressionLevel(int compressionLevel) {
+            if (compressionLevel < Deflater.DEFAULT_COMPRESSION || compressionLevel > Deflater.BEST_COMPRESSION) {
+                throw new IllegalArgumentException("compressionLevel must be between -1 and 9: " + compressionLevel);
+            }
+            this.compressionLevel = compressionLevel;
+            return this;
+        }
+
+        /**
+         * Sets the deflate strategy. Defaults to {@link CompressionStrategy#DEFAULT}.
+         * <br>
+         * Only {@link ExportEngine#DIRECT} applies the strategy; POI does not expose it.
+         * <br><br>
+         * deflate 전략을 설정합니다. 기본값은 {@link CompressionStrategy#DEFAULT}입니다.
+         * <br>
+         * {@link ExportEngine#DIRECT}에서만 적용되며, POI는 이 설정을 제공하지 않습니다.
+         *
+         * @param compressionStrategy the strategy
+         * @return this builder
+         */
+        public Builder compressionStrategy(CompressionStrategy compressionStrategy) {
+            this.compressionStrategy = Objects.requireNonNull(compressionStrategy, "compressionStrategy");
+            return this;
+        }
+
+        /**
+         * Sets the number of sheet XML blocks deflated concurrently on the executor. Defaults to {@code 1}.
+         * <br>
+         * Only {@link ExportEngine#DIRECT} with a {@link #parallelism(int)} of {@code 1} uses this: rows and column
+         * extractors stay on the calling thread, and only compression is spread across cores. Each block is primed
+         * with the end of the previous one, so files are hardly larger than with a single deflater. With a higher
+         * {@link #parallelism(int)}, compression is already parallel and this setting is ignored.
+         * <br><br>
+         * 실행기에서 동시에 압축할 시트 XML 블록 수를 설정합니다. 기본값은 {@code 1}입니다.
+         * <br>
+         * {@link #parallelism(int)}가 {@code 1}인 {@link ExportEngine#DIRECT}에서만 사용됩니다. 행과 컬럼 추출 함수는 호출 스레드에
+         * 그대로 남고 압축만 여러 코어로 나뉩니다. 각 블록은 앞 블록의 끝부분을 사전으로 사용하므로 파일 크기는 단일 압축과 거의 같습니다.
+         * {@link #parallelism(int)}가 더 크면 압축이 이미 병렬이므로 이 설정은 무시됩니다.
+         *
+         * @param deflateParallelism the number of concurrent blocks, at least {@code 1}
+         * @return this builder
+         * @throws IllegalArgumentException if {@code deflateParallelism} is less than {@code 1}
+         */
+        public Builder deflateParallelism(int deflateParallelism) {
+            if (deflateParallelism < 1) {
+                throw new IllegalArgumentException("deflateParallelism must be at least 1: " + deflateParallelism);
+            }
+            this.deflateParallelism = deflateParallelism;
+            return this;
+        }
+
+        /**
+         * Enables automatic column widths computed from a sample of {@code sampleRows} rows. Disabled by default, in
+         * which case every column is {@value Default#CELL_WIDTH} characters wide.
+         * <br>
+         * Widths are estimated while rows are streamed, from the values the columns write and the header names:
+         * characters are counted, with wide East Asian characters counted twice, so no font metrics or second pass
+         * are needed. Widths are capped at {@value Default#MAX_AUTO_WIDTH} characters. Unlike POI's
+         * {@code autoSizeColumn}, the cost does not grow with the size of the sheet. Every sheet gets the same widths.
+         * <br><br>
+         * {@code sampleRows}개 행의 표본으로 계산한 자동 컬럼 너비를 사용합니다. 기본적으로 비활성화되어 있으며, 이 경우 모든 컬럼의 너비는
+         * {@value Default#CELL_WIDTH}자입니다.
+         * <br>
+         * 너비는 행을 스트리밍하는 동안 컬럼이 쓰는 값과 헤더 이름으로 추정합니다. 글자 수를 세되 동아시아 전각 문자는 두 글자로 세므로, 폰트
+         * 정보나 두 번째 순회가 필요 없습니다. 너비는 최대 {@value Default#MAX_AUTO_WIDTH}자로 제한됩니다. POI의
+         * {@code autoSizeColumn}과 달리 시트 크기에 따라 비용이 늘지 않습니다. 모든 시트에 같은 너비가 적용됩니다.
+         *
+         * @param sampleRows the number of rows to measure, at least {@code 1}
+         * @return this builder
+         * @throws IllegalArgumentException if {@code sampleRows} is less than {@code 1}
+         */
+        public Builder autoWidthSampleRows(int sampleRows) {
+            if (sampleRows < 1) {
+                throw new IllegalArgumentException("sampleRows must be at least 1: " + sampleRows);
+            }
+            this.autoWidthSampleRows = sampleRows;
+            return this;
+        }
+
+        /**
+         * Sets how the rows that size the columns are chosen. Defaults to {@link WidthSampling#FIRST_ROWS}.
+         * <br>
+         * {@link ExportEngine#DIRECT} writes the column widths before the rows, so it always measures the first rows:
+         * they are serialized ahead into memory and written once the widths are known.
+         * <br><br>
+         * 컬럼 너비 계산에 쓸 행을 고르는 방식을 설정합니다. 기본값은 {@link WidthSampling#FIRST_ROWS}입니다.
+         * <br>
+         * {@link ExportEngine#DIRECT}는 컬럼 너비를 행보다 먼저 쓰므로 항상 처음 행을 측정합니다. 이 행들은 미리 메모리에 직렬화되었다가
+         * 너비가 정해진 뒤에 쓰입니다.
+         *
+         * @param sampling the sampling mode
+         * @return this builder
+         */
+        public Builder autoWidthSampling(WidthSampling sampling) {
+            this.autoWidthSampling = Objects.requireNonNull(sampling, "sampling");
+            return this;
+        }
+
+        /**
+         * Sets the listener notified with the {@link ExportMetrics} when an export completes or fails.
+         * <br>
+         * Phase timings are measured only while a listener is set. The listener is called on the thread that ran the
+         * export, and exceptions it throws are ignored.
+         * <br><br>
+         * 내보내기가 완료되거나 실패했을 때 {@link ExportMetrics}를 전달받을 리스너를 설정합니다.
+         * <br>
+         * 단계별 시간은 리스너가 설정된 경우에만 측정됩니다. 리스너는 내보내기를 실행한 스레드에서 호출되며, 리스너가 던진 예외는
+         * 무시됩니다.
+         *
+         * @param listener the listener
+         *                 <p>
+         *                 측정값을 전달받을 리스너
+         * @return this builder
+         */
+        public Builder listener(ExportListener listener) {
+            this.listener = Objects.requireNonNull(listener, "listener");
+            return this;
+        }
+
+        /**
+         * Builds the immutable {@link ExportOptions}.
+         * <br><br>
+         * 불변 {@link ExportOptions}를 생성합니다.
+         *
+         * @return the options
+         */
+        public ExportOptions build() {
+            return new ExportOptions(this);
+        }
+    }
+}
@@ -0,0 +1,314 @@
+package com.github.ajroot5685.core;
+
+import com.github.ajroot5685.column.Columns;
+import com.github.ajroot5685.output.OutputWriter;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Immutable, compiled description of an export: its columns, options and the precomputed parts of every sheet.
+ * <br>
+ * Build a plan once, for example as a static field, and share it between threads. Each export then only writes rows,
+ * without resolving columns or serializing headers again.
+ * <br><br>
+ * 컬럼, 옵션과 모든 시트에 공통으로 쓰이는 미리 계산된 부분을 담은 불변의 컴파일된 내보내기 계획입니다.
+ * <br>
+ * 계획을 한 번만 만들어 (예: static 필드) 여러 스레드에서 공유하면, 매 내보내기에서는 컬럼 해석이나 헤더 직렬화 없이 행만 씁니다.
+ *
+ * @param <T> the DTO type
+ */
+public final class ExportPlan<T> {
+
+    private static final ClassValue<ExportPlan<?>> DEFAULT_PLANS = new ClassValue<>() {
+        @Override
+        protected ExportPlan<?> computeValue(Class<?> type) {
+            return new ExportPlan<>(type, ExcelAutoFieldExtractor.extractColumns(type), ExportOptions.defaults());
+        }
+    };
+
+    private final Class<?> type;
+    private final Columns<T> columns;
+    private final ExportOptions options;
+    private final byte[][] columnRefs;
+    private final byte[] sheetStart;
+
+    private ExportPlan(Class<?> type, Columns<T> columns, ExportOptions options) {
+        this.type = type;
+        this.columns = Objects.requireNonNull(columns, "columns");
+        this.options = Objects.requireNonNull(options, "options");
+        this.columnRefs = SheetXmlSerializer.columnRefs(columns.size());
+        this.sheetStart = SheetXmlSerializer.sheetStart(columns, columnRefs);
+    }
+
+    /**
+     * Returns the plan for the {@link com.github.ajroot5685.dto.XLSXColumn} fields of the given class with default
+     * options.
+     * <br>
+     * The plan is built once per class and cached.
+     * <br><br>
+     * 주어진 클래스의 {@link com.github.ajroot5685.dto.XLSXColumn} 필드와 기본 옵션으로 만든 계획을 반환합니다.
+     * <br>
+     * 계획은 클래스당 한 번만 생성되어 캐시됩니다.
+     *
+     * @param clazz the DTO class with annotated fields
+     *              <p>
+     *              애노테이션이 붙은 DTO 클래스
+     * @param <T>   the DTO type
+     * @return the plan
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> ExportPlan<T> of(Class<T> clazz) {
+        return (ExportPlan<T>) DEFAULT_PLANS.get(clazz);
+    }
+
+    /**
+     * Creates a plan from the {@link com.github.ajroot5685.dto.XLSXColumn} fields of the given class.
+     * <br><br>
+     * 주어진 클래스의 {@link com.github.ajroot5685.dto.XLSXColumn} 필드로 계획을 생성합니다.
+     *
+     * @param clazz   the DTO class with annotated fields
+     *                <p>
+     *                애노테이션이 붙은 DTO 클래스
+     * @param options the generation options
+     *                <p>
+     *                생성 옵션
+     * @param <T>     the DTO type
+     * @return the plan
+     */
+    public static <T> ExportPlan<T> of(Class<T> clazz, ExportOptions options) {
+        return new ExportPlan<>(clazz, ExcelAutoFieldExtractor.extractColumns(clazz), options);
+    }
+
+    /**
+     * Creates a plan of string columns from a mapping of header names to value extractor functions with default
+     * options.
+     * <br><br>
+     * 헤더 이름과 값 추출 함수의 매핑과 기본 옵션으로 문자열 컬럼 계획을 생성합니다.
+     *
+     * @param headersMap a mapping of header names to value extractor functions
+     *                   <p>
+     *                   헤더 이름과 DTO에서 값을 추출하는 함수의 매핑
+     * @param <T>        the DTO type
+     * @return the plan
+     */
+    public static <T> ExportPlan<T> of(LinkedHashMap<String, Function<T, String>> headersMap) {
+        return of(headersMap, ExportOptions.defaults());
+    }
+
+    /**
+     * Creates a plan of string columns from a mapping of header names to value extractor functions.
+     * <br><br>
+     * 헤더 이름과 값 추출 함수의 매핑으로 문자열 컬럼 계획을 생성합니다.
+     *
+     * @param headersMap a mapping of header names to value extractor functions
+     *                   <p>
+     *                   헤더 이름과 DTO에서 값을 추출하는 함수의 매핑
+     * @param options    the generation options
+     *                   <p>
+     *                   생성 옵션
+     * @param <T>        the DTO type
+     * @return the plan
+     */
+    public static <T> ExportPlan<T> of(LinkedHashMap<String, Function<T, String>> headersMap, ExportOptions options) {
+        return new ExportPlan<>(null, Columns.fromMapping(headersMap), options);
+    }
+
+    /**
+     * Creates a plan from typed columns with default options.
+     * <br><br>
+     * 타입이 있는 컬럼 목록과 기본 옵션으로 계획을 생성합니다.
+     *
+     * @param columns the columns in order
+     *                <p>
+     *                순서대로 정렬된 컬럼 목록
+     * @param <T>     the DTO type
+     * @return the plan
+     */
+    public static <T> ExportPlan<T> of(Columns<T> columns) {
+        return of(columns, ExportOptions.defaults());
+    }
+
+    /**
+     * Creates a plan from typed columns.
+     * <br><br>
+     * 타입이 있는 컬럼 목록으로 계획을 생성합니다.
+     *
+     * @param columns the columns in order
+     *                <p>
+     *                순서대로 정렬된 컬럼 목록
+     * @param options the generation options
+     *                <p>
+     *                생성 옵션
+     * @param <T>     the DTO type
+     * @return the plan
+     */
+    public static <T> ExportPlan<T> of(Columns<T> columns, ExportOptions options) {
+        return new ExportPlan<>(null, columns, options);
+    }
+
+    /**
+     * Returns the columns of the plan.
+     * <br><br>
+     * 계획의 컬럼 목록을 반환합니다.
+     *
+     * @return the columns
+     */
+    public Columns<T> columns() {
+        return columns;
+    }
+
+    /**
+     * Returns the generation options of the plan.
+     * <br><br>
+     * 계획의 생성 옵션을 반환합니다.
+     *
+     * @return the options
+     */
+    public ExportOptions options() {
+        return options;
+    }
+
+    /**
+     * Writes an Excel file with the rows of the given {@link Iterable}.
+     * <br><br>
+     * 주어진 {@link Iterable}의 행으로 Excel 파일을 씁니다.
+     *
+     * @param bodyDto the data to be written to the Excel file
+     *                <p>
+     *                Excel 파일에 쓸 본문 데이터
+     * @param writer  the output writer to write the Excel file
+     *                <p>
+     *                Excel 파일을 출력할 {@link OutputWriter}
+     */
+    public void export(Iterable<T> bodyDto, OutputWriter writer) {
+        ExcelBuilder.generate(this, bodyDto.iterator(), writer);
+    }
+
+    /**
+     * Writes an Excel file with the rows of the given {@link Iterable}, stopped by {@code cancellation}. The
+     * timeout of the token counts from this call.
+     * <br><br>
+     * 주어진 {@link Iterable}의 행으로 Excel 파일을 쓰며, {@code cancellation}으로 중단할 수 있습니다. 토큰의 시간 제한은
+     * 이 호출부터 계산됩니다.
+     *
+     * @param bodyDto      the data to be written to the Excel file
+     *                     <p>
+     *                     Excel 파일에 쓸 본문 데이터
+     * @param writer       the output writer to write the Excel file
+     *                     <p>
+     *                     Excel 파일을 출력할 {@link OutputWriter}
+     * @param cancellation the token of this export
+     *                     <p>
+     *                     이 내보내기의 취소 토큰
+     * @throws com.github.ajroot5685.exception.ExportCancelledException if the token is cancelled or times out
+     *                                                                  <p>
+     *                                                                  토큰이 취소되었거나 시간 제한이 지난 경우
+     */
+    public void export(Iterable<T> bodyDto, OutputWriter writer, ExportCancellation cancellation) {
+        ExcelBuilder.generate(this, bodyDto.iterator(), writer, Objects.requireNonNull(cancellation, "cancellation"));
+    }
+
+    /**
+     * Writes an Excel file with the rows of the given {@link Iterator}. The iterator is consumed exactly once.
+     * <br><br>
+     * 주어진 {@link Iterator}의 행으로 Excel 파일을 씁니다. 이터레이터는 한 번만 소비됩니다.
+     *
+     * @param bodyDto the data to be written to the Excel file
+     *                <p>
+     *                Excel 파일에 쓸 본문 데이터
+     * @param writer  the output writer to write the Excel file
+     *                <p>
+     *                Excel 파일을 출력할 {@link OutputWriter}
+     */
+    public void export(Iterator<T> bodyDto, OutputWriter writer) {
+        ExcelBuilder.generate(this, bodyDto, writer);
+    }
+
+    /**
+     * Writes an Excel file with the rows of the given {@link Iterator}, stopped by {@code cancellation}. The iterator is consumed exactly once. The
+     * timeout of the token counts from this call.
+     * <br><br>
+     * 주어진 {@link Iterator}의 행으로 Excel 파일을 쓰며, {@code cancellation}으로 중단할 수 있습니다. 이터레이터는 한 번만 소비됩니다. 토큰의 시간 제한은
+     * 이 호출부터 계산됩니다.
+     *
+     * @param bodyDto      the data to be written to the Excel file
+     *                     <p>
+     *                     Excel 파일에 쓸 본문 데이터
+     * @param writer       the output writer to write the Excel file
+     *                     <p>
+     *                     Excel 파일을 출력할 {@link OutputWriter}
+     * @param cancellation the token of this export
+     *                     <p>
+     *                     이 내보내기의 취소 토큰
+     * @throws com.github.ajroot5685.exception.ExportCancelledException if the token is cancelled or times out
+     *                                                                  <p>
+     *                                                                  토큰이 취소되었거나 시간 제한이 지난 경우
+     */
+    public void export(Iterator<T> bodyDto, OutputWriter writer, ExportCancellation cancellation) {
+        ExcelBuilder.generate(this, bodyDto, writer, Objects.requireNonNull(cancellation, "cancellation"));
+    }
+
+    /**
+     * Writes an Excel file with the rows of the given {@link Stream}. The stream is not closed.
+     * <br><br>
+     * 주어진 {@link Stream}의 행으로 Excel 파일을 씁니다. 스트림은 닫지 않습니다.
+     *
+     * @param bodyDto the data to be written to the Excel file
+     *                <p>
+     *                Excel 파일에 쓸 본문 데이터
+     * @param writer  the output writer to write the Excel file
+     *                <p>
+     *                Excel 파일을 출력할 {@link OutputWriter}
+     */
+    public void export(Stream<T> bodyDto, OutputWriter writer) {
+        ExcelBuilder.generate(this, bodyDto.iterator(), writer);
+    }
+
+    /**
+     * Writes an Excel file with the rows of the given {@link Stream}, stopped by {@code cancellation}. The stream is not closed. The
+     * timeout of the token counts from this call.
+     * <br><br>
+     * 주어진 {@link Stream}의 행으로 Excel 파일을 쓰며, {@code cancellation}으로 중단할 수 있습니다. 스트림은 닫지 않습니다. 토큰의 시간 제한은
+     * 이 호출부터 계산됩니다.
+     *
+     * @param bodyDto      the data to be written to the Excel file
+     *                     <p>
+     *                     Excel 파일에 쓸 본문 데이터
+     * @param writer       the output writer to write the Excel file
+     *                     <p>
+     *                     Excel 파일을 출력할 {@link OutputWriter}
+     * @param cancellation the token of this export
+     *                     <p>
+     *                     이 내보내기의 취소 토큰
+     * @throws com.github.ajroot5685.exception.ExportCancelledException if the token is cancelled or times out
+     *                                                                  <p>
+     *                                                                  토큰이 취소되었거나 시간 제한이 지난 경우
+     */
+    public void export(Stream<T> bodyDto, OutputWriter writer, ExportCancellation cancellation) {
+        ExcelBuilder.generate(this, bodyDto.iterator(), writer, Objects.requireNonNull(cancellation, "cancellation"));
+    }
+
+    /**
+     * The annotated DTO class the columns were extracted from, or {@code null} for columns built by hand.
+     */
+    Class<?> type() {
+        return type;
+    }
+
+    /**
+     * Letter names of the columns, shared by every serializer of the direct engine.
+     */
+    byte[][] columnRefs() {
+        return columnRefs;
+    }
+
+    /**
+     * Worksheet XML up to and including the header row, written at the start of every sheet by the direct engine.
+     */
+    byte[] sheetStart() {
+        return sheetStart;
+    }
+}
@@ -0,0 +1,29 @@
+package com.github.ajroot5685.core;
+
+/**
+ * Receives the number of rows an export has written so far, for example to update a progress bar.
+ * <br>
+ * Set it with {@link ExportCancellation#onProgress(ExportProgressListener, int)}. It is called on the exporting thread
+ * every interval rows, or once per batch when batches are larger. Exceptions thrown by the listener are ignored so
+ * they cannot change the outcome of the export; cancel the {@link ExportCancellation} to stop it.
+ * <br><br>
+ * 내보내기가 지금까지 쓴 행 수를 전달받습니다. 예를 들어 진행률 표시를 갱신하는 데 사용할 수 있습니다.
+ * <br>
+ * {@link ExportCancellation#onProgress(ExportProgressListener, int)}로 설정하며, 내보내기 스레드에서 지정한 행 수마다, 배치가 더
+ * 크면 배치마다 한 번 호출됩니다. 리스너가 던진 예외는 내보내기 결과를 바꾸지 않도록 무시되므로, 내보내기를 멈추려면
+ * {@link ExportCancellation}을 취소하세요.
+ */
+@FunctionalInterface
+public interface ExportProgressListener {
+
+    /**
+     * Called after more rows were written.
+     * <br><br>
+     * 행이 더 쓰인 뒤 호출됩니다.
+     *
+     * @param rows the number of body rows written so far
+     *             <p>
+     *             지금까지 쓴 본문 행 수
+     */
+    void onProgress(long rows);
+}
@@ -0,0 +1,213 @@
+package com.github.ajroot5685.core;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects the {@link ExportMetrics} of one export and reports them to its {@link ExportListener}.
+ * <br>
+ * Without a listener the shared {@link #DISABLED} recorder is used and every method returns at once, so exports that are
+ * not observed pay no timing cost. Phase methods take the timestamp returned by the previous call and return the
+ * current one, so consecutive phases need a single clock read each. Time spent in the metered output stream during a
+ * phase is attributed to flushing rather than to that phase.
+ */
+final class ExportRecorder {
+
+    private static final ExportRecorder DISABLED = new ExportRecorder(null, null);
+
+    private final ExportListener listener;
+    private final ExportEngine engine;
+    private final boolean enabled;
+    private final long startNanos;
+    private final LongAdder rowWriteNanos = new LongAdder();
+    private long rows;
+    private int sheets;
+    private long sourceNanos;
+    private long flushNanos;
+    private long writerNanos;
+    private long bytesWritten;
+    private long tempFileBytes;
+
+    /**
+     * Output time measured inside the current phase, subtracted from it when the phase ends.
+     */
+    private long nestedFlushNanos;
+
+    private ExportRecorder(ExportListener listener, ExportEngine engine) {
+        this.listener = listener;
+        this.engine = engine;
+        this.enabled = listener != null;
+        this.startNanos = enabled ? System.nanoTime() : 0;
+    }
+
+    static ExportRecorder start(ExportOptions options) {
+        return options.listener() != null ? new ExportRecorder(options.listener(), options.engine()) : DISABLED;
+    }
+
+    boolean enabled() {
+        return enabled;
+    }
+
+    /**
+     * Returns the current timestamp and starts a new phase.
+     */
+    long now() {
+        if (!enabled) {
+            return 0;
+        }
+        nestedFlushNanos = 0;
+        return System.nanoTime();
+    }
+
+    long source(long since) {
+        if (!enabled) {
+            return 0;
+        }
+        long now = System.nanoTime();
+        sourceNanos += phaseNanos(since, now);
+        return now;
+    }
+
+    long rowWrite(long since) {
+        if (!enabled) {
+            return 0;
+        }
+        long now = System.nanoTime();
+        rowWriteNanos.add(phaseNanos(since, now));
+        rows++;
+        return now;
+    }
+
+    long flush(long since) {
+        if (!enabled) {
+            return 0;
+        }
+        long now = System.nanoTime();
+        flushNanos += now - since;
+        return now;
+    }
+
+    /**
+     * Returns the current timestamp without starting a phase. Safe to call from worker threads.
+     */
+    long clock() {
+        return enabled ? System.nanoTime() : 0;
+    }
+
+    /**
+     * Adds row serialization time measured on a worker thread since {@code since}, taken from {@link #clock()}.
+     */
+    void rowWriteOnWorker(long since) {
+        if (enabled) {
+            rowWriteNanos.add(System.nanoTime() - since);
+        }
+    }
+
+    /**
+     * Counts rows handed to worker threads as a batch.
+     */
+    void addRows(int count) {
+        if (enabled) {
+            rows += count;
+        }
+    }
+
+    void writer(long since) {
+        if (enabled) {
+            writerNanos += System.nanoTime() - since;
+        }
+    }
+
+    void sheet() {
+        if (enabled) {
+            sheets++;
+        }
+    }
+
+    void tempFileBytes(long bytes) {
+        if (enabled) {
+            tempFileBytes += bytes;
+        }
+    }
+
+    /**
+     * Wraps {@code out} so that written bytes are counted and, if {@code timed}, write time counts as flushing.
+     */
+    OutputStream meter(OutputStream out, boolean timed) {
+        return enabled ? new MeteredOutputStream(out, timed) : out;
+    }
+
+    void complete() {
+        if (enabled) {
+            try {
+                listener.onComplete(snapshot());
+            } catch (RuntimeException ignored) {
+                // Listener failures must not change the outcome of the export.
+            }
+        }
+    }
+
+    void fail(Throwable cause) {
+        if (enabled) {
+            try {
+                listener.onFailure(snapshot(), cause);
+            } catch (RuntimeException ignored) {
+                // Listener failures must not change the outcome of the export.
+            }
+        }
+    }
+
+    private long phaseNanos(long since, long now) {
+        long nanos = now - since - nestedFlushNanos;
+        nestedFlushNanos = 0;
+        return Math.max(0, nanos);
+    }
+
+    private ExportMetrics snapshot() {
+        return new ExportMetrics(engine, rows, sheets, System.nanoTime() - startNanos, sourceNanos,
+                rowWriteNanos.sum(), flushNanos, writerNanos, bytesWritten, tempFileBytes);
+    }
+
+    /**
+     * Counts the bytes of the generated file and optionally times their output.
+     */
+    private final class MeteredOutputStream extends FilterOutputStream {
+
+        private final boolean timed;
+
+        private MeteredOutputStream(OutputStream out, boolean timed) {
+            super(out);
+            this.timed = timed;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            long start = timed ? System.nanoTime() : 0;
+            out.write(b, off, len);
+            bytesWritten += len;
+            if (timed) {
+                long nanos = System.nanoTime() - start;
+                flushNanos += nanos;
+                nestedFlushNanos += nanos;
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            long start = timed ? System.nanoTime() : 0;
+            out.flush();
+            if (timed) {
+                long nanos = System.nanoTime() - start;
+                flushNanos += nanos;
+                nestedFlushNanos += nanos;
+            }
+        }
+    }
+}
@@ -0,0 +1,450 @@
+package com.github.ajroot5685.core;
+
+import com.github.ajroot5685.exception.ExportRejectedException;
+import com.github.ajroot5685.output.OutputWriter;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Admission control for exports: limits how many run at once and how much heap and temp disk they may hold together.
+ * <br>
+ * Before an export starts, its heap and temp disk footprint is estimated from the expected row count, the column
+ * count and the {@link ExportOptions} of its plan. It runs on the calling thread as soon as a slot is free and the
+ * estimate fits in the remaining budgets; otherwise it waits in a bounded first-in, first-out queue. An export is
+ * rejected with {@link ExportRejectedException} without running when it alone exceeds a budget, when the queue is
+ * full, or when it waited longer than the queue timeout. One scheduler is meant to be shared by the whole application,
+ * so that a burst of downloads cannot exhaust the node.
+ * <br><br>
+ * 내보내기의 동시 실행 수와, 함께 사용할 수 있는 힙 및 임시 디스크 용량을 제한하는 입장 제어입니다.
+ * <br>
+ * 내보내기를 시작하기 전에 예상 행 수, 컬럼 수, 계획의 {@link ExportOptions}로 힙과 임시 디스크 사용량을 추정합니다. 실행 슬롯이 비어 있고
+ * 추정치가 남은 예산 안에 들어가면 호출 스레드에서 바로 실행되며, 그렇지 않으면 크기가 제한된 선입선출 대기열에서 기다립니다. 단독으로도
+ * 예산을 넘거나, 대기열이 가득 찼거나, 대기 시간 제한을 넘긴 내보내기는 실행되지 않고 {@link ExportRejectedException}으로 거부됩니다.
+ * 스케줄러 하나를 애플리케이션 전체에서 공유해야 내보내기 요청이 몰려도 노드 전체가 멈추지 않습니다.
+ */
+public final class ExportScheduler {
+
+    private final int maxConcurrentExports;
+    private final int maxQueuedExports;
+    private final long heapBudget;
+    private final long diskBudget;
+    private final Duration queueTimeout;
+    private final long defaultExpectedRows;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition released = lock.newCondition();
+    private final Deque<Thread> queue = new ArrayDeque<>();
+    private int activeExports;
+    private long heapInUse;
+    private long diskInUse;
+
+    private ExportScheduler(Builder builder) {
+        this.maxConcurrentExports = builder.maxConcurrentExports;
+        this.maxQueuedExports = builder.maxQueuedExports;
+        this.heapBudget = builder.heapBudget;
+        this.diskBudget = builder.diskBudget;
+        this.queueTimeout = builder.queueTimeout;
+        this.defaultExpectedRows = builder.defaultExpectedRows;
+    }
+
+    /**
+     * Creates a new {@link Builder} initialized with the default values.
+     * <br><br>
+     * 기본값으로 초기화된 새로운 {@link Builder}를 생성합니다.
+     *
+     * @return a new builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Writes an Excel file with the rows of the given {@link Iterable} once the export is admitted.
+     * <br>
+     * The size of a {@link Collection} is used as the expected row count; other iterables are assumed to have
+     * {@link Builder#defaultExpectedRows(long)} rows.
+     * <br><br>
+     * 내보내기가 허용되면 주어진 {@link Iterable}의 행으로 Excel 파일을 씁니다.
+     * <br>
+     * {@link Collection}은 크기를 예상 행 수로 사용하며, 그 외의 {@link Iterable}은 {@link Builder#defaultExpectedRows(long)}개의
+     * 행이 있다고 가정합니다.
+     *
+     * @param plan    the export plan
+     *                <p>
+     *                내보내기 계획
+     * @param bodyDto the data to be written to the Excel file
+     *                <p>
+     *                Excel 파일에 쓸 본문 데이터
+     * @param writer  the output writer to write the Excel file
+     *                <p>
+     *                Excel 파일을 출력할 {@link OutputWriter}
+     * @param <T>     the DTO type
+     * @throws ExportRejectedException if the export was not admitted
+     *                                 <p>
+     *                                 내보내기가 허용되지 않은 경우
+     */
+    public <T> void export(ExportPlan<T> plan, Iterable<T> bodyDto, OutputWriter writer) {
+        long expectedRows = bodyDto instanceof Collection<?> collection ? collection.size() : defaultExpectedRows;
+        export(plan, bodyDto.iterator(), writer, expectedRows);
+    }
+
+    /**
+     * Writes an Excel file with the rows of the given {@link Iterator} once the export is admitted.
+     * <br>
+     * An iterator that is also {@link AutoCloseable} is closed even if the export is rejected.
+     * <br><br>
+     * 내보내기가 허용되면 주어진 {@link Iterator}의 행으로 Excel 파일을 씁니다.
+     * <br>
+     * {@link AutoCloseable}이기도 한 이터레이터는 내보내기가 거부되어도 닫힙니다.
+     *
+     * @param plan         the export plan
+     *                     <p>
+     *                     내보내기 계획
+     * @param bodyDto      the data to be written to the Excel file
+     *                     <p>
+     *                     Excel 파일에 쓸 본문 데이터
+     * @param writer       the output writer to write the Excel file
+     *                     <p>
+     *                     Excel 파일을 출력할 {@link OutputWriter}
+     * @param expectedRows the expected number of rows, used to estimate the footprint
+     *                     <p>
+     *                     사용량 추정에 쓰는 예상 행 수
+     * @param <T>          the DTO type
+     * @throws ExportRejectedException if the export was not admitted
+     *                                 <p>
+     *                                 내보내기가 허용되지 않은 경우
+     */
+    public <T> void export(ExportPlan<T> plan, Iterator<T> bodyDto, OutputWriter writer, long expectedRows) {
+        run(plan, bodyDto, writer, expectedRows, null);
+    }
+
+    /**
+     * Writes an Excel file with the rows of the given {@link Iterable} once the export is admitted, stopped by
+     * {@code cancellation}. The timeout of the token counts from the admission, not from this call.
+     * <br><br>
+     * 내보내기가 허용되면 주어진 {@link Iterable}의 행으로 Excel 파일을 쓰며, {@code cancellation}으로 중단할 수 있습니다. 토큰의 시간
+     * 제한은 이 호출이 아니라 허용된 시점부터 계산됩니다.
+     *
+     * @param plan         the export plan
+     *                     <p>
+     *                     내보내기 계획
+     * @param bodyDto      the data to be written to the Excel file
+     *                     <p>
+     *                     Excel 파일에 쓸 본문 데이터
+     * @param writer       the output writer to write the Excel file
+     *                     <p>
+     *                     Excel 파일을 출력할 {@link OutputWriter}
+     * @param cancellation the token of this export
+     *                     <p>
+     *                     이 내보내기의 취소 토큰
+     * @param <T>          the DTO type
+     * @throws ExportRejectedException if the export was not admitted
+     *                                 <p>
+     *                                 내보내기가 허용되지 않은 경우
+     */
+    public <T> void export(ExportPlan<T> plan, Iterable<T> bodyDto, OutputWriter writer,
+                           ExportCancellation cancellation) {
+        long expectedRows = bodyDto instanceof Collection<?> collection ? collection.size() : defaultExpectedRows;
+        export(plan, bodyDto.iterator(), writer, expectedRows, cancellation);
+    }
+
+    /**
+     * Writes an Excel file with the rows of the given {@link Iterator} once the export is admitted, stopped by
+     * {@code cancellation}. The timeout of the token counts from the admission, not from this call.
+     * <br><br>
+     * 내보내기가 허용되면 주어진 {@link Iterator}의 행으로 Excel 파일을 쓰며, {@code cancellation}으로 중단할 수 있습니다. 토큰의 시간
+     * 제한은 이 호출이 아니라 허용된 시점부터 계산됩니다.
+     *
+     * @param plan         the export plan
+     *                     <p>
+     *                     내보내기 계획
+     * @param bodyDto      the data to be written to the Excel file
+     *                     <p>
+     *                     Excel 파일에 쓸 본문 데이터
+     * @param writer       the output writer to write the Excel file
+     *                     <p>
+     *                     Excel 파일을 출력할 {@link OutputWriter}
+     * @param expectedRows the expected number of rows, used to estimate the footprint
+     *                     <p>
+     *                     사용량 추정에 쓰는 예상 행 수
+     * @param cancellation the token of this export
+     *                     <p>
+     *                     이 내보내기의 취소 토큰
+     * @param <T>          the DTO type
+     * @throws ExportRejectedException if the export was not admitted
+     *                                 <p>
+     *                                 내보내기가 허용되지 않은 경우
+     */
+    public <T> void export(ExportPlan<T> plan, Iterator<T> bodyDto, OutputWriter writer, long expectedRows,
+                           ExportCancellation cancellation) {
+        run(plan, bodyDto, writer, expectedRows, Objects.requireNonNull(cancellation, "cancellation"));
+    }
+
+    private <T> void run(ExportPlan<T> plan, Iterator<T> bodyDto, OutputWriter writer, long expectedRows,
+                         ExportCancellation cancellation) {
+        ExportFootprint footprint = ExportFootprint.estimate(plan, Math.max(0, expectedRows));
+        try {
+            admit(footprint);
+        } catch (RuntimeException e) {
+            if (bodyDto instanceof AutoCloseable source) {
+                ExcelBuilder.closeQuietly(source);
+            }
+            throw e;
+        }
+        try {
+            ExcelBuilder.generate(plan, bodyDto, writer, cancellation);
+        } finally {
+            release(footprint);
+        }
+    }
+
+    /**
+     * Returns the number of exports currently running.
+     * <br><br>
+     * 현재 실행 중인 내보내기 수를 반환합니다.
+     *
+     * @return the running exports
+     */
+    public int activeExports() {
+        lock.lock();
+        try {
+            return activeExports;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of exports waiting to be admitted.
+     * <br><br>
+     * 허용을 기다리는 내보내기 수를 반환합니다.
+     *
+     * @return the queued exports
+     */
+    public int queuedExports() {
+        lock.lock();
+        try {
+            return queue.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Blocks until the export fits, or throws if it never can, the queue is full or the timeout elapses.
+     * <br>
+     * Only the head of the queue is admitted, so a large export is not starved by smaller ones behind it.
+     */
+    private void admit(ExportFootprint footprint) {
+        if (footprint.heapBytes() > heapBudget) {
+            throw new ExportRejectedException("Export needs an estimated " + footprint.heapBytes()
+                    + " bytes of heap, more than the budget of " + heapBudget);
+        }
+        if (footprint.diskBytes() > diskBudget) {
+            throw new ExportRejectedException("Export needs an estimated " + footprint.diskBytes()
+                    + " bytes of temp disk, more than the budget of " + diskBudget);
+        }
+        lock.lock();
+        try {
+            if (queue.isEmpty() && fits(footprint)) {
+                acquire(footprint);
+                return;
+            }
+            if (queue.size() >= maxQueuedExports) {
+                throw new ExportRejectedException("Export queue is full: " + queue.size() + " exports waiting");
+            }
+            Thread waiter = Thread.currentThread();
+            queue.add(waiter);
+            try {
+                long nanos = queueTimeout.toNanos();
+                while (queue.peek() != waiter || !fits(footprint)) {
+                    if (nanos <= 0) {
+                        throw new ExportRejectedException("Export was not admitted within " + queueTimeout);
+                    }
+                    nanos = released.awaitNanos(nanos);
+                }
+                acquire(footprint);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ExportRejectedException("Interrupted while waiting to be admitted");
+            } finally {
+                queue.remove(waiter);
+                // The new head may fit in what is left, whether this export was admitted or gave up.
+                released.signalAll();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean fits(ExportFootprint footprint) {
+        return activeExports < maxConcurrentExports
+                && heapInUse + footprint.heapBytes() <= heapBudget
+                && diskInUse + footprint.diskBytes() <= diskBudget;
+    }
+
+    private void acquire(ExportFootprint footprint) {
+        activeExports++;
+        heapInUse += footprint.heapBytes();
+        diskInUse += footprint.diskBytes();
+    }
+
+    private void release(ExportFootprint footprint) {
+        lock.lock();
+        try {
+            activeExports--;
+            heapInUse -= footprint.heapBytes();
+            diskInUse -= footprint.diskBytes();
+            released.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Builder for {@link ExportScheduler}.
+     * <br>
+     * {@link ExportScheduler}의 빌더입니다.
+     */
+    public static final class Builder {
+
+        private int maxConcurrentExports = Runtime.getRuntime().availableProcessors();
+        private int maxQueuedExports = 100;
+        private long heapBudget = Runtime.getRuntime().maxMemory() / 2;
+        private long diskBudget = Long.MAX_VALUE;
+        private Duration queueTimeout = Duration.ofSeconds(30);
+        private long defaultExpectedRows = 100_000;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the number of exports that may run at once. Defaults to the number of available processors.
+         * <br><br>
+         * 동시에 실행할 수 있는 내보내기 수를 설정합니다. 기본값은 사용 가능한 프로세서 수입니다.
+         *
+         * @param maxConcurrentExports the limit, at least {@code 1}
+         * @return this builder
+         * @throws IllegalArgumentException if {@code maxConcurrentExports} is less than {@code 1}
+         */
+        public Builder maxConcurrentExports(int maxConcurrentExports) {
+            if (maxConcurrentExports < 1) {
+                throw new IllegalArgumentException("maxConcurrentExports must be at least 1: " + maxConcurrentExports);
+            }
+            this.maxConcurrentExports = maxConcurrentExports;
+            return this;
+        }
+
+        /**
+         * Sets the number of exports that may wait to be admitted. Defaults to {@code 100}.
+         * <br>
+         * With {@code 0}, an export that cannot start immediately is rejected.
+         * <br><br>
+         * 허용을 기다릴 수 있는 내보내기 수를 설정합니다. 기본값은 {@code 100}입니다.
+         * <br>
+         * {@code 0}이면 바로 시작할 수 없는 내보내기는 거부됩니다.
+         *
+         * @param maxQueuedExports the queue capacity, at least {@code 0}
+         * @return this builder
+         * @throws IllegalArgumentException if {@code maxQueuedExports} is negative
+         */
+        public Builder maxQueuedExports(int maxQueuedExports) {
+            if (maxQueuedExports < 0) {
+                throw new IllegalArgumentException("maxQueuedExports must not be negative: " + maxQueuedExports);
+            }
+            this.maxQueuedExports = maxQueuedExports;
+            return this;
+        }
+
+        /**
+         * Sets the estimated heap, in bytes, that running exports may hold together. Defaults to half of the maximum
+         * heap.
+         * <br><br>
+         * 실행 중인 내보내기가 함께 사용할 수 있는 추정 힙 크기(바이트)를 설정합니다. 기본값은 최대 힙의 절반입니다.
+         *
+         * @param heapBudget the heap budget in bytes, greater than {@code 0}
+         * @return this builder
+         * @throws IllegalArgumentException if {@code heapBudget} is not positive
+         */
+        public Builder heapBudget(long heapBudget) {
+            if (heapBudget <= 0) {
+                throw new IllegalArgumentException("heapBudget must be positive: " + heapBudget);
+            }
+            this.heapBudget = heapBudget;
+            return this;
+        }
+
+        /**
+         * Sets the estimated temp disk, in bytes, that running exports may hold together. Unlimited by default.
+         * <br>
+         * Only the POI engine writes temp files; {@link ExportEngine#DIRECT} exports need no disk.
+         * <br><br>
+         * 실행 중인 내보내기가 함께 사용할 수 있는 추정 임시 디스크 크기(바이트)를 설정합니다. 기본값은 무제한입니다.
+         * <br>
+         * 임시 파일은 POI 엔진만 쓰며, {@link ExportEngine#DIRECT} 내보내기는 디스크를 사용하지 않습니다.
+         *
+         * @param diskBudget the temp disk budget in bytes, greater than {@code 0}
+         * @return this builder
+         * @throws IllegalArgumentException if {@code diskBudget} is not positive
+         */
+        public Builder diskBudget(long diskBudget) {
+            if (diskBudget <= 0) {
+                throw new IllegalArgumentException("diskBudget must be positive: " + diskBudget);
+            }
+            this.diskBudget = diskBudget;
+            return this;
+        }
+
+        /**
+         * Sets how long an export may wait to be admitted before it is rejected. Defaults to 30 seconds.
+         * <br><br>
+         * 내보내기가 거부되기 전까지 허용을 기다릴 수 있는 시간을 설정합니다. 기본값은 30초입니다.
+         *
+         * @param queueTimeout the timeout, not negative
+         * @return this builder
+         * @throws IllegalArgumentException if {@code queueTimeout} is negative
+         */
+        public Builder queueTimeout(Duration queueTimeout) {
+            Objects.requireNonNull(queueTimeout, "queueTimeout");
+            if (queueTimeout.isNegative()) {
+                throw new IllegalArgumentException("queueTimeout must not be negative: " + queueTimeout);
+            }
+            this.queueTimeout = queueTimeout;
+            return this;
+        }
+
+        /**
+         * Sets the row count assumed for inputs whose size is unknown. Defaults to {@code 100000}.
+         * <br><br>
+         * 크기를 알 수 없는 입력에 대해 가정할 행 수를 설정합니다. 기본값은 {@code 100000}입니다.
+         *
+         * @param defaultExpectedRows the assumed row count, at least {@code 0}
+         * @return this builder
+         * @throws IllegalArgumentException if {@code defaultExpectedRows} is negative
+         */
+        public Builder defaultExpectedRows(long defaultExpectedRows) {
+            if (defaultExpectedRows < 0) {
+                throw new IllegalArgumentException("defaultExpectedRows must not be negative: " + defaultExpectedRows);
+            }
+            this.defaultExpectedRows = defaultExpectedRows;
+            return this;
+        }
+
+        /**
+         * Builds the {@link ExportScheduler}.
+         * <br><br>
+         * {@link ExportScheduler}를 생성합니다.
+         *
+         * @return the scheduler
+         */
+        public ExportScheduler build() {
+            return new ExportScheduler(this);
+        }
+    }
+}
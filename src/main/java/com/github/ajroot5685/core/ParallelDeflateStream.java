@@ -0,0 +1,109 @@
+package com.github.ajroot5685.core;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Entry stream that cuts its input into fixed-size blocks and deflates them on an executor, in the style of pigz.
+ * <br>
+ * Each block becomes an independent {@link DeflatedChunk} primed with the last 32 KB of the block before it, so the
+ * compression ratio stays close to that of a single deflater. Chunks are appended to the current zip entry in input
+ * order, and at most {@code parallelism * 2} blocks are in flight, so memory stays bounded.
+ */
+final class ParallelDeflateStream extends OutputStream {
+
+    private static final int BLOCK_SIZE = 128 * 1024;
+
+    /**
+     * The deflate window size; back-references never reach further than this.
+     */
+    private static final int DICTIONARY_SIZE = 32 * 1024;
+
+    private final ZipWriter zip;
+    private final Compression compression;
+    private final Executor executor;
+    private final int maxInFlight;
+    private final Deque<CompletableFuture<DeflatedChunk>> inFlight = new ArrayDeque<>();
+    private byte[] previous;
+    private byte[] block = new byte[BLOCK_SIZE];
+    private int count;
+
+    ParallelDeflateStream(ZipWriter zip, Compression compression, Executor executor, int parallelism) {
+        this.zip = zip;
+        this.compression = compression;
+        this.executor = executor;
+        this.maxInFlight = parallelism * 2;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        write(new byte[]{(byte) b}, 0, 1);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        while (len > 0) {
+            int n = Math.min(len, BLOCK_SIZE - count);
+            System.arraycopy(b, off, block, count, n);
+            count += n;
+            off += n;
+            len -= n;
+            if (count == BLOCK_SIZE) {
+                submit();
+            }
+        }
+    }
+
+    /**
+     * Deflates the remaining input and appends every pending chunk to the entry. Does not close the entry.
+     */
+    void finish() throws IOException {
+        try {
+            if (count > 0) {
+                submit();
+            }
+            while (!inFlight.isEmpty()) {
+                zip.writeChunk(DirectXlsxWriter.await(inFlight.poll()));
+            }
+        } finally {
+            cancel();
+        }
+    }
+
+    /**
+     * Cancels the blocks still being deflated. Used when generation fails part way.
+     */
+    void cancel() {
+        inFlight.forEach(future -> future.cancel(true));
+        inFlight.clear();
+    }
+
+    private void submit() throws IOException {
+        byte[] data = block;
+        int length = count;
+        byte[] dictionary = previous;
+        inFlight.add(CompletableFuture.supplyAsync(() -> deflate(data, length, dictionary), executor));
+
+        // Only the last block can be partial, so the previous block is always full.
+        previous = data;
+        block = new byte[BLOCK_SIZE];
+        count = 0;
+
+        if (inFlight.size() >= maxInFlight) {
+            zip.writeChunk(DirectXlsxWriter.await(inFlight.poll()));
+        }
+    }
+
+    private DeflatedChunk deflate(byte[] data, int length, byte[] dictionary) {
+        try (ChunkDeflater deflater = dictionary == null
+                ? new ChunkDeflater(compression)
+                : new ChunkDeflater(compression, dictionary, BLOCK_SIZE - DICTIONARY_SIZE, DICTIONARY_SIZE)) {
+            deflater.write(data, 0, length);
+            return deflater.finish();
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.github.ajroot5685.core;
+
+import com.github.ajroot5685.column.CellSink;
+import com.github.ajroot5685.constant.Default;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Workbook;
+
+/**
+ * {@link CellSink} that writes typed values into the cells of a POI {@link Row}.
+ * <br>
+ * Date cell styles are created lazily once per workbook.
+ */
+class PoiCellSink implements CellSink {
+
+    private final Workbook workbook;
+    private CellStyle dateStyle;
+    private CellStyle dateTimeStyle;
+    private Row row;
+
+    PoiCellSink(Workbook workbook) {
+        this.workbook = workbook;
+    }
+
+    /**
+     * Sets the row that subsequent cells are written to.
+     */
+    void startRow(Row row) {
+        this.row = row;
+    }
+
+    @Override
+    public void writeString(int column, String value) {
+        row.createCell(column).setCellValue(value);
+    }
+
+    @Override
+    public void writeNumber(int column, double value) {
+        row.createCell(column).setCellValue(value);
+    }
+
+    @Override
+    public void writeBoolean(int column, boolean value) {
+        row.createCell(column).setCellValue(value);
+    }
+
+    @Override
+    public void writeDate(int column, LocalDate value) {
+        if (dateStyle == null) {
+            dateStyle = createDateStyle(Default.DATE_FORMAT);
+        }
+        Cell cell = row.createCell(column);
+        cell.setCellValue(value);
+        cell.setCellStyle(dateStyle);
+    }
+
+    @Override
+    public void writeDateTime(int column, LocalDateTime value) {
+        if (dateTimeStyle == null) {
+            dateTimeStyle = createDateStyle(Default.DATE_TIME_FORMAT);
+        }
+        Cell cell = row.createCell(column);
+        cell.setCellValue(value);
+        cell.setCellStyle(dateTimeStyle);
+    }
+
+    @Override
+    public void writeBlank(int column) {
+        row.createCell(column);
+    }
+
+    private CellStyle createDateStyle(String format) {
+        CellStyle style = workbook.createCellStyle();
+        style.setDataFormat(workbook.createDataFormat().getFormat(format));
+        return style;
+    }
+}
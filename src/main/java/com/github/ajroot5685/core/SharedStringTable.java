@@ -0,0 +1,100 @@
+package com.github.ajroot5685.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Shared strings table of the direct engine, deduplicated per column through a bounded least-recently-used cache.
+ * <br>
+ * Entries are deflated as soon as they are added, so the table never holds its strings uncompressed. Only the cache
+ * maps values to indexes; a value evicted from it and seen again is appended as a new entry. That keeps memory bounded
+ * for high-cardinality columns at the cost of some duplicates. The table is shared by every serializer of an export
+ * and is safe to use from several threads.
+ */
+final class SharedStringTable {
+
+    private static final byte[] SST_START = XmlBuffer.ascii(DirectXlsxWriter.XML_DECLARATION
+            + "<sst xmlns=\"" + DirectXlsxWriter.MAIN_NS + "\">");
+    private static final byte[] SST_END = XmlBuffer.ascii("</sst>");
+    private static final byte[] ITEM_START = XmlBuffer.ascii("<si><t>");
+    private static final byte[] ITEM_START_PRESERVE = XmlBuffer.ascii("<si><t xml:space=\"preserve\">");
+    private static final byte[] ITEM_END = XmlBuffer.ascii("</t></si>");
+
+    private static final int BUFFER_SIZE = 16 * 1024;
+
+    private final int cacheSize;
+    private final List<Map<String, Integer>> caches;
+    private final Compression compression;
+    private ChunkDeflater deflater;
+    private XmlBuffer xml;
+    private int count;
+
+    SharedStringTable(int columnCount, int cacheSize, Compression compression) {
+        this.cacheSize = cacheSize;
+        this.compression = compression;
+        this.caches = new ArrayList<>(Collections.nCopies(columnCount, null));
+    }
+
+    /**
+     * Returns the index of {@code value} in the table, adding it if the column's cache does not know it.
+     */
+    synchronized int index(int column, String value) {
+        Map<String, Integer> cache = caches.get(column);
+        if (cache == null) {
+            cache = newCache();
+            caches.set(column, cache);
+        }
+        Integer index = cache.get(value);
+        if (index == null) {
+            index = append(value);
+            cache.put(value, index);
+        }
+        return index;
+    }
+
+    synchronized boolean isEmpty() {
+        return count == 0;
+    }
+
+    /**
+     * Closes the table XML and returns it as one deflated chunk. Must only be called once, on a non-empty table.
+     */
+    synchronized DeflatedChunk finish() {
+        xml.raw(SST_END);
+        xml.flush();
+        return deflater.finish();
+    }
+
+    /**
+     * Releases the deflater if the table was never finished.
+     */
+    synchronized void discard() {
+        if (deflater != null) {
+            deflater.close();
+        }
+    }
+
+    private int append(String value) {
+        if (xml == null) {
+            deflater = new ChunkDeflater(compression);
+            xml = new XmlBuffer(deflater, BUFFER_SIZE);
+            xml.raw(SST_START);
+        }
+        xml.raw(SheetXmlSerializer.needsPreserve(value) ? ITEM_START_PRESERVE : ITEM_START);
+        xml.escaped(value);
+        xml.raw(ITEM_END);
+        return count++;
+    }
+
+    private Map<String, Integer> newCache() {
+        return new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Integer> eldest) {
+                return size() > cacheSize;
+            }
+        };
+    }
+}
@@ -0,0 +1,268 @@
+package com.github.ajroot5685.core;
+
+import com.github.ajroot5685.column.CellSink;
+import com.github.ajroot5685.column.Columns;
+import com.github.ajroot5685.constant.Default;
+import java.io.ByteArrayOutputStream;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * {@link CellSink} that serializes rows as worksheet XML with inline strings into an {@link XmlBuffer}.
+ * <br>
+ * Shared string cells are looked up in a {@link SharedStringTable} and written by index.
+ * <br>
+ * One instance is used per thread. Several instances can serialize different row ranges of the same sheet at once, as
+ * long as each is given the absolute row numbers of its range.
+ */
+final class SheetXmlSerializer<T> implements CellSink {
+
+    private static final byte[] SHEET_START = XmlBuffer.ascii(DirectXlsxWriter.XML_DECLARATION
+            + "<worksheet xmlns=\"" + DirectXlsxWriter.MAIN_NS + "\" xmlns:r=\"" + DirectXlsxWriter.REL_NS + "\">"
+            + "<sheetFormatPr baseColWidth=\"" + Default.CELL_WIDTH + "\" defaultRowHeight=\"15\"/>");
+    private static final byte[] SHEET_DATA_START = XmlBuffer.ascii("<sheetData>");
+    private static final byte[] COLS_START = XmlBuffer.ascii("<cols>");
+    private static final byte[] COL_MIN = XmlBuffer.ascii("<col min=\"");
+    private static final byte[] COL_MAX = XmlBuffer.ascii("\" max=\"");
+    private static final byte[] COL_WIDTH = XmlBuffer.ascii("\" width=\"");
+    private static final byte[] COL_END = XmlBuffer.ascii("\" customWidth=\"1\"/>");
+    private static final byte[] COLS_END = XmlBuffer.ascii("</cols>");
+    private static final byte[] SHEET_END = XmlBuffer.ascii("</sheetData></worksheet>");
+
+    private static final byte[] ROW_START = XmlBuffer.ascii("<row r=\"");
+    private static final byte[] ROW_END = XmlBuffer.ascii("</row>");
+    private static final byte[] CELL_START = XmlBuffer.ascii("<c r=\"");
+    private static final byte[] INLINE_STRING = XmlBuffer.ascii("\" t=\"inlineStr\"><is><t>");
+    private static final byte[] INLINE_STRING_PRESERVE = XmlBuffer.ascii(
+            "\" t=\"inlineStr\"><is><t xml:space=\"preserve\">");
+    private static final byte[] INLINE_STRING_END = XmlBuffer.ascii("</t></is></c>");
+    private static final byte[] SHARED_STRING = XmlBuffer.ascii("\" t=\"s\"><v>");
+    private static final byte[] BOOLEAN_TRUE = XmlBuffer.ascii("\" t=\"b\"><v>1</v></c>");
+    private static final byte[] BOOLEAN_FALSE = XmlBuffer.ascii("\" t=\"b\"><v>0</v></c>");
+    private static final byte[] NUMBER = XmlBuffer.ascii("\"><v>");
+    private static final byte[] DATE = XmlBuffer.ascii("\" s=\"1\"><v>");
+    private static final byte[] DATE_TIME = XmlBuffer.ascii("\" s=\"2\"><v>");
+    private static final byte[] VALUE_END = XmlBuffer.ascii("</v></c>");
+
+    /**
+     * Epoch day of 1899-12-30, the day before serial 1 once Excel's 1900 leap-year bug is accounted for.
+     */
+    private static final long EXCEL_EPOCH_DAY = LocalDate.of(1899, 12, 30).toEpochDay();
+
+    /**
+     * Serial number of 1900-03-01. Earlier serials are shifted by Excel's fictional 1900-02-29.
+     */
+    private static final long FIRST_CORRECT_SERIAL = 61;
+
+    private static final double SECONDS_PER_DAY = 24 * 60 * 60;
+
+    private final XmlBuffer xml;
+    private final Columns<T> columns;
+    private final byte[][] columnRefs;
+    private final SharedStringTable sharedStrings;
+    private long rowNumber;
+
+    SheetXmlSerializer(XmlBuffer xml, Columns<T> columns, byte[][] columnRefs, SharedStringTable sharedStrings) {
+        this.xml = xml;
+        this.columns = columns;
+        this.columnRefs = columnRefs;
+        this.sharedStrings = sharedStrings;
+    }
+
+    /**
+     * Precomputes the letter names of the first {@code count} columns, shared by every serializer of a sheet.
+     */
+    static byte[][] columnRefs(int count) {
+        byte[][] refs = new byte[count][];
+        for (int i = 0; i < count; i++) {
+            refs[i] = XmlBuffer.ascii(columnName(i));
+        }
+        return refs;
+    }
+
+    /**
+     * Converts a zero-based column index into its letter name (0 = A, 26 = AA).
+     */
+    static String columnName(int index) {
+        StringBuilder name = new StringBuilder();
+        for (int i = index + 1; i > 0; i = (i - 1) / 26) {
+            name.insert(0, (char) ('A' + (i - 1) % 26));
+        }
+        return name.toString();
+    }
+
+    /**
+     * Serializes the start of a worksheet and its header row once, so every sheet of a plan can reuse the bytes.
+     */
+    static byte[] sheetStart(Columns<?> columns, byte[][] columnRefs) {
+        return sheetStart(columns, columnRefs, null);
+    }
+
+    /**
+     * Serializes the start of a worksheet with the given column widths in characters, or with the default width if
+     * {@code widths} is {@code null}, followed by the header row.
+     */
+    static byte[] sheetStart(Columns<?> columns, byte[][] columnRefs, int[] widths) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        XmlBuffer xml = new XmlBuffer(bytes, 1024);
+        SheetXmlSerializer<?> serializer = new SheetXmlSerializer<>(xml, columns, columnRefs, null);
+        xml.raw(SHEET_START);
+        if (widths != null) {
+            xml.raw(COLS_START);
+            for (int i = 0; i < widths.length; i++) {
+                xml.raw(COL_MIN);
+                xml.number(i + 1);
+                xml.raw(COL_MAX);
+                xml.number(i + 1);
+                xml.raw(COL_WIDTH);
+                xml.number(widths[i]);
+                xml.raw(COL_END);
+            }
+            xml.raw(COLS_END);
+        }
+        xml.raw(SHEET_DATA_START);
+        serializer.writeHeaderRow();
+        xml.flush();
+        return bytes.toByteArray();
+    }
+
+    void endSheet() {
+        xml.raw(SHEET_END);
+    }
+
+    /**
+     * Writes the header row as row 1.
+     */
+    private void writeHeaderRow() {
+        startRow(1);
+        List<String> headers = columns.headers();
+        for (int i = 0; i < headers.size(); i++) {
+            writeString(i, headers.get(i));
+        }
+        xml.raw(ROW_END);
+    }
+
+    /**
+     * Writes the given DTO as row {@code rowNumber}.
+     */
+    void writeRow(long rowNumber, T dto) {
+        writeRow(rowNumber, dto, this);
+    }
+
+    /**
+     * Writes the given DTO as row {@code rowNumber}, passing its cells through {@code sink}, which must forward them to
+     * this serializer.
+     */
+    void writeRow(long rowNumber, T dto, CellSink sink) {
+        startRow(rowNumber);
+        columns.writeRow(dto, sink);
+        xml.raw(ROW_END);
+    }
+
+    private void startRow(long rowNumber) {
+        this.rowNumber = rowNumber;
+        xml.raw(ROW_START);
+        xml.number(rowNumber);
+        xml.raw('"');
+        xml.raw('>');
+    }
+
+    private void startCell(int column) {
+        xml.raw(CELL_START);
+        xml.raw(columnRefs[column]);
+        xml.number(rowNumber);
+    }
+
+    @Override
+    public void writeString(int column, String value) {
+        writeText(column, value);
+    }
+
+    @Override
+    public void writeText(int column, CharSequence value) {
+        if (value == null) {
+            return;
+        }
+        startCell(column);
+        xml.raw(needsPreserve(value) ? INLINE_STRING_PRESERVE : INLINE_STRING);
+        xml.escaped(value);
+        xml.raw(INLINE_STRING_END);
+    }
+
+    @Override
+    public void writeSharedString(int column, String value) {
+        if (value == null) {
+            return;
+        }
+        int index = sharedStrings.index(column, value);
+        startCell(column);
+        xml.raw(SHARED_STRING);
+        xml.number(index);
+        xml.raw(VALUE_END);
+    }
+
+    @Override
+    public void writeNumber(int column, double value) {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            writeString(column, Double.toString(value));
+            return;
+        }
+        startCell(column);
+        xml.raw(NUMBER);
+        xml.number(value);
+        xml.raw(VALUE_END);
+    }
+
+    @Override
+    public void writeNumber(int column, long value) {
+        startCell(column);
+        xml.raw(NUMBER);
+        xml.number(value);
+        xml.raw(VALUE_END);
+    }
+
+    @Override
+    public void writeBoolean(int column, boolean value) {
+        startCell(column);
+        xml.raw(value ? BOOLEAN_TRUE : BOOLEAN_FALSE);
+    }
+
+    @Override
+    public void writeDate(int column, LocalDate value) {
+        startCell(column);
+        xml.raw(DATE);
+        xml.number(serialDay(value));
+        xml.raw(VALUE_END);
+    }
+
+    @Override
+    public void writeDateTime(int column, LocalDateTime value) {
+        startCell(column);
+        xml.raw(DATE_TIME);
+        xml.number(serialDay(value.toLocalDate()) + value.toLocalTime().toNanoOfDay() / 1e9 / SECONDS_PER_DAY);
+        xml.raw(VALUE_END);
+    }
+
+    @Override
+    public void writeBlank(int column) {
+        // Blank cells without a style are simply omitted.
+    }
+
+    /**
+     * Converts a date into an Excel serial day number in the 1900 date system.
+     */
+    private static long serialDay(LocalDate date) {
+        long serial = date.toEpochDay() - EXCEL_EPOCH_DAY;
+        return serial < FIRST_CORRECT_SERIAL ? serial - 1 : serial;
+    }
+
+    /**
+     * Returns whether the value has leading or trailing whitespace that must be preserved.
+     */
+    static boolean needsPreserve(CharSequence value) {
+        return !value.isEmpty()
+                && (Character.isWhitespace(value.charAt(0))
+                || Character.isWhitespace(value.charAt(value.length() - 1)));
+    }
+}
@@ -0,0 +1,92 @@
+package com.github.ajroot5685.core;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.poi.util.TempFile;
+import org.apache.poi.xssf.model.SharedStringsTable;
+import org.apache.poi.xssf.streaming.GZIPSheetDataWriter;
+import org.apache.poi.xssf.streaming.SheetDataWriter;
+
+/**
+ * Temp files that the SXSSF sheets of one export spill their rows to.
+ * <br>
+ * The files are created in the export's spill directory, or through POI's {@link TempFile} if it has none, and are
+ * deleted when the export ends. Nothing global is changed, so concurrent exports and the application's own POI
+ * settings do not affect each other.
+ */
+final class SpillFiles implements AutoCloseable {
+
+    private final Path directory;
+    private final List<File> files = new ArrayList<>();
+
+    /**
+     * A {@code null} directory keeps POI's temp directory. The directory is created if needed.
+     */
+    SpillFiles(Path directory) throws IOException {
+        if (directory != null) {
+            Files.createDirectories(directory);
+        }
+        this.directory = directory;
+    }
+
+    /**
+     * Creates the data writer of a new sheet. Backs {@code SXSSFWorkbook#createSheetDataWriter()}.
+     */
+    @SuppressWarnings("deprecation") // createTempFile() is the only hook POI offers for the sheet temp file.
+    SheetDataWriter newWriter(SharedStringsTable sharedStrings, boolean compressed) throws IOException {
+        // The writers create their temp file in the super constructor, which only works because an anonymous class
+        // stores its enclosing instance before that call.
+        if (compressed) {
+            return new GZIPSheetDataWriter(sharedStrings) {
+                @Override
+                public File createTempFile() throws IOException {
+                    return create("poi-sxssf-sheet-xml", ".gz");
+                }
+            };
+        }
+        return new SheetDataWriter(sharedStrings) {
+            @Override
+            public File createTempFile() throws IOException {
+                return create("poi-sxssf-sheet", ".xml");
+            }
+        };
+    }
+
+    private File create(String prefix, String suffix) throws IOException {
+        File file = directory != null
+                ? Files.createTempFile(directory, prefix, suffix).toFile()
+                : TempFile.createTempFile(prefix, suffix);
+        files.add(file);
+        return file;
+    }
+
+    /**
+     * Returns the current on-disk size of the temp files.
+     */
+    long fileBytes() {
+        long total = 0;
+        for (File file : files) {
+            total += file.length();
+        }
+        return total;
+    }
+
+    /**
+     * Deletes every temp file that still exists.
+     */
+    @Override
+    public void close() {
+        for (File file : files) {
+            try {
+                Files.deleteIfExists(file.toPath());
+            } catch (IOException ignored) {
+                // Best effort; the file is already detached from the workbook.
+            }
+        }
+        files.clear();
+    }
+}
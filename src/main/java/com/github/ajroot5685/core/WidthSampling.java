@@ -0,0 +1,24 @@
+package com.github.ajroot5685.core;
+
+/**
+ * How the rows that size the columns are chosen when automatic column widths are enabled.
+ * <br>
+ * 자동 컬럼 너비를 사용할 때 너비 계산에 쓸 행을 고르는 방식입니다.
+ */
+public enum WidthSampling {
+
+    /**
+     * Measures the first rows only. Cheapest, and the only mode {@link ExportEngine#DIRECT} supports.
+     * <br>
+     * 처음 몇 개의 행만 측정합니다. 비용이 가장 적으며, {@link ExportEngine#DIRECT}가 지원하는 유일한 방식입니다.
+     */
+    FIRST_ROWS,
+
+    /**
+     * Keeps a uniform random sample of the rows of the whole export. Suits data whose first rows are not typical,
+     * such as rows sorted by length or by date.
+     * <br>
+     * 내보내기 전체 행에서 균등한 무작위 표본을 유지합니다. 길이나 날짜순으로 정렬된 데이터처럼 처음 행이 전체를 대표하지 못할 때 적합합니다.
+     */
+    RESERVOIR
+}
@@ -0,0 +1,237 @@
+package com.github.ajroot5685.core;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Reusable byte buffer that encodes XML text as UTF-8 and escapes it without allocating per value. The CSV writer
+ * uses it for unescaped text as well.
+ * <br>
+ * I/O errors are rethrown as {@link UncheckedIOException} so the buffer can be used from {@link
+ * com.github.ajroot5685.column.CellSink} callbacks.
+ */
+final class XmlBuffer {
+
+    static final int DEFAULT_CAPACITY = 64 * 1024;
+
+    private static final byte[] AMP = ascii("&amp;");
+    private static final byte[] LT = ascii("&lt;");
+    private static final byte[] GT = ascii("&gt;");
+    private static final byte[] QUOT = ascii("&quot;");
+    private static final byte[] HEX = ascii("0123456789ABCDEF");
+    private static final byte[] LONG_MIN = ascii(Long.toString(Long.MIN_VALUE));
+
+    /**
+     * Largest magnitude of a double that is written through the integer fast path.
+     */
+    private static final double INTEGRAL_LIMIT = 1e15;
+
+    private final byte[] buffer;
+    private final byte[] digits = new byte[20];
+    private OutputStream out;
+    private int position;
+
+    XmlBuffer(OutputStream out) {
+        this(out, DEFAULT_CAPACITY);
+    }
+
+    XmlBuffer(OutputStream out, int capacity) {
+        this.out = out;
+        this.buffer = new byte[capacity];
+    }
+
+    /**
+     * Encodes an ASCII constant once so it can be appended with {@link #raw(byte[])}.
+     */
+    static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Changes the stream the buffer is flushed to. Pending bytes are flushed to the previous stream first.
+     */
+    void target(OutputStream out) {
+        flush();
+        this.out = out;
+    }
+
+    /**
+     * Appends pre-encoded bytes as they are.
+     */
+    void raw(byte[] bytes) {
+        if (bytes.length > buffer.length) {
+            flush();
+            write(bytes, bytes.length);
+            return;
+        }
+        ensure(bytes.length);
+        System.arraycopy(bytes, 0, buffer, position, bytes.length);
+        position += bytes.length;
+    }
+
+    /**
+     * Appends a single ASCII character.
+     */
+    void raw(char c) {
+        ensure(1);
+        buffer[position++] = (byte) c;
+    }
+
+    /**
+     * Appends text, escaping XML markup and encoding it as UTF-8.
+     * <br>
+     * Characters that are not allowed in XML 1.0 are written in Excel's {@code _xHHHH_} form.
+     */
+    void escaped(CharSequence value) {
+        for (int i = 0, length = value.length(); i < length; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                escapedAscii(c);
+            } else if (c < 0x800) {
+                ensure(2);
+                buffer[position++] = (byte) (0xC0 | (c >> 6));
+                buffer[position++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < length
+                    && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                ensure(4);
+                buffer[position++] = (byte) (0xF0 | (codePoint >> 18));
+                buffer[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                buffer[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                buffer[position++] = (byte) (0x80 | (codePoint & 0x3F));
+            } else if (Character.isSurrogate(c) || c == 0xFFFE || c == 0xFFFF) {
+                control(c);
+            } else {
+                ensure(3);
+                buffer[position++] = (byte) (0xE0 | (c >> 12));
+                buffer[position++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                buffer[position++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+    }
+
+    /**
+     * Appends the characters of {@code value} from {@code start} to {@code end} encoded as UTF-8, without escaping.
+     * Unpaired surrogates are written as {@code ?}.
+     */
+    void utf8(CharSequence value, int start, int end) {
+        for (int i = start; i < end; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                ensure(1);
+                buffer[position++] = (byte) c;
+            } else if (c < 0x800) {
+                ensure(2);
+                buffer[position++] = (byte) (0xC0 | (c >> 6));
+                buffer[position++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < end && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                ensure(4);
+                buffer[position++] = (byte) (0xF0 | (codePoint >> 18));
+                buffer[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                buffer[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                buffer[position++] = (byte) (0x80 | (codePoint & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                ensure(1);
+                buffer[position++] = '?';
+            } else {
+                ensure(3);
+                buffer[position++] = (byte) (0xE0 | (c >> 12));
+                buffer[position++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                buffer[position++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+    }
+
+    /**
+     * Appends the decimal form of a long without creating a string.
+     */
+    void number(long value) {
+        if (value == Long.MIN_VALUE) {
+            raw(LONG_MIN);
+            return;
+        }
+        ensure(20);
+        if (value < 0) {
+            buffer[position++] = '-';
+            value = -value;
+        }
+        int count = 0;
+        do {
+            digits[count++] = (byte) ('0' + (value % 10));
+            value /= 10;
+        } while (value != 0);
+        while (count > 0) {
+            buffer[position++] = digits[--count];
+        }
+    }
+
+    /**
+     * Appends the lexical form of a finite double. Integral values are written without creating a string.
+     */
+    void number(double value) {
+        if (value == Math.rint(value) && Math.abs(value) < INTEGRAL_LIMIT) {
+            number((long) value);
+            return;
+        }
+        String text = Double.toString(value);
+        ensure(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            buffer[position++] = (byte) text.charAt(i);
+        }
+    }
+
+    /**
+     * Writes buffered bytes to the target stream.
+     */
+    void flush() {
+        if (position > 0) {
+            write(buffer, position);
+            position = 0;
+        }
+    }
+
+    private void escapedAscii(char c) {
+        switch (c) {
+            case '&' -> raw(AMP);
+            case '<' -> raw(LT);
+            case '>' -> raw(GT);
+            case '"' -> raw(QUOT);
+            case '\t', '\n', '\r' -> raw(c);
+            default -> {
+                if (c < 0x20) {
+                    control(c);
+                } else {
+                    raw(c);
+                }
+            }
+        }
+    }
+
+    private void control(char c) {
+        ensure(7);
+        buffer[position++] = '_';
+        buffer[position++] = 'x';
+        buffer[position++] = HEX[(c >> 12) & 0xF];
+        buffer[position++] = HEX[(c >> 8) & 0xF];
+        buffer[position++] = HEX[(c >> 4) & 0xF];
+        buffer[position++] = HEX[c & 0xF];
+        buffer[position++] = '_';
+    }
+
+    private void ensure(int size) {
+        if (position + size > buffer.length) {
+            flush();
+        }
+    }
+
+    private void write(byte[] bytes, int length) {
+        try {
+            out.write(bytes, 0, length);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
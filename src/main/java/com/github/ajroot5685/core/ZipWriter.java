@@ -0,0 +1,364 @@
+package com.github.ajroot5685.core;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * Minimal streaming zip writer for the direct engine.
+ * <br>
+ * Unlike {@link java.util.zip.ZipOutputStream}, an entry can also be assembled from {@link DeflatedChunk}s that were
+ * compressed on other threads. Every entry uses a data descriptor. Entries started as large carry a zeroed Zip64 extra
+ * field in their local header so that streaming readers accept an 8-byte data descriptor; the descriptor and the other
+ * Zip64 records are only written that way when sizes or offsets need them.
+ */
+final class ZipWriter {
+
+    private static final int LOCAL_HEADER_SIGNATURE = 0x04034b50;
+    private static final int DATA_DESCRIPTOR_SIGNATURE = 0x08074b50;
+    private static final int CENTRAL_HEADER_SIGNATURE = 0x02014b50;
+    private static final int END_SIGNATURE = 0x06054b50;
+    private static final int ZIP64_END_SIGNATURE = 0x06064b50;
+    private static final int ZIP64_LOCATOR_SIGNATURE = 0x07064b50;
+
+    private static final int VERSION = 20;
+    private static final int VERSION_ZIP64 = 45;
+    private static final int FLAGS = 0x0808;
+    private static final int METHOD_DEFLATED = 8;
+    private static final long ZIP64_MAGIC = 0xFFFFFFFFL;
+    private static final int ZIP64_MAGIC_COUNT = 0xFFFF;
+
+    /**
+     * A final, empty fixed-Huffman block that terminates a deflate stream built from sync-flushed chunks.
+     */
+    private static final byte[] FINAL_BLOCK = {0x03, 0x00};
+
+    private final OutputStream out;
+    private final Deflater deflater;
+    private final CRC32 crc32 = new CRC32();
+    private final byte[] deflateBuffer = new byte[XmlBuffer.DEFAULT_CAPACITY];
+    private final byte[] header = new byte[64];
+    private final List<Entry> entries = new ArrayList<>();
+    private final int dosTime;
+    private final int dosDate;
+    private final OutputStream entryStream = new EntryStream();
+
+    private long offset;
+    private Entry current;
+    private boolean chunked;
+    private long crc;
+    private long compressedSize;
+    private long uncompressedSize;
+
+    ZipWriter(OutputStream out, Compression compression) {
+        this.out = out;
+        this.deflater = compression.newDeflater();
+        LocalDateTime now = LocalDateTime.now();
+        this.dosTime = now.getHour() << 11 | now.getMinute() << 5 | now.getSecond() >> 1;
+        this.dosDate = (now.getYear() - 1980) << 9 | now.getMonthValue() << 5 | now.getDayOfMonth();
+    }
+
+    /**
+     * Starts a new entry that is known to stay below 4 GB and writes its local file header.
+     */
+    void startEntry(String name) throws IOException {
+        startEntry(name, false);
+    }
+
+    /**
+     * Starts a new entry and writes its local file header.
+     * <br>
+     * The size of a streamed entry is unknown until it is closed, so an entry that may grow past 4 GB must be started
+     * as {@code large}: its local header then carries a Zip64 extra field with zeroed sizes, which streaming readers
+     * need to accept the 8-byte sizes of its data descriptor. The sizes in the header itself stay zero, so readers
+     * that ignore the extra field still find the 4-byte descriptor of an entry that ends up small.
+     */
+    void startEntry(String name, boolean large) throws IOException {
+        if (current != null) {
+            closeEntry();
+        }
+        byte[] nameBytes = name.getBytes(StandardCharsets.UTF_8);
+        current = new Entry(nameBytes, offset, large);
+        chunked = false;
+        crc = 0;
+        compressedSize = 0;
+        uncompressedSize = 0;
+        crc32.reset();
+
+        int p = 0;
+        p = putInt(p, LOCAL_HEADER_SIGNATURE);
+        p = putShort(p, large ? VERSION_ZIP64 : VERSION);
+        p = putShort(p, FLAGS);
+        p = putShort(p, METHOD_DEFLATED);
+        p = putShort(p, dosTime);
+        p = putShort(p, dosDate);
+        p = putInt(p, 0);
+        p = putInt(p, 0);
+        p = putInt(p, 0);
+        p = putShort(p, nameBytes.length);
+        p = putShort(p, large ? 20 : 0);
+        writeRaw(header, p);
+        writeRaw(nameBytes, nameBytes.length);
+
+        if (large) {
+            p = 0;
+            p = putShort(p, 0x0001);
+            p = putShort(p, 16);
+            p = putLong(p, 0);
+            p = putLong(p, 0);
+            writeRaw(header, p);
+        }
+    }
+
+    /**
+     * Returns a stream that deflates its input into the current entry.
+     */
+    OutputStream entryStream() {
+        return entryStream;
+    }
+
+    /**
+     * Writes a complete entry in one call.
+     */
+    void writeEntry(String name, byte[] content) throws IOException {
+        startEntry(name);
+        entryStream.write(content, 0, content.length);
+        closeEntry();
+    }
+
+    /**
+     * Appends a chunk that was already deflated, typically on another thread, to the current entry.
+     * <br>
+     * An entry must be written either entirely through {@link #entryStream()} or entirely through chunks.
+     */
+    void writeChunk(DeflatedChunk chunk) throws IOException {
+        chunked = true;
+        crc = Crc32Combiner.combine(crc, chunk.crc(), chunk.uncompressedSize());
+        uncompressedSize += chunk.uncompressedSize();
+        compressedSize += chunk.data().length;
+        writeRaw(chunk.data(), chunk.data().length);
+    }
+
+    /**
+     * Completes the current entry and writes its data descriptor.
+     */
+    void closeEntry() throws IOException {
+        if (chunked) {
+            compressedSize += FINAL_BLOCK.length;
+            writeRaw(FINAL_BLOCK, FINAL_BLOCK.length);
+        } else {
+            deflater.finish();
+            while (!deflater.finished()) {
+                drain();
+            }
+            deflater.reset();
+            crc = crc32.getValue();
+        }
+
+        current.crc = crc;
+        current.compressedSize = compressedSize;
+        current.uncompressedSize = uncompressedSize;
+        if (current.isZip64() && !current.large) {
+            throw new IOException("Zip entry " + new String(current.name, StandardCharsets.UTF_8)
+                    + " exceeds 4 GB but was not started as a large entry");
+        }
+
+        int p = 0;
+        p = putInt(p, DATA_DESCRIPTOR_SIGNATURE);
+        p = putInt(p, (int) crc);
+        if (current.isZip64()) {
+            p = putLong(p, compressedSize);
+            p = putLong(p, uncompressedSize);
+        } else {
+            p = putInt(p, (int) compressedSize);
+            p = putInt(p, (int) uncompressedSize);
+        }
+        writeRaw(header, p);
+
+        entries.add(current);
+        current = null;
+    }
+
+    /**
+     * Writes the central directory and flushes the underlying stream. Does <strong>not</strong> close it.
+     */
+    void finish() throws IOException {
+        try {
+            if (current != null) {
+                closeEntry();
+            }
+            long centralOffset = offset;
+            for (Entry entry : entries) {
+                writeCentralHeader(entry);
+            }
+            long centralSize = offset - centralOffset;
+
+            boolean zip64 = centralOffset >= ZIP64_MAGIC || entries.size() >= ZIP64_MAGIC_COUNT;
+            if (zip64) {
+                writeZip64End(centralOffset, centralSize);
+            }
+
+            int p = 0;
+            p = putInt(p, END_SIGNATURE);
+            p = putShort(p, 0);
+            p = putShort(p, 0);
+            p = putShort(p, zip64 ? ZIP64_MAGIC_COUNT : entries.size());
+            p = putShort(p, zip64 ? ZIP64_MAGIC_COUNT : entries.size());
+            p = putInt(p, (int) Math.min(centralSize, ZIP64_MAGIC));
+            p = putInt(p, (int) (zip64 ? ZIP64_MAGIC : centralOffset));
+            p = putShort(p, 0);
+            writeRaw(header, p);
+            out.flush();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    /**
+     * Releases the native deflater without writing anything. Used when generation fails part way.
+     */
+    void abort() {
+        deflater.end();
+    }
+
+    private void writeCentralHeader(Entry entry) throws IOException {
+        boolean sizes64 = entry.isZip64();
+        boolean offset64 = entry.offset >= ZIP64_MAGIC;
+        int extraLength = (sizes64 ? 16 : 0) + (offset64 ? 8 : 0);
+        int p = 0;
+        p = putInt(p, CENTRAL_HEADER_SIGNATURE);
+        p = putShort(p, extraLength > 0 ? VERSION_ZIP64 : VERSION);
+        p = putShort(p, extraLength > 0 ? VERSION_ZIP64 : VERSION);
+        p = putShort(p, FLAGS);
+        p = putShort(p, METHOD_DEFLATED);
+        p = putShort(p, dosTime);
+        p = putShort(p, dosDate);
+        p = putInt(p, (int) entry.crc);
+        p = putInt(p, (int) (sizes64 ? ZIP64_MAGIC : entry.compressedSize));
+        p = putInt(p, (int) (sizes64 ? ZIP64_MAGIC : entry.uncompressedSize));
+        p = putShort(p, entry.name.length);
+        p = putShort(p, extraLength > 0 ? extraLength + 4 : 0);
+        p = putShort(p, 0);
+        p = putShort(p, 0);
+        p = putShort(p, 0);
+        p = putInt(p, 0);
+        p = putInt(p, (int) (offset64 ? ZIP64_MAGIC : entry.offset));
+        writeRaw(header, p);
+        writeRaw(entry.name, entry.name.length);
+
+        if (extraLength > 0) {
+            p = 0;
+            p = putShort(p, 0x0001);
+            p = putShort(p, extraLength);
+            if (sizes64) {
+                p = putLong(p, entry.uncompressedSize);
+                p = putLong(p, entry.compressedSize);
+            }
+            if (offset64) {
+                p = putLong(p, entry.offset);
+            }
+            writeRaw(header, p);
+        }
+    }
+
+    private void writeZip64End(long centralOffset, long centralSize) throws IOException {
+        long endOffset = offset;
+        int p = 0;
+        p = putInt(p, ZIP64_END_SIGNATURE);
+        p = putLong(p, 44);
+        p = putShort(p, VERSION_ZIP64);
+        p = putShort(p, VERSION_ZIP64);
+        p = putInt(p, 0);
+        p = putInt(p, 0);
+        p = putLong(p, entries.size());
+        p = putLong(p, entries.size());
+        p = putLong(p, centralSize);
+        p = putLong(p, centralOffset);
+        writeRaw(header, p);
+
+        p = 0;
+        p = putInt(p, ZIP64_LOCATOR_SIGNATURE);
+        p = putInt(p, 0);
+        p = putLong(p, endOffset);
+        p = putInt(p, 1);
+        writeRaw(header, p);
+    }
+
+    private void drain() throws IOException {
+        int count = deflater.deflate(deflateBuffer, 0, deflateBuffer.length, Deflater.NO_FLUSH);
+        compressedSize += count;
+        writeRaw(deflateBuffer, count);
+    }
+
+    private void writeRaw(byte[] bytes, int length) throws IOException {
+        out.write(bytes, 0, length);
+        offset += length;
+    }
+
+    private int putShort(int p, int value) {
+        header[p] = (byte) value;
+        header[p + 1] = (byte) (value >> 8);
+        return p + 2;
+    }
+
+    private int putInt(int p, int value) {
+        putShort(p, value);
+        putShort(p + 2, value >> 16);
+        return p + 4;
+    }
+
+    private int putLong(int p, long value) {
+        putInt(p, (int) value);
+        putInt(p + 4, (int) (value >> 32));
+        return p + 8;
+    }
+
+    /**
+     * Deflates data written by {@link XmlBuffer} into the current entry.
+     */
+    private final class EntryStream extends OutputStream {
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            crc32.update(b, off, len);
+            uncompressedSize += len;
+            deflater.setInput(b, off, len);
+            while (!deflater.needsInput()) {
+                drain();
+            }
+        }
+    }
+
+    /**
+     * Central directory information of a written entry.
+     */
+    private static final class Entry {
+
+        private final byte[] name;
+        private final long offset;
+        private final boolean large;
+        private long crc;
+        private long compressedSize;
+        private long uncompressedSize;
+
+        private Entry(byte[] name, long offset, boolean large) {
+            this.name = name;
+            this.offset = offset;
+            this.large = large;
+        }
+
+        private boolean isZip64() {
+            return compressedSize >= ZIP64_MAGIC || uncompressedSize >= ZIP64_MAGIC;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.github.ajroot5685.dto;
+
+/**
+ * Cell type hint for a column declared with {@link XLSXColumn}.
+ * <br>
+ * Excel 컬럼의 셀 타입을 지정하는 열거형입니다.
+ */
+public enum ColumnType {
+
+    /**
+     * Infers the cell type from the field type. Numbers become numeric cells, booleans become boolean cells, date types
+     * become date cells and everything else is written as a string.
+     * <br>
+     * 필드 타입으로부터 셀 타입을 추론합니다. 숫자는 숫자 셀, boolean은 boolean 셀, 날짜 타입은 날짜 셀로 쓰이며 나머지는 문자열로 쓰입니다.
+     */
+    AUTO,
+
+    /**
+     * Writes the value's {@code toString()} as a string cell.
+     * <br>
+     * 값의 {@code toString()} 결과를 문자열 셀로 씁니다.
+     */
+    STRING,
+
+    /**
+     * Writes {@link Number} values as numeric cells. Excel stores numbers as {@code double}, so values that would lose
+     * digits, such as {@code long} IDs above 2<sup>53</sup> or decimals with more than 15 significant digits, are
+     * written as string cells with their exact text.
+     * <br>
+     * {@link Number} 값을 숫자 셀로 씁니다. Excel은 숫자를 {@code double}로 저장하므로, 2<sup>53</sup>보다 큰 {@code long} ID나
+     * 유효 숫자가 15자리를 넘는 소수처럼 자릿수를 잃는 값은 정확한 텍스트의 문자열 셀로 씁니다.
+     */
+    NUMERIC,
+
+    /**
+     * Writes {@link Boolean} values as boolean cells.
+     * <br>
+     * {@link Boolean} 값을 boolean 셀로 씁니다.
+     */
+    BOOLEAN,
+
+    /**
+     * Writes date values ({@code LocalDate}, {@code LocalDateTime}, {@code Date}, {@code Calendar}) as date-formatted
+     * numeric cells.
+     * <br>
+     * 날짜 값({@code LocalDate}, {@code LocalDateTime}, {@code Date}, {@code Calendar})을 날짜 서식의 숫자 셀로 씁니다.
+     */
+    DATE
+}
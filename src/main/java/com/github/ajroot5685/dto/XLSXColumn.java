@@ -1,5 +1,7 @@
 package com.github.ajroot5685.dto;
 
+import com.github.ajroot5685.column.ValueFormatter;
+import com.github.ajroot5685.column.ValueFormatters;
 import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
@@ -9,10 +11,17 @@ import java.lang.annotation.Target;
  * Marks a field to be included as a column in the generated Excel file.
  * <br>
  * The optional {@code header} value defines the column name. If not set, the field name is used as the default header.
+ * The optional {@code type} value defines the cell type. If not set, it is inferred from the field type.
+ * Set {@code sharedString} on low-cardinality string columns to store repeated values once.
+ * {@code format} or {@code formatter} converts values into text with a cached formatter, and {@code nullValue} is
+ * written in place of {@code null}.
  * <p>
  * Excel 파일에 포함될 컬럼으로 필드를 표시하는 애노테이션입니다.
  * <br>
  * {@code header} 값은 컬럼 헤더 이름을 지정하며, 설정하지 않으면 필드 이름이 기본값으로 사용됩니다.
+ * {@code type} 값은 셀 타입을 지정하며, 설정하지 않으면 필드 타입으로부터 추론됩니다.
+ * 값의 종류가 적은 문자열 컬럼에 {@code sharedString}을 설정하면 반복되는 값이 한 번만 저장됩니다.
+ * {@code format} 또는 {@code formatter}는 캐시된 포매터로 값을 문자열로 변환하며, {@code nullValue}는 {@code null} 대신 쓰입니다.
  */
 @Retention(RetentionPolicy.RUNTIME)
 @Target(ElementType.FIELD)
@@ -26,4 +35,68 @@ public @interface XLSXColumn {
      * @return the header name
      */
     String header() default "";
-}
\ No newline at end of file
+
+    /**
+     * Cell type of the column. Defaults to {@link ColumnType#AUTO}, which infers the type from the field type.
+     * <br>
+     * 컬럼의 셀 타입입니다. 기본값 {@link ColumnType#AUTO}는 필드 타입으로부터 셀 타입을 추론합니다.
+     *
+     * @return the cell type
+     */
+    ColumnType type() default ColumnType.AUTO;
+
+    /**
+     * Whether string cells of the column go through the shared strings table. Defaults to {@code false}, which writes
+     * inline strings. Only applies to columns written as strings.
+     * <br>
+     * 컬럼의 문자열 셀을 공유 문자열 테이블로 쓸지 여부입니다. 기본값 {@code false}는 인라인 문자열로 씁니다. 문자열로 쓰이는 컬럼에만
+     * 적용됩니다.
+     *
+     * @return {@code true} to deduplicate repeated values
+     */
+    boolean sharedString() default false;
+
+    /**
+     * Pattern that formats the value into a string cell: a {@link java.time.format.DateTimeFormatter} pattern such as
+     * {@code "yyyy.MM.dd HH:mm"} for dates and times, or a {@link java.text.DecimalFormat} pattern such as
+     * {@code "#,##0.00"} for numbers. Defaults to empty, which writes the value as it is. Cannot be combined with
+     * {@link #formatter()} or a non-string {@link #type()}. {@code XLSXReader} parses the text back with the same
+     * pattern.
+     * <br>
+     * 값을 문자열 셀로 변환하는 패턴입니다. 날짜와 시간은 {@code "yyyy.MM.dd HH:mm"} 같은 {@link java.time.format.DateTimeFormatter}
+     * 패턴을, 숫자는 {@code "#,##0.00"} 같은 {@link java.text.DecimalFormat} 패턴을 사용합니다. 기본값은 빈 문자열이며 값을 그대로
+     * 씁니다. {@link #formatter()}나 문자열이 아닌 {@link #type()}과 함께 사용할 수 없습니다. {@code XLSXReader}는 같은 패턴으로 문자열을
+     * 다시 해석합니다.
+     *
+     * @return the format pattern
+     * @see ValueFormatters#ofPattern(Class, String)
+     */
+    String format() default "";
+
+    /**
+     * Class that formats the value into a string cell, for example to write enum labels. It needs a no-argument
+     * constructor and is instantiated once. Defaults to {@link ValueFormatter} itself, which means no formatter.
+     * Cannot be combined with {@link #format()} or a non-string {@link #type()}. {@code XLSXReader} can read the column
+     * only if the class implements {@link ValueFormatter#parse(String)}.
+     * <br>
+     * 값을 문자열 셀로 변환하는 클래스입니다 (예: enum 라벨). 인자 없는 생성자가 필요하며 한 번만 생성됩니다. 기본값
+     * {@link ValueFormatter}는 포매터를 사용하지 않음을 뜻합니다. {@link #format()}이나 문자열이 아닌 {@link #type()}과 함께 사용할 수
+     * 없습니다. {@code XLSXReader}는 클래스가 {@link ValueFormatter#parse(String)}를 구현한 경우에만 컬럼을 읽을 수 있습니다.
+     *
+     * @return the formatter class
+     * @see ValueFormatters#of(Class)
+     */
+    @SuppressWarnings("rawtypes")
+    Class<? extends ValueFormatter> formatter() default ValueFormatter.class;
+
+    /**
+     * Text written as a string cell when the value is {@code null}. Defaults to empty, which writes an empty string for
+     * {@link ColumnType#STRING} and a blank cell otherwise. {@code XLSXReader} reads this text as {@code null}.
+     * <br>
+     * 값이 {@code null}일 때 문자열 셀로 쓰이는 텍스트입니다. 기본값은 빈 문자열이며, {@link ColumnType#STRING}이면 빈 문자열을, 그 외에는
+     * 빈 셀을 씁니다. {@code XLSXReader}는 이 텍스트를 {@code null}로 읽습니다.
+     *
+     * @return the text for {@code null}
+     */
+    String nullValue() default "";
+}
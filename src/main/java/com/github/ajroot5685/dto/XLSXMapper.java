@@ -0,0 +1,64 @@
+package com.github.ajroot5685.dto;
+
+import com.github.ajroot5685.column.AnnotatedColumn;
+import com.github.ajroot5685.column.Columns;
+import java.util.List;
+
+/**
+ * Column mapping of an {@link XLSXColumn} DTO, generated at compile time by
+ * {@code com.github.ajroot5685.processor.XLSXColumnProcessor}.
+ * <br>
+ * Generated mappers are named after the DTO with the {@value #SUFFIX} suffix, live in the DTO's package and are
+ * registered as services. When a mapper exists for a DTO, its columns are used instead of reflection, so no field is
+ * made accessible at runtime.
+ * <br><br>
+ * {@link XLSXColumn} DTO의 컬럼 매핑으로, {@code com.github.ajroot5685.processor.XLSXColumnProcessor}가 컴파일 시점에 생성합니다.
+ * <br>
+ * 생성된 매퍼는 DTO 이름에 {@value #SUFFIX} 접미사를 붙인 이름으로 DTO와 같은 패키지에 만들어지며 서비스로 등록됩니다. DTO에 매퍼가 있으면
+ * 리플렉션 대신 매퍼의 컬럼을 사용하므로 런타임에 필드 접근 권한을 바꾸지 않습니다.
+ *
+ * @param <T> the DTO type
+ */
+public interface XLSXMapper<T> {
+
+    /**
+     * Suffix appended to the DTO's name, with nested class names joined by {@code _}.
+     * <br>
+     * DTO 이름에 붙는 접미사입니다. 중첩 클래스 이름은 {@code _}로 연결됩니다.
+     */
+    String SUFFIX = "_XLSXMapper";
+
+    /**
+     * Returns the DTO class this mapper describes.
+     * <br>
+     * 이 매퍼가 설명하는 DTO 클래스를 반환합니다.
+     *
+     * @return the DTO class
+     */
+    Class<T> type();
+
+    /**
+     * Returns the columns in field declaration order.
+     * <br>
+     * 필드 선언 순서대로 컬럼을 반환합니다.
+     *
+     * @return the columns
+     */
+    List<AnnotatedColumn<T>> columns();
+
+    /**
+     * Returns the columns rows are written with, in field declaration order. Defaults to {@link #columns()}.
+     * <br>
+     * Generated mappers read primitive numeric and boolean fields through primitive columns here, so their values are
+     * not boxed.
+     * <br>
+     * 행을 쓸 때 사용하는 컬럼을 필드 선언 순서대로 반환합니다. 기본값은 {@link #columns()}입니다.
+     * <br>
+     * 생성된 매퍼는 기본형 숫자와 boolean 필드를 기본형 컬럼으로 읽으므로 값이 박싱되지 않습니다.
+     *
+     * @return the columns used for writing
+     */
+    default Columns<T> writeColumns() {
+        return Columns.of(columns());
+    }
+}
@@ -3,9 +3,10 @@ package com.github.ajroot5685.example.auto.stream;
 import com.github.ajroot5685.core.ExcelBuilder;
 import com.github.ajroot5685.example.auto.AutoExampleDto;
 import com.github.ajroot5685.output.OutputWriter;
+import com.github.ajroot5685.output.PooledByteOutputStream;
 import com.github.ajroot5685.output.WriterFactory;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
@@ -18,14 +19,15 @@ public class StreamOutputExample {
                 new AutoExampleDto("2", "example2")
         );
 
-        try (ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+        try (PooledByteOutputStream out = new PooledByteOutputStream()) {
             // Writer generation is required.
             OutputWriter writer = WriterFactory.forStreamOutput(out);
             ExcelBuilder.generateWithAutoMapping(AutoExampleDto.class, excelDto, writer);
 
-            byte[] excelBytes = out.toByteArray();
-            // ex. export to File
-            Files.write(Path.of("path/fileName.xlsx"), excelBytes);
+            // ex. export to File, without copying the bytes into one array first
+            try (OutputStream file = Files.newOutputStream(Path.of("path/fileName.xlsx"))) {
+                out.writeTo(file);
+            }
         } catch (IOException e) {
             throw new RuntimeException("You control the error.");
         }
@@ -0,0 +1,7 @@
+package com.github.ajroot5685.exception;
+
+public class ExportCancelledException extends RuntimeException {
+    public ExportCancelledException(String reason, long rows) {
+        super("Export " + reason + " (" + rows + " rows written)");
+    }
+}
@@ -0,0 +1,7 @@
+package com.github.ajroot5685.exception;
+
+public class ExportRejectedException extends RuntimeException {
+    public ExportRejectedException(String message) {
+        super(message);
+    }
+}
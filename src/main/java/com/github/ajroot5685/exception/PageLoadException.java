@@ -0,0 +1,7 @@
+package com.github.ajroot5685.exception;
+
+public class PageLoadException extends RuntimeException {
+    public PageLoadException(Throwable cause) {
+        super("Failed to load the next page of rows", cause);
+    }
+}
@@ -0,0 +1,7 @@
+package com.github.ajroot5685.exception;
+
+public class RowSourceException extends RuntimeException {
+    public RowSourceException(Throwable cause) {
+        super("Failed to receive rows from the source", cause);
+    }
+}
@@ -0,0 +1,11 @@
+package com.github.ajroot5685.exception;
+
+public class XLSXReadException extends RuntimeException {
+    public XLSXReadException(String message) {
+        super(message);
+    }
+
+    public XLSXReadException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,36 @@
+package com.github.ajroot5685.input;
+
+import java.util.List;
+
+/**
+ * One page returned by a {@link CursorPageLoader}: its rows and the cursor of the next page.
+ * <br>
+ * {@link CursorPageLoader}가 반환하는 한 페이지로, 행 목록과 다음 페이지의 커서를 가집니다.
+ *
+ * @param items      the rows of the page
+ *                   <p>
+ *                   페이지의 행 목록
+ * @param nextCursor the cursor of the next page, or {@code null} if this is the last page
+ *                   <p>
+ *                   다음 페이지의 커서. 마지막 페이지라면 {@code null}
+ * @param <T>        the DTO type
+ * @param <C>        the cursor type
+ */
+public record CursorPage<T, C>(List<T> items, C nextCursor) {
+
+    /**
+     * Creates the last page.
+     * <br>
+     * 마지막 페이지를 생성합니다.
+     *
+     * @param items the rows of the page
+     *              <p>
+     *              페이지의 행 목록
+     * @param <T>   the DTO type
+     * @param <C>   the cursor type
+     * @return the last page
+     */
+    public static <T, C> CursorPage<T, C> last(List<T> items) {
+        return new CursorPage<>(items, null);
+    }
+}
@@ -0,0 +1,30 @@
+package com.github.ajroot5685.input;
+
+/**
+ * Loads one page of rows by a cursor token, for example from a keyset-paginated query.
+ * <br>
+ * 커서 토큰으로 한 페이지의 행을 불러오는 함수입니다. 예를 들어 키셋 페이지네이션 조회에 사용할 수 있습니다.
+ *
+ * @param <T> the DTO type
+ * @param <C> the cursor type
+ */
+@FunctionalInterface
+public interface CursorPageLoader<T, C> {
+
+    /**
+     * Loads the page that starts at {@code cursor}.
+     * <br>
+     * {@code cursor}에서 시작하는 페이지를 불러옵니다.
+     *
+     * @param cursor the cursor returned with the previous page, or {@code null} for the first page
+     *               <p>
+     *               이전 페이지와 함께 반환된 커서. 첫 페이지는 {@code null}
+     * @return the page and the cursor of the next page
+     * <p>
+     * 페이지와 다음 페이지의 커서
+     * @throws Exception if the page cannot be loaded
+     *                   <p>
+     *                   페이지를 불러올 수 없는 경우
+     */
+    CursorPage<T, C> load(C cursor) throws Exception;
+}
@@ -0,0 +1,35 @@
+package com.github.ajroot5685.input;
+
+import java.util.List;
+
+/**
+ * Loads one page of rows by offset and limit, for example from a paginated repository query.
+ * <br>
+ * 오프셋과 개수로 한 페이지의 행을 불러오는 함수입니다. 예를 들어 페이지네이션된 리포지토리 조회에 사용할 수 있습니다.
+ *
+ * @param <T> the DTO type
+ */
+@FunctionalInterface
+public interface OffsetPageLoader<T> {
+
+    /**
+     * Loads up to {@code limit} rows starting at {@code offset}. A page with fewer than {@code limit} rows is the last
+     * one.
+     * <br>
+     * {@code offset}부터 최대 {@code limit}개의 행을 불러옵니다. {@code limit}보다 적은 행을 가진 페이지가 마지막 페이지입니다.
+     *
+     * @param offset the zero-based index of the first row
+     *               <p>
+     *               0부터 시작하는 첫 행의 인덱스
+     * @param limit  the maximum number of rows to load
+     *               <p>
+     *               불러올 최대 행 수
+     * @return the rows of the page
+     * <p>
+     * 페이지의 행 목록
+     * @throws Exception if the page cannot be loaded
+     *                   <p>
+     *                   페이지를 불러올 수 없는 경우
+     */
+    List<T> load(long offset, int limit) throws Exception;
+}
@@ -0,0 +1,179 @@
+package com.github.ajroot5685.input;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+/**
+ * {@link Iterable} over paginated data that loads the next page in the background while the current page is written.
+ * <br>
+ * Each call to {@link #iterator()} starts loading from the first page. At most about two pages are held in memory: the
+ * one being written and the one loaded ahead. Failures of the page loader are rethrown from the iterator as
+ * {@link com.github.ajroot5685.exception.PageLoadException}. {@code ExcelBuilder} stops the background loading when the
+ * export ends early.
+ * <br><br>
+ * 현재 페이지를 쓰는 동안 다음 페이지를 백그라운드에서 불러오는 페이지네이션 데이터용 {@link Iterable}입니다.
+ * <br>
+ * {@link #iterator()}를 호출할 때마다 첫 페이지부터 불러옵니다. 메모리에는 쓰고 있는 페이지와 미리 불러온 페이지, 약 두 페이지만
+ * 유지됩니다. 페이지 로더의 실패는 이터레이터에서 {@link com.github.ajroot5685.exception.PageLoadException}으로 다시 던져집니다. 내보내기가
+ * 중간에 끝나면 {@code ExcelBuilder}가 백그라운드 로딩을 멈춥니다.
+ *
+ * @param <T> the DTO type
+ */
+public final class PagedSource<T> implements Iterable<T> {
+
+    /**
+     * Runs each prefetch loop on its own daemon thread, so blocking page queries never occupy a shared pool.
+     */
+    private static final Executor DEDICATED_THREAD = task -> {
+        Thread thread = new Thread(task, "xlsx-page-prefetch");
+        thread.setDaemon(true);
+        thread.start();
+    };
+
+    private final Supplier<PageCursor<T>> cursors;
+    private final Executor executor;
+
+    private PagedSource(Supplier<PageCursor<T>> cursors, Executor executor) {
+        this.cursors = cursors;
+        this.executor = executor;
+    }
+
+    /**
+     * Creates a source that loads pages of {@code pageSize} rows by offset.
+     * <br><br>
+     * 오프셋으로 {@code pageSize}개씩 페이지를 불러오는 소스를 생성합니다.
+     *
+     * @param pageSize the number of rows per page
+     *                 <p>
+     *                 페이지당 행 수
+     * @param loader   the page loader
+     *                 <p>
+     *                 페이지 로더
+     * @param <T>      the DTO type
+     * @return the source
+     * @throws IllegalArgumentException if {@code pageSize} is less than {@code 1}
+     */
+    public static <T> PagedSource<T> byOffset(int pageSize, OffsetPageLoader<T> loader) {
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("pageSize must be at least 1: " + pageSize);
+        }
+        Objects.requireNonNull(loader, "loader");
+        return new PagedSource<>(() -> new OffsetCursor<>(pageSize, loader), DEDICATED_THREAD);
+    }
+
+    /**
+     * Creates a source that loads pages by cursor, starting with a {@code null} cursor.
+     * <br><br>
+     * {@code null} 커서에서 시작해 커서로 페이지를 불러오는 소스를 생성합니다.
+     *
+     * @param loader the page loader
+     *               <p>
+     *               페이지 로더
+     * @param <T>    the DTO type
+     * @param <C>    the cursor type
+     * @return the source
+     */
+    public static <T, C> PagedSource<T> byCursor(CursorPageLoader<T, C> loader) {
+        Objects.requireNonNull(loader, "loader");
+        return new PagedSource<>(() -> new TokenCursor<>(loader), DEDICATED_THREAD);
+    }
+
+    /**
+     * Returns a source that loads pages on the given executor instead of a dedicated thread per iteration.
+     * <br><br>
+     * 반복마다 전용 스레드를 만드는 대신 주어진 실행기에서 페이지를 불러오는 소스를 반환합니다.
+     *
+     * @param executor the executor that runs page loading
+     *                 <p>
+     *                 페이지 로딩을 실행할 실행기
+     * @return a new source
+     */
+    public PagedSource<T> prefetchOn(Executor executor) {
+        return new PagedSource<>(cursors, Objects.requireNonNull(executor, "executor"));
+    }
+
+    /**
+     * Starts loading from the first page and returns an iterator over all rows.
+     * <br>
+     * The iterator also implements {@link AutoCloseable}; closing it stops the background loading.
+     * <br><br>
+     * 첫 페이지부터 불러오기 시작하고 모든 행에 대한 이터레이터를 반환합니다.
+     * <br>
+     * 이터레이터는 {@link AutoCloseable}도 구현하며, 닫으면 백그라운드 로딩이 멈춥니다.
+     *
+     * @return the iterator
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new PrefetchingIterator<>(cursors.get(), executor);
+    }
+
+    /**
+     * Walks the pages of one iteration. Called only from the prefetch thread.
+     */
+    interface PageCursor<T> {
+
+        /**
+         * Returns the next page, or {@code null} when there are no more pages.
+         */
+        List<T> next() throws Exception;
+    }
+
+    private static final class OffsetCursor<T> implements PageCursor<T> {
+
+        private final int pageSize;
+        private final OffsetPageLoader<T> loader;
+        private long offset;
+        private boolean done;
+
+        private OffsetCursor(int pageSize, OffsetPageLoader<T> loader) {
+            this.pageSize = pageSize;
+            this.loader = loader;
+        }
+
+        @Override
+        public List<T> next() throws Exception {
+            if (done) {
+                return null;
+            }
+            List<T> page = loader.load(offset, pageSize);
+            if (page == null || page.size() < pageSize) {
+                done = true;
+            }
+            if (page == null || page.isEmpty()) {
+                return null;
+            }
+            offset += page.size();
+            return page;
+        }
+    }
+
+    private static final class TokenCursor<T, C> implements PageCursor<T> {
+
+        private final CursorPageLoader<T, C> loader;
+        private C cursor;
+        private boolean done;
+
+        private TokenCursor(CursorPageLoader<T, C> loader) {
+            this.loader = loader;
+        }
+
+        @Override
+        public List<T> next() throws Exception {
+            if (done) {
+                return null;
+            }
+            CursorPage<T, C> page = loader.load(cursor);
+            if (page == null) {
+                done = true;
+                return null;
+            }
+            cursor = page.nextCursor();
+            done = cursor == null;
+            return page.items();
+        }
+    }
+}
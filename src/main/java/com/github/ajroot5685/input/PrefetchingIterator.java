@@ -0,0 +1,143 @@
+package com.github.ajroot5685.input;
+
+import com.github.ajroot5685.exception.PageLoadException;
+import java.lang.ref.Cleaner;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Iterator that hands pages from a background loader to the consuming thread.
+ * <br>
+ * A {@link SynchronousQueue} sits between the two stages, so the loader holds at most one finished page while the
+ * consumer works through the previous one. The loader polls {@link #close()} while it waits, so a closed iteration
+ * releases the loader thread. The loader does not reference the iterator, and a {@link Cleaner} closes an iterator
+ * that becomes unreachable without being closed, so an abandoned iteration releases the thread too.
+ */
+final class PrefetchingIterator<T> implements Iterator<T>, AutoCloseable {
+
+    private static final long HANDOFF_POLL_MILLIS = 50;
+    private static final Cleaner CLEANER = Cleaner.create();
+
+    private final Loader<T> loader;
+    private final Cleaner.Cleanable cleanable;
+    private Iterator<T> current = Collections.emptyIterator();
+    private boolean finished;
+
+    PrefetchingIterator(PagedSource.PageCursor<T> cursor, Executor executor) {
+        this.loader = new Loader<>(cursor);
+        this.cleanable = CLEANER.register(this, loader::stop);
+        executor.execute(loader);
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!current.hasNext()) {
+            if (finished) {
+                return false;
+            }
+            Page<T> page = take();
+            if (page.failure() != null) {
+                finish();
+                throw new PageLoadException(page.failure());
+            }
+            if (page.items() == null) {
+                finish();
+                return false;
+            }
+            current = page.items().iterator();
+        }
+        return true;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return current.next();
+    }
+
+    /**
+     * Stops the background loader after its current page.
+     */
+    @Override
+    public void close() {
+        cleanable.clean();
+    }
+
+    private void finish() {
+        finished = true;
+        current = Collections.emptyIterator();
+        close();
+    }
+
+    private Page<T> take() {
+        try {
+            return loader.handoff.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            finish();
+            throw new PageLoadException(e);
+        }
+    }
+
+    /**
+     * Loads pages until the cursor is exhausted or it is stopped. Runs on the executor.
+     */
+    private static final class Loader<T> implements Runnable {
+
+        private final PagedSource.PageCursor<T> cursor;
+        private final SynchronousQueue<Page<T>> handoff = new SynchronousQueue<>();
+        private volatile boolean stopped;
+
+        private Loader(PagedSource.PageCursor<T> cursor) {
+            this.cursor = cursor;
+        }
+
+        void stop() {
+            stopped = true;
+        }
+
+        @Override
+        public void run() {
+            try {
+                List<T> items;
+                while (!stopped && (items = cursor.next()) != null) {
+                    if (!handOver(new Page<>(items, null))) {
+                        return;
+                    }
+                }
+                handOver(new Page<>(null, null));
+            } catch (Throwable e) {
+                handOver(new Page<>(null, e));
+            }
+        }
+
+        /**
+         * Waits until the consumer takes the page. Returns {@code false} if the loader was stopped meanwhile.
+         */
+        private boolean handOver(Page<T> page) {
+            try {
+                while (!stopped) {
+                    if (handoff.offer(page, HANDOFF_POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+                        return true;
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return false;
+        }
+    }
+
+    /**
+     * A loaded page, the end marker (both fields {@code null}) or a loader failure.
+     */
+    private record Page<T>(List<T> items, Throwable failure) {
+    }
+}
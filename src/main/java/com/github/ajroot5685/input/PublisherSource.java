@@ -0,0 +1,89 @@
+package com.github.ajroot5685.input;
+
+import com.github.ajroot5685.constant.Default;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.concurrent.Flow;
+
+/**
+ * {@link Iterable} over the items of a {@link Flow.Publisher}, requested in batches as rows are written.
+ * <br>
+ * Each call to {@link #iterator()} subscribes once. Rows are requested only after earlier rows were written, so at most
+ * {@code batchSize} items are buffered and a fast upstream is throttled to the speed of the export. Errors signalled by
+ * the publisher are rethrown from the iterator as {@link com.github.ajroot5685.exception.RowSourceException}.
+ * {@code ExcelBuilder} cancels the subscription when the export ends early.
+ * <br><br>
+ * {@link Flow.Publisher}의 항목을 행이 쓰이는 만큼 배치 단위로 요청하는 {@link Iterable}입니다.
+ * <br>
+ * {@link #iterator()}를 호출할 때마다 한 번 구독합니다. 앞선 행이 쓰인 뒤에만 다음 행을 요청하므로 버퍼에는 최대 {@code batchSize}개만
+ * 쌓이며, 빠른 업스트림은 내보내기 속도에 맞춰 조절됩니다. 퍼블리셔가 알린 오류는 이터레이터에서
+ * {@link com.github.ajroot5685.exception.RowSourceException}으로 다시 던져집니다. 내보내기가 중간에 끝나면 {@code ExcelBuilder}가 구독을
+ * 취소합니다.
+ *
+ * @param <T> the DTO type
+ */
+public final class PublisherSource<T> implements Iterable<T> {
+
+    private final Flow.Publisher<? extends T> publisher;
+    private final int batchSize;
+
+    private PublisherSource(Flow.Publisher<? extends T> publisher, int batchSize) {
+        this.publisher = publisher;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Creates a source that requests {@value Default#PUBLISHER_BATCH_SIZE} items at a time.
+     * <br><br>
+     * 한 번에 {@value Default#PUBLISHER_BATCH_SIZE}개씩 요청하는 소스를 생성합니다.
+     *
+     * @param publisher the publisher of the rows
+     *                  <p>
+     *                  행을 발행하는 퍼블리셔
+     * @param <T>       the DTO type
+     * @return the source
+     */
+    public static <T> PublisherSource<T> of(Flow.Publisher<? extends T> publisher) {
+        return of(publisher, Default.PUBLISHER_BATCH_SIZE);
+    }
+
+    /**
+     * Creates a source that buffers at most {@code batchSize} items.
+     * <br><br>
+     * 최대 {@code batchSize}개의 항목만 버퍼에 담는 소스를 생성합니다.
+     *
+     * @param publisher the publisher of the rows
+     *                  <p>
+     *                  행을 발행하는 퍼블리셔
+     * @param batchSize the maximum number of requested but unwritten items
+     *                  <p>
+     *                  요청했지만 아직 쓰이지 않은 항목의 최대 개수
+     * @param <T>       the DTO type
+     * @return the source
+     * @throws IllegalArgumentException if {@code batchSize} is less than {@code 1}
+     */
+    public static <T> PublisherSource<T> of(Flow.Publisher<? extends T> publisher, int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batchSize must be at least 1: " + batchSize);
+        }
+        return new PublisherSource<>(Objects.requireNonNull(publisher, "publisher"), batchSize);
+    }
+
+    /**
+     * Subscribes to the publisher and returns an iterator over its items.
+     * <br>
+     * The iterator also implements {@link AutoCloseable}; closing it cancels the subscription.
+     * <br><br>
+     * 퍼블리셔를 구독하고 그 항목에 대한 이터레이터를 반환합니다.
+     * <br>
+     * 이터레이터는 {@link AutoCloseable}도 구현하며, 닫으면 구독이 취소됩니다.
+     *
+     * @return the iterator
+     */
+    @Override
+    public Iterator<T> iterator() {
+        SubscriberIterator<T> iterator = new SubscriberIterator<>(batchSize);
+        publisher.subscribe(iterator);
+        return iterator;
+    }
+}
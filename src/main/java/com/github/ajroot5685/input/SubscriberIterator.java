@@ -0,0 +1,132 @@
+package com.github.ajroot5685.input;
+
+import com.github.ajroot5685.exception.RowSourceException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Flow;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * Subscriber that exposes the received items as a blocking iterator.
+ * <br>
+ * The initial demand is {@code batchSize}. Demand is replenished from the consuming thread after half a batch has been
+ * taken, so received-but-unconsumed items plus outstanding demand never exceed {@code batchSize}.
+ */
+final class SubscriberIterator<T> implements Flow.Subscriber<T>, Iterator<T>, AutoCloseable {
+
+    private static final Object COMPLETE = new Object();
+
+    private final int batchSize;
+    private final int replenishThreshold;
+    private final BlockingQueue<Object> queue = new LinkedBlockingQueue<>();
+    private volatile Flow.Subscription subscription;
+    private volatile boolean closed;
+    private int consumedSinceRequest;
+    private Object next;
+    private boolean finished;
+
+    SubscriberIterator(int batchSize) {
+        this.batchSize = batchSize;
+        this.replenishThreshold = Math.max(1, batchSize / 2);
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        if (this.subscription != null || closed) {
+            subscription.cancel();
+            return;
+        }
+        this.subscription = subscription;
+        subscription.request(batchSize);
+    }
+
+    @Override
+    public void onNext(T item) {
+        Objects.requireNonNull(item, "item");
+        if (queue.size() >= batchSize) {
+            subscription.cancel();
+            queue.add(new Failure(new IllegalStateException("Publisher sent more items than requested")));
+            return;
+        }
+        queue.add(item);
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        queue.add(new Failure(throwable));
+    }
+
+    @Override
+    public void onComplete() {
+        queue.add(COMPLETE);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next != null) {
+            return true;
+        }
+        if (finished) {
+            return false;
+        }
+        Object signal = take();
+        if (signal == COMPLETE) {
+            finished = true;
+            return false;
+        }
+        if (signal instanceof Failure failure) {
+            finished = true;
+            throw new RowSourceException(failure.cause());
+        }
+        next = signal;
+        return true;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        T item = (T) next;
+        next = null;
+        if (++consumedSinceRequest >= replenishThreshold) {
+            subscription.request(consumedSinceRequest);
+            consumedSinceRequest = 0;
+        }
+        return item;
+    }
+
+    /**
+     * Cancels the subscription unless the publisher already terminated, and drops buffered items.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        Flow.Subscription current = subscription;
+        if (current != null && !finished) {
+            current.cancel();
+        }
+        finished = true;
+        next = null;
+        queue.clear();
+    }
+
+    private Object take() {
+        try {
+            return queue.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            close();
+            throw new RowSourceException(e);
+        }
+    }
+
+    /**
+     * Error signalled by the publisher, queued behind the items received before it.
+     */
+    private record Failure(Throwable cause) {
+    }
+}
@@ -0,0 +1,250 @@
+package com.github.ajroot5685.output;
+
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bridges a producer thread writing an export to a non-blocking servlet output stream.
+ * <br>
+ * The producer writes into a bounded queue of chunks and blocks when it is full. The chunks are written to the
+ * response only while {@link ServletOutputStream#isReady()} is {@code true}, either right after the producer queued
+ * them or from {@link #onWritePossible()} once the socket accepts data again. The export therefore advances only as
+ * fast as the client reads, and no container thread waits on the socket. A {@link ReentrantLock} rather than
+ * {@code synchronized} guards the drain so that virtual-thread producers are not pinned.
+ * <br>
+ * The producer waits for the client at most the idle timeout, both for room in the queue and, after the last chunk,
+ * for the queue to drain. When it expires the pipe fails, which ends the response and makes the producer's next write
+ * throw.
+ */
+final class AsyncResponsePipe extends OutputStream implements WriteListener, AsyncListener {
+
+    private static final int CHUNK_SIZE = 16 * 1024;
+    private static final int QUEUE_CAPACITY = 4;
+
+    /**
+     * Marker queued after the last chunk.
+     */
+    private static final byte[] END = new byte[0];
+
+    private final AsyncContext asyncContext;
+    private final ServletOutputStream out;
+    private final BlockingQueue<byte[]> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+    private final ReentrantLock drainLock = new ReentrantLock();
+    private final CompletableFuture<Void> completion = new CompletableFuture<>();
+    private final byte[] buffer = new byte[CHUNK_SIZE];
+    private final long idleTimeoutNanos;
+    private int position;
+    private volatile Throwable failure;
+    private volatile long lastProgress = System.nanoTime();
+
+    AsyncResponsePipe(AsyncContext asyncContext, ServletOutputStream out, long idleTimeoutNanos) {
+        this.asyncContext = asyncContext;
+        this.out = out;
+        this.idleTimeoutNanos = idleTimeoutNanos;
+    }
+
+    /**
+     * Completes when the last byte was handed to the container, or exceptionally when the response failed.
+     */
+    CompletableFuture<Void> completion() {
+        return completion;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        if (position == buffer.length) {
+            flush();
+        }
+        buffer[position++] = (byte) b;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        while (len > 0) {
+            if (position == buffer.length) {
+                flush();
+            }
+            int count = Math.min(len, buffer.length - position);
+            System.arraycopy(b, off, buffer, position, count);
+            position += count;
+            off += count;
+            len -= count;
+        }
+    }
+
+    /**
+     * Queues the buffered bytes, blocking while the queue is full.
+     */
+    @Override
+    public void flush() throws IOException {
+        if (position == 0) {
+            return;
+        }
+        byte[] chunk = new byte[position];
+        System.arraycopy(buffer, 0, chunk, 0, position);
+        position = 0;
+        enqueue(chunk);
+    }
+
+    /**
+     * Queues the remaining bytes and the end marker, and waits until the queue drains and the response is completed.
+     */
+    @Override
+    public void close() throws IOException {
+        flush();
+        enqueue(END);
+        awaitCompletion();
+    }
+
+    /**
+     * Returns whether the response failed, for example because the client disconnected or the container timed out.
+     */
+    boolean failed() {
+        return failure != null;
+    }
+
+    /**
+     * Ends the response after the producer failed, without writing the bytes still queued.
+     */
+    void abort(Throwable cause) {
+        fail(cause);
+    }
+
+    @Override
+    public void onWritePossible() {
+        drain();
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        fail(t);
+    }
+
+    @Override
+    public void onComplete(AsyncEvent event) {
+        // Completion is reported by drain() or fail().
+    }
+
+    @Override
+    public void onTimeout(AsyncEvent event) {
+        fail(new IOException("Async response timed out"));
+    }
+
+    @Override
+    public void onError(AsyncEvent event) {
+        fail(event.getThrowable() != null ? event.getThrowable() : new IOException("Async response failed"));
+    }
+
+    @Override
+    public void onStartAsync(AsyncEvent event) {
+        // Not used.
+    }
+
+    private void enqueue(byte[] chunk) throws IOException {
+        checkFailure();
+        try {
+            if (!queue.offer(chunk, idleTimeoutNanos, TimeUnit.NANOSECONDS)) {
+                fail(idleTimeout());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for the client", e);
+        }
+        drain();
+        checkFailure();
+    }
+
+    /**
+     * Waits until the queued chunks are written. Fails the pipe once the client accepted nothing for the idle timeout.
+     */
+    private void awaitCompletion() throws IOException {
+        while (!completion.isDone()) {
+            long remaining = lastProgress + idleTimeoutNanos - System.nanoTime();
+            if (remaining <= 0) {
+                fail(idleTimeout());
+                break;
+            }
+            try {
+                completion.get(remaining, TimeUnit.NANOSECONDS);
+            } catch (TimeoutException | ExecutionException ignored) {
+                // Checked again by the loop and checkFailure().
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while waiting for the client", e);
+            }
+        }
+        checkFailure();
+    }
+
+    private IOException idleTimeout() {
+        long millis = TimeUnit.NANOSECONDS.toMillis(idleTimeoutNanos);
+        return new IOException("Client accepted no data for " + millis + " ms");
+    }
+
+    private void checkFailure() throws IOException {
+        Throwable cause = failure;
+        if (cause != null) {
+            throw new IOException("Response is no longer writable", cause);
+        }
+    }
+
+    /**
+     * Writes queued chunks while the container accepts data without blocking.
+     */
+    private void drain() {
+        drainLock.lock();
+        try {
+            while (failure == null && !completion.isDone() && out.isReady()) {
+                byte[] chunk = queue.poll();
+                if (chunk == null) {
+                    return;
+                }
+                if (chunk == END) {
+                    asyncContext.complete();
+                    completion.complete(null);
+                    return;
+                }
+                out.write(chunk);
+                lastProgress = System.nanoTime();
+            }
+        } catch (IOException | RuntimeException e) {
+            fail(e);
+        } finally {
+            drainLock.unlock();
+        }
+    }
+
+    /**
+     * Records the first failure, releases a producer blocked on the queue and ends the response.
+     */
+    private void fail(Throwable cause) {
+        drainLock.lock();
+        try {
+            if (failure != null || completion.isDone()) {
+                return;
+            }
+            failure = cause;
+            queue.clear();
+            try {
+                asyncContext.complete();
+            } catch (RuntimeException ignored) {
+                // The container may already have completed the request.
+            }
+            completion.completeExceptionally(cause);
+        } finally {
+            drainLock.unlock();
+        }
+    }
+}
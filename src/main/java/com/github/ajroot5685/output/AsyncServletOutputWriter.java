@@ -0,0 +1,249 @@
+package com.github.ajroot5685.output;
+
+import com.github.ajroot5685.constant.Default;
+import com.github.ajroot5685.exception.StreamOutputException;
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+
+/**
+ * {@link OutputWriter} that streams an Excel download with Servlet non-blocking I/O.
+ * <br>
+ * {@link #start(Executor, Consumer)} puts the request into async mode and runs the export on the given executor, so
+ * the container thread is released immediately. Bytes are handed to the response through a
+ * {@link jakarta.servlet.WriteListener} only while the connection accepts them, and the export pauses while the client
+ * is slow. Combined with {@code ExportEngine.DIRECT}, the workbook is produced only as fast as it is downloaded. When
+ * the container reports that the client disconnected, {@link #isAborted()} turns {@code true} and the export stops
+ * between rows. When the client accepts no data for the idle timeout, the response is aborted and the export fails
+ * with a {@link StreamOutputException}.
+ * <br><br>
+ * Servlet 논블로킹 I/O로 Excel 다운로드를 스트리밍하는 {@link OutputWriter}입니다.
+ * <br>
+ * {@link #start(Executor, Consumer)}는 요청을 비동기 모드로 전환하고 주어진 실행기에서 내보내기를 실행하므로 컨테이너 스레드가 즉시
+ * 반환됩니다. 바이트는 연결이 받을 수 있을 때만 {@link jakarta.servlet.WriteListener}를 통해 응답에 쓰이고, 클라이언트가 느리면 내보내기도
+ * 잠시 멈춥니다. {@code ExportEngine.DIRECT}와 함께 사용하면 워크북은 다운로드되는 속도만큼만 생성됩니다. 컨테이너가 클라이언트의 연결
+ * 종료를 알리면 {@link #isAborted()}가 {@code true}가 되어 내보내기가 행 사이에서 멈춥니다. 클라이언트가 유휴 타임아웃 동안 데이터를 받지
+ * 않으면 응답이 중단되고 내보내기는 {@link StreamOutputException}으로 실패합니다.
+ */
+public class AsyncServletOutputWriter extends ServletOutputWriter {
+
+    private final HttpServletRequest request;
+    private final Duration idleTimeout;
+    private volatile AsyncResponsePipe pipe;
+
+    /**
+     * Constructs a new {@link AsyncServletOutputWriter} using the default file name.
+     * <br><br>
+     * 기본 파일 이름을 사용하는 {@link AsyncServletOutputWriter}를 생성합니다.
+     *
+     * @param request  the HTTP request to put into async mode
+     *                 <p>
+     *                 비동기 모드로 전환할 HTTP 요청 객체
+     * @param response the HTTP response to write to
+     *                 <p>
+     *                 Excel 데이터를 쓸 HTTP 응답 객체
+     */
+    public AsyncServletOutputWriter(HttpServletRequest request, HttpServletResponse response) {
+        this(request, response, Default.FILE_NAME);
+    }
+
+    /**
+     * Constructs a new {@link AsyncServletOutputWriter} with the specified file name and the default idle timeout of
+     * 60 seconds.
+     * <br>
+     * The ".xlsx" extension is appended automatically if missing.
+     * <br><br>
+     * 지정된 파일 이름과 기본 유휴 타임아웃 60초로 {@link AsyncServletOutputWriter}를 생성합니다.
+     * <br>
+     * 파일 이름에 ".xlsx" 확장자가 없으면 자동으로 추가됩니다.
+     *
+     * @param request  the HTTP request to put into async mode
+     *                 <p>
+     *                 비동기 모드로 전환할 HTTP 요청 객체
+     * @param response the HTTP response to write to
+     *                 <p>
+     *                 Excel 데이터를 쓸 HTTP 응답 객체
+     * @param fileName the download file name
+     *                 <p>
+     *                 다운로드될 파일 이름 (예: "report.xlsx")
+     */
+    public AsyncServletOutputWriter(HttpServletRequest request, HttpServletResponse response, String fileName) {
+        this(request, response, fileName, Duration.ofSeconds(Default.ASYNC_IDLE_TIMEOUT_SECONDS));
+    }
+
+    /**
+     * Constructs a new {@link AsyncServletOutputWriter} with the specified file name and idle timeout.
+     * <br>
+     * The idle timeout bounds how long the export waits for a client that accepts no data. It does not limit the
+     * total download time, so a slow but progressing client is not cut off.
+     * <br><br>
+     * 지정된 파일 이름과 유휴 타임아웃으로 {@link AsyncServletOutputWriter}를 생성합니다.
+     * <br>
+     * 유휴 타임아웃은 데이터를 받지 않는 클라이언트를 내보내기가 기다리는 최대 시간입니다. 전체 다운로드 시간은 제한하지 않으므로 느리더라도
+     * 계속 받고 있는 클라이언트는 끊기지 않습니다.
+     *
+     * @param request     the HTTP request to put into async mode
+     *                    <p>
+     *                    비동기 모드로 전환할 HTTP 요청 객체
+     * @param response    the HTTP response to write to
+     *                    <p>
+     *                    Excel 데이터를 쓸 HTTP 응답 객체
+     * @param fileName    the download file name
+     *                    <p>
+     *                    다운로드될 파일 이름 (예: "report.xlsx")
+     * @param idleTimeout the longest time to wait for the client to accept more data, positive
+     *                    <p>
+     *                    클라이언트가 데이터를 더 받기를 기다리는 최대 시간 (양수)
+     * @throws IllegalArgumentException if {@code idleTimeout} is zero or negative
+     *                                  <p>
+     *                                  {@code idleTimeout}이 0 이하인 경우
+     */
+    public AsyncServletOutputWriter(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            String fileName,
+            Duration idleTimeout
+    ) {
+        super(request, response, fileName);
+        if (Objects.requireNonNull(idleTimeout, "idleTimeout").isNegative() || idleTimeout.isZero()) {
+            throw new IllegalArgumentException("idleTimeout must be positive: " + idleTimeout);
+        }
+        this.request = request;
+        this.idleTimeout = idleTimeout;
+    }
+
+    /**
+     * Starts async processing and runs {@code export} with this writer on {@code executor}.
+     * <br>
+     * Must be called on the request thread; the method returns without waiting for the export. The container's async
+     * timeout is disabled because it would limit the total download time; the idle timeout bounds every wait for the
+     * client instead. If the export fails before the response is committed, the status is set to 500.
+     * <br><br>
+     * 비동기 처리를 시작하고 {@code executor}에서 이 writer로 {@code export}를 실행합니다.
+     * <br>
+     * 요청 스레드에서 호출해야 하며, 내보내기를 기다리지 않고 반환합니다. 컨테이너의 비동기 타임아웃은 전체 다운로드 시간을 제한하므로
+     * 끄고, 대신 유휴 타임아웃이 클라이언트를 기다리는 시간을 제한합니다. 응답이 커밋되기 전에 내보내기가 실패하면 상태 코드는 500으로
+     * 설정됩니다.
+     *
+     * @param executor the executor that runs the export
+     *                 <p>
+     *                 내보내기를 실행할 실행기
+     * @param export   the export to run, for example {@code writer -> plan.export(rows, writer)}
+     *                 <p>
+     *                 실행할 내보내기 (예: {@code writer -> plan.export(rows, writer)})
+     * @return a future that completes when the response is complete, or exceptionally if the export or the connection
+     * failed
+     * <p>
+     * 응답이 완료되면 완료되고, 내보내기나 연결이 실패하면 예외로 완료되는 future
+     * @throws IllegalStateException if the writer was already started
+     *                               <p>
+     *                               이미 시작된 writer인 경우
+     * @throws StreamOutputException if the response output stream cannot be obtained
+     *                               <p>
+     *                               응답 출력 스트림을 얻을 수 없는 경우
+     */
+    public CompletableFuture<Void> start(Executor executor, Consumer<? super OutputWriter> export) {
+        AsyncResponsePipe pipe;
+        synchronized (this) {
+            if (this.pipe != null) {
+                throw new IllegalStateException("AsyncServletOutputWriter was already started");
+            }
+            try {
+                AsyncContext asyncContext = request.startAsync();
+                asyncContext.setTimeout(0);
+                ServletOutputStream out = response().getOutputStream();
+                pipe = new AsyncResponsePipe(asyncContext, out, idleTimeout.toNanos());
+                asyncContext.addListener(pipe);
+                this.pipe = pipe;
+                out.setWriteListener(pipe);
+            } catch (IOException e) {
+                throw new StreamOutputException(e);
+            }
+        }
+
+        try {
+            executor.execute(() -> run(pipe, export));
+        } catch (RejectedExecutionException e) {
+            failResponse(pipe, e);
+        }
+        return pipe.completion();
+    }
+
+    /**
+     * Writes the given {@link OutputContent} to the response through the non-blocking pipe.
+     * <br>
+     * Blocks the calling export thread while the client is not ready for more bytes. Before
+     * {@link #start(Executor, Consumer)} is called, this writes to the response stream directly like
+     * {@link ServletOutputWriter}.
+     * <br><br>
+     * 주어진 {@link OutputContent}를 논블로킹 파이프를 통해 응답에 작성합니다.
+     * <br>
+     * 클라이언트가 더 받을 준비가 되지 않았다면 내보내기 스레드가 대기합니다. {@link #start(Executor, Consumer)} 호출 전에는
+     * {@link ServletOutputWriter}처럼 응답 스트림에 직접 씁니다.
+     *
+     * @param content the content to write
+     *                <p>
+     *                출력할 내용
+     * @throws StreamOutputException if an error occurs while writing to the response
+     *                               <p>
+     *                               응답 스트림에 쓰는 도중 오류가 발생하면 {@link StreamOutputException}이 발생합니다.
+     */
+    @Override
+    public void write(OutputContent content) {
+        AsyncResponsePipe pipe = this.pipe;
+        if (pipe == null) {
+            super.write(content);
+            return;
+        }
+        try {
+            if (prepareResponse(content)) {
+                content.writeTo(pipe);
+                pipe.flush();
+            }
+        } catch (Exception e) {
+            throw new StreamOutputException(e);
+        }
+    }
+
+    /**
+     * Returns whether the async response failed, for example because the client disconnected. Always {@code false}
+     * before {@link #start(Executor, Consumer)} is called.
+     * <br><br>
+     * 클라이언트 연결 종료 등으로 비동기 응답이 실패했는지 반환합니다. {@link #start(Executor, Consumer)} 호출 전에는 항상
+     * {@code false}입니다.
+     *
+     * @return {@code true} if the response can no longer be written
+     */
+    @Override
+    public boolean isAborted() {
+        AsyncResponsePipe pipe = this.pipe;
+        return pipe != null && pipe.failed();
+    }
+
+    /**
+     * Runs the export on the executor and ends the response.
+     */
+    private void run(AsyncResponsePipe pipe, Consumer<? super OutputWriter> export) {
+        try {
+            export.accept(this);
+            pipe.close();
+        } catch (Throwable e) {
+            failResponse(pipe, e);
+        }
+    }
+
+    private void failResponse(AsyncResponsePipe pipe, Throwable cause) {
+        if (!response().isCommitted()) {
+            response().setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+        }
+        pipe.abort(cause);
+    }
+}
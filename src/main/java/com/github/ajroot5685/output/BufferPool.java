@@ -0,0 +1,58 @@
+package com.github.ajroot5685.output;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Bounded, thread-safe pool of output buffers shared by all exports.
+ * <br>
+ * Buffers beyond {@code maxPooled} are left to the garbage collector when released, so a burst of concurrent exports
+ * never pins more than {@code maxPooled} buffers afterwards.
+ */
+final class BufferPool<B> {
+
+    /**
+     * 1 MB direct buffers for {@link ChannelOutputStream}. Direct buffers let the channel write without an extra copy.
+     */
+    static final BufferPool<ByteBuffer> DIRECT = new BufferPool<>(() -> ByteBuffer.allocateDirect(1024 * 1024), 16);
+
+    /**
+     * 64 KB heap chunks for {@link PooledByteOutputStream}, at most 16 MB kept in the pool.
+     */
+    static final BufferPool<byte[]> CHUNKS = new BufferPool<>(() -> new byte[64 * 1024], 256);
+
+    private final Supplier<B> factory;
+    private final int maxPooled;
+    private final ConcurrentLinkedQueue<B> pooled = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+
+    private BufferPool(Supplier<B> factory, int maxPooled) {
+        this.factory = factory;
+        this.maxPooled = maxPooled;
+    }
+
+    /**
+     * Returns a pooled buffer, or a new one if the pool is empty. The contents of a pooled buffer are undefined.
+     */
+    B acquire() {
+        B buffer = pooled.poll();
+        if (buffer == null) {
+            return factory.get();
+        }
+        size.decrementAndGet();
+        return buffer;
+    }
+
+    /**
+     * Returns a buffer to the pool. The caller must not use it afterwards.
+     */
+    void release(B buffer) {
+        if (size.incrementAndGet() <= maxPooled) {
+            pooled.offer(buffer);
+        } else {
+            size.decrementAndGet();
+        }
+    }
+}
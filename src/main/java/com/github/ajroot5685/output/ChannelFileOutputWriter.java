@@ -0,0 +1,164 @@
+package com.github.ajroot5685.output;
+
+import com.github.ajroot5685.exception.FileOutputException;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ThreadLocalRandom;
+import org.apache.poi.ss.usermodel.Workbook;
+
+/**
+ * {@link OutputWriter} implementation that writes an Excel file through a {@link FileChannel} and publishes it
+ * atomically.
+ * <br>
+ * The file is written to a temp file in the target directory through large pooled direct buffers, then renamed over
+ * the target path. Readers therefore see either the previous file or the complete new one, never a partial file. If
+ * writing fails, the temp file is deleted and the target is left untouched. The published file gets the permissions of
+ * the process umask, like a file written with {@link FileOutputWriter}.
+ * <br><br>
+ * {@link FileChannel}로 Excel 파일을 쓰고 원자적으로 게시하는 {@link OutputWriter} 구현체입니다.
+ * <br>
+ * 파일은 풀링된 큰 다이렉트 버퍼를 통해 대상 디렉터리의 임시 파일에 쓰인 뒤 대상 경로로 이름이 바뀝니다. 따라서 다른 프로세스는 이전 파일이나
+ * 완성된 새 파일만 보게 되며, 쓰다 만 파일은 보이지 않습니다. 쓰기에 실패하면 임시 파일은 삭제되고 대상 파일은 그대로 유지됩니다. 게시된
+ * 파일은 {@link FileOutputWriter}로 쓴 파일처럼 프로세스 umask에 따른 권한을 가집니다.
+ */
+public class ChannelFileOutputWriter implements OutputWriter {
+
+    private final Path filePath;
+    private final boolean force;
+
+    /**
+     * Constructs a new {@link ChannelFileOutputWriter} with the given file path.
+     * <br>
+     * If the path does not end with ".xlsx", the extension is automatically added.
+     * <br><br>
+     * 주어진 파일 경로로 {@link ChannelFileOutputWriter}를 생성합니다.
+     * <br>
+     * 경로가 ".xlsx"로 끝나지 않으면 확장자가 자동으로 붙습니다.
+     *
+     * @param filePath the target file path (e.g., "output/report.xlsx")
+     *                 <p>
+     *                 출력할 대상 파일 경로 (예: "output/report.xlsx")
+     */
+    public ChannelFileOutputWriter(String filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Constructs a new {@link ChannelFileOutputWriter} that optionally forces the file to the storage device before
+     * publishing it.
+     * <br><br>
+     * 게시하기 전에 파일을 저장 장치에 강제로 기록할지 선택하여 {@link ChannelFileOutputWriter}를 생성합니다.
+     *
+     * @param filePath the target file path (e.g., "output/report.xlsx")
+     *                 <p>
+     *                 출력할 대상 파일 경로 (예: "output/report.xlsx")
+     * @param force    whether to call {@link FileChannel#force(boolean)} before the rename, so the published file
+     *                 survives a crash
+     *                 <p>
+     *                 이름을 바꾸기 전에 {@link FileChannel#force(boolean)}를 호출하여 장애 후에도 게시된 파일이 남도록 할지 여부
+     */
+    public ChannelFileOutputWriter(String filePath, boolean force) {
+        this.filePath = Path.of(ensureXlsxExtension(filePath));
+        this.force = force;
+    }
+
+    /**
+     * Writes the given {@link Workbook} to the specified file path.
+     * <br><br>
+     * 주어진 {@link Workbook}을 지정된 파일 경로에 씁니다.
+     *
+     * @param workbook the workbook to write
+     *                 <p>
+     *                 출력할 Excel {@link Workbook} 객체
+     * @throws FileOutputException if an I/O error occurs during writing
+     *                             <p>
+     *                             쓰기 도중 입출력 오류가 발생한 경우 {@link FileOutputException}이 발생합니다.
+     */
+    @Override
+    public void write(Workbook workbook) {
+        write(workbook::write);
+    }
+
+    /**
+     * Writes the given {@link OutputContent} to a temp file and renames it to the specified file path.
+     * <br>
+     * An existing file at the path is replaced.
+     * <br><br>
+     * 주어진 {@link OutputContent}를 임시 파일에 쓴 뒤 지정된 파일 경로로 이름을 바꿉니다.
+     * <br>
+     * 경로에 파일이 이미 있으면 교체됩니다.
+     *
+     * @param content the content to write
+     *                <p>
+     *                출력할 내용
+     * @throws FileOutputException if an I/O error occurs during writing
+     *                             <p>
+     *                             쓰기 도중 입출력 오류가 발생한 경우 {@link FileOutputException}이 발생합니다.
+     */
+    @Override
+    public void write(OutputContent content) {
+        Path temp = null;
+        try {
+            temp = createTempFile();
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                try (ChannelOutputStream out = new ChannelOutputStream(channel)) {
+                    content.writeTo(out);
+                }
+                if (force) {
+                    channel.force(true);
+                }
+            }
+            publish(temp);
+            temp = null;
+        } catch (IOException e) {
+            throw new FileOutputException(filePath, e);
+        } finally {
+            if (temp != null) {
+                deleteQuietly(temp);
+            }
+        }
+    }
+
+    /**
+     * Creates an empty temp file next to the target under a unique name. Unlike {@link Files#createTempFile}, which
+     * restricts the file to its owner, the file gets the default permissions, which the rename then publishes.
+     */
+    private Path createTempFile() throws IOException {
+        Path directory = filePath.toAbsolutePath().getParent();
+        while (true) {
+            Path temp = directory.resolve("." + filePath.getFileName() + "."
+                    + Long.toUnsignedString(ThreadLocalRandom.current().nextLong()) + ".tmp");
+            try {
+                Files.newByteChannel(temp, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE).close();
+                return temp;
+            } catch (FileAlreadyExistsException e) {
+                // Taken by a concurrent write of the same file; try another name.
+            }
+        }
+    }
+
+    /**
+     * Renames the temp file over the target, atomically where the file system supports it.
+     */
+    private void publish(Path temp) throws IOException {
+        try {
+            Files.move(temp, filePath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, filePath, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static void deleteQuietly(Path temp) {
+        try {
+            Files.deleteIfExists(temp);
+        } catch (IOException ignored) {
+            // The write already failed; a leftover temp file must not replace that error.
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.github.ajroot5685.output;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * Buffered {@link OutputStream} over a {@link FileChannel}, using a pooled direct buffer.
+ * <br>
+ * Small writes are collected in the buffer, so the channel sees one large write per megabyte. Closing the stream
+ * flushes it and returns the buffer to the pool, but does not close the channel.
+ */
+final class ChannelOutputStream extends OutputStream {
+
+    private final FileChannel channel;
+    private ByteBuffer buffer;
+
+    ChannelOutputStream(FileChannel channel) {
+        this.channel = channel;
+        this.buffer = BufferPool.DIRECT.acquire().clear();
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        ensureOpen();
+        if (!buffer.hasRemaining()) {
+            drain();
+        }
+        buffer.put((byte) b);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        ensureOpen();
+        while (len > 0) {
+            if (!buffer.hasRemaining()) {
+                drain();
+            }
+            int n = Math.min(len, buffer.remaining());
+            buffer.put(b, off, n);
+            off += n;
+            len -= n;
+        }
+    }
+
+    /**
+     * Appends {@code count} bytes of {@code source} from its start with {@link FileChannel#transferTo}, so the file
+     * system can copy them without passing them through the heap.
+     */
+    void transferFrom(FileChannel source, long count) throws IOException {
+        ensureOpen();
+        drain();
+        long position = 0;
+        while (position < count) {
+            long transferred = source.transferTo(position, count - position, channel);
+            if (transferred <= 0) {
+                throw new IOException("Source ended after " + position + " of " + count + " bytes");
+            }
+            position += transferred;
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        ensureOpen();
+        drain();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (buffer == null) {
+            return;
+        }
+        try {
+            drain();
+        } finally {
+            BufferPool.DIRECT.release(buffer);
+            buffer = null;
+        }
+    }
+
+    private void drain() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    private void ensureOpen() throws IOException {
+        if (buffer == null) {
+            throw new IOException("Stream closed");
+        }
+    }
+}
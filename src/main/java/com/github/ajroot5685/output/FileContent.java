@@ -0,0 +1,117 @@
+package com.github.ajroot5685.output;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+/**
+ * {@link OutputContent} of an already finished file, with a known length and entity tag.
+ * <br>
+ * The file is copied with {@link FileChannel#transferTo}, without loading it into the heap, and without any copy in
+ * user space when the target is a {@link ChannelFileOutputWriter}. {@link ServletOutputWriter} sends the entity tag
+ * and the length as {@code ETag} and {@code Content-Length} headers, and answers a matching {@code If-None-Match}
+ * request header with {@code 304 Not Modified} without sending the file.
+ * <br><br>
+ * 이미 완성된 파일의 {@link OutputContent}로, 길이와 엔터티 태그를 알고 있습니다.
+ * <br>
+ * 파일은 {@link FileChannel#transferTo}로 힙에 올리지 않고 복사되며, 대상이 {@link ChannelFileOutputWriter}이면 사용자 공간에서의
+ * 복사도 없습니다. {@link ServletOutputWriter}는 엔터티 태그와 길이를 {@code ETag}와 {@code Content-Length} 헤더로 보내고,
+ * 일치하는 {@code If-None-Match} 요청 헤더에는 파일을 보내지 않고 {@code 304 Not Modified}로 응답합니다.
+ */
+public final class FileContent implements OutputContent {
+
+    private final Path file;
+    private final String etag;
+
+    /**
+     * Creates content for the given file.
+     * <br><br>
+     * 주어진 파일의 내용을 생성합니다.
+     *
+     * @param file the finished file
+     *             <p>
+     *             완성된 파일
+     * @param etag the entity tag including its quotes, for example {@code "\"v1\""} or {@code "W/\"v1\""}
+     *             <p>
+     *             따옴표를 포함한 엔터티 태그 (예: {@code "\"v1\""} 또는 {@code "W/\"v1\""})
+     */
+    public FileContent(Path file, String etag) {
+        this.file = Objects.requireNonNull(file, "file");
+        this.etag = Objects.requireNonNull(etag, "etag");
+    }
+
+    /**
+     * Returns the file.
+     * <br><br>
+     * 파일을 반환합니다.
+     *
+     * @return the file
+     */
+    public Path file() {
+        return file;
+    }
+
+    /**
+     * Returns the entity tag of the file.
+     * <br><br>
+     * 파일의 엔터티 태그를 반환합니다.
+     *
+     * @return the entity tag
+     */
+    public String etag() {
+        return etag;
+    }
+
+    /**
+     * Returns the current size of the file.
+     * <br><br>
+     * 파일의 현재 크기를 반환합니다.
+     *
+     * @return the size in bytes
+     * @throws IOException if the size cannot be read
+     *                     <p>
+     *                     크기를 읽을 수 없는 경우
+     */
+    public long length() throws IOException {
+        return Files.size(file);
+    }
+
+    /**
+     * Copies the file to the given stream. Does <strong>not</strong> close the stream.
+     * <br><br>
+     * 파일을 주어진 스트림에 복사합니다. 스트림은 닫지 않습니다.
+     *
+     * @param out the stream to write to
+     *            <p>
+     *            출력 대상 스트림
+     * @throws IOException if the file cannot be read or the stream cannot be written
+     *                     <p>
+     *                     파일을 읽거나 스트림에 쓸 수 없는 경우
+     */
+    @Override
+    public void writeTo(OutputStream out) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (out instanceof ChannelOutputStream channelOut) {
+                channelOut.transferFrom(channel, size);
+                return;
+            }
+            // Not closed: closing the adapter would close the caller's stream.
+            WritableByteChannel target = Channels.newChannel(out);
+            long position = 0;
+            while (position < size) {
+                long transferred = channel.transferTo(position, size - position, target);
+                if (transferred <= 0) {
+                    throw new IOException("File ended after " + position + " of " + size + " bytes: " + file);
+                }
+                position += transferred;
+            }
+        }
+    }
+}
@@ -55,8 +55,29 @@ public class FileOutputWriter implements OutputWriter {
      */
     @Override
     public void write(Workbook workbook) {
+        write(workbook::write);
+    }
+
+    /**
+     * Writes the given {@link OutputContent} to the specified file path.
+     * <br>
+     * The output stream is automatically closed after writing.
+     * <br><br>
+     * 주어진 {@link OutputContent}를 지정된 파일 경로에 씁니다.
+     * <br>
+     * 작성 후 출력 스트림은 자동으로 닫힙니다.
+     *
+     * @param content the content to write
+     *                <p>
+     *                출력할 내용
+     * @throws FileOutputException if an I/O error occurs during writing
+     *                             <p>
+     *                             쓰기 도중 입출력 오류가 발생한 경우 {@link FileOutputException}이 발생합니다.
+     */
+    @Override
+    public void write(OutputContent content) {
         try (FileOutputStream fos = new FileOutputStream(filePath.toFile())) {
-            workbook.write(fos);
+            content.writeTo(fos);
         } catch (IOException e) {
             throw new FileOutputException(filePath, e);
         }
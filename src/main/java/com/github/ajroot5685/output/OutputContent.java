@@ -0,0 +1,31 @@
+package com.github.ajroot5685.output;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Content that writes itself to an {@link OutputStream}.
+ * <br>
+ * Used by engines that produce the xlsx bytes directly instead of through a POI {@link org.apache.poi.ss.usermodel.Workbook}.
+ * <br><br>
+ * 스스로 {@link OutputStream}에 쓰는 출력 내용입니다.
+ * <br>
+ * POI {@link org.apache.poi.ss.usermodel.Workbook}을 거치지 않고 xlsx 바이트를 직접 만드는 엔진에서 사용됩니다.
+ */
+@FunctionalInterface
+public interface OutputContent {
+
+    /**
+     * Writes the content to the given stream. Does <strong>not</strong> close the stream.
+     * <br><br>
+     * 주어진 스트림에 내용을 씁니다. 스트림은 닫지 않습니다.
+     *
+     * @param out the stream to write to
+     *            <p>
+     *            출력 대상 스트림
+     * @throws IOException if an I/O error occurs during writing
+     *                     <p>
+     *                     쓰기 도중 입출력 오류가 발생한 경우
+     */
+    void writeTo(OutputStream out) throws IOException;
+}
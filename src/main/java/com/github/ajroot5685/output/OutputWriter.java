@@ -2,6 +2,7 @@ package com.github.ajroot5685.output;
 
 import static com.github.ajroot5685.constant.FileConstants.XLSX_EXTENSION;
 
+import com.github.ajroot5685.exception.WriterTypeException;
 import org.apache.poi.ss.usermodel.Workbook;
 
 /**
@@ -22,6 +23,44 @@ public interface OutputWriter {
      */
     void write(Workbook workbook);
 
+    /**
+     * Writes content that produces its own bytes to the output target.
+     * <br>
+     * Implementations that cannot expose an output stream keep this default, which throws
+     * {@link WriterTypeException}.
+     * <br><br>
+     * 스스로 바이트를 만드는 {@link OutputContent}를 출력 대상으로 작성합니다.
+     * <br>
+     * 출력 스트림을 제공할 수 없는 구현체는 이 기본 구현을 그대로 두며, 이 경우 {@link WriterTypeException}이 발생합니다.
+     *
+     * @param content the content to write
+     *                <p>
+     *                출력할 내용
+     * @throws WriterTypeException if this writer does not support direct stream output
+     *                             <p>
+     *                             직접 스트림 출력을 지원하지 않는 경우
+     */
+    default void write(OutputContent content) {
+        throw new WriterTypeException(getClass().getSimpleName() + " does not support direct stream output");
+    }
+
+    /**
+     * Returns whether the target stopped accepting output, for example because the client closed the connection.
+     * <br>
+     * Generation checks this between rows and stops early instead of producing a file nobody receives. Writers that
+     * cannot tell keep this default, which returns {@code false}.
+     * <br><br>
+     * 클라이언트가 연결을 끊은 경우처럼 출력 대상이 더 이상 출력을 받지 않는지 반환합니다.
+     * <br>
+     * 생성 과정은 행 사이에서 이 값을 확인하여, 아무도 받지 않을 파일을 만드는 대신 일찍 멈춥니다. 이를 알 수 없는 구현체는 이 기본 구현을
+     * 그대로 두며, 이 경우 {@code false}를 반환합니다.
+     *
+     * @return {@code true} if output written now would be lost
+     */
+    default boolean isAborted() {
+        return false;
+    }
+
     /**
      * Ensures that the given file name ends with ".xlsx".
      * <br>
@@ -0,0 +1,207 @@
+package com.github.ajroot5685.output;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * In-memory {@link OutputStream} that stores its bytes in pooled fixed-size chunks, as an alternative to
+ * {@link java.io.ByteArrayOutputStream}.
+ * <br>
+ * Growing never copies earlier bytes, and {@link #writeTo(OutputStream)} and {@link #toInputStream()} read the chunks
+ * in place, so the content is held in memory only once. {@link #close()} returns the chunks to a shared pool for the
+ * next export; the content must not be used afterwards. Instances are not thread-safe.
+ * <br><br>
+ * 고정 크기의 풀링된 청크에 바이트를 저장하는 메모리 {@link OutputStream}으로, {@link java.io.ByteArrayOutputStream}의 대안입니다.
+ * <br>
+ * 크기가 늘어날 때 이전 바이트를 복사하지 않으며, {@link #writeTo(OutputStream)}와 {@link #toInputStream()}은 청크를 그대로 읽으므로 내용은
+ * 메모리에 한 번만 존재합니다. {@link #close()}는 청크를 다음 내보내기를 위해 공유 풀에 반환하며, 그 후에는 내용을 사용할 수 없습니다. 스레드에
+ * 안전하지 않습니다.
+ */
+public final class PooledByteOutputStream extends OutputStream {
+
+    private final List<byte[]> chunks = new ArrayList<>();
+    private byte[] current;
+    private int position;
+    private long size;
+    private boolean closed;
+
+    /**
+     * Constructs an empty stream. Chunks are taken from the pool as bytes are written.
+     * <br><br>
+     * 빈 스트림을 생성합니다. 청크는 바이트가 쓰일 때 풀에서 가져옵니다.
+     */
+    public PooledByteOutputStream() {
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        ensureOpen();
+        if (current == null || position == current.length) {
+            nextChunk();
+        }
+        current[position++] = (byte) b;
+        size++;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        ensureOpen();
+        while (len > 0) {
+            if (current == null || position == current.length) {
+                nextChunk();
+            }
+            int n = Math.min(len, current.length - position);
+            System.arraycopy(b, off, current, position, n);
+            position += n;
+            off += n;
+            len -= n;
+            size += n;
+        }
+    }
+
+    /**
+     * Returns the number of bytes written.
+     * <br><br>
+     * 쓰인 바이트 수를 반환합니다.
+     *
+     * @return the size in bytes
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Writes the content to {@code out} without copying it first.
+     * <br><br>
+     * 내용을 먼저 복사하지 않고 {@code out}에 씁니다.
+     *
+     * @param out the stream to write to
+     *            <p>
+     *            내용을 쓸 스트림
+     * @throws IOException if writing to {@code out} fails
+     *                     <p>
+     *                     {@code out}에 쓰는 도중 오류가 발생한 경우
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        ensureReadable();
+        for (int i = 0; i < chunks.size(); i++) {
+            out.write(chunks.get(i), 0, chunkLength(i));
+        }
+    }
+
+    /**
+     * Returns a stream that reads the content in place. It stays valid until this stream is closed.
+     * <br><br>
+     * 내용을 복사하지 않고 읽는 스트림을 반환합니다. 이 스트림이 닫히기 전까지 유효합니다.
+     *
+     * @return an input stream over the content
+     */
+    public InputStream toInputStream() {
+        ensureReadable();
+        return new ChunkInputStream();
+    }
+
+    /**
+     * Copies the content into a new array.
+     * <br>
+     * Prefer {@link #writeTo(OutputStream)} or {@link #toInputStream()}, which do not duplicate the content.
+     * <br><br>
+     * 내용을 새 배열에 복사합니다.
+     * <br>
+     * 내용을 복제하지 않는 {@link #writeTo(OutputStream)}나 {@link #toInputStream()}을 우선 사용하세요.
+     *
+     * @return a copy of the content
+     * @throws IllegalStateException if the content does not fit in an array
+     *                               <p>
+     *                               내용이 배열 하나에 담기지 않는 경우
+     */
+    public byte[] toByteArray() {
+        ensureReadable();
+        if (size > Integer.MAX_VALUE - 8) {
+            throw new IllegalStateException("Content too large for an array: " + size + " bytes");
+        }
+        byte[] bytes = new byte[(int) size];
+        int offset = 0;
+        for (int i = 0; i < chunks.size(); i++) {
+            int length = chunkLength(i);
+            System.arraycopy(chunks.get(i), 0, bytes, offset, length);
+            offset += length;
+        }
+        return bytes;
+    }
+
+    /**
+     * Returns the chunks to the pool. The content can no longer be read.
+     * <br><br>
+     * 청크를 풀에 반환합니다. 이후에는 내용을 읽을 수 없습니다.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        chunks.forEach(BufferPool.CHUNKS::release);
+        chunks.clear();
+        current = null;
+    }
+
+    private void nextChunk() {
+        current = BufferPool.CHUNKS.acquire();
+        chunks.add(current);
+        position = 0;
+    }
+
+    private int chunkLength(int index) {
+        return index == chunks.size() - 1 ? position : chunks.get(index).length;
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed) {
+            throw new IOException("Stream closed");
+        }
+    }
+
+    private void ensureReadable() {
+        if (closed) {
+            throw new IllegalStateException("PooledByteOutputStream was closed");
+        }
+    }
+
+    /**
+     * Reads the chunks of the enclosing stream in order.
+     */
+    private final class ChunkInputStream extends InputStream {
+
+        private int chunk;
+        private int offset;
+
+        @Override
+        public int read() {
+            byte[] one = new byte[1];
+            return read(one, 0, 1) == -1 ? -1 : one[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            ensureReadable();
+            if (len == 0) {
+                return 0;
+            }
+            while (chunk < chunks.size() && offset == chunkLength(chunk)) {
+                chunk++;
+                offset = 0;
+            }
+            if (chunk == chunks.size()) {
+                return -1;
+            }
+            int n = Math.min(len, chunkLength(chunk) - offset);
+            System.arraycopy(chunks.get(chunk), offset, b, off, n);
+            offset += n;
+            return n;
+        }
+    }
+}
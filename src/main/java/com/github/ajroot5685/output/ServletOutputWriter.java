@@ -2,7 +2,9 @@ package com.github.ajroot5685.output;
 
 import com.github.ajroot5685.constant.Default;
 import com.github.ajroot5685.exception.StreamOutputException;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import org.apache.poi.ss.usermodel.Workbook;
@@ -11,17 +13,25 @@ import org.apache.poi.ss.usermodel.Workbook;
  * {@link OutputWriter} implementation for writing Excel files to an HTTP servlet response.
  * <br>
  * Automatically sets content type and content-disposition headers for file download.
+ * <br>
+ * When writing a {@link FileContent}, the {@code ETag} and {@code Content-Length} headers are sent as well, and if the
+ * request was given, a matching {@code If-None-Match} is answered with {@code 304 Not Modified}.
  * <br><br>
  * HTTP 서블릿 응답에 Excel 파일을 출력하는 {@link OutputWriter} 구현체입니다.
  * <br>
  * 파일 다운로드를 위한 Content-Type 및 Content-Disposition 헤더를 자동으로 설정합니다.
+ * <br>
+ * {@link FileContent}를 쓸 때는 {@code ETag}와 {@code Content-Length} 헤더도 보내며, 요청이 주어졌다면 일치하는
+ * {@code If-None-Match}에 {@code 304 Not Modified}로 응답합니다.
  */
 public class ServletOutputWriter implements OutputWriter {
 
     private static final String MIME_TYPE = "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet";
     private static final String HEADER_NAME = "Content-Disposition";
     private static final String CONTENT_DISPOSITION_FORMAT = "attachment; filename=\"%s\"";
+    private static final String WEAK_PREFIX = "W/";
 
+    private final HttpServletRequest request;
     private final HttpServletResponse response;
     private final String fileName;
 
@@ -55,6 +65,30 @@ public class ServletOutputWriter implements OutputWriter {
      *                 다운로드될 파일 이름 (예: "report.xlsx")
      */
     public ServletOutputWriter(HttpServletResponse response, String fileName) {
+        this(null, response, fileName);
+    }
+
+    /**
+     * Constructs a new {@link ServletOutputWriter} that answers conditional requests for {@link FileContent}.
+     * <br>
+     * The ".xlsx" extension is appended automatically if missing.
+     * <br><br>
+     * {@link FileContent}에 대한 조건부 요청에 응답하는 {@link ServletOutputWriter}를 생성합니다.
+     * <br>
+     * 파일 이름에 ".xlsx" 확장자가 없으면 자동으로 추가됩니다.
+     *
+     * @param request  the HTTP request whose {@code If-None-Match} header is checked
+     *                 <p>
+     *                 {@code If-None-Match} 헤더를 확인할 HTTP 요청 객체
+     * @param response the HTTP response to write to
+     *                 <p>
+     *                 Excel 데이터를 쓸 HTTP 응답 객체
+     * @param fileName the download file name
+     *                 <p>
+     *                 다운로드될 파일 이름 (예: "report.xlsx")
+     */
+    public ServletOutputWriter(HttpServletRequest request, HttpServletResponse response, String fileName) {
+        this.request = request;
         this.response = response;
         fileName = ensureXlsxExtension(fileName);
         this.fileName = fileName;
@@ -78,14 +112,77 @@ public class ServletOutputWriter implements OutputWriter {
      */
     @Override
     public void write(Workbook workbook) {
-        try {
-            String encodedName = URLEncoder.encode(fileName, StandardCharsets.UTF_8);
-            response.setContentType(MIME_TYPE);
-            response.setHeader(HEADER_NAME, String.format(CONTENT_DISPOSITION_FORMAT, encodedName));
+        write(workbook::write);
+    }
 
-            workbook.write(response.getOutputStream());
+    /**
+     * Writes the given {@link OutputContent} to the servlet response output stream.
+     * <br>
+     * Sets the appropriate headers for file download. Does <strong>not</strong> flush or close the stream.
+     * <br><br>
+     * 주어진 {@link OutputContent}를 서블릿 응답 스트림에 작성합니다.
+     * <br>
+     * 파일 다운로드를 위한 헤더를 설정하며, flush나 close는 수행하지 않습니다.
+     *
+     * @param content the content to write
+     *                <p>
+     *                출력할 내용
+     * @throws StreamOutputException if an error occurs while writing to the response
+     *                               <p>
+     *                               응답 스트림에 쓰는 도중 오류가 발생하면 {@link StreamOutputException}이 발생합니다.
+     */
+    @Override
+    public void write(OutputContent content) {
+        try {
+            if (prepareResponse(content)) {
+                content.writeTo(response.getOutputStream());
+            }
         } catch (Exception e) {
             throw new StreamOutputException(e);
         }
     }
+
+    /**
+     * Sets the headers for the download. Returns {@code false} if the response was answered with 304 and no body must
+     * be written.
+     */
+    boolean prepareResponse(OutputContent content) throws IOException {
+        String encodedName = URLEncoder.encode(fileName, StandardCharsets.UTF_8);
+        response.setContentType(MIME_TYPE);
+        response.setHeader(HEADER_NAME, String.format(CONTENT_DISPOSITION_FORMAT, encodedName));
+        if (content instanceof FileContent file) {
+            response.setHeader("ETag", file.etag());
+            if (request != null && matches(request.getHeader("If-None-Match"), file.etag())) {
+                response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+                return false;
+            }
+            response.setContentLengthLong(file.length());
+        }
+        return true;
+    }
+
+    /**
+     * Compares an {@code If-None-Match} header with an entity tag, weakly as RFC 9110 requires.
+     */
+    private static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        String opaque = stripWeak(etag);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*") || stripWeak(tag).equals(opaque)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String stripWeak(String etag) {
+        return etag.startsWith(WEAK_PREFIX) ? etag.substring(WEAK_PREFIX.length()) : etag;
+    }
+
+    HttpServletResponse response() {
+        return response;
+    }
 }
\ No newline at end of file
@@ -50,8 +50,29 @@ public class StreamOutputWriter implements OutputWriter {
      */
     @Override
     public void write(Workbook workbook) {
+        write(workbook::write);
+    }
+
+    /**
+     * Writes the given {@link OutputContent} to the output stream.
+     * <br>
+     * Automatically calls {@code flush()} after writing. Does <strong>not</strong> close the stream.
+     * <br><br>
+     * 주어진 {@link OutputContent}를 출력 스트림에 작성합니다.
+     * <br>
+     * 작성 후 {@code flush()}는 자동으로 수행되며, 스트림은 닫지 않습니다.
+     *
+     * @param content the content to write
+     *                <p>
+     *                출력할 내용
+     * @throws StreamOutputException if an I/O error occurs during writing
+     *                               <p>
+     *                               쓰기 도중 입출력 오류가 발생하면 {@link StreamOutputException}이 발생합니다.
+     */
+    @Override
+    public void write(OutputContent content) {
         try {
-            workbook.write(outputStream);
+            content.writeTo(outputStream);
             outputStream.flush();
         } catch (IOException e) {
             throw new StreamOutputException(e);
@@ -1,7 +1,9 @@
 package com.github.ajroot5685.output;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.OutputStream;
+import java.time.Duration;
 
 /**
  * Factory class for creating various types of {@link OutputWriter} instances.
@@ -30,6 +32,28 @@ public class WriterFactory {
         return new FileOutputWriter(path);
     }
 
+    /**
+     * Returns a {@link ChannelFileOutputWriter} that writes to a temp file through a {@link java.nio.channels.FileChannel}
+     * and atomically renames it to the specified path.
+     * <br>
+     * Appends the ".xlsx" extension automatically if it is missing.
+     * <br><br>
+     * {@link java.nio.channels.FileChannel}로 임시 파일에 쓴 뒤 지정된 경로로 원자적으로 이름을 바꾸는 {@link ChannelFileOutputWriter}를
+     * 반환합니다.
+     * <br>
+     * 확장자가 없으면 ".xlsx"가 자동으로 붙습니다.
+     *
+     * @param path the output file path (e.g., "output/report.xlsx")
+     *             <p>
+     *             출력 파일 경로 (예: "output/report.xlsx")
+     * @return a {@link ChannelFileOutputWriter} for file output
+     * <p>
+     * 파일 출력용 {@link ChannelFileOutputWriter}
+     */
+    public static OutputWriter forChannelFileOutput(String path) {
+        return new ChannelFileOutputWriter(path);
+    }
+
     /**
      * Returns a {@link StreamOutputWriter} that writes to the given {@link OutputStream}.
      * <br>
@@ -72,4 +96,98 @@ public class WriterFactory {
     public static OutputWriter forServletOutput(HttpServletResponse response, String fileName) {
         return new ServletOutputWriter(response, fileName);
     }
-}
\ No newline at end of file
+
+    /**
+     * Returns a {@link ServletOutputWriter} that writes Excel data to an HTTP response and answers conditional requests.
+     * <br>
+     * When a {@link FileContent}, such as a cached export, is written, its {@code ETag} is sent and a matching
+     * {@code If-None-Match} request header is answered with {@code 304 Not Modified}.
+     * <br><br>
+     * HTTP 응답에 Excel 데이터를 쓰고 조건부 요청에 응답하는 {@link ServletOutputWriter}를 반환합니다.
+     * <br>
+     * 캐시된 내보내기처럼 {@link FileContent}를 쓸 때는 {@code ETag}를 보내며, 일치하는 {@code If-None-Match} 요청 헤더에는
+     * {@code 304 Not Modified}로 응답합니다.
+     *
+     * @param request  the HTTP servlet request whose {@code If-None-Match} header is checked
+     *                 <p>
+     *                 {@code If-None-Match} 헤더를 확인할 HTTP 요청 객체
+     * @param response the HTTP servlet response to write to
+     *                 <p>
+     *                 Excel 데이터를 쓸 HTTP 응답 객체
+     * @param fileName the name of the file to be downloaded (".xlsx" is appended if missing)
+     *                 <p>
+     *                 다운로드 파일 이름 (확장자가 없으면 ".xlsx"가 자동으로 붙습니다)
+     * @return a {@link ServletOutputWriter} for servlet response output
+     * <p>
+     * HTTP 응답 출력용 {@link ServletOutputWriter}
+     */
+    public static OutputWriter forServletOutput(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            String fileName
+    ) {
+        return new ServletOutputWriter(request, response, fileName);
+    }
+
+    /**
+     * Returns an {@link AsyncServletOutputWriter} that streams Excel data to an HTTP response with non-blocking I/O.
+     * <br>
+     * Call {@link AsyncServletOutputWriter#start} on the request thread to run the export on an executor.
+     * <br><br>
+     * 논블로킹 I/O로 HTTP 응답에 Excel 데이터를 스트리밍하는 {@link AsyncServletOutputWriter}를 반환합니다.
+     * <br>
+     * 요청 스레드에서 {@link AsyncServletOutputWriter#start}를 호출하면 실행기에서 내보내기가 실행됩니다.
+     *
+     * @param request  the HTTP servlet request to put into async mode
+     *                 <p>
+     *                 비동기 모드로 전환할 HTTP 요청 객체
+     * @param response the HTTP servlet response to write to
+     *                 <p>
+     *                 Excel 데이터를 쓸 HTTP 응답 객체
+     * @param fileName the name of the file to be downloaded (".xlsx" is appended if missing)
+     *                 <p>
+     *                 다운로드 파일 이름 (확장자가 없으면 ".xlsx"가 자동으로 붙습니다)
+     * @return an {@link AsyncServletOutputWriter} for non-blocking servlet response output
+     * <p>
+     * 논블로킹 HTTP 응답 출력용 {@link AsyncServletOutputWriter}
+     */
+    public static AsyncServletOutputWriter forAsyncServletOutput(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            String fileName
+    ) {
+        return new AsyncServletOutputWriter(request, response, fileName);
+    }
+
+    /**
+     * Returns an {@link AsyncServletOutputWriter} that streams Excel data to an HTTP response with non-blocking I/O and
+     * gives up on a client that accepts no data for {@code idleTimeout}.
+     * <br><br>
+     * 논블로킹 I/O로 HTTP 응답에 Excel 데이터를 스트리밍하고, {@code idleTimeout} 동안 데이터를 받지 않는 클라이언트는 포기하는
+     * {@link AsyncServletOutputWriter}를 반환합니다.
+     *
+     * @param request     the HTTP servlet request to put into async mode
+     *                    <p>
+     *                    비동기 모드로 전환할 HTTP 요청 객체
+     * @param response    the HTTP servlet response to write to
+     *                    <p>
+     *                    Excel 데이터를 쓸 HTTP 응답 객체
+     * @param fileName    the name of the file to be downloaded (".xlsx" is appended if missing)
+     *                    <p>
+     *                    다운로드 파일 이름 (확장자가 없으면 ".xlsx"가 자동으로 붙습니다)
+     * @param idleTimeout the longest time to wait for the client to accept more data
+     *                    <p>
+     *                    클라이언트가 데이터를 더 받기를 기다리는 최대 시간
+     * @return an {@link AsyncServletOutputWriter} for non-blocking servlet response output
+     * <p>
+     * 논블로킹 HTTP 응답 출력용 {@link AsyncServletOutputWriter}
+     */
+    public static AsyncServletOutputWriter forAsyncServletOutput(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            String fileName,
+            Duration idleTimeout
+    ) {
+        return new AsyncServletOutputWriter(request, response, fileName, idleTimeout);
+    }
+}
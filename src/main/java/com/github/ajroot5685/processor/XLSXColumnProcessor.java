@@ -0,0 +1,476 @@
+package com.github.ajroot5685.processor;
+
+import com.github.ajroot5685.column.ValueFormatter;
+import com.github.ajroot5685.dto.ColumnType;
+import com.github.ajroot5685.dto.XLSXColumn;
+import com.github.ajroot5685.dto.XLSXMapper;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.text.DecimalFormat;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.MirroredTypeException;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * Annotation processor that generates an {@link XLSXMapper} for every class with {@link XLSXColumn} fields.
+ * <br>
+ * The generated mapper reads each field directly, or through its record accessor or getter when the field is private,
+ * so no reflection is needed at runtime. Column order, header defaults, duplicate headers and type inference follow
+ * the reflection-based mapping exactly, and primitive numeric and boolean fields are written without boxing. Format
+ * patterns are checked at compile time, and an invalid pattern or formatter is reported as an error. Mappers are
+ * registered in {@code META-INF/services}, where
+ * {@code ExcelAutoFieldExtractor} finds them. A class whose fields cannot be read without reflection is reported with a
+ * warning and keeps using reflection.
+ * <br><br>
+ * {@link XLSXColumn} 필드가 있는 모든 클래스에 대해 {@link XLSXMapper}를 생성하는 애노테이션 프로세서입니다.
+ * <br>
+ * 생성된 매퍼는 필드를 직접 읽거나, private 필드라면 레코드 접근자나 getter로 읽으므로 런타임에 리플렉션이 필요하지 않습니다. 컬럼 순서,
+ * 기본 헤더, 중복 헤더, 타입 추론은 리플렉션 기반 매핑과 똑같이 동작하며, 기본형 숫자와 boolean 필드는 박싱 없이 쓰입니다. 포맷 패턴은
+ * 컴파일 시점에 검사되며, 잘못된 패턴이나 포매터는 오류로 보고됩니다. 매퍼는 {@code META-INF/services}에 등록되며
+ * {@code ExcelAutoFieldExtractor}가 이를 찾아 사용합니다. 리플렉션 없이 필드를 읽을 수 없는 클래스는 경고와 함께 리플렉션을 계속 사용합니다.
+ */
+@SupportedAnnotationTypes("com.github.ajroot5685.dto.XLSXColumn")
+public class XLSXColumnProcessor extends AbstractProcessor {
+
+    private static final String SERVICE_FILE = "META-INF/services/" + XLSXMapper.class.getName();
+
+    private final Set<String> mappers = new TreeSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            writeServiceFile();
+            return false;
+        }
+
+        Set<TypeElement> types = new LinkedHashSet<>();
+        for (Element element : roundEnv.getElementsAnnotatedWith(XLSXColumn.class)) {
+            if (element.getKind() == ElementKind.FIELD) {
+                types.add((TypeElement) element.getEnclosingElement());
+            }
+        }
+        for (TypeElement type : types) {
+            generate(type);
+        }
+        return false;
+    }
+
+    /**
+     * Writes the mapper of one DTO class, or warns and skips it if its fields cannot be read without reflection.
+     */
+    private void generate(TypeElement type) {
+        Messager messager = processingEnv.getMessager();
+        String problem = unsupportedReason(type);
+        if (problem != null) {
+            messager.printMessage(Diagnostic.Kind.WARNING,
+                    "No XLSXMapper generated for " + type.getQualifiedName() + " (" + problem
+                            + "); it will be mapped by reflection", type);
+            return;
+        }
+
+        Map<String, GeneratedColumn> columns = new LinkedHashMap<>();
+        boolean failed = false;
+        for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+            XLSXColumn annotation = field.getAnnotation(XLSXColumn.class);
+            if (annotation == null) {
+                continue;
+            }
+            String access = accessExpression(type, field);
+            if (access == null) {
+                messager.printMessage(Diagnostic.Kind.WARNING,
+                        "No XLSXMapper generated for " + type.getQualifiedName() + ": private field "
+                                + field.getSimpleName() + " has no record accessor or getter; it will be mapped by "
+                                + "reflection", field);
+                return;
+            }
+            String header = !annotation.header().isBlank() ? annotation.header() : field.getSimpleName().toString();
+            String unreachable = unreachableFormatter(type, annotation);
+            if (unreachable != null) {
+                messager.printMessage(Diagnostic.Kind.WARNING,
+                        "No XLSXMapper generated for " + type.getQualifiedName() + ": " + unreachable
+                                + "; it will be mapped by reflection", field);
+                return;
+            }
+            String formatter;
+            try {
+                formatter = formatterExpression(field, annotation);
+            } catch (IllegalArgumentException e) {
+                messager.printMessage(Diagnostic.Kind.ERROR, e.getMessage(), field);
+                failed = true;
+                continue;
+            }
+            if (formatter != null && annotation.type() != ColumnType.AUTO && annotation.type() != ColumnType.STRING) {
+                messager.printMessage(Diagnostic.Kind.ERROR,
+                        "A formatted column must be STRING, not " + annotation.type(), field);
+                failed = true;
+                continue;
+            }
+            ColumnType columnType = formatter != null
+                    ? ColumnType.STRING
+                    : resolveType(annotation.type(), field.asType());
+            // Like the LinkedHashMap of the reflection path, a repeated header keeps its position but takes the last
+            // field's mapping.
+            String headerLiteral = elements().getConstantExpression(header);
+            String arguments = headerLiteral + ", ColumnType." + columnType.name() + ", " + annotation.sharedString()
+                    + ", dto -> dto." + access;
+            if (formatter != null || !annotation.nullValue().isEmpty()) {
+                arguments += ", " + formatter + ", " + elements().getConstantExpression(annotation.nullValue());
+            }
+            columns.put(header, new GeneratedColumn(
+                    "new AnnotatedColumn<" + type.getQualifiedName() + ">(" + arguments + ")",
+                    primitiveColumn(headerLiteral, columnType, field.asType().getKind(), access),
+                    formatter != null));
+        }
+        if (failed) {
+            return;
+        }
+
+        PackageElement packageElement = elements().getPackageOf(type);
+        String packageName = packageElement.isUnnamed() ? "" : packageElement.getQualifiedName().toString();
+        String binaryName = elements().getBinaryName(type).toString();
+        String flatName = packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1);
+        String mapperSimpleName = flatName.replace('$', '_') + XLSXMapper.SUFFIX;
+        String mapperName = packageName.isEmpty() ? mapperSimpleName : packageName + "." + mapperSimpleName;
+
+        try {
+            JavaFileObject file = processingEnv.getFiler().createSourceFile(mapperName, type);
+            try (Writer writer = file.openWriter()) {
+                writer.write(source(packageName, mapperSimpleName, type.getQualifiedName().toString(),
+                        List.copyOf(columns.values())));
+            }
+            mappers.add(mapperName);
+        } catch (IOException e) {
+            messager.printMessage(Diagnostic.Kind.ERROR, "Failed to write " + mapperName + ": " + e.getMessage(),
+                    type);
+        }
+    }
+
+    /**
+     * Returns the expression of the formatter declared by {@code format} or {@code formatter}, or {@code null} if the
+     * field has neither.
+     *
+     * @throws IllegalArgumentException if the declaration would fail in the reflection path
+     */
+    private String formatterExpression(VariableElement field, XLSXColumn annotation) {
+        TypeMirror formatterType = formatterType(annotation);
+        boolean formatterClass = !isType(formatterType, ValueFormatter.class.getName());
+        String pattern = annotation.format();
+        if (!pattern.isEmpty() && formatterClass) {
+            throw new IllegalArgumentException("format and formatter cannot be used together");
+        }
+
+        if (!pattern.isEmpty()) {
+            TypeMirror fieldType = field.asType();
+            TypeKind kind = fieldType.getKind();
+            boolean temporal = isSubtype(fieldType, "java.time.temporal.TemporalAccessor")
+                    || isSubtype(fieldType, "java.util.Date") || isSubtype(fieldType, "java.util.Calendar");
+            if (!temporal && !(kind.isPrimitive() && kind != TypeKind.BOOLEAN && kind != TypeKind.CHAR)
+                    && !isSubtype(fieldType, "java.lang.Number")) {
+                throw new IllegalArgumentException("A format pattern cannot be applied to " + fieldType
+                        + "; use a formatter class instead");
+            }
+            try {
+                if (temporal) {
+                    DateTimeFormatter.ofPattern(pattern);
+                } else {
+                    new DecimalFormat(pattern);
+                }
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Invalid format \"" + pattern + "\": " + e.getMessage(), e);
+            }
+            return "ValueFormatters.ofPattern(" + types().erasure(fieldType) + ".class, "
+                    + elements().getConstantExpression(pattern) + ")";
+        }
+
+        if (!formatterClass) {
+            return null;
+        }
+        TypeElement formatterElement = (TypeElement) ((DeclaredType) formatterType).asElement();
+        if (formatterElement.getKind() != ElementKind.CLASS
+                || formatterElement.getModifiers().contains(Modifier.ABSTRACT)) {
+            throw new IllegalArgumentException("Formatter must be a concrete class: " + formatterType);
+        }
+        boolean constructor = ElementFilter.constructorsIn(formatterElement.getEnclosedElements()).stream()
+                .anyMatch(method -> method.getParameters().isEmpty());
+        if (!constructor) {
+            throw new IllegalArgumentException("Formatter " + formatterType + " needs a no-argument constructor");
+        }
+        return "ValueFormatters.of(" + formatterElement.getQualifiedName() + ".class)";
+    }
+
+    /**
+     * Returns why the mapper of {@code type} could not refer to the formatter class of a field, or {@code null} if it
+     * can or the field has none.
+     */
+    private String unreachableFormatter(TypeElement type, XLSXColumn annotation) {
+        TypeMirror formatterType = formatterType(annotation);
+        if (formatterType.getKind() != TypeKind.DECLARED || isType(formatterType, ValueFormatter.class.getName())) {
+            return null;
+        }
+        TypeElement formatterElement = (TypeElement) ((DeclaredType) formatterType).asElement();
+        String problem = unsupportedReason(formatterElement);
+        if (problem == null && !formatterElement.getModifiers().contains(Modifier.PUBLIC)
+                && !elements().getPackageOf(formatterElement).equals(elements().getPackageOf(type))) {
+            problem = "package-private class";
+        }
+        return problem != null ? "formatter " + formatterType + " is a " + problem : null;
+    }
+
+    /**
+     * Returns {@link XLSXColumn#formatter()}, which is only available as a type mirror during compilation.
+     */
+    private static TypeMirror formatterType(XLSXColumn annotation) {
+        try {
+            annotation.formatter();
+        } catch (MirroredTypeException e) {
+            return e.getTypeMirror();
+        }
+        throw new IllegalStateException("XLSXColumn.formatter() was not mirrored");
+    }
+
+    /**
+     * Returns the {@code Columns.Builder} call that reads a primitive numeric or boolean field without boxing, or
+     * {@code null} if the field is written through its {@code AnnotatedColumn}.
+     */
+    private static String primitiveColumn(String headerLiteral, ColumnType type, TypeKind kind, String access) {
+        String method;
+        if (type == ColumnType.NUMERIC && (kind == TypeKind.LONG || kind == TypeKind.INT || kind == TypeKind.SHORT
+                || kind == TypeKind.BYTE)) {
+            method = "longNumeric";
+        } else if (type == ColumnType.NUMERIC && (kind == TypeKind.DOUBLE || kind == TypeKind.FLOAT)) {
+            method = "doubleNumeric";
+        } else if (type == ColumnType.BOOLEAN && kind == TypeKind.BOOLEAN) {
+            method = "predicate";
+        } else {
+            return null;
+        }
+        return method + "(" + headerLiteral + ", dto -> dto." + access + ")";
+    }
+
+    /**
+     * Returns why a generated class in the same package could not refer to {@code type}, or {@code null} if it can.
+     */
+    private static String unsupportedReason(TypeElement type) {
+        if (!type.getTypeParameters().isEmpty()) {
+            return "generic class";
+        }
+        for (Element current = type; current instanceof TypeElement typeElement;
+             current = current.getEnclosingElement()) {
+            if (typeElement.getModifiers().contains(Modifier.PRIVATE)) {
+                return "private class";
+            }
+            if (typeElement.getNestingKind() == NestingKind.LOCAL
+                    || typeElement.getNestingKind() == NestingKind.ANONYMOUS) {
+                return "local class";
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns how the generated mapper reads {@code field}: the field itself, its record accessor or its getter.
+     * Returns {@code null} if only reflection can read it.
+     */
+    private String accessExpression(TypeElement type, VariableElement field) {
+        String name = field.getSimpleName().toString();
+        if (!field.getModifiers().contains(Modifier.PRIVATE)) {
+            return name;
+        }
+        String capitalized = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+        boolean isBoolean = field.asType().getKind() == TypeKind.BOOLEAN;
+        for (ExecutableElement method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+            if (method.getModifiers().contains(Modifier.PRIVATE)
+                    || method.getModifiers().contains(Modifier.STATIC)
+                    || !method.getParameters().isEmpty()
+                    || !types().isSameType(method.getReturnType(), field.asType())) {
+                continue;
+            }
+            String methodName = method.getSimpleName().toString();
+            boolean recordAccessor = type.getKind() == ElementKind.RECORD && methodName.equals(name);
+            if (recordAccessor || methodName.equals("get" + capitalized)
+                    || (isBoolean && methodName.equals("is" + capitalized))) {
+                return methodName + "()";
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Resolves {@link ColumnType#AUTO} from the declared field type, with the same rules as the reflection path.
+     */
+    private ColumnType resolveType(ColumnType hint, TypeMirror fieldType) {
+        if (hint != ColumnType.AUTO) {
+            return hint;
+        }
+        TypeKind kind = fieldType.getKind();
+        if (kind == TypeKind.BOOLEAN || isType(fieldType, "java.lang.Boolean")) {
+            return ColumnType.BOOLEAN;
+        }
+        if ((kind.isPrimitive() && kind != TypeKind.CHAR) || isSubtype(fieldType, "java.lang.Number")) {
+            return ColumnType.NUMERIC;
+        }
+        if (isType(fieldType, "java.time.LocalDate") || isType(fieldType, "java.time.LocalDateTime")
+                || isSubtype(fieldType, "java.util.Date") || isSubtype(fieldType, "java.util.Calendar")) {
+            return ColumnType.DATE;
+        }
+        return ColumnType.STRING;
+    }
+
+    private boolean isType(TypeMirror type, String className) {
+        TypeElement element = elements().getTypeElement(className);
+        return element != null && types().isSameType(types().erasure(type), types().erasure(element.asType()));
+    }
+
+    private boolean isSubtype(TypeMirror type, String className) {
+        TypeElement element = elements().getTypeElement(className);
+        return element != null && type.getKind() == TypeKind.DECLARED
+                && types().isSubtype(types().erasure(type), types().erasure(element.asType()));
+    }
+
+    private static String source(String packageName, String simpleName, String dtoName,
+                                 List<GeneratedColumn> columns) {
+        StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        boolean primitives = columns.stream().anyMatch(column -> column.primitive() != null);
+        boolean formatted = columns.stream().anyMatch(GeneratedColumn::formatted);
+        source.append("import com.github.ajroot5685.column.AnnotatedColumn;\n");
+        if (primitives) {
+            source.append("import com.github.ajroot5685.column.Columns;\n");
+        }
+        if (formatted) {
+            source.append("import com.github.ajroot5685.column.ValueFormatters;\n");
+        }
+        source.append("import com.github.ajroot5685.dto.ColumnType;\n")
+                .append("import com.github.ajroot5685.dto.XLSXMapper;\n")
+                .append("import java.util.List;\n")
+                .append("import javax.annotation.processing.Generated;\n\n")
+                .append("@Generated(\"").append(XLSXColumnProcessor.class.getName()).append("\")\n")
+                .append("public final class ").append(simpleName).append(" implements XLSXMapper<").append(dtoName)
+                .append("> {\n\n")
+                .append("    private static final List<AnnotatedColumn<").append(dtoName).append(">> COLUMNS = List.of(");
+        String separator = "\n";
+        for (GeneratedColumn column : columns) {
+            source.append(separator).append("            ").append(column.annotated());
+            separator = ",\n";
+        }
+        source.append("\n    );\n\n");
+        if (primitives) {
+            source.append("    private static final Columns<").append(dtoName).append("> WRITE_COLUMNS = Columns.<")
+                    .append(dtoName).append(">builder()");
+            for (int i = 0; i < columns.size(); i++) {
+                String primitive = columns.get(i).primitive();
+                source.append("\n            .").append(primitive != null ? primitive : "add(COLUMNS.get(" + i + "))");
+            }
+            source.append("\n            .build();\n\n");
+        }
+        source.append("    @Override\n")
+                .append("    public Class<").append(dtoName).append("> type() {\n")
+                .append("        return ").append(dtoName).append(".class;\n")
+                .append("    }\n\n")
+                .append("    @Override\n")
+                .append("    public List<AnnotatedColumn<").append(dtoName).append(">> columns() {\n")
+                .append("        return COLUMNS;\n")
+                .append("    }\n");
+        if (primitives) {
+            source.append("\n")
+                    .append("    @Override\n")
+                    .append("    public Columns<").append(dtoName).append("> writeColumns() {\n")
+                    .append("        return WRITE_COLUMNS;\n")
+                    .append("    }\n");
+        }
+        source.append("}\n");
+        return source.toString();
+    }
+
+    /**
+     * Registers every generated mapper, keeping entries of an earlier incremental compilation whose mapper still
+     * exists.
+     */
+    private void writeServiceFile() {
+        if (mappers.isEmpty()) {
+            return;
+        }
+        Filer filer = processingEnv.getFiler();
+        Set<String> entries = new TreeSet<>(mappers);
+        try {
+            FileObject existing = filer.getResource(StandardLocation.CLASS_OUTPUT, "", SERVICE_FILE);
+            try (Reader reader = existing.openReader(true);
+                 BufferedReader lines = new BufferedReader(reader)) {
+                lines.lines()
+                        .map(String::trim)
+                        .filter(line -> !line.isEmpty() && !line.startsWith("#"))
+                        .filter(line -> elements().getTypeElement(line) != null)
+                        .forEach(entries::add);
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            // No earlier service file.
+        }
+        try {
+            FileObject file = filer.createResource(StandardLocation.CLASS_OUTPUT, "", SERVICE_FILE);
+            try (Writer writer = new OutputStreamWriter(file.openOutputStream(), StandardCharsets.UTF_8)) {
+                for (String entry : entries) {
+                    writer.write(entry);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Failed to write " + SERVICE_FILE + ": " + e.getMessage());
+        }
+    }
+
+    private Elements elements() {
+        return processingEnv.getElementUtils();
+    }
+
+    private Types types() {
+        return processingEnv.getTypeUtils();
+    }
+
+    /**
+     * Source of one column: its {@code AnnotatedColumn} expression, the builder call of its primitive column or
+     * {@code null}, and whether the expression refers to {@code ValueFormatters}.
+     */
+    private record GeneratedColumn(String annotated, String primitive, boolean formatted) {
+    }
+}
@@ -0,0 +1,150 @@
+package com.github.ajroot5685.reader;
+
+import com.github.ajroot5685.exception.XLSXReadException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.ZipFile;
+
+/**
+ * Parses several sheets at once on an executor and hands their DTOs over in sheet order.
+ * <br>
+ * Each running sheet fills its own bounded queue, so at most {@code parallelism * bufferRows} DTOs are held however
+ * large the sheets are. When the consumer finishes a sheet, the next unread sheet starts. Workers poll
+ * {@link #close()} while they wait, so an abandoned reader releases its threads.
+ */
+final class ParallelSheets<T> implements SheetRows<T> {
+
+    private static final long HANDOFF_POLL_MILLIS = 50;
+    private static final Object END = new Object();
+
+    private final ZipFile zip;
+    private final List<WorkbookIndex.Sheet> sheets;
+    private final List<String> sharedStrings;
+    private final RowBinder<T> binder;
+    private final Executor executor;
+    private final int bufferRows;
+    private final Deque<BlockingQueue<Object>> running = new ArrayDeque<>();
+    private int started;
+    private volatile boolean closed;
+
+    ParallelSheets(
+            ZipFile zip,
+            WorkbookIndex index,
+            RowBinder<T> binder,
+            Executor executor,
+            int parallelism,
+            int bufferRows
+    ) {
+        this.zip = zip;
+        this.sheets = index.sheets();
+        this.sharedStrings = index.sharedStrings();
+        this.binder = binder;
+        this.executor = executor;
+        this.bufferRows = bufferRows;
+        for (int i = 0; i < parallelism; i++) {
+            startNext();
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T next() {
+        while (!running.isEmpty()) {
+            Object item = take(running.peek());
+            if (item == END) {
+                running.poll();
+                startNext();
+                continue;
+            }
+            if (item instanceof Failure failure) {
+                close();
+                throw rethrow(failure.cause());
+            }
+            return (T) item;
+        }
+        return null;
+    }
+
+    /**
+     * Stops the workers after their current row.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        running.clear();
+    }
+
+    private void startNext() {
+        if (closed || started == sheets.size()) {
+            return;
+        }
+        BlockingQueue<Object> queue = new ArrayBlockingQueue<>(bufferRows);
+        running.add(queue);
+        WorkbookIndex.Sheet sheet = sheets.get(started++);
+        executor.execute(() -> read(sheet, queue));
+    }
+
+    /**
+     * Reads one sheet into its queue, ending with the end marker or a failure. Runs on the executor.
+     */
+    private void read(WorkbookIndex.Sheet sheet, BlockingQueue<Object> queue) {
+        try (SheetReader<T> reader = new SheetReader<>(zip, sheet, sharedStrings, binder)) {
+            T row;
+            while (!closed && (row = reader.next()) != null) {
+                if (!handOver(queue, row)) {
+                    return;
+                }
+            }
+            handOver(queue, END);
+        } catch (Throwable e) {
+            handOver(queue, new Failure(e));
+        }
+    }
+
+    /**
+     * Waits until the queue has room. Returns {@code false} if the reader was closed meanwhile.
+     */
+    private boolean handOver(BlockingQueue<Object> queue, Object item) {
+        try {
+            while (!closed) {
+                if (queue.offer(item, HANDOFF_POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+                    return true;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return false;
+    }
+
+    private Object take(BlockingQueue<Object> queue) {
+        try {
+            return queue.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            close();
+            throw new XLSXReadException("Interrupted while reading sheets", e);
+        }
+    }
+
+    private static RuntimeException rethrow(Throwable cause) {
+        if (cause instanceof RuntimeException runtime) {
+            return runtime;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return new XLSXReadException("Failed to read sheets", cause);
+    }
+
+    /**
+     * A failure of a worker, handed over in place of the remaining rows of its sheet.
+     */
+    private record Failure(Throwable cause) {
+    }
+}
@@ -0,0 +1,167 @@
+package com.github.ajroot5685.reader;
+
+import java.util.Objects;
+import java.util.concurrent.Executor;
+
+/**
+ * Immutable options that control how {@link XLSXReader} reads an Excel file.
+ * <br>
+ * Use {@link #defaults()} for the default behavior, or {@link #builder()} to customize it.
+ * <br><br>
+ * {@link XLSXReader}의 Excel 읽기 방식을 제어하는 불변 옵션입니다.
+ * <br>
+ * 기본 동작은 {@link #defaults()}를, 변경이 필요하면 {@link #builder()}를 사용합니다.
+ */
+public final class ReadOptions {
+
+    private static final ReadOptions DEFAULTS = builder().build();
+
+    private final int parallelism;
+    private final Executor executor;
+    private final int sheetBufferRows;
+
+    private ReadOptions(Builder builder) {
+        this.parallelism = builder.parallelism;
+        this.executor = builder.executor;
+        this.sheetBufferRows = builder.sheetBufferRows;
+    }
+
+    /**
+     * Returns the default options.
+     * <br><br>
+     * 기본 옵션을 반환합니다.
+     *
+     * @return the default options
+     */
+    public static ReadOptions defaults() {
+        return DEFAULTS;
+    }
+
+    /**
+     * Creates a new {@link Builder} initialized with the default values.
+     * <br><br>
+     * 기본값으로 초기화된 새로운 {@link Builder}를 생성합니다.
+     *
+     * @return a new builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns the number of sheets parsed concurrently. {@code 1} means sheets are parsed one after another on the
+     * calling thread.
+     * <br><br>
+     * 동시에 파싱하는 시트 수를 반환합니다. {@code 1}이면 호출 스레드에서 시트를 차례로 파싱합니다.
+     *
+     * @return the parallelism
+     */
+    public int parallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Returns the executor that parses sheets in parallel mode, or {@code null} for a dedicated thread per sheet.
+     * <br><br>
+     * 병렬 모드에서 시트를 파싱하는 실행기를 반환합니다. {@code null}이면 시트마다 전용 스레드를 사용합니다.
+     *
+     * @return the executor, or {@code null}
+     */
+    public Executor executor() {
+        return executor;
+    }
+
+    /**
+     * Returns the number of rows each sheet parsed in parallel may read ahead of the consumer.
+     * <br><br>
+     * 병렬로 파싱되는 시트마다 소비자보다 앞서 읽어 둘 수 있는 행 수를 반환합니다.
+     *
+     * @return the rows buffered per sheet
+     */
+    public int sheetBufferRows() {
+        return sheetBufferRows;
+    }
+
+    /**
+     * Builder for {@link ReadOptions}.
+     * <br>
+     * {@link ReadOptions}의 빌더입니다.
+     */
+    public static final class Builder {
+
+        private int parallelism = 1;
+        private Executor executor;
+        private int sheetBufferRows = 1024;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the number of sheets parsed concurrently. Defaults to {@code 1}.
+         * <br>
+         * Rows are still returned in sheet order. Sheets after the first are parsed ahead into bounded buffers, so
+         * memory stays constant, but DTOs are created on other threads.
+         * <br><br>
+         * 동시에 파싱할 시트 수를 설정합니다. 기본값은 {@code 1}입니다.
+         * <br>
+         * 행은 여전히 시트 순서대로 반환됩니다. 첫 시트 이후의 시트는 크기가 제한된 버퍼로 미리 파싱되므로 메모리 사용량은 일정하지만, DTO는
+         * 다른 스레드에서 생성됩니다.
+         *
+         * @param parallelism the parallelism, at least {@code 1}
+         * @return this builder
+         * @throws IllegalArgumentException if {@code parallelism} is less than {@code 1}
+         */
+        public Builder parallelism(int parallelism) {
+            if (parallelism < 1) {
+                throw new IllegalArgumentException("parallelism must be at least 1: " + parallelism);
+            }
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        /**
+         * Sets the executor used in parallel mode. Defaults to a dedicated daemon thread per sheet.
+         * <br>
+         * Parsing blocks while a sheet's buffer is full, so a small shared pool may be held up by a slow consumer.
+         * <br><br>
+         * 병렬 모드에서 사용할 실행기를 설정합니다. 기본값은 시트마다 전용 데몬 스레드를 사용하는 것입니다.
+         * <br>
+         * 시트의 버퍼가 가득 차면 파싱이 대기하므로, 작은 공유 풀은 느린 소비자 때문에 묶여 있을 수 있습니다.
+         *
+         * @param executor the executor
+         * @return this builder
+         */
+        public Builder executor(Executor executor) {
+            this.executor = Objects.requireNonNull(executor, "executor");
+            return this;
+        }
+
+        /**
+         * Sets the number of rows each sheet parsed in parallel may read ahead. Defaults to {@code 1024}.
+         * <br><br>
+         * 병렬로 파싱되는 시트마다 미리 읽어 둘 수 있는 행 수를 설정합니다. 기본값은 {@code 1024}입니다.
+         *
+         * @param sheetBufferRows the rows buffered per sheet, at least {@code 1}
+         * @return this builder
+         * @throws IllegalArgumentException if {@code sheetBufferRows} is less than {@code 1}
+         */
+        public Builder sheetBufferRows(int sheetBufferRows) {
+            if (sheetBufferRows < 1) {
+                throw new IllegalArgumentException("sheetBufferRows must be at least 1: " + sheetBufferRows);
+            }
+            this.sheetBufferRows = sheetBufferRows;
+            return this;
+        }
+
+        /**
+         * Builds the immutable {@link ReadOptions}.
+         * <br><br>
+         * 불변 {@link ReadOptions}를 생성합니다.
+         *
+         * @return the options
+         */
+        public ReadOptions build() {
+            return new ReadOptions(this);
+        }
+    }
+}
@@ -0,0 +1,478 @@
+package com.github.ajroot5685.reader;
+
+import com.github.ajroot5685.column.ValueFormatter;
+import com.github.ajroot5685.column.ValueFormatters;
+import com.github.ajroot5685.dto.XLSXColumn;
+import com.github.ajroot5685.exception.XLSXReadException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.RecordComponent;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoField;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalQueries;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.GregorianCalendar;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToIntFunction;
+
+/**
+ * Creates DTOs from parsed rows by matching sheet headers to {@link XLSXColumn} fields.
+ * <br>
+ * Headers are resolved with the same rule as {@code ExcelAutoFieldExtractor}: the annotation's header, or the field
+ * name if it is blank. A record is created through its canonical constructor, a class with a no-argument constructor
+ * through its fields, and any other class through a constructor taking the annotated fields in declaration order.
+ * String cells of a field with {@code format} or {@code formatter} are parsed back through the same cached formatter,
+ * and the field's {@code nullValue} text reads as {@code null}. Reflection runs once per class; binders are immutable
+ * and shared between threads.
+ */
+final class RowBinder<T> {
+
+    private static final ClassValue<RowBinder<?>> BINDERS = new ClassValue<>() {
+        @Override
+        protected RowBinder<?> computeValue(Class<?> type) {
+            return compile(type);
+        }
+    };
+
+    private static final MethodType FACTORY_TYPE = MethodType.methodType(Object.class, Object[].class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    /**
+     * Epoch day of 1899-12-30, the day before serial 1 once Excel's 1900 leap-year bug is accounted for.
+     */
+    private static final long EXCEL_EPOCH_DAY = LocalDate.of(1899, 12, 30).toEpochDay();
+
+    /**
+     * Serial number of Excel's fictional 1900-02-29. Earlier serials are one day behind the calendar.
+     */
+    private static final long LEAP_BUG_SERIAL = 60;
+
+    private static final double MILLIS_PER_DAY = 24 * 60 * 60 * 1000;
+
+    private final Class<T> type;
+    private final Map<String, Slot> slotsByHeader;
+    private final MethodHandle factory;
+    private final Object[] defaults;
+    private final MethodHandle[] setters;
+
+    private RowBinder(
+            Class<T> type,
+            Map<String, Slot> slotsByHeader,
+            MethodHandle factory,
+            Object[] defaults,
+            MethodHandle[] setters
+    ) {
+        this.type = type;
+        this.slotsByHeader = slotsByHeader;
+        this.factory = factory;
+        this.defaults = defaults;
+        this.setters = setters;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> RowBinder<T> of(Class<T> type) {
+        return (RowBinder<T>) BINDERS.get(type);
+    }
+
+    Class<T> type() {
+        return type;
+    }
+
+    /**
+     * Returns the slot each column of a header row maps to, {@code null} for columns without a matching field.
+     */
+    Slot[] columns(SheetParser headerRow) {
+        Slot[] columns = new Slot[headerRow.width()];
+        for (int i = 0; i < columns.length; i++) {
+            String header = headerRow.value(i);
+            columns[i] = header != null ? slotsByHeader.get(header) : null;
+        }
+        return columns;
+    }
+
+    /**
+     * Creates a DTO from the current row of {@code row}.
+     */
+    T bind(SheetParser row, Slot[] columns, String sheetName) {
+        int width = Math.min(columns.length, row.width());
+        if (setters == null) {
+            Object[] args = defaults.clone();
+            for (int i = 0; i < width; i++) {
+                Slot slot = columns[i];
+                Object value = slot != null ? convert(slot, row, i, sheetName) : null;
+                if (value != null) {
+                    args[slot.index()] = value;
+                }
+            }
+            return create(args);
+        }
+
+        T dto = create(defaults);
+        for (int i = 0; i < width; i++) {
+            Slot slot = columns[i];
+            Object value = slot != null ? convert(slot, row, i, sheetName) : null;
+            if (value != null) {
+                try {
+                    setters[slot.index()].invokeExact((Object) dto, value);
+                } catch (Throwable e) {
+                    throw new XLSXReadException("Failed to set field " + slot.name() + " of " + type.getName(), e);
+                }
+            }
+        }
+        return dto;
+    }
+
+    private T create(Object[] args) {
+        try {
+            return type.cast((Object) factory.invokeExact(args));
+        } catch (Throwable e) {
+            throw new XLSXReadException("Failed to create " + type.getName(), e);
+        }
+    }
+
+    private static Object convert(Slot slot, SheetParser row, int column, String sheetName) {
+        byte kind = row.kind(column);
+        String text = row.value(column);
+        if (kind == SheetParser.BLANK || kind == SheetParser.ERROR || text == null) {
+            return null;
+        }
+        try {
+            return slot.converter().convert(kind, text);
+        } catch (RuntimeException e) {
+            throw new XLSXReadException("Cannot read cell " + cellName(column) + row.rowNumber() + " of sheet '"
+                    + sheetName + "' as " + slot.type().getSimpleName() + ": " + text, e);
+        }
+    }
+
+    private static String cellName(int column) {
+        StringBuilder name = new StringBuilder();
+        for (int i = column + 1; i > 0; i = (i - 1) / 26) {
+            name.insert(0, (char) ('A' + (i - 1) % 26));
+        }
+        return name.toString();
+    }
+
+    /**
+     * Builds the binder of a class by reflection. Called once per class by {@link #BINDERS}.
+     */
+    private static <T> RowBinder<T> compile(Class<T> type) {
+        if (type.isInterface() || Modifier.isAbstract(type.getModifiers())) {
+            throw new XLSXReadException("Cannot create instances of " + type.getName());
+        }
+        List<Field> fields = new ArrayList<>();
+        for (Field field : type.getDeclaredFields()) {
+            if (!Modifier.isStatic(field.getModifiers()) && field.isAnnotationPresent(XLSXColumn.class)) {
+                fields.add(field);
+            }
+        }
+
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        try {
+            if (type.isRecord()) {
+                RecordComponent[] components = type.getRecordComponents();
+                Class<?>[] parameterTypes = new Class<?>[components.length];
+                List<String> names = new ArrayList<>();
+                for (int i = 0; i < components.length; i++) {
+                    parameterTypes[i] = components[i].getType();
+                    names.add(components[i].getName());
+                }
+                Map<String, Slot> slots = slots(fields, field -> names.indexOf(field.getName()));
+                return new RowBinder<>(type, slots, factory(lookup, type.getDeclaredConstructor(parameterTypes)),
+                        defaults(parameterTypes), null);
+            }
+
+            Constructor<T> noArgs = noArgsConstructor(type);
+            if (noArgs != null) {
+                MethodHandle[] setters = new MethodHandle[fields.size()];
+                for (int i = 0; i < setters.length; i++) {
+                    Field field = fields.get(i);
+                    field.setAccessible(true);
+                    setters[i] = lookup.unreflectSetter(field).asType(SETTER_TYPE);
+                }
+                return new RowBinder<>(type, slots(fields, fields::indexOf), factory(lookup, noArgs), new Object[0],
+                        setters);
+            }
+
+            Class<?>[] parameterTypes = fields.stream().map(Field::getType).toArray(Class<?>[]::new);
+            Constructor<T> constructor;
+            try {
+                constructor = type.getDeclaredConstructor(parameterTypes);
+            } catch (NoSuchMethodException e) {
+                throw new XLSXReadException(type.getName() + " needs a no-argument constructor or a constructor "
+                        + "taking its @XLSXColumn fields in declaration order", e);
+            }
+            return new RowBinder<>(type, slots(fields, fields::indexOf), factory(lookup, constructor),
+                    defaults(parameterTypes), null);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            if (e instanceof XLSXReadException readException) {
+                throw readException;
+            }
+            throw new XLSXReadException("Failed to prepare reading " + type.getName(), e);
+        }
+    }
+
+    private static Map<String, Slot> slots(List<Field> fields, ToIntFunction<Field> position) {
+        Map<String, Slot> slots = new HashMap<>();
+        for (Field field : fields) {
+            XLSXColumn annotation = field.getAnnotation(XLSXColumn.class);
+            String header = !annotation.header().isBlank() ? annotation.header() : field.getName();
+            slots.put(header, new Slot(field.getName(), position.applyAsInt(field), field.getType(),
+                    annotatedConverter(field.getType(), annotation)));
+        }
+        return slots;
+    }
+
+    /**
+     * Returns the converter of a field, parsing non-empty string cells with its formatter and mapping its
+     * {@code nullValue} text to {@code null}.
+     */
+    private static Converter annotatedConverter(Class<?> type, XLSXColumn annotation) {
+        Converter base = converter(type);
+        Converter converter = base;
+        ValueFormatter<Object> formatter = formatter(type, annotation);
+        if (formatter != null) {
+            Class<?> boxed = MethodType.methodType(type).wrap().returnType();
+            // A formatted column writes null as an empty string unless it has a nullValue.
+            converter = (kind, text) -> kind != SheetParser.STRING ? base.convert(kind, text)
+                    : text.isEmpty() ? null
+                    : fromParsed(type, boxed, formatter.parse(text), base);
+        }
+        String nullValue = annotation.nullValue();
+        if (nullValue.isEmpty()) {
+            return converter;
+        }
+        Converter formatted = converter;
+        return (kind, text) -> nullValue.equals(text) ? null : formatted.convert(kind, text);
+    }
+
+    private static ValueFormatter<Object> formatter(Class<?> type, XLSXColumn annotation) {
+        try {
+            if (!annotation.format().isEmpty()) {
+                return ValueFormatters.ofPattern(type, annotation.format());
+            }
+            if (annotation.formatter() != ValueFormatter.class) {
+                return ValueFormatters.of(annotation.formatter());
+            }
+            return null;
+        } catch (IllegalArgumentException e) {
+            throw new XLSXReadException("Invalid formatter for reading " + type.getName(), e);
+        }
+    }
+
+    /**
+     * Converts the value a formatter parsed into the field type. Pattern formatters return a {@link TemporalAccessor}
+     * or a {@link Number}; other formatters usually return the field type itself.
+     */
+    private static Object fromParsed(Class<?> type, Class<?> boxed, Object parsed, Converter base) {
+        if (parsed == null || boxed.isInstance(parsed)) {
+            return parsed;
+        }
+        if (parsed instanceof Number number) {
+            return base.convert(SheetParser.NUMBER, number.toString());
+        }
+        if (parsed instanceof TemporalAccessor temporal) {
+            if (type == LocalDate.class) {
+                return LocalDate.from(temporal);
+            }
+            if (type == Date.class) {
+                return Date.from(toZoned(temporal).toInstant());
+            }
+            if (type == Calendar.class || type == GregorianCalendar.class) {
+                return GregorianCalendar.from(toZoned(temporal));
+            }
+            if (type == LocalDateTime.class) {
+                return toZoned(temporal).toLocalDateTime();
+            }
+        }
+        throw new IllegalArgumentException("Formatter returned " + parsed.getClass().getName() + ", not "
+                + type.getName());
+    }
+
+    /**
+     * Returns the date-time of parsed fields, at midnight for a date-only pattern and in the system time zone unless
+     * the pattern has its own offset.
+     */
+    private static ZonedDateTime toZoned(TemporalAccessor temporal) {
+        if (temporal.isSupported(ChronoField.INSTANT_SECONDS)) {
+            return ZonedDateTime.from(temporal);
+        }
+        LocalTime time = temporal.query(TemporalQueries.localTime());
+        LocalDate date = LocalDate.from(temporal);
+        return (time != null ? date.atTime(time) : date.atStartOfDay()).atZone(ZoneId.systemDefault());
+    }
+
+    private static <T> Constructor<T> noArgsConstructor(Class<T> type) {
+        try {
+            return type.getDeclaredConstructor();
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    private static MethodHandle factory(MethodHandles.Lookup lookup, Constructor<?> constructor)
+            throws IllegalAccessException {
+        constructor.setAccessible(true);
+        return lookup.unreflectConstructor(constructor)
+                .asSpreader(Object[].class, constructor.getParameterCount())
+                .asType(FACTORY_TYPE);
+    }
+
+    /**
+     * Returns the value each parameter gets when its column is missing or blank: zero for primitives, otherwise
+     * {@code null}.
+     */
+    private static Object[] defaults(Class<?>[] parameterTypes) {
+        Object[] defaults = new Object[parameterTypes.length];
+        for (int i = 0; i < parameterTypes.length; i++) {
+            if (parameterTypes[i].isPrimitive()) {
+                defaults[i] = Array.get(Array.newInstance(parameterTypes[i], 1), 0);
+            }
+        }
+        return defaults;
+    }
+
+    /**
+     * Returns the converter from cell text to the given field type.
+     */
+    private static Converter converter(Class<?> type) {
+        if (type == String.class || type == Object.class || type == CharSequence.class) {
+            return (kind, text) -> text;
+        }
+        if (type == boolean.class || type == Boolean.class) {
+            return RowBinder::toBoolean;
+        }
+        if (type == int.class || type == Integer.class) {
+            return (kind, text) -> Math.toIntExact(toLong(text));
+        }
+        if (type == long.class || type == Long.class) {
+            return (kind, text) -> toLong(text);
+        }
+        if (type == short.class || type == Short.class) {
+            return (kind, text) -> (short) toIntegral(text, Short.MIN_VALUE, Short.MAX_VALUE);
+        }
+        if (type == byte.class || type == Byte.class) {
+            return (kind, text) -> (byte) toIntegral(text, Byte.MIN_VALUE, Byte.MAX_VALUE);
+        }
+        if (type == double.class || type == Double.class) {
+            return (kind, text) -> Double.parseDouble(text.trim());
+        }
+        if (type == float.class || type == Float.class) {
+            return (kind, text) -> Float.parseFloat(text.trim());
+        }
+        if (type == BigDecimal.class) {
+            return (kind, text) -> new BigDecimal(text.trim());
+        }
+        if (type == BigInteger.class) {
+            return (kind, text) -> new BigDecimal(text.trim()).setScale(0, RoundingMode.HALF_UP).toBigInteger();
+        }
+        if (type == char.class || type == Character.class) {
+            return (kind, text) -> text.isEmpty() ? null : text.charAt(0);
+        }
+        if (type == LocalDate.class) {
+            return (kind, text) -> kind == SheetParser.NUMBER
+                    ? fromSerial(text).toLocalDate()
+                    : LocalDate.parse(text.trim());
+        }
+        if (type == LocalDateTime.class) {
+            return RowBinder::toDateTime;
+        }
+        if (type == Date.class) {
+            return (kind, text) -> Date.from(toDateTime(kind, text).atZone(ZoneId.systemDefault()).toInstant());
+        }
+        if (type == Calendar.class || type == GregorianCalendar.class) {
+            return (kind, text) -> GregorianCalendar.from(toDateTime(kind, text).atZone(ZoneId.systemDefault()));
+        }
+        if (type.isEnum()) {
+            return enumConverter(type.asSubclass(Enum.class));
+        }
+        throw new XLSXReadException("Unsupported field type for reading: " + type.getName());
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Converter enumConverter(Class<? extends Enum> type) {
+        return (kind, text) -> Enum.valueOf((Class) type, text.trim());
+    }
+
+    private static Boolean toBoolean(byte kind, String text) {
+        String value = text.trim();
+        if (kind == SheetParser.BOOLEAN || kind == SheetParser.NUMBER) {
+            return !"0".equals(value);
+        }
+        if ("true".equalsIgnoreCase(value) || "1".equals(value)) {
+            return true;
+        }
+        if ("false".equalsIgnoreCase(value) || "0".equals(value)) {
+            return false;
+        }
+        throw new IllegalArgumentException("Not a boolean: " + text);
+    }
+
+    /**
+     * Parses an integral value, rounding a fractional number half up as Excel displays it.
+     */
+    private static long toLong(String text) {
+        return new BigDecimal(text.trim()).setScale(0, RoundingMode.HALF_UP).longValueExact();
+    }
+
+    private static long toIntegral(String text, long min, long max) {
+        long value = toLong(text);
+        if (value < min || value > max) {
+            throw new ArithmeticException("Out of range: " + value);
+        }
+        return value;
+    }
+
+    private static LocalDateTime toDateTime(byte kind, String text) {
+        if (kind == SheetParser.NUMBER) {
+            return fromSerial(text);
+        }
+        String value = text.trim();
+        return value.length() == 10
+                ? LocalDate.parse(value).atStartOfDay()
+                : LocalDateTime.parse(value.replace(' ', 'T'));
+    }
+
+    /**
+     * Converts an Excel serial date-time in the 1900 date system, rounded to the millisecond.
+     */
+    private static LocalDateTime fromSerial(String text) {
+        double serial = Double.parseDouble(text.trim());
+        long day = (long) Math.floor(serial);
+        long epochDay = (day < LEAP_BUG_SERIAL ? day + 1 : day) + EXCEL_EPOCH_DAY;
+        long millis = Math.round((serial - day) * MILLIS_PER_DAY);
+        return LocalDate.ofEpochDay(epochDay).atStartOfDay().plus(millis, ChronoUnit.MILLIS);
+    }
+
+    /**
+     * Converts the text of a non-blank cell into a field value.
+     */
+    @FunctionalInterface
+    interface Converter {
+        Object convert(byte kind, String text);
+    }
+
+    /**
+     * A field that a column can be bound to: its name, its position among the constructor arguments or setters, its
+     * type and how cell text is converted to it.
+     */
+    record Slot(String name, int index, Class<?> type, Converter converter) {
+    }
+}
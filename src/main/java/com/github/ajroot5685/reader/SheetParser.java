@@ -0,0 +1,183 @@
+package com.github.ajroot5685.reader;
+
+import com.github.ajroot5685.exception.XLSXReadException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.List;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * Pull parser over the rows of one worksheet.
+ * <br>
+ * Only the current row is held: its cells are kept as raw text with their kind in arrays that are reused from row to
+ * row, so memory does not grow with the sheet. Rows without any value are skipped. Formulas are not evaluated; their
+ * cached value is read.
+ */
+final class SheetParser implements AutoCloseable {
+
+    static final byte BLANK = 0;
+    static final byte NUMBER = 1;
+    static final byte STRING = 2;
+    static final byte BOOLEAN = 3;
+    static final byte ERROR = 4;
+
+    /**
+     * Number of columns of an Excel sheet. Cell references beyond it are rejected instead of growing the row arrays.
+     */
+    private static final int MAX_COLUMNS = 16_384;
+
+    private final XMLStreamReader xml;
+    private final List<String> sharedStrings;
+    private String[] values = new String[16];
+    private byte[] kinds = new byte[16];
+    private int width;
+    private long rowNumber;
+
+    SheetParser(InputStream in, List<String> sharedStrings) throws XMLStreamException {
+        this.xml = XmlParts.open(in);
+        this.sharedStrings = sharedStrings;
+    }
+
+    /**
+     * Advances to the next row that has at least one value. Returns {@code false} at the end of the sheet.
+     */
+    boolean nextRow() throws XMLStreamException {
+        while (xml.hasNext()) {
+            if (xml.next() == XMLStreamConstants.START_ELEMENT && "row".equals(xml.getLocalName())) {
+                String r = xml.getAttributeValue(null, "r");
+                rowNumber = r != null ? Long.parseLong(r) : rowNumber + 1;
+                if (readRow()) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the one-based number of the current row.
+     */
+    long rowNumber() {
+        return rowNumber;
+    }
+
+    /**
+     * Returns one more than the index of the last column with a value in the current row.
+     */
+    int width() {
+        return width;
+    }
+
+    String value(int column) {
+        return column < width ? values[column] : null;
+    }
+
+    byte kind(int column) {
+        return column < width ? kinds[column] : BLANK;
+    }
+
+    @Override
+    public void close() throws XMLStreamException {
+        xml.close();
+    }
+
+    private boolean readRow() throws XMLStreamException {
+        Arrays.fill(values, 0, width, null);
+        Arrays.fill(kinds, 0, width, BLANK);
+        width = 0;
+        boolean hasValue = false;
+        int column = -1;
+        while (true) {
+            int event = xml.next();
+            if (event == XMLStreamConstants.END_ELEMENT && "row".equals(xml.getLocalName())) {
+                return hasValue;
+            }
+            if (event == XMLStreamConstants.START_ELEMENT && "c".equals(xml.getLocalName())) {
+                String ref = xml.getAttributeValue(null, "r");
+                column = ref != null ? columnIndex(ref) : column + 1;
+                hasValue |= readCell(column, xml.getAttributeValue(null, "t"));
+            }
+            if (event == XMLStreamConstants.END_DOCUMENT) {
+                return hasValue;
+            }
+        }
+    }
+
+    private boolean readCell(int column, String type) throws XMLStreamException {
+        String text = null;
+        while (true) {
+            int event = xml.next();
+            if (event == XMLStreamConstants.END_ELEMENT && "c".equals(xml.getLocalName())) {
+                break;
+            }
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                switch (xml.getLocalName()) {
+                    case "v" -> text = xml.getElementText();
+                    case "is" -> text = XmlParts.richText(xml, "is");
+                    case "f" -> xml.getElementText();
+                    default -> {
+                    }
+                }
+            }
+        }
+        if (text == null) {
+            return false;
+        }
+
+        byte kind;
+        switch (type != null ? type : "n") {
+            case "s" -> {
+                kind = STRING;
+                text = sharedString(text);
+            }
+            case "inlineStr", "str" -> kind = STRING;
+            case "b" -> kind = BOOLEAN;
+            case "e" -> kind = ERROR;
+            default -> kind = NUMBER;
+        }
+        set(column, kind, text);
+        return true;
+    }
+
+    private String sharedString(String index) {
+        try {
+            return sharedStrings.get(Integer.parseInt(index.trim()));
+        } catch (RuntimeException e) {
+            throw new XLSXReadException("Invalid shared string index " + index + " in row " + rowNumber, e);
+        }
+    }
+
+    private void set(int column, byte kind, String value) {
+        if (column >= values.length) {
+            int capacity = Math.max(values.length * 2, column + 1);
+            values = Arrays.copyOf(values, capacity);
+            kinds = Arrays.copyOf(kinds, capacity);
+        }
+        values[column] = value;
+        kinds[column] = kind;
+        width = Math.max(width, column + 1);
+    }
+
+    /**
+     * Converts the letters of a cell reference such as {@code AB12} into a zero-based column index.
+     */
+    private int columnIndex(String ref) {
+        int index = 0;
+        for (int i = 0; i < ref.length(); i++) {
+            char c = ref.charAt(i);
+            if (c < 'A' || c > 'Z') {
+                break;
+            }
+            index = index * 26 + (c - 'A' + 1);
+            if (index > MAX_COLUMNS) {
+                throw new XLSXReadException("Cell reference out of range in row " + rowNumber + ": " + ref);
+            }
+        }
+        if (index == 0) {
+            throw new XLSXReadException("Invalid cell reference in row " + rowNumber + ": " + ref);
+        }
+        return index - 1;
+    }
+}
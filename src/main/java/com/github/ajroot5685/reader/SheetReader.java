@@ -0,0 +1,94 @@
+package com.github.ajroot5685.reader;
+
+import com.github.ajroot5685.exception.XLSXReadException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.zip.ZipFile;
+import javax.xml.stream.XMLStreamException;
+
+/**
+ * Reads the DTOs of one sheet. The first row with a value is the header row that maps columns to fields.
+ */
+final class SheetReader<T> implements AutoCloseable {
+
+    private final WorkbookIndex.Sheet sheet;
+    private final RowBinder<T> binder;
+    private final InputStream in;
+    private final SheetParser parser;
+    private RowBinder.Slot[] columns;
+
+    SheetReader(ZipFile zip, WorkbookIndex.Sheet sheet, List<String> sharedStrings, RowBinder<T> binder) {
+        this.sheet = sheet;
+        this.binder = binder;
+        InputStream opened = null;
+        try {
+            opened = WorkbookIndex.entry(zip, sheet.entry());
+            this.parser = new SheetParser(opened, sharedStrings);
+            this.in = opened;
+        } catch (IOException | XMLStreamException | RuntimeException e) {
+            closeQuietly(opened);
+            throw failure(e);
+        }
+    }
+
+    /**
+     * Returns the DTO of the next row, or {@code null} at the end of the sheet.
+     */
+    T next() {
+        try {
+            if (!parser.nextRow()) {
+                return null;
+            }
+            if (columns == null) {
+                columns = mapHeaders();
+                if (!parser.nextRow()) {
+                    return null;
+                }
+            }
+            return binder.bind(parser, columns, sheet.name());
+        } catch (XMLStreamException e) {
+            throw failure(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            parser.close();
+        } catch (XMLStreamException ignored) {
+            // Only the parser's resources are released here; the stream is closed below.
+        } finally {
+            closeQuietly(in);
+        }
+    }
+
+    private RowBinder.Slot[] mapHeaders() {
+        RowBinder.Slot[] mapped = binder.columns(parser);
+        for (RowBinder.Slot slot : mapped) {
+            if (slot != null) {
+                return mapped;
+            }
+        }
+        throw new XLSXReadException("Sheet '" + sheet.name() + "' has none of the @XLSXColumn headers of "
+                + binder.type().getName());
+    }
+
+    private RuntimeException failure(Exception e) {
+        if (e instanceof XLSXReadException readException) {
+            return readException;
+        }
+        return new XLSXReadException("Failed to read sheet '" + sheet.name() + "'", e);
+    }
+
+    private static void closeQuietly(InputStream in) {
+        if (in == null) {
+            return;
+        }
+        try {
+            in.close();
+        } catch (IOException ignored) {
+            // Nothing more is read from the sheet.
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.github.ajroot5685.reader;
+
+/**
+ * DTOs of the sheets of a workbook, in sheet order.
+ */
+interface SheetRows<T> {
+
+    /**
+     * Returns the next DTO, or {@code null} after the last row of the last sheet.
+     */
+    T next();
+
+    /**
+     * Stops reading and releases the sheets being read.
+     */
+    void close();
+}
@@ -0,0 +1,125 @@
+package com.github.ajroot5685.reader;
+
+import com.github.ajroot5685.exception.XLSXReadException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * Sheets and shared strings of a workbook, resolved through its relationship parts.
+ * <br>
+ * Only the shared strings table is held in memory; sheets are located here and streamed later.
+ */
+record WorkbookIndex(List<Sheet> sheets, List<String> sharedStrings) {
+
+    private static final String REL_NS = "http://schemas.openxmlformats.org/officeDocument/2006/relationships";
+    private static final String DEFAULT_WORKBOOK = "xl/workbook.xml";
+
+    /**
+     * A sheet's name and the zip entry of its XML.
+     */
+    record Sheet(String name, String entry) {
+    }
+
+    static WorkbookIndex read(ZipFile zip) throws IOException, XMLStreamException {
+        String workbook = officeDocument(zip);
+        String directory = workbook.substring(0, workbook.lastIndexOf('/') + 1);
+        String relsEntry = directory + "_rels/" + workbook.substring(directory.length()) + ".rels";
+
+        Map<String, String> targets = new HashMap<>();
+        String sharedStringsEntry = null;
+        try (InputStream in = entry(zip, relsEntry)) {
+            XMLStreamReader xml = XmlParts.open(in);
+            while (xml.hasNext()) {
+                if (xml.next() == XMLStreamConstants.START_ELEMENT && "Relationship".equals(xml.getLocalName())) {
+                    String target = resolve(directory, xml.getAttributeValue(null, "Target"));
+                    targets.put(xml.getAttributeValue(null, "Id"), target);
+                    if (String.valueOf(xml.getAttributeValue(null, "Type")).endsWith("/sharedStrings")) {
+                        sharedStringsEntry = target;
+                    }
+                }
+            }
+        }
+
+        List<Sheet> sheets = new ArrayList<>();
+        try (InputStream in = entry(zip, workbook)) {
+            XMLStreamReader xml = XmlParts.open(in);
+            while (xml.hasNext()) {
+                if (xml.next() == XMLStreamConstants.START_ELEMENT && "sheet".equals(xml.getLocalName())) {
+                    String name = xml.getAttributeValue(null, "name");
+                    String target = targets.get(xml.getAttributeValue(REL_NS, "id"));
+                    if (target == null) {
+                        throw new XLSXReadException("Sheet '" + name + "' has no part in the workbook");
+                    }
+                    sheets.add(new Sheet(name, target));
+                }
+            }
+        }
+
+        List<String> sharedStrings = sharedStringsEntry != null && zip.getEntry(sharedStringsEntry) != null
+                ? sharedStrings(zip, sharedStringsEntry)
+                : List.of();
+        return new WorkbookIndex(List.copyOf(sheets), sharedStrings);
+    }
+
+    /**
+     * Opens a part of the package, failing with the part name if it is missing.
+     */
+    static InputStream entry(ZipFile zip, String name) throws IOException {
+        ZipEntry entry = zip.getEntry(name);
+        if (entry == null) {
+            throw new XLSXReadException("Not an xlsx file: missing part " + name);
+        }
+        return zip.getInputStream(entry);
+    }
+
+    /**
+     * Returns the workbook part named by the package relationships, or the usual location if there are none.
+     */
+    private static String officeDocument(ZipFile zip) throws IOException, XMLStreamException {
+        if (zip.getEntry("_rels/.rels") == null) {
+            return DEFAULT_WORKBOOK;
+        }
+        try (InputStream in = entry(zip, "_rels/.rels")) {
+            XMLStreamReader xml = XmlParts.open(in);
+            while (xml.hasNext()) {
+                if (xml.next() == XMLStreamConstants.START_ELEMENT && "Relationship".equals(xml.getLocalName())
+                        && String.valueOf(xml.getAttributeValue(null, "Type")).endsWith("/officeDocument")) {
+                    return resolve("", xml.getAttributeValue(null, "Target"));
+                }
+            }
+        }
+        return DEFAULT_WORKBOOK;
+    }
+
+    private static List<String> sharedStrings(ZipFile zip, String name) throws IOException, XMLStreamException {
+        List<String> strings = new ArrayList<>();
+        try (InputStream in = entry(zip, name)) {
+            XMLStreamReader xml = XmlParts.open(in);
+            while (xml.hasNext()) {
+                if (xml.next() == XMLStreamConstants.START_ELEMENT && "si".equals(xml.getLocalName())) {
+                    strings.add(XmlParts.richText(xml, "si"));
+                }
+            }
+        }
+        return strings;
+    }
+
+    /**
+     * Resolves a relationship target against the directory of its source part. Absolute targets start at the package
+     * root.
+     */
+    private static String resolve(String directory, String target) {
+        String path = URI.create("/" + directory).resolve(target).getPath();
+        return path.substring(1);
+    }
+}
@@ -0,0 +1,306 @@
+package com.github.ajroot5685.reader;
+
+import com.github.ajroot5685.dto.XLSXColumn;
+import com.github.ajroot5685.exception.XLSXReadException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import java.util.zip.ZipFile;
+import javax.xml.stream.XMLStreamException;
+
+/**
+ * Streaming reader that maps the rows of an xlsx file back into {@link XLSXColumn} DTOs.
+ * <br>
+ * Sheet XML is parsed event by event with StAX, and only the current row is held, so memory does not grow with the
+ * file; only the shared strings table is loaded. In every sheet, the first row with a value is the header row and is
+ * matched to the DTO's fields by the same headers the DTO is written with. Unknown columns are ignored, and fields
+ * without a column keep their default value. Files written by this library can therefore be read back after being
+ * edited.
+ * <br>
+ * The reader must be closed, for example with try-with-resources, to release the file.
+ * <br><br>
+ * xlsx 파일의 행을 {@link XLSXColumn} DTO로 다시 매핑하는 스트리밍 리더입니다.
+ * <br>
+ * 시트 XML은 StAX로 이벤트 단위로 파싱되고 현재 행만 유지되므로 파일 크기에 따라 메모리 사용량이 늘지 않으며, 공유 문자열 테이블만 메모리에
+ * 올라갑니다. 각 시트에서 값이 있는 첫 행은 헤더 행으로, DTO를 쓸 때와 같은 헤더로 DTO의 필드와 매칭됩니다. 알 수 없는 컬럼은 무시되고, 컬럼이
+ * 없는 필드는 기본값을 유지합니다. 따라서 이 라이브러리로 쓴 파일을 편집한 뒤 다시 읽을 수 있습니다.
+ * <br>
+ * 파일을 해제하려면 try-with-resources 등으로 리더를 닫아야 합니다.
+ *
+ * @param <T> the DTO type
+ */
+public final class XLSXReader<T> implements Iterator<T>, AutoCloseable {
+
+    /**
+     * Runs each sheet parsed in parallel on its own daemon thread, so blocked parsers never occupy a shared pool.
+     */
+    private static final Executor DEDICATED_THREAD = task -> {
+        Thread thread = new Thread(task, "xlsx-sheet-reader");
+        thread.setDaemon(true);
+        thread.start();
+    };
+
+    private final ZipFile zip;
+    private final Path spooled;
+    private final SheetRows<T> rows;
+    private T next;
+    private boolean finished;
+
+    private XLSXReader(Path file, Path spooled, Class<T> clazz, ReadOptions options) {
+        RowBinder<T> binder = RowBinder.of(clazz);
+        ZipFile opened = null;
+        try {
+            opened = new ZipFile(file.toFile());
+            WorkbookIndex index = WorkbookIndex.read(opened);
+            this.rows = options.parallelism() > 1 && index.sheets().size() > 1
+                    ? new ParallelSheets<>(opened, index, binder,
+                    options.executor() != null ? options.executor() : DEDICATED_THREAD,
+                    options.parallelism(), options.sheetBufferRows())
+                    : new SequentialSheets<>(opened, index, binder);
+            this.zip = opened;
+            this.spooled = spooled;
+        } catch (IOException | XMLStreamException e) {
+            closeQuietly(opened);
+            throw new XLSXReadException("Failed to read Excel file: " + file, e);
+        } catch (RuntimeException e) {
+            closeQuietly(opened);
+            throw e;
+        }
+    }
+
+    /**
+     * Opens the given xlsx file with the default options.
+     * <br><br>
+     * 기본 옵션으로 주어진 xlsx 파일을 엽니다.
+     *
+     * @param file  the xlsx file
+     *              <p>
+     *              읽을 xlsx 파일
+     * @param clazz the DTO class with annotated fields
+     *              <p>
+     *              애노테이션이 붙은 DTO 클래스
+     * @param <T>   the DTO type
+     * @return the reader
+     * @throws XLSXReadException if the file is not a readable xlsx file or the DTO cannot be created from rows
+     *                           <p>
+     *                           읽을 수 있는 xlsx 파일이 아니거나 행으로 DTO를 생성할 수 없는 경우
+     */
+    public static <T> XLSXReader<T> open(Path file, Class<T> clazz) {
+        return open(file, clazz, ReadOptions.defaults());
+    }
+
+    /**
+     * Opens the given xlsx file with the given {@link ReadOptions}.
+     * <br><br>
+     * 주어진 {@link ReadOptions}로 주어진 xlsx 파일을 엽니다.
+     *
+     * @param file    the xlsx file
+     *                <p>
+     *                읽을 xlsx 파일
+     * @param clazz   the DTO class with annotated fields
+     *                <p>
+     *                애노테이션이 붙은 DTO 클래스
+     * @param options the read options
+     *                <p>
+     *                읽기 옵션
+     * @param <T>     the DTO type
+     * @return the reader
+     * @throws XLSXReadException if the file is not a readable xlsx file or the DTO cannot be created from rows
+     *                           <p>
+     *                           읽을 수 있는 xlsx 파일이 아니거나 행으로 DTO를 생성할 수 없는 경우
+     */
+    public static <T> XLSXReader<T> open(Path file, Class<T> clazz, ReadOptions options) {
+        return new XLSXReader<>(file, null, clazz, options);
+    }
+
+    /**
+     * Opens an xlsx file from a stream, such as an uploaded file, with the default options.
+     * <br>
+     * See {@link #open(InputStream, Class, ReadOptions)}.
+     * <br><br>
+     * 업로드된 파일과 같은 스트림의 xlsx 파일을 기본 옵션으로 엽니다.
+     * <br>
+     * {@link #open(InputStream, Class, ReadOptions)}를 참고하세요.
+     *
+     * @param in    the xlsx content
+     *              <p>
+     *              xlsx 내용
+     * @param clazz the DTO class with annotated fields
+     *              <p>
+     *              애노테이션이 붙은 DTO 클래스
+     * @param <T>   the DTO type
+     * @return the reader
+     * @throws XLSXReadException if the content is not a readable xlsx file or the DTO cannot be created from rows
+     *                           <p>
+     *                           읽을 수 있는 xlsx 내용이 아니거나 행으로 DTO를 생성할 수 없는 경우
+     */
+    public static <T> XLSXReader<T> open(InputStream in, Class<T> clazz) {
+        return open(in, clazz, ReadOptions.defaults());
+    }
+
+    /**
+     * Opens an xlsx file from a stream, such as an uploaded file, with the given {@link ReadOptions}.
+     * <br>
+     * The parts of an xlsx file can be stored in any order, so the stream is first copied to a temp file, which is
+     * deleted when the reader is closed. The stream is read to the end but not closed.
+     * <br><br>
+     * 업로드된 파일과 같은 스트림의 xlsx 파일을 주어진 {@link ReadOptions}로 엽니다.
+     * <br>
+     * xlsx 파일의 파트는 어떤 순서로든 저장될 수 있으므로 스트림은 먼저 임시 파일로 복사되며, 임시 파일은 리더를 닫을 때 삭제됩니다. 스트림은
+     * 끝까지 읽지만 닫지는 않습니다.
+     *
+     * @param in      the xlsx content
+     *                <p>
+     *                xlsx 내용
+     * @param clazz   the DTO class with annotated fields
+     *                <p>
+     *                애노테이션이 붙은 DTO 클래스
+     * @param options the read options
+     *                <p>
+     *                읽기 옵션
+     * @param <T>     the DTO type
+     * @return the reader
+     * @throws XLSXReadException if the content is not a readable xlsx file or the DTO cannot be created from rows
+     *                           <p>
+     *                           읽을 수 있는 xlsx 내용이 아니거나 행으로 DTO를 생성할 수 없는 경우
+     */
+    public static <T> XLSXReader<T> open(InputStream in, Class<T> clazz, ReadOptions options) {
+        Path temp = null;
+        try {
+            temp = Files.createTempFile("xlsx-read", ".xlsx");
+            Files.copy(in, temp, StandardCopyOption.REPLACE_EXISTING);
+            return new XLSXReader<>(temp, temp, clazz, options);
+        } catch (IOException e) {
+            deleteQuietly(temp);
+            throw new XLSXReadException("Failed to copy the uploaded Excel file", e);
+        } catch (RuntimeException e) {
+            deleteQuietly(temp);
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the remaining rows as a sequential {@link Stream}. Closing the stream closes this reader.
+     * <br><br>
+     * 남은 행을 순차 {@link Stream}으로 반환합니다. 스트림을 닫으면 이 리더도 닫힙니다.
+     *
+     * @return the stream of DTOs
+     */
+    public Stream<T> stream() {
+        Spliterator<T> spliterator = Spliterators.spliteratorUnknownSize(this,
+                Spliterator.ORDERED | Spliterator.NONNULL);
+        return StreamSupport.stream(spliterator, false).onClose(this::close);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null && !finished) {
+            next = rows.next();
+            finished = next == null;
+        }
+        return next != null;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        T row = next;
+        next = null;
+        return row;
+    }
+
+    /**
+     * Stops reading and releases the file. A temp file made from a stream is deleted.
+     * <br><br>
+     * 읽기를 멈추고 파일을 해제합니다. 스트림으로부터 만든 임시 파일은 삭제됩니다.
+     */
+    @Override
+    public void close() {
+        finished = true;
+        next = null;
+        rows.close();
+        closeQuietly(zip);
+        deleteQuietly(spooled);
+    }
+
+    private static void closeQuietly(ZipFile zip) {
+        if (zip == null) {
+            return;
+        }
+        try {
+            zip.close();
+        } catch (IOException ignored) {
+            // Nothing more is read from the file.
+        }
+    }
+
+    private static void deleteQuietly(Path temp) {
+        if (temp == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(temp);
+        } catch (IOException ignored) {
+            // A leftover temp file must not replace the outcome of reading.
+        }
+    }
+
+    /**
+     * Reads the sheets one after another on the calling thread.
+     */
+    private static final class SequentialSheets<T> implements SheetRows<T> {
+
+        private final ZipFile zip;
+        private final List<WorkbookIndex.Sheet> sheets;
+        private final List<String> sharedStrings;
+        private final RowBinder<T> binder;
+        private int nextSheet;
+        private SheetReader<T> current;
+
+        private SequentialSheets(ZipFile zip, WorkbookIndex index, RowBinder<T> binder) {
+            this.zip = zip;
+            this.sheets = index.sheets();
+            this.sharedStrings = index.sharedStrings();
+            this.binder = binder;
+        }
+
+        @Override
+        public T next() {
+            while (true) {
+                if (current == null) {
+                    if (nextSheet == sheets.size()) {
+                        return null;
+                    }
+                    current = new SheetReader<>(zip, sheets.get(nextSheet++), sharedStrings, binder);
+                }
+                T row = current.next();
+                if (row != null) {
+                    return row;
+                }
+                current.close();
+                current = null;
+            }
+        }
+
+        @Override
+        public void close() {
+            if (current != null) {
+                current.close();
+                current = null;
+            }
+            nextSheet = sheets.size();
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.github.ajroot5685.reader;
+
+import java.io.InputStream;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * StAX helpers shared by the parsers of the workbook parts.
+ * <br>
+ * DTDs and external entities are disabled, because uploaded files are untrusted input.
+ */
+final class XmlParts {
+
+    private static final XMLInputFactory FACTORY = newFactory();
+
+    private XmlParts() {
+    }
+
+    private static XMLInputFactory newFactory() {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        return factory;
+    }
+
+    static XMLStreamReader open(InputStream in) throws XMLStreamException {
+        return FACTORY.createXMLStreamReader(in);
+    }
+
+    /**
+     * Reads the text of the current {@code element} up to its end tag, joining the {@code <t>} runs of rich text and
+     * skipping phonetic runs.
+     */
+    static String richText(XMLStreamReader xml, String element) throws XMLStreamException {
+        StringBuilder text = new StringBuilder();
+        int phonetic = 0;
+        while (true) {
+            int event = xml.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                String name = xml.getLocalName();
+                if ("rPh".equals(name)) {
+                    phonetic++;
+                } else if ("t".equals(name) && phonetic == 0) {
+                    text.append(xml.getElementText());
+                }
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                String name = xml.getLocalName();
+                if ("rPh".equals(name)) {
+                    phonetic--;
+                } else if (element.equals(name)) {
+                    return text.toString();
+                }
+            } else if (event == XMLStreamConstants.END_DOCUMENT) {
+                return text.toString();
+            }
+        }
+    }
+}